@@ -0,0 +1,81 @@
+package com.jwplayer.jwplatform.v1;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.utils.Util;
+
+/**
+ * RequestSignerBenchmark class
+ *
+ * Compares {@link RequestSigner} with the signing the V1 client did before it,
+ * for a typical reporting call. Run with {@code -prof gc} to see the
+ * allocation per call as well.
+ *
+ * <p>
+ * Example: mvn -P jmh test-compile exec:exec -Djmh.include=RequestSigner
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RequestSignerBenchmark {
+	private static final String BASE = "https://api.jwplatform.com/v1/accounts/usage/show";
+	private static final String KEY = "apiKey12";
+	private static final String SECRET = "apiSecret1234567890abcdef";
+
+	private final Map<String, String> params = new HashMap<>();
+	private RequestSigner signer;
+
+	@Setup
+	public void setUp() {
+		params.put("start_date", "2020-01-01");
+		params.put("end_date", "2020-01-31");
+		params.put("aggregate", "true");
+		params.put("result_limit", "1000");
+		params.put("search", "news & sport: café");
+		signer = new RequestSigner(KEY, SECRET);
+	}
+
+	@Benchmark
+	public String legacy() throws JWPlatformException {
+		final TreeMap<String, String> orderedParams = new TreeMap<>(params);
+		orderedParams.put("api_key", KEY);
+		orderedParams.put("api_format", "json");
+		orderedParams.put("api_nonce", "12345678");
+		orderedParams.put("api_timestamp", "1600000000");
+		final StringBuilder encodedParams = new StringBuilder();
+		for (final String param : orderedParams.keySet()) {
+			if (encodedParams.length() != 0) {
+				encodedParams.append("&");
+			}
+			encodedParams.append(param).append("=")
+					.append(Util.encodeStringForJWPlatformAPI(orderedParams.get(param)));
+		}
+		final String paramsNoSignature = encodedParams.toString();
+		encodedParams.append(SECRET);
+		return BASE + "?" + paramsNoSignature + "&api_signature=" + DigestUtils.sha1Hex(encodedParams.toString());
+	}
+
+	@Benchmark
+	public String signer() {
+		return signer.signedUrl(BASE, params, "12345678", "1600000000");
+	}
+}
@@ -2,12 +2,20 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.AdSchedule;
+import com.jwplayer.jwplatform.model.AdScheduleMetadata;
+import com.jwplayer.jwplatform.model.ResourcePage;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Advertising API client.
@@ -23,21 +31,19 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class AdvertisingClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate SCHEDULES = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/advertising/schedules/");
+	private static final RouteTemplate SCHEDULE = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/advertising/schedules/{ad_schedule_id}/");
 
 	/**
 	 * Instantiate a new {@code AdvertisingClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private AdvertisingClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/advertising/schedules";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private AdvertisingClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
@@ -46,8 +52,16 @@ public class AdvertisingClient extends JWPlatformClientV2 {
 	 * @param secret - your api secret
 	 */
 	public static AdvertisingClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #AdvertisingClient(String, HttpTransport)}.
+	 */
+	public static AdvertisingClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new AdvertisingClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new AdvertisingClient(secret, transport);
 	}
 
 	/**
@@ -61,8 +75,58 @@ public class AdvertisingClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listAdvertisingSchedules(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, SCHEDULES.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listAdvertisingSchedules(String, Map)}.
+	 *
+	 * @param siteId - Property ID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the response object from listAdvertisingSchedules API call
+	 */
+	public CompletableFuture<JSONObject> listAdvertisingSchedulesAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, SCHEDULES.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listAdvertisingSchedules(String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId - Property ID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the response object from listAdvertisingSchedules API call
+	 */
+	public JsonView listAdvertisingSchedulesView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, SCHEDULES.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listAdvertisingSchedules(String, Map)} decoding the
+	 * response into {@link AdSchedule} models.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return the page of schedules
+	 * @throws JWPlatformException See {@link #listAdvertisingSchedules(String, Map)}
+	 */
+	public ResourcePage<AdSchedule> listAdvertisingSchedulesTyped(String siteId, Map<String, String> params)
+			throws JWPlatformException {
+		return ResourcePage.decode(listAdvertisingSchedulesView(siteId, params), AdSchedule::decode);
+	}
+
+	/**
+	 * Every item of {@link #listAdvertisingSchedules(String, Map)}, across all pages.
+	 *
+	 * @param siteId - Property ID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listAdvertisingSchedulesPages(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listAdvertisingSchedulesAsync(siteId, pageParams), "schedules", params);
 	}
 
 	/**
@@ -77,9 +141,40 @@ public class AdvertisingClient extends JWPlatformClientV2 {
 	public JSONObject createAdvertisingSchedule(String siteId, Map<String, String> bodyParams)
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, SCHEDULES.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createAdvertisingSchedule(String, Map)}.
+	 *
+	 * @param siteId     - Property ID
+	 * @param bodyParams - Parameters to be included in the body of the request
+	 * @return future completed with the response object from createAdvertisingSchedule API call
+	 */
+	public CompletableFuture<JSONObject> createAdvertisingScheduleAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, SCHEDULES.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Variant of {@link #createAdvertisingSchedule(String, Map)} with the body
+	 * written straight from {@code metadata}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param metadata - Metadata of the new schedule
+	 * @return the created schedule
+	 * @throws JWPlatformException See {@link #createAdvertisingSchedule(String, Map)}
+	 */
+	public AdSchedule createAdvertisingScheduleTyped(String siteId, AdScheduleMetadata metadata)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("metadata");
+		metadata.encode(body).endObject();
+		return AdSchedule.decode(HttpCalls.requestView(transport, SCHEDULES.expand(siteId), body.toByteArray(), "POST",
+				headers));
 	}
 
 	/**
@@ -96,8 +191,53 @@ public class AdvertisingClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(adScheduleId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + adScheduleId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, SCHEDULE.expand(siteId, adScheduleId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveAdvertisingScheduleById(String, String, Map)}.
+	 *
+	 * @param siteId       - Property ID
+	 * @param adScheduleId - Unique alphanumeric ID of the ad schedule
+	 * @param params       - Parameters to be included in the request
+	 * @return future completed with the response object from retrieveAdvertisingScheduleById API call
+	 */
+	public CompletableFuture<JSONObject> retrieveAdvertisingScheduleByIdAsync(String siteId, String adScheduleId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(adScheduleId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, SCHEDULE.expand(siteId, adScheduleId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveAdvertisingScheduleById(String, String, Map)}
+	 * returning a lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId       - Property ID
+	 * @param adScheduleId - Unique alphanumeric ID of the ad schedule
+	 * @param params       - Parameters to be included in the request
+	 * @return future completed with the response object from retrieveAdvertisingScheduleById API call
+	 */
+	public JsonView retrieveAdvertisingScheduleByIdView(String siteId, String adScheduleId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(adScheduleId, "Media ID must not be null!");
+		return HttpCalls.requestView(transport, SCHEDULE.expand(siteId, adScheduleId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveAdvertisingScheduleById(String, String, Map)}
+	 * decoding the response into an {@link AdSchedule} model.
+	 *
+	 * @param siteId       - PropertyID
+	 * @param adScheduleId - Unique identifier for an ad schedule
+	 * @param params       - Parameters to be included in the request
+	 * @return the schedule
+	 * @throws JWPlatformException See {@link #retrieveAdvertisingScheduleById(String, String, Map)}
+	 */
+	public AdSchedule retrieveAdvertisingScheduleByIdTyped(String siteId, String adScheduleId,
+			Map<String, String> params) throws JWPlatformException {
+		return AdSchedule.decode(retrieveAdvertisingScheduleByIdView(siteId, adScheduleId, params));
 	}
 
 	/**
@@ -115,9 +255,48 @@ public class AdvertisingClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(adScheduleId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + adScheduleId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, SCHEDULE.expand(siteId, adScheduleId), bodyParams, isBodyParams, "PATCH",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateAdvertisingSchedule(String, String, Map)}.
+	 *
+	 * @param siteId       - Property ID
+	 * @param adScheduleId - Unique alphanumeric Unique alphanumeric ID of the ad
+	 *                     schedule
+	 * @param bodyParams   - Parameters to be included in the body of the request
+	 * @return future completed with the response object from updateAdvertisingSchedule API call
+	 */
+	public CompletableFuture<JSONObject> updateAdvertisingScheduleAsync(String siteId, String adScheduleId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(adScheduleId, "Media ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, SCHEDULE.expand(siteId, adScheduleId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Variant of {@link #updateAdvertisingSchedule(String, String, Map)}
+	 * sending only the fields set on {@code metadata}.
+	 *
+	 * @param siteId       - PropertyID
+	 * @param adScheduleId - Unique identifier for an ad schedule
+	 * @param metadata     - The fields to change
+	 * @return the updated schedule
+	 * @throws JWPlatformException See {@link #updateAdvertisingSchedule(String, String, Map)}
+	 */
+	public AdSchedule updateAdvertisingScheduleTyped(String siteId, String adScheduleId, AdScheduleMetadata metadata)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(adScheduleId, "Ad Schedule ID must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("metadata");
+		metadata.encode(body).endObject();
+		return AdSchedule.decode(HttpCalls.requestView(transport, SCHEDULE.expand(siteId, adScheduleId),
+				body.toByteArray(), "PATCH", headers));
 	}
 
 	/**
@@ -132,7 +311,21 @@ public class AdvertisingClient extends JWPlatformClientV2 {
 	public JSONObject deleteAdvertisingScheduleById(String siteId, String adScheduleId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(adScheduleId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + adScheduleId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, SCHEDULE.expand(siteId, adScheduleId), new HashMap<>(), false, "DELETE",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteAdvertisingScheduleById(String, String)}.
+	 *
+	 * @param siteId       - Property ID
+	 * @param adScheduleId - Unique alphanumeric ID of the ad schedule
+	 * @return future completed with the response object from deleteAdvertisingScheduleById API call
+	 */
+	public CompletableFuture<JSONObject> deleteAdvertisingScheduleByIdAsync(String siteId, String adScheduleId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(adScheduleId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, SCHEDULE.expand(siteId, adScheduleId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 }
@@ -1,13 +1,16 @@
 package com.jwplayer.jwplatform.client;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Analytics API client.
@@ -23,29 +26,33 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class AnalyticsClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate QUERY = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/analytics/queries/?source={source}&format={format}");
 
 	/**
 	 * Instantiate a new {@code AnalyticsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private AnalyticsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/analytics/queries/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private AnalyticsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #AnalyticsClient(String)}.
+	 * see {@link #AnalyticsClient(String, HttpTransport)}.
 	 */
 	public static AnalyticsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #AnalyticsClient(String, HttpTransport)}.
+	 */
+	public static AnalyticsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new AnalyticsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new AnalyticsClient(secret, transport);
 	}
 
 	/**
@@ -69,7 +76,51 @@ public class AnalyticsClient extends JWPlatformClientV2 {
 		if (format == null || format.equals("")) {
 			format = "json";
 		}
-		this.path = String.format(path, siteId) + "?source=" + source + "&format=" + format;
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, QUERY.expand(siteId, source, format), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #runQuery(String, String, String, Map)}.
+	 *
+	 * @param siteId - Property ID
+	 * @param source - Data set against which to run the request query, can be null
+	 *               or empty, defaults to "default"
+	 * @param format - File type of the response query output, can be null or empty,
+	 *               defaults to "json"
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSONObject from api call
+	 */
+	public CompletableFuture<JSONObject> runQueryAsync(String siteId, String source, String format,
+			Map<String, String> params) {
+		if (source == null || source.equals("")) {
+			source = "default";
+		}
+		if (format == null || format.equals("")) {
+			format = "json";
+		}
+		return HttpCalls.requestAsync(transport, QUERY.expand(siteId, source, format), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #runQuery(String, String, String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId - Property ID
+	 * @param source - Data set against which to run the request query, can be null
+	 *               or empty, defaults to "default"
+	 * @param format - File type of the response query output, can be null or empty,
+	 *               defaults to "json"
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSONObject from api call
+	 */
+	public JsonView runQueryView(String siteId, String source, String format, Map<String, String> params)
+			throws JWPlatformException {
+		if (source == null || source.equals("")) {
+			source = "default";
+		}
+		if (format == null || format.equals("")) {
+			format = "json";
+		}
+		return HttpCalls.requestView(transport, QUERY.expand(siteId, source, format), params, false, "GET", headers);
 	}
 }
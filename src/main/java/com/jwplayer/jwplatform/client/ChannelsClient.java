@@ -2,12 +2,16 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Channels API client.
@@ -22,29 +26,35 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  * Example: ChannelsClient client = ChannelsClient.getClient(secret);
  */
 public class ChannelsClient extends JWPlatformClientV2 {
-	private String path;
-	private final String secret;
+	private static final RouteTemplate CHANNELS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/channels/");
+	private static final RouteTemplate CHANNEL = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/channels/{channel_id}/");
 
 	/**
 	 * Instantiate a new {@code ChannelsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private ChannelsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/channels/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private ChannelsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #ChannelsClient(String)}.
+	 * see {@link #ChannelsClient(String, HttpTransport)}.
 	 */
 	public static ChannelsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #ChannelsClient(String, HttpTransport)}.
+	 */
+	public static ChannelsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new ChannelsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new ChannelsClient(secret, transport);
 	}
 
 	/**
@@ -58,8 +68,44 @@ public class ChannelsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listChannels(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, CHANNELS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listChannels(String, Map)}.
+	 *
+	 * @param siteId - Property ID
+	 * @param params -Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> listChannelsAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, CHANNELS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listChannels(String, Map)} returning a lazily decoded
+	 * {@link JsonView}.
+	 *
+	 * @param siteId - Property ID
+	 * @param params -Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public JsonView listChannelsView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, CHANNELS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Every item of {@link #listChannels(String, Map)}, across all pages.
+	 *
+	 * @param siteId - Property ID
+	 * @param params -Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listChannelsPages(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listChannelsAsync(siteId, pageParams), "channels", params);
 	}
 
 	/**
@@ -73,9 +119,21 @@ public class ChannelsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createChannel(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, CHANNELS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createChannel(String, Map)}.
+	 *
+	 * @param siteId     - Property ID
+	 * @param bodyParams - Parameters to be included in the body of the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> createChannelAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, CHANNELS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
 	}
 
 	/**
@@ -92,8 +150,38 @@ public class ChannelsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(channelId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + channelId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, CHANNEL.expand(siteId, channelId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getDetailsById(String, String, Map)}.
+	 *
+	 * @param siteId
+	 * @param channelId - Live Channel ID
+	 * @param params    - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> getDetailsByIdAsync(String siteId, String channelId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, CHANNEL.expand(siteId, channelId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #getDetailsById(String, String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId
+	 * @param channelId - Live Channel ID
+	 * @param params    - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public JsonView getDetailsByIdView(String siteId, String channelId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Media ID must not be null!");
+		return HttpCalls.requestView(transport, CHANNEL.expand(siteId, channelId), params, false, "GET", headers);
 	}
 
 	/**
@@ -108,8 +196,22 @@ public class ChannelsClient extends JWPlatformClientV2 {
 	public JSONObject deleteChannel(String siteId, String channelId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(channelId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + channelId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, CHANNEL.expand(siteId, channelId), new HashMap<>(), false, "DELETE",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteChannel(String, String)}.
+	 *
+	 * @param siteId    - Property ID
+	 * @param channelId - Live Channel ID
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> deleteChannelAsync(String siteId, String channelId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, CHANNEL.expand(siteId, channelId), new HashMap<>(), false, "DELETE",
+				headers);
 	}
 
 	/**
@@ -126,9 +228,26 @@ public class ChannelsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(channelId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + channelId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, CHANNEL.expand(siteId, channelId), bodyParams, isBodyParams, "PATCH",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #changeSettingsForChannel(String, String, Map)}.
+	 *
+	 * @param siteId     - Property ID
+	 * @param channelId  - Live Channel ID
+	 * @param bodyParams - Parameters to be included in the body of the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> changeSettingsForChannelAsync(String siteId, String channelId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Media ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, CHANNEL.expand(siteId, channelId), bodyParams, isBodyParams, "PATCH",
+				headers);
 	}
 
 }
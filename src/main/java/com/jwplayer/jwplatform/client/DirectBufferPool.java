@@ -0,0 +1,65 @@
+package com.jwplayer.jwplatform.client;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DirectBufferPool class
+ *
+ * A fixed number of direct buffers of one size, allocated on first use and
+ * handed out again once released. Taking a buffer blocks while all of them
+ * are in use, which bounds the memory of a streamed upload to
+ * {@code count * capacity} however long the stream is.
+ */
+final class DirectBufferPool {
+
+	private final int capacity;
+	private final int count;
+	private final BlockingQueue<ByteBuffer> free;
+	private final AtomicInteger allocated = new AtomicInteger();
+
+	/**
+	 * @param capacity - bytes per buffer
+	 * @param count    - the most buffers allocated
+	 */
+	DirectBufferPool(final int capacity, final int count) {
+		this.capacity = capacity;
+		this.count = count;
+		this.free = new ArrayBlockingQueue<>(count);
+	}
+
+	int getCapacity() {
+		return capacity;
+	}
+
+	int getCount() {
+		return count;
+	}
+
+	/**
+	 * @return - a cleared buffer, waiting for one to be released if all are in
+	 *         use
+	 * @throws InterruptedException - the thread was interrupted while waiting
+	 */
+	ByteBuffer acquire() throws InterruptedException {
+		ByteBuffer buffer = free.poll();
+		if (buffer == null) {
+			if (allocated.incrementAndGet() <= count) {
+				return ByteBuffer.allocateDirect(capacity);
+			}
+			allocated.decrementAndGet();
+			buffer = free.take();
+		}
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * @param buffer - a buffer taken from this pool, not to be used afterwards
+	 */
+	void release(final ByteBuffer buffer) {
+		free.add(buffer);
+	}
+}
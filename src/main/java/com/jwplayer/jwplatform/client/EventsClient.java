@@ -1,13 +1,16 @@
 package com.jwplayer.jwplatform.client;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Events API client.
@@ -23,29 +26,41 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class EventsClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate EVENTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/channels/{channel_id}/events/");
+	private static final RouteTemplate EVENT = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/channels/{channel_id}/events/{event_id}/");
+	private static final RouteTemplate REQUEST_MASTER = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/channels/{channel_id}/events/{event_id}/request_master/");
+	private static final RouteTemplate CLIP = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/channels/{channel_id}/events/{event_id}/clip/");
+	private static final RouteTemplate MASTER = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/channels/{channel_id}/events/{event_id}/master/");
 
 	/**
 	 * Instantiate a new {@code EventsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private EventsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/channels/%s/events/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private EventsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #EventsClient(String)}.
+	 * see {@link #EventsClient(String, HttpTransport)}.
 	 */
 	public static EventsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #EventsClient(String, HttpTransport)}.
+	 */
+	public static EventsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new EventsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new EventsClient(secret, transport);
 	}
 
 	/**
@@ -62,8 +77,52 @@ public class EventsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
-		this.path = String.format(this.path, siteId, channelId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, EVENTS.expand(siteId, channelId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listEventsOfChannel(String, String, Map)}.
+	 *
+	 * @param siteId    - Property ID
+	 * @param channelId - Live Channel ID
+	 * @param params    - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> listEventsOfChannelAsync(String siteId, String channelId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
+		return HttpCalls.requestAsync(transport, EVENTS.expand(siteId, channelId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listEventsOfChannel(String, String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId    - Property ID
+	 * @param channelId - Live Channel ID
+	 * @param params    - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public JsonView listEventsOfChannelView(String siteId, String channelId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
+		return HttpCalls.requestView(transport, EVENTS.expand(siteId, channelId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Every item of {@link #listEventsOfChannel(String, String, Map)}, across all pages.
+	 *
+	 * @param siteId    - Property ID
+	 * @param channelId - Live Channel ID
+	 * @param params    - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listEventsOfChannelPages(String siteId, String channelId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
+		return new Pages(pageParams -> listEventsOfChannelAsync(siteId, channelId, pageParams), "events", params);
 	}
 
 	/**
@@ -82,8 +141,25 @@ public class EventsClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
 		Preconditions.checkNotNull(eventId, "Event ID must not be null!");
-		this.path = String.format(this.path, siteId, channelId) + eventId;
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, EVENT.expand(siteId, channelId, eventId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listEventDetailsOfChannel(String, String, String, Map)}.
+	 *
+	 * @param siteId    - Property ID
+	 * @param channelId - Live Channel ID
+	 * @param eventId   - Live Channel Event ID
+	 * @param params    - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> listEventDetailsOfChannelAsync(String siteId, String channelId,
+			String eventId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
+		Preconditions.checkNotNull(eventId, "Event ID must not be null!");
+		return HttpCalls.requestAsync(transport, EVENT.expand(siteId, channelId, eventId), params, false, "GET",
+				headers);
 	}
 
 	/**
@@ -102,8 +178,26 @@ public class EventsClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
 		Preconditions.checkNotNull(eventId, "Event ID must not be null!");
-		this.path = String.format(this.path, siteId, channelId) + eventId + "/request_master/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, REQUEST_MASTER.expand(siteId, channelId, eventId), bodyParams, false, "PUT",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #requestMasterDownloadAvailability(String, String, String, Map)}.
+	 *
+	 * @param siteId     - Property ID
+	 * @param channelId  - Live Channel ID
+	 * @param eventId    - Live Channel Event ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> requestMasterDownloadAvailabilityAsync(String siteId, String channelId,
+			String eventId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
+		Preconditions.checkNotNull(eventId, "Event ID must not be null!");
+		return HttpCalls.requestAsync(transport, REQUEST_MASTER.expand(siteId, channelId, eventId), bodyParams, false,
+				"PUT", headers);
 	}
 
 	/**
@@ -122,8 +216,25 @@ public class EventsClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
 		Preconditions.checkNotNull(eventId, "Event ID must not be null!");
-		this.path = String.format(this.path, siteId, channelId) + eventId + "/clip/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, CLIP.expand(siteId, channelId, eventId), bodyParams, false, "PUT", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createVODAsset(String, String, String, Map)}.
+	 *
+	 * @param siteId     - Property ID
+	 * @param channelId  - Live Channel ID
+	 * @param eventId    - Live Channel Event ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> createVODAssetAsync(String siteId, String channelId, String eventId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
+		Preconditions.checkNotNull(eventId, "Event ID must not be null!");
+		return HttpCalls.requestAsync(transport, CLIP.expand(siteId, channelId, eventId), bodyParams, false, "PUT",
+				headers);
 	}
 
 	/**
@@ -142,8 +253,25 @@ public class EventsClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
 		Preconditions.checkNotNull(eventId, "Event ID must not be null!");
-		this.path = String.format(this.path, siteId, channelId) + eventId + "/master/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, MASTER.expand(siteId, channelId, eventId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #downloadMasterAsset(String, String, String, Map)}.
+	 *
+	 * @param siteId    - Property ID
+	 * @param channelId - Live Channel ID
+	 * @param eventId   - Live Channel Event ID
+	 * @param params    - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> downloadMasterAssetAsync(String siteId, String channelId, String eventId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(channelId, "Channel ID must not be null!");
+		Preconditions.checkNotNull(eventId, "Event ID must not be null!");
+		return HttpCalls.requestAsync(transport, MASTER.expand(siteId, channelId, eventId), params, false, "GET",
+				headers);
 	}
 
 }
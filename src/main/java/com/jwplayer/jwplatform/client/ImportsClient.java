@@ -2,12 +2,16 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Imports API client.
@@ -23,29 +27,35 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class ImportsClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate IMPORTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/imports/");
+	private static final RouteTemplate IMPORT = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/imports/{import_id}/");
 
 	/**
 	 * Instantiate a new {@code ImportsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private ImportsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/imports/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private ImportsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #ImportsClient(String)}.
+	 * see {@link #ImportsClient(String, HttpTransport)}.
 	 */
 	public static ImportsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #ImportsClient(String, HttpTransport)}.
+	 */
+	public static ImportsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new ImportsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new ImportsClient(secret, transport);
 	}
 
 	/**
@@ -59,8 +69,44 @@ public class ImportsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listImports(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, IMPORTS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listImports(String, Map)}.
+	 *
+	 * @param siteId - Property ID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> listImportsAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, IMPORTS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listImports(String, Map)} returning a lazily decoded
+	 * {@link JsonView}.
+	 *
+	 * @param siteId - Property ID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public JsonView listImportsView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, IMPORTS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Every item of {@link #listImports(String, Map)}, across all pages.
+	 *
+	 * @param siteId - Property ID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listImportsPages(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listImportsAsync(siteId, pageParams), "imports", params);
 	}
 
 	/**
@@ -74,9 +120,21 @@ public class ImportsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject addImport(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, IMPORTS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #addImport(String, Map)}.
+	 *
+	 * @param siteId     - Property ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> addImportAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, IMPORTS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
 	}
 
 	/**
@@ -93,8 +151,38 @@ public class ImportsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(importId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + importId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, IMPORT.expand(siteId, importId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getImportById(String, String, Map)}.
+	 *
+	 * @param siteId   - Property ID
+	 * @param importId - Unique alphanumeric ID of the import source
+	 * @param params   - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> getImportByIdAsync(String siteId, String importId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(importId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, IMPORT.expand(siteId, importId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #getImportById(String, String, Map)} returning a lazily
+	 * decoded {@link JsonView}.
+	 *
+	 * @param siteId   - Property ID
+	 * @param importId - Unique alphanumeric ID of the import source
+	 * @param params   - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public JsonView getImportByIdView(String siteId, String importId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(importId, "Media ID must not be null!");
+		return HttpCalls.requestView(transport, IMPORT.expand(siteId, importId), params, false, "GET", headers);
 	}
 
 	/**
@@ -111,9 +199,26 @@ public class ImportsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(importId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + importId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, IMPORT.expand(siteId, importId), bodyParams, isBodyParams, "PATCH",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateImport(String, String, Map)}.
+	 *
+	 * @param siteId     - Property ID
+	 * @param importId   - Unique alphanumeric ID of the import source
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> updateImportAsync(String siteId, String importId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(importId, "Media ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, IMPORT.expand(siteId, importId), bodyParams, isBodyParams, "PATCH",
+				headers);
 	}
 
 	/**
@@ -128,7 +233,20 @@ public class ImportsClient extends JWPlatformClientV2 {
 	public JSONObject deleteImport(String siteId, String importId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(importId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + importId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, IMPORT.expand(siteId, importId), new HashMap<>(), false, "DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteImport(String, String)}.
+	 *
+	 * @param siteId   - Property ID
+	 * @param importId - Unique alphanumeric ID of the import source
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> deleteImportAsync(String siteId, String importId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(importId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, IMPORT.expand(siteId, importId), new HashMap<>(), false, "DELETE",
+				headers);
 	}
 }
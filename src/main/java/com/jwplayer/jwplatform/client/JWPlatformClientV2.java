@@ -1,18 +1,49 @@
 package com.jwplayer.jwplatform.client;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.jwplayer.jwplatform.rest.HttpTransport;
 
 /**
- * 
+ *
  * @author smurthy Base JWPlatformClient class for V2 providing common
  *         functionalities shared by V2 clients.
+ *
+ *         <p>
+ *         V2 clients are thread-safe and meant to be created once and shared.
+ *         Request URLs are built from {@link RouteTemplate}s into locals, and
+ *         the headers are a concurrent map that each request copies when it
+ *         is built. A header added or removed applies to every request built
+ *         afterwards on any thread, so callers needing different headers
+ *         should use separate clients.
  */
 public abstract class JWPlatformClientV2 {
+	protected final HttpTransport transport;
 	protected Map<String, String> headers;
 
+	/**
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
+	 */
+	protected JWPlatformClientV2(String secret, HttpTransport transport) {
+		this.transport = transport;
+		this.headers = new ConcurrentHashMap<>();
+		headers.put("Authorization", "Bearer " + secret);
+		headers.put("accept", "application/json");
+		headers.put("Content-Type", "application/json");
+	}
+
+	/**
+	 * @return the transport used to send requests for this client
+	 */
+	public HttpTransport getTransport() {
+		return transport;
+	}
+
 	/**
 	 * Add custom/additional headers
-	 * 
+	 *
 	 * @param key   - Custom alphanumeric key
 	 * @param value - Custom alphanumeric value
 	 */
@@ -22,7 +53,7 @@ public abstract class JWPlatformClientV2 {
 
 	/**
 	 * Remove a header
-	 * 
+	 *
 	 * @param key Custom alphanumeric key
 	 */
 	public void removeHeader(String key) {
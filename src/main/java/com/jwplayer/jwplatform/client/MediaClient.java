@@ -2,12 +2,22 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.Media;
+import com.jwplayer.jwplatform.model.MediaMetadata;
+import com.jwplayer.jwplatform.model.ResourcePage;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+import com.jwplayer.jwplatform.rest.Projection;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Media API client.
@@ -23,29 +33,37 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class MediaClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate MEDIA = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/");
+	private static final RouteTemplate MEDIA_BY_ID = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/");
+	private static final RouteTemplate REUPLOAD = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/reupload/");
 
 	/**
 	 * Instantiate a new {@code MediaClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private MediaClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/media/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private MediaClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #MediaClient(String)}.
+	 * see {@link #MediaClient(String, HttpTransport)}.
 	 */
 	public static MediaClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #MediaClient(String, HttpTransport)}.
+	 */
+	public static MediaClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new MediaClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new MediaClient(secret, transport);
 	}
 
 	/**
@@ -59,8 +77,97 @@ public class MediaClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listAllMedia(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, MEDIA.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listAllMedia(String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> listAllMediaAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, MEDIA.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listAllMedia(String, Map)} returning a lazily decoded
+	 * {@link JsonView}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from Media API
+	 * @throws JWPlatformException See {@link #listAllMedia(String, Map)}
+	 */
+	public JsonView listAllMediaView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, MEDIA.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listAllMedia(String, Map)} decoding the response into
+	 * {@link Media} models.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return the page of media
+	 * @throws JWPlatformException See {@link #listAllMedia(String, Map)}
+	 */
+	public ResourcePage<Media> listAllMediaTyped(String siteId, Map<String, String> params) throws JWPlatformException {
+		return ResourcePage.decode(listAllMediaView(siteId, params), Media::decode);
+	}
+
+	/**
+	 * Every item of {@link #listAllMedia(String, Map)}, across all pages.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listAllMediaPages(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listAllMediaAsync(siteId, pageParams), "media", params);
+	}
+
+	/**
+	 * Streaming variant of {@link #listAllMedia(String, Map)}: the response is
+	 * parsed as it is read and each media item is handed to {@code onMedia} on
+	 * its own, so a large page is never held in memory as a whole.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param params  - Parameters to be included in the request
+	 * @param onMedia - called with each media item, in order
+	 * @return JSON response from Media API, without the media items
+	 * @throws JWPlatformException See <a href=
+	 *                             "https://developer.jwplayer.com/jwplayer/reference#get_v2-sites-site-id-media">List
+	 *                             All Media </a>
+	 */
+	public JSONObject listAllMedia(String siteId, Map<String, String> params, Consumer<JSONObject> onMedia)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(onMedia, "Media callback must not be null!");
+		return HttpCalls.requestStreaming(transport, MEDIA.expand(siteId), params, headers, "media", onMedia);
+	}
+
+	/**
+	 * Variant of {@link #listAllMedia(String, Map)} keeping only the fields of
+	 * {@code projection} from each media item. The other fields are skipped as
+	 * the response is read and never built.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param params     - Parameters to be included in the request
+	 * @param projection - the fields to keep from each media item, e.g.
+	 *                   {@code Projection.of("id", "metadata.title")}
+	 * @return JSON response from Media API with projected media items
+	 * @throws JWPlatformException See {@link #listAllMedia(String, Map)}
+	 */
+	public JSONObject listAllMedia(String siteId, Map<String, String> params, Projection projection)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(projection, "Projection must not be null!");
+		return HttpCalls.requestProjected(transport, MEDIA.expand(siteId), params, headers, projection, "media");
 	}
 
 	/**
@@ -74,9 +181,61 @@ public class MediaClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createMedia(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, MEDIA.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createMedia(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> createMediaAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, MEDIA.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Variant of {@link #createMedia(String, Map)} creating a media fetched from
+	 * {@code downloadUrl}, with the body written straight from {@code metadata}.
+	 *
+	 * @param siteId      - PropertyID
+	 * @param downloadUrl - URL the media is fetched from
+	 * @param metadata    - Metadata of the new media
+	 * @return the created media
+	 * @throws JWPlatformException See {@link #createMedia(String, Map)}
+	 */
+	public Media createMediaTyped(String siteId, String downloadUrl, MediaMetadata metadata) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(downloadUrl, "Download URL must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("upload").beginObject().field("method", "fetch")
+				.field("download_url", downloadUrl).endObject().name("metadata");
+		metadata.encode(body).endObject();
+		return Media.decode(HttpCalls.requestView(transport, MEDIA.expand(siteId), body.toByteArray(), "POST", headers));
+	}
+
+	/**
+	 * Variant of {@link #createMedia(String, Map)} creating a media uploaded in
+	 * parts, see {@link MultipartUploader}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param metadata - Metadata of the new media
+	 * @return JSONObject response from api call, including the
+	 *         {@code upload_id} and {@code upload_token} of the upload
+	 * @throws JWPlatformException See {@link #createMedia(String, Map)}
+	 */
+	public JSONObject createMediaMultipart(String siteId, MediaMetadata metadata) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("upload").beginObject()
+				.field("method", "multipart").endObject().name("metadata");
+		metadata.encode(body).endObject();
+		return HttpCalls.requestView(transport, MEDIA.expand(siteId), body.toByteArray(), "POST", headers)
+				.toJSONObject();
 	}
 
 	/**
@@ -93,8 +252,74 @@ public class MediaClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + mediaId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, MEDIA_BY_ID.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveMediaById(String, String, Map)}.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param mediaId - Unique alphanumeric ID of the media
+	 * @param params  - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> retrieveMediaByIdAsync(String siteId, String mediaId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, MEDIA_BY_ID.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveMediaById(String, String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param mediaId - Unique alphanumeric ID of the media
+	 * @param params  - Parameters to be included in the request
+	 * @return view of the JSON response from Media API
+	 * @throws JWPlatformException See {@link #retrieveMediaById(String, String, Map)}
+	 */
+	public JsonView retrieveMediaByIdView(String siteId, String mediaId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return HttpCalls.requestView(transport, MEDIA_BY_ID.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveMediaById(String, String, Map)} decoding the
+	 * response into a {@link Media} model.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param mediaId - Unique alphanumeric ID of the media
+	 * @param params  - Parameters to be included in the request
+	 * @return the media
+	 * @throws JWPlatformException See {@link #retrieveMediaById(String, String, Map)}
+	 */
+	public Media retrieveMediaByIdTyped(String siteId, String mediaId, Map<String, String> params)
+			throws JWPlatformException {
+		return Media.decode(retrieveMediaByIdView(siteId, mediaId, params));
+	}
+
+	/**
+	 * Variant of {@link #retrieveMediaById(String, String, Map)} keeping only
+	 * the fields of {@code projection}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param mediaId    - Unique alphanumeric ID of the media
+	 * @param params     - Parameters to be included in the request
+	 * @param projection - the fields to keep
+	 * @return projected JSON response from Media API
+	 * @throws JWPlatformException See {@link #retrieveMediaById(String, String, Map)}
+	 */
+	public JSONObject retrieveMediaById(String siteId, String mediaId, Map<String, String> params,
+			Projection projection) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(projection, "Projection must not be null!");
+		return HttpCalls.requestProjected(transport, MEDIA_BY_ID.expand(siteId, mediaId), params, headers,
+				projection, null);
 	}
 
 	/**
@@ -109,8 +334,22 @@ public class MediaClient extends JWPlatformClientV2 {
 	public JSONObject deleteMedia(String siteId, String mediaId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + mediaId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, MEDIA_BY_ID.expand(siteId, mediaId), new HashMap<>(), false, "DELETE",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteMedia(String, String)}.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param mediaId - Unique alphanumeric ID of the media
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> deleteMediaAsync(String siteId, String mediaId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, MEDIA_BY_ID.expand(siteId, mediaId), new HashMap<>(), false, "DELETE",
+				headers);
 	}
 
 	/**
@@ -127,9 +366,46 @@ public class MediaClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + mediaId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, MEDIA_BY_ID.expand(siteId, mediaId), bodyParams, isBodyParams, "PATCH",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateMedia(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param mediaId    - Unique alphanumeric ID of the media
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> updateMediaAsync(String siteId, String mediaId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, MEDIA_BY_ID.expand(siteId, mediaId), bodyParams, isBodyParams, "PATCH",
+				headers);
+	}
+
+	/**
+	 * Variant of {@link #updateMedia(String, String, Map)} sending only the
+	 * fields set on {@code metadata}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param mediaId  - Unique alphanumeric ID of the media
+	 * @param metadata - The fields to change
+	 * @return the updated media
+	 * @throws JWPlatformException See {@link #updateMedia(String, String, Map)}
+	 */
+	public Media updateMediaTyped(String siteId, String mediaId, MediaMetadata metadata) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("metadata");
+		metadata.encode(body).endObject();
+		return Media.decode(HttpCalls.requestView(transport, MEDIA_BY_ID.expand(siteId, mediaId), body.toByteArray(),
+				"PATCH", headers));
 	}
 
 	/**
@@ -146,7 +422,21 @@ public class MediaClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + mediaId + "/reupload/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, REUPLOAD.expand(siteId, mediaId), bodyParams, false, "PUT", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #reuploadMedia(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param mediaId    - Unique alphanumeric ID of the media
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> reuploadMediaAsync(String siteId, String mediaId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, REUPLOAD.expand(siteId, mediaId), bodyParams, false, "PUT", headers);
 	}
 }
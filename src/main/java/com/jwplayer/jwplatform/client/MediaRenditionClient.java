@@ -2,12 +2,16 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform MediaRendition API client.
@@ -23,29 +27,35 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class MediaRenditionClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate RENDITIONS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/media_renditions/");
+	private static final RouteTemplate RENDITION = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/media_renditions/{rendition_id}/");
 
 	/**
 	 * Instantiate a new {@code MediaRenditionClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private MediaRenditionClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/media/%s/media_renditions/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private MediaRenditionClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #MediaRenditionClient(String)}.
+	 * see {@link #MediaRenditionClient(String, HttpTransport)}.
 	 */
 	public static MediaRenditionClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #MediaRenditionClient(String, HttpTransport)}.
+	 */
+	public static MediaRenditionClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new MediaRenditionClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new MediaRenditionClient(secret, transport);
 	}
 
 	/**
@@ -60,8 +70,54 @@ public class MediaRenditionClient extends JWPlatformClientV2 {
 	public JSONObject listMediaRenditions(String siteId, String mediaId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, RENDITIONS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listMediaRenditions(String, String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> listMediaRenditionsAsync(String siteId, String mediaId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, RENDITIONS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listMediaRenditions(String, String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from Media API
+	 * @throws JWPlatformException See {@link #listMediaRenditions(String, String, Map)}
+	 */
+	public JsonView listMediaRenditionsView(String siteId, String mediaId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return HttpCalls.requestView(transport, RENDITIONS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Every item of {@link #listMediaRenditions(String, String, Map)}, across all pages.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - PropertyID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listMediaRenditionsPages(String siteId, String mediaId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return new Pages(pageParams -> listMediaRenditionsAsync(siteId, mediaId, pageParams),
+				"media_renditions", params);
 	}
 
 	/**
@@ -76,9 +132,26 @@ public class MediaRenditionClient extends JWPlatformClientV2 {
 	public JSONObject createRendition(String siteId, String mediaId,Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, RENDITIONS.expand(siteId, mediaId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createRendition(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param mediaId - Unique identifier for a resource 
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> createRenditionAsync(String siteId, String mediaId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, RENDITIONS.expand(siteId, mediaId), bodyParams, isBodyParams, "POST",
+				headers);
 	}
 
 	/**
@@ -96,8 +169,26 @@ public class MediaRenditionClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
 		Preconditions.checkNotNull(renditionId, "Rendition ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId)+renditionId+"/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, RENDITION.expand(siteId, mediaId, renditionId), params, false, "GET",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getRenditionById(String, String, String, Map)}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param mediaId - Unique identifier for a resource
+	 * @param renditionId - Unique identifier for a rendition
+	 * @param params   - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> getRenditionByIdAsync(String siteId, String mediaId, String renditionId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(renditionId, "Rendition ID must not be null!");
+		return HttpCalls.requestAsync(transport, RENDITION.expand(siteId, mediaId, renditionId), params, false, "GET",
+				headers);
 	}
 
 	/**
@@ -113,7 +204,23 @@ public class MediaRenditionClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
 		Preconditions.checkNotNull(renditionId, "Rendition ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId)+renditionId+"/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, RENDITION.expand(siteId, mediaId, renditionId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteRendition(String, String, String)}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param mediaId - Unique identifier for a resource
+	 * @param renditionId - Unique identifier for a rendition
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> deleteRenditionAsync(String siteId, String mediaId, String renditionId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(renditionId, "Rendition ID must not be null!");
+		return HttpCalls.requestAsync(transport, RENDITION.expand(siteId, mediaId, renditionId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,809 @@
+package com.jwplayer.jwplatform.client;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+import com.jwplayer.jwplatform.model.MediaMetadata;
+import com.jwplayer.jwplatform.rest.BandwidthScheduler;
+import com.jwplayer.jwplatform.rest.HttpPartSender;
+import com.jwplayer.jwplatform.rest.PartSender;
+import com.jwplayer.jwplatform.rest.RetryPolicy;
+
+/**
+ * MultipartUploader class
+ *
+ * Uploads a local file as a new media with the multipart upload method. The
+ * media is created with {@link MediaClient#createMediaMultipart(String,
+ * MediaMetadata)}, the upload links of its parts are listed with
+ * {@link UploadsClient#listCompleteIncompleteParts(String, Map)}, the parts are
+ * put to their links concurrently, and the upload is finished with
+ * {@link UploadsClient#completeUpload(String, Map)}.
+ *
+ * <p>
+ * Each part is a memory-mapped region of the file handed to a
+ * {@link PartSender}, so parts are not copied into heap arrays. Up to
+ * {@code parallelism} parts are in flight at once, each on its own thread; a
+ * part that fails is sent again according to the {@link RetryPolicy}, and the
+ * upload stops at the first part that runs out of attempts.
+ *
+ * <p>
+ * With a journal, see {@link #upload(String, Path, MediaMetadata, Path)}, an
+ * upload interrupted by a crash is resumed from the parts that were not yet
+ * uploaded instead of from the start.
+ *
+ * <p>
+ * By default the part size adapts: each upload's parts are sized to take
+ * about {@code targetPartDuration} at the throughput measured on earlier
+ * parts, so fast links get fewer, larger parts, and the file is split over at
+ * least {@code parallelism} parts so small files still use every connection.
+ * Until a part has been measured, {@code partSize} is used. Setting
+ * {@link Builder#partSize(long)} fixes the size instead. The storage allows
+ * parts of 5 MB and more and at most 10,000 parts per upload, so the part
+ * size is raised for files that would need more. Parts are all the same size
+ * except the last one.
+ *
+ * <p>
+ * Content that arrives as a stream, see
+ * {@link #upload(String, ReadableByteChannel, MediaMetadata)}, is uploaded as
+ * it is read through a small pool of reusable direct buffers, without knowing
+ * its length and without staging it on disk. The buffers together stay within
+ * {@link Builder#streamMemory(long)}.
+ *
+ * <p>
+ * Uploads given the same {@link BandwidthScheduler} share its egress budget
+ * equally, whatever their size and parallelism.
+ *
+ * <p>
+ * Example: MultipartUploader uploader =
+ * MultipartUploader.builder(mediaClient).parallelism(8).build();
+ * uploader.upload(siteId, Paths.get("movie.mp4"), metadata);
+ */
+public final class MultipartUploader {
+
+	static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+	/** A mapped region is at most 2 GB. */
+	static final long MAX_PART_SIZE = Integer.MAX_VALUE;
+	static final int MAX_PARTS = 10_000;
+	static final int MAX_PAGE_LENGTH = 1_000;
+	/** Stream parts are held in memory, so they are kept smaller than file parts. */
+	static final long MAX_STREAM_PART_SIZE = 32L * 1024 * 1024;
+	/** Upload links of a stream are listed this many at a time. */
+	static final int STREAM_PAGE_LENGTH = 100;
+	/** Weight of the throughput estimate against a new part, as a power of two. */
+	private static final int THROUGHPUT_SMOOTHING_SHIFT = 2;
+	private static final ThreadFactory THREADS = new ThreadFactoryBuilder().setDaemon(true)
+			.setNameFormat("jwplatform-upload-%d").build();
+
+	private final MediaClient mediaClient;
+	private final PartSender partSender;
+	private final int parallelism;
+	private final long partSize;
+	private final boolean adaptivePartSize;
+	private final Duration targetPartDuration;
+	private final RetryPolicy retryPolicy;
+	private final BandwidthScheduler bandwidth;
+	private final long streamMemory;
+	/**
+	 * Smoothed bytes per second of a single part upload, file or stream, 0 until
+	 * measured. Sizes the parts of both kinds of upload.
+	 */
+	private final AtomicLong partThroughput = new AtomicLong();
+	/** Shared by every streamed upload, so the budget holds across concurrent uploads. */
+	private final DirectBufferPool streamBuffers;
+
+	private MultipartUploader(final Builder builder) {
+		this.mediaClient = builder.mediaClient;
+		this.partSender = builder.partSender;
+		this.parallelism = builder.parallelism;
+		this.partSize = builder.partSize;
+		this.adaptivePartSize = builder.adaptivePartSize;
+		this.targetPartDuration = builder.targetPartDuration;
+		this.retryPolicy = builder.retryPolicy;
+		this.bandwidth = builder.bandwidth;
+		this.streamMemory = builder.streamMemory;
+		final int capacity = streamBufferCapacity();
+		this.streamBuffers = new DirectBufferPool(capacity, streamBufferCount(capacity));
+	}
+
+	/**
+	 * @param mediaClient - creates the media; its transport also carries the
+	 *                    uploads requests
+	 * @return - a builder initialised with the defaults
+	 */
+	public static Builder builder(final MediaClient mediaClient) {
+		Preconditions.checkNotNull(mediaClient, "Media client must not be null!");
+		return new Builder(mediaClient);
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return - the part size, or with adaptive sizing the size used until
+	 *         throughput has been measured
+	 */
+	public long getPartSize() {
+		return partSize;
+	}
+
+	public boolean isAdaptivePartSize() {
+		return adaptivePartSize;
+	}
+
+	/**
+	 * @return - the most bytes of direct memory a streamed upload buffers
+	 */
+	public long getStreamMemory() {
+		return streamMemory;
+	}
+
+	/**
+	 * @return - the measured bytes per second of a single part upload, smoothed
+	 *         over the parts of files and streams sent so far; 0 before the
+	 *         first part
+	 */
+	public long getPartThroughput() {
+		return partThroughput.get();
+	}
+
+	/**
+	 * see {@link #upload(String, Path, MediaMetadata)}.
+	 */
+	public JSONObject upload(final String siteId, final File file, final MediaMetadata metadata)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(file, "File must not be null!");
+		return upload(siteId, file.toPath(), metadata);
+	}
+
+	/**
+	 * Upload a file as a new media.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param file     - the file to upload
+	 * @param metadata - Metadata of the new media
+	 * @return - the response of creating the media
+	 * @throws JWPlatformException - the media could not be created, the file
+	 *                             could not be read or a part could not be
+	 *                             uploaded
+	 */
+	public JSONObject upload(final String siteId, final Path file, final MediaMetadata metadata)
+			throws JWPlatformException {
+		return upload(siteId, file, metadata, null);
+	}
+
+	/**
+	 * Upload a file as a new media, resumably. Progress is recorded in a journal
+	 * at {@code journal}; if one is found there for the same site and the same,
+	 * unmodified file, the upload it records is resumed instead of creating a
+	 * new media. Before resuming, the parts are listed again and reconciled with
+	 * the journal: a part is skipped only when the API reports it as uploaded,
+	 * with an {@code etag}, that matches the one recorded for it, if any. The
+	 * journal is deleted once the upload is complete.
+	 *
+	 * <p>
+	 * The journal holds the upload token, so it should be kept where only the
+	 * uploading process can read it.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param file     - the file to upload
+	 * @param metadata - Metadata of the new media, unused when resuming
+	 * @param journal  - where progress is recorded, or null to not record it
+	 * @return - the response of creating the media, also when resuming
+	 * @throws JWPlatformException - the media could not be created, the file or
+	 *                             journal could not be read or written, or a
+	 *                             part could not be uploaded
+	 */
+	public JSONObject upload(final String siteId, final Path file, final MediaMetadata metadata, final Path journal)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(file, "File must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			final long size = channel.size();
+			final long modified = Files.getLastModifiedTime(file).toMillis();
+			final UploadJournal loaded = journal == null ? null : UploadJournal.load(journal);
+			final UploadJournal previous = loaded != null && resumes(loaded.getHeader(), siteId, size, modified)
+					? loaded
+					: null;
+			final JSONObject header;
+			if (previous != null) {
+				header = previous.getHeader();
+			} else {
+				header = new JSONObject().put("site_id", siteId).put("size", size).put("modified", modified)
+						.put("part_size", choosePartSize(size))
+						.put("media", mediaClient.createMediaMultipart(siteId, metadata));
+				if (journal != null) {
+					// keep the new upload before anything else can fail
+					UploadJournal.start(journal, header, Collections.emptyMap()).close();
+				}
+			}
+			final long effectivePartSize = header.getLong("part_size");
+			final JSONObject media = header.getJSONObject("media");
+			final String uploadId = media.getString("upload_id");
+			final UploadsClient uploads = UploadsClient.getClient(media.getString("upload_token"),
+					mediaClient.getTransport());
+			final String[] links = new String[partCount(size, effectivePartSize)];
+			final String[] etags = new String[links.length];
+			listParts(uploads, uploadId, links, etags);
+			if (previous != null) {
+				reconcile(etags, previous.getParts());
+			}
+			final BandwidthScheduler.Flow flow = bandwidth == null ? null : bandwidth.register();
+			try {
+				if (journal == null) {
+					sendParts(channel, size, effectivePartSize, links, etags, null, flow);
+				} else {
+					final Map<Integer, String> uploaded = new TreeMap<>();
+					for (int i = 0; i < etags.length; i++) {
+						if (etags[i] != null) {
+							uploaded.put(i + 1, etags[i]);
+						}
+					}
+					try (UploadJournal current = UploadJournal.start(journal, header, uploaded)) {
+						sendParts(channel, size, effectivePartSize, links, etags, current, flow);
+					}
+				}
+			} finally {
+				if (flow != null) {
+					flow.close();
+				}
+			}
+			uploads.completeUpload(uploadId, Collections.emptyMap());
+			if (journal != null) {
+				Files.deleteIfExists(journal);
+			}
+			return media;
+		} catch (final IOException e) {
+			throw new JWPlatformUnknownException(String.format("Could not upload %s: %s", file, e));
+		}
+	}
+
+	/**
+	 * see {@link #upload(String, ReadableByteChannel, MediaMetadata)}.
+	 */
+	public JSONObject upload(final String siteId, final InputStream source, final MediaMetadata metadata)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(source, "Source must not be null!");
+		return upload(siteId, Channels.newChannel(source), metadata);
+	}
+
+	/**
+	 * Upload a stream of unknown length as a new media, without staging it. The
+	 * stream is read into direct buffers of one part each, taken from a pool of
+	 * up to {@code parallelism + 1} buffers kept by this uploader and shared by
+	 * its streamed uploads, and each part
+	 * is sent as soon as its buffer is full while the next one fills. Reading
+	 * waits while every buffer is in use, so memory stays within
+	 * {@link Builder#streamMemory(long)} however long the stream is. Upload
+	 * links are listed a page at a time as the stream reaches them.
+	 *
+	 * <p>
+	 * Stream parts are at most 32 MB and are made smaller so that
+	 * {@code parallelism + 1} of them fit the memory budget, down to 5 MB, below
+	 * which fewer parts are in flight. An upload has at most 10,000 parts, which
+	 * bounds the length of the stream; with the default budget and parallelism
+	 * it may be up to 125 GB.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param source   - a blocking channel read to its end, not closed
+	 * @param metadata - Metadata of the new media
+	 * @return - the response of creating the media
+	 * @throws JWPlatformException - the media could not be created, the stream
+	 *                             could not be read or a part could not be
+	 *                             uploaded
+	 */
+	public JSONObject upload(final String siteId, final ReadableByteChannel source, final MediaMetadata metadata)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(source, "Source must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final DirectBufferPool pool = streamBuffers;
+		final int partSize = streamPartSize();
+		final JSONObject media = mediaClient.createMediaMultipart(siteId, metadata);
+		final String uploadId = media.getString("upload_id");
+		final UploadsClient uploads = UploadsClient.getClient(media.getString("upload_token"),
+				mediaClient.getTransport());
+		final Map<Integer, String> links = new HashMap<>();
+		final AtomicReference<JWPlatformException> failure = new AtomicReference<>();
+		final List<Future<?>> futures = new ArrayList<>();
+		final BandwidthScheduler.Flow flow = bandwidth == null ? null : bandwidth.register();
+		final ExecutorService executor = Executors.newFixedThreadPool(parallelism, THREADS);
+		try {
+			for (int part = 1; failure.get() == null; part++) {
+				final ByteBuffer buffer = pool.acquire();
+				final boolean end;
+				try {
+					buffer.limit(partSize);
+					end = fill(source, buffer);
+					buffer.flip();
+					if (!buffer.hasRemaining() && part > 1) {
+						pool.release(buffer);
+						break;
+					}
+					if (part > MAX_PARTS) {
+						throw new JWPlatformUnknownException(String.format(
+								"Stream is longer than %d parts of %d bytes", MAX_PARTS, partSize));
+					}
+					final String link = streamLink(uploads, uploadId, part, links);
+					futures.add(executor.submit(() -> {
+						try {
+							if (failure.get() == null) {
+								sendBuffer(buffer, link, flow);
+							}
+						} catch (final JWPlatformException e) {
+							failure.compareAndSet(null, e);
+						} finally {
+							pool.release(buffer);
+						}
+					}));
+				} catch (final IOException e) {
+					pool.release(buffer);
+					throw new JWPlatformUnknownException(String.format("Could not read the stream: %s", e));
+				} catch (final JWPlatformException | RuntimeException e) {
+					pool.release(buffer);
+					throw e;
+				}
+				if (end) {
+					break;
+				}
+			}
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		} catch (final JWPlatformException e) {
+			failure.compareAndSet(null, e);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			failure.compareAndSet(null, new JWPlatformUnknownException("Interrupted while uploading parts"));
+		} catch (final ExecutionException e) {
+			failure.compareAndSet(null,
+					new JWPlatformUnknownException(String.format("Part upload failed: %s", e.getCause())));
+		} finally {
+			// queued parts still run, to skip sending and give their buffers back
+			executor.shutdown();
+			if (flow != null) {
+				flow.close();
+			}
+		}
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+		uploads.completeUpload(uploadId, Collections.emptyMap());
+		return media;
+	}
+
+	/**
+	 * Read from {@code source} until {@code buffer} is full or the stream ends.
+	 *
+	 * @return - whether the stream ended
+	 */
+	private static boolean fill(final ReadableByteChannel source, final ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (source.read(buffer) < 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return - the part size of a new streamed upload, at most
+	 *         {@link #streamBufferCapacity()}
+	 */
+	int streamPartSize() {
+		final long throughput = partThroughput.get();
+		final long preferred = adaptivePartSize && throughput > 0 ? throughput * targetPartDuration.toMillis() / 1000
+				: partSize;
+		return (int) Math.max(MIN_PART_SIZE, Math.min(preferred, streamBufferCapacity()));
+	}
+
+	/**
+	 * @return - the size of a stream buffer, small enough for
+	 *         {@code parallelism + 1} of them to fit the memory budget unless
+	 *         that is below the minimum part size; fixed, so the pool never
+	 *         has to be replaced
+	 */
+	int streamBufferCapacity() {
+		final long fitting = Math.min(MAX_STREAM_PART_SIZE, streamMemory / (parallelism + 1));
+		return (int) Math.max(MIN_PART_SIZE, fitting);
+	}
+
+	/**
+	 * @param capacity - the part size
+	 * @return - how many stream buffers of that size fit the memory budget, at
+	 *         most one more than the parts in flight
+	 */
+	int streamBufferCount(final int capacity) {
+		return (int) Math.min(parallelism + 1, streamMemory / capacity);
+	}
+
+	DirectBufferPool getStreamBuffers() {
+		return streamBuffers;
+	}
+
+	/**
+	 * @return - whether a journal's upload is of this site and file
+	 */
+	private static boolean resumes(final JSONObject header, final String siteId, final long size,
+			final long modified) {
+		return siteId.equals(header.optString("site_id")) && header.optLong("size", -1) == size
+				&& header.optLong("modified", -1) == modified && header.optLong("part_size", 0) >= MIN_PART_SIZE
+				&& header.optJSONObject("media") != null;
+	}
+
+	/**
+	 * @param size - size of the file
+	 * @return - the part size for a new upload of that file
+	 */
+	private long choosePartSize(final long size) {
+		if (!adaptivePartSize) {
+			return partSize(size, partSize);
+		}
+		return partSize(size, adaptivePartSize(size, parallelism, partThroughput.get(),
+				targetPartDuration.toMillis(), partSize));
+	}
+
+	/**
+	 * Size parts so each takes about {@code targetMillis} at the measured
+	 * throughput, but split the file over at least {@code parallelism} parts so
+	 * that every connection has work.
+	 *
+	 * @param size         - size of the file
+	 * @param parallelism  - the most parts uploaded at once
+	 * @param throughput   - bytes per second of a single part upload, 0 if
+	 *                     unknown
+	 * @param targetMillis - how long a part should take
+	 * @param fallback     - the part size while throughput is unknown
+	 * @return - the preferred part size, before the storage's limits apply
+	 */
+	static long adaptivePartSize(final long size, final int parallelism, final long throughput,
+			final long targetMillis, final long fallback) {
+		final long preferred = throughput > 0 ? throughput * targetMillis / 1000 : fallback;
+		return Math.min(preferred, (size + parallelism - 1) / parallelism);
+	}
+
+	/**
+	 * @param size      - size of the file
+	 * @param preferred - the part size asked for
+	 * @return - the part size used, within the storage's limits
+	 */
+	static long partSize(final long size, final long preferred) {
+		final long fewestParts = (size + MAX_PARTS - 1) / MAX_PARTS;
+		final long partSize = Math.max(Math.max(preferred, MIN_PART_SIZE), fewestParts);
+		Preconditions.checkArgument(partSize <= MAX_PART_SIZE, "File is too large for a multipart upload!");
+		return partSize;
+	}
+
+	/**
+	 * @return - how many parts of {@code partSize} a file of {@code size} makes,
+	 *         at least one
+	 */
+	static int partCount(final long size, final long partSize) {
+		return (int) Math.max(1, (size + partSize - 1) / partSize);
+	}
+
+	/**
+	 * Fill in the upload link of each part and, for parts the API reports as
+	 * uploaded, their ETag.
+	 */
+	private static void listParts(final UploadsClient uploads, final String uploadId, final String[] links,
+			final String[] etags) throws JWPlatformException {
+		final int pageLength = Math.min(links.length, MAX_PAGE_LENGTH);
+		final int pages = (links.length + pageLength - 1) / pageLength;
+		for (int page = 1; page <= pages; page++) {
+			final JSONArray parts = listPage(uploads, uploadId, page, pageLength);
+			for (int i = 0; i < parts.length(); i++) {
+				final JSONObject part = parts.getJSONObject(i);
+				final int number = part.getInt("part_number");
+				if (number >= 1 && number <= links.length) {
+					links[number - 1] = part.getString("upload_link");
+					final String etag = part.optString("etag", null);
+					etags[number - 1] = etag == null || etag.isEmpty() ? null : etag;
+				}
+			}
+		}
+		for (int i = 0; i < links.length; i++) {
+			if (links[i] == null) {
+				throw new JWPlatformUnknownException(String.format("No upload link for part %d of %s", i + 1, uploadId));
+			}
+		}
+	}
+
+	/**
+	 * Check the parts the API reports as uploaded against those the journal
+	 * recorded. A part recorded with a different ETag than the storage now holds
+	 * was overwritten by someone else, and is sent again. Parts the journal
+	 * recorded but the API does not report were lost by the storage and are
+	 * sent again too.
+	 *
+	 * @param etags    - ETags of the parts as listed, null for parts to send
+	 * @param recorded - ETags the journal recorded, by part number
+	 */
+	static void reconcile(final String[] etags, final Map<Integer, String> recorded) {
+		for (final Map.Entry<Integer, String> part : recorded.entrySet()) {
+			final int index = part.getKey() - 1;
+			if (index >= 0 && index < etags.length && etags[index] != null && part.getValue() != null
+					&& !part.getValue().equals(etags[index])) {
+				etags[index] = null;
+			}
+		}
+	}
+
+	/**
+	 * @return - the parts on one page of the upload's parts
+	 */
+	private static JSONArray listPage(final UploadsClient uploads, final String uploadId, final int page,
+			final int pageLength) throws JWPlatformException {
+		final Map<String, String> params = new HashMap<>();
+		params.put("page", Integer.toString(page));
+		params.put("page_length", Integer.toString(pageLength));
+		return uploads.listCompleteIncompleteParts(uploadId, params).getJSONArray("parts");
+	}
+
+	/**
+	 * @return - the upload link of a part of a streamed upload, listing the
+	 *         page it is on when it is not known yet
+	 */
+	private static String streamLink(final UploadsClient uploads, final String uploadId, final int part,
+			final Map<Integer, String> links) throws JWPlatformException {
+		if (!links.containsKey(part)) {
+			final JSONArray parts = listPage(uploads, uploadId, (part - 1) / STREAM_PAGE_LENGTH + 1,
+					STREAM_PAGE_LENGTH);
+			for (int i = 0; i < parts.length(); i++) {
+				final JSONObject entry = parts.getJSONObject(i);
+				links.put(entry.getInt("part_number"), entry.getString("upload_link"));
+			}
+		}
+		final String link = links.get(part);
+		if (link == null) {
+			throw new JWPlatformUnknownException(String.format("No upload link for part %d of %s", part, uploadId));
+		}
+		return link;
+	}
+
+	/**
+	 * Send every part without an ETag, at most {@code parallelism} at a time,
+	 * recording each in the journal if there is one.
+	 */
+	private void sendParts(final FileChannel channel, final long size, final long partSize, final String[] links,
+			final String[] etags, final UploadJournal journal, final BandwidthScheduler.Flow flow)
+			throws JWPlatformException {
+		final int[] pending = IntStream.range(0, links.length).filter(part -> etags[part] == null).toArray();
+		if (pending.length == 0) {
+			return;
+		}
+		final int workers = Math.min(parallelism, pending.length);
+		final AtomicInteger next = new AtomicInteger();
+		final AtomicReference<JWPlatformException> failure = new AtomicReference<>();
+		final ExecutorService executor = Executors.newFixedThreadPool(workers, THREADS);
+		try {
+			final List<Future<?>> futures = new ArrayList<>(workers);
+			for (int i = 0; i < workers; i++) {
+				futures.add(executor.submit(() -> {
+					int index;
+					while (failure.get() == null && (index = next.getAndIncrement()) < pending.length) {
+						final int part = pending[index];
+						final long offset = part * partSize;
+						try {
+							final String etag = sendPart(channel, offset, Math.min(partSize, size - offset),
+									links[part], flow);
+							if (journal != null) {
+								journal.record(part + 1, etag);
+							}
+						} catch (final JWPlatformException e) {
+							failure.compareAndSet(null, e);
+						} catch (final IOException e) {
+							failure.compareAndSet(null, new JWPlatformUnknownException(
+									String.format("Could not write the upload journal: %s", e)));
+						}
+					}
+				}));
+			}
+			for (final Future<?> future : futures) {
+				future.get();
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException("Interrupted while uploading parts");
+		} catch (final ExecutionException e) {
+			throw new JWPlatformUnknownException(String.format("Part upload failed: %s", e.getCause()));
+		} finally {
+			executor.shutdownNow();
+		}
+		if (failure.get() != null) {
+			throw failure.get();
+		}
+	}
+
+	/**
+	 * Send one part of a file, see
+	 * {@link #sendBuffer(ByteBuffer, String, BandwidthScheduler.Flow)}.
+	 */
+	private String sendPart(final FileChannel channel, final long offset, final long length, final String link,
+			final BandwidthScheduler.Flow flow) throws JWPlatformException {
+		final MappedByteBuffer region;
+		try {
+			region = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+		} catch (final IOException e) {
+			throw new JWPlatformUnknownException(String.format("Could not map part at %d: %s", offset, e));
+		}
+		return sendBuffer(region, link, flow);
+	}
+
+	/**
+	 * Send one part held in a buffer, retrying as the policy allows, and
+	 * measure how fast it went.
+	 *
+	 * @return - the ETag of the part, may be null
+	 */
+	private String sendBuffer(final ByteBuffer part, final String link, final BandwidthScheduler.Flow flow)
+			throws JWPlatformException {
+		for (int attempt = 1;; attempt++) {
+			try {
+				final long start = System.nanoTime();
+				final String etag = flow == null ? partSender.send(link, part.duplicate())
+						: partSender.send(link, part.duplicate(), flow);
+				measure(part.remaining(), System.nanoTime() - start);
+				return etag;
+			} catch (final JWPlatformException e) {
+				if (attempt >= retryPolicy.getMaxAttempts()) {
+					throw e;
+				}
+			}
+			try {
+				Thread.sleep(Math.max(0, retryPolicy.delayMillis(attempt, null)));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new JWPlatformUnknownException("Interrupted while uploading parts");
+			}
+		}
+	}
+
+	/**
+	 * Fold a part's throughput into the smoothed estimate.
+	 */
+	private void measure(final long bytes, final long nanos) {
+		if (nanos <= 0 || bytes < MIN_PART_SIZE) {
+			// the last, short part of a file says more about latency than throughput
+			return;
+		}
+		final long sample = (long) (bytes * 1e9 / nanos);
+		partThroughput.accumulateAndGet(sample, (estimate, next) -> estimate == 0 ? next
+				: estimate + (next - estimate >> THROUGHPUT_SMOOTHING_SHIFT));
+	}
+
+	/**
+	 * Builder for {@link MultipartUploader}.
+	 */
+	public static final class Builder {
+		private final MediaClient mediaClient;
+		private PartSender partSender = HttpPartSender.create();
+		private int parallelism = 4;
+		private long partSize = 64L * 1024 * 1024;
+		private boolean adaptivePartSize = true;
+		private Duration targetPartDuration = Duration.ofSeconds(20);
+		private BandwidthScheduler bandwidth;
+		private long streamMemory = 64L * 1024 * 1024;
+		private RetryPolicy retryPolicy = RetryPolicy.builder().maxAttempts(5).baseDelay(Duration.ofMillis(500))
+				.maxDelay(Duration.ofSeconds(30)).build();
+
+		private Builder(final MediaClient mediaClient) {
+			this.mediaClient = mediaClient;
+		}
+
+		/**
+		 * @param partSender - puts parts to their upload links
+		 */
+		public Builder partSender(final PartSender partSender) {
+			Preconditions.checkNotNull(partSender, "Part sender must not be null!");
+			this.partSender = partSender;
+			return this;
+		}
+
+		/**
+		 * @param parallelism - the most parts uploaded at once
+		 */
+		public Builder parallelism(final int parallelism) {
+			Preconditions.checkArgument(parallelism > 0, "Parallelism must be positive!");
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * @param partSize - bytes per part, at least 5 MB and at most 2 GB; turns
+		 *                 adaptive sizing off
+		 */
+		public Builder partSize(final long partSize) {
+			Preconditions.checkArgument(partSize >= MIN_PART_SIZE && partSize <= MAX_PART_SIZE,
+					"Part size must be between 5 MB and 2 GB!");
+			this.partSize = partSize;
+			this.adaptivePartSize = false;
+			return this;
+		}
+
+		/**
+		 * @param targetPartDuration - how long a part should take to upload at
+		 *                           the measured throughput; turns adaptive
+		 *                           sizing on
+		 */
+		public Builder targetPartDuration(final Duration targetPartDuration) {
+			Preconditions.checkNotNull(targetPartDuration, "Target part duration must not be null!");
+			Preconditions.checkArgument(!targetPartDuration.isNegative() && !targetPartDuration.isZero(),
+					"Target part duration must be positive!");
+			this.targetPartDuration = targetPartDuration;
+			this.adaptivePartSize = true;
+			return this;
+		}
+
+		/**
+		 * @param bandwidth - shares an egress budget with other uploads, or null
+		 *                  for no limit
+		 */
+		public Builder bandwidth(final BandwidthScheduler bandwidth) {
+			this.bandwidth = bandwidth;
+			return this;
+		}
+
+		/**
+		 * Cap the direct memory a streamed upload holds, 64 MB by default. Stream
+		 * parts are sized so that {@code parallelism + 1} of them fit, and fewer
+		 * are in flight when that would take parts under 5 MB. A larger budget
+		 * allows larger parts and so longer streams. Uploads of local files map
+		 * the file instead and are not affected.
+		 *
+		 * @param streamMemory - bytes, at least two parts of 5 MB
+		 */
+		public Builder streamMemory(final long streamMemory) {
+			Preconditions.checkArgument(streamMemory >= 2 * MIN_PART_SIZE, "Stream memory must be at least 10 MB!");
+			this.streamMemory = streamMemory;
+			return this;
+		}
+
+		/**
+		 * @param retryPolicy - how often and after how long a failed part is sent
+		 *                    again; only its attempts and delays apply
+		 */
+		public Builder retryPolicy(final RetryPolicy retryPolicy) {
+			Preconditions.checkNotNull(retryPolicy, "Retry policy must not be null!");
+			this.retryPolicy = retryPolicy;
+			return this;
+		}
+
+		public MultipartUploader build() {
+			return new MultipartUploader(this);
+		}
+	}
+}
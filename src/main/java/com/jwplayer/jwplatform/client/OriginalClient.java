@@ -2,12 +2,16 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Original API client.
@@ -23,29 +27,35 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class OriginalClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate ORIGINALS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/originals/");
+	private static final RouteTemplate ORIGINAL = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/originals/{original_id}/");
 
 	/**
 	 * Instantiate a new {@code OriginalClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private OriginalClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/media/%s/originals/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private OriginalClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #OriginalClient(String)}.
+	 * see {@link #OriginalClient(String, HttpTransport)}.
 	 */
 	public static OriginalClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #OriginalClient(String, HttpTransport)}.
+	 */
+	public static OriginalClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new OriginalClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new OriginalClient(secret, transport);
 	}
 
 	/**
@@ -60,8 +70,52 @@ public class OriginalClient extends JWPlatformClientV2 {
 	public JSONObject listOriginals(String siteId, String mediaId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, ORIGINALS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listOriginals(String, String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> listOriginalsAsync(String siteId, String mediaId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return HttpCalls.requestAsync(transport, ORIGINALS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listOriginals(String, String, Map)} returning a lazily
+	 * decoded {@link JsonView}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from Media API
+	 * @throws JWPlatformException See {@link #listOriginals(String, String, Map)}
+	 */
+	public JsonView listOriginalsView(String siteId, String mediaId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return HttpCalls.requestView(transport, ORIGINALS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Every item of {@link #listOriginals(String, String, Map)}, across all pages.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - PropertyID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listOriginalsPages(String siteId, String mediaId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		return new Pages(pageParams -> listOriginalsAsync(siteId, mediaId, pageParams), "originals", params);
 	}
 
 	/**
@@ -76,9 +130,26 @@ public class OriginalClient extends JWPlatformClientV2 {
 	public JSONObject createOriginals(String siteId, String mediaId,Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, ORIGINALS.expand(siteId, mediaId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createOriginals(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param mediaId - Unique identifier for a resource 
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> createOriginalsAsync(String siteId, String mediaId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, ORIGINALS.expand(siteId, mediaId), bodyParams, isBodyParams, "POST",
+				headers);
 	}
 
 	/**
@@ -96,8 +167,26 @@ public class OriginalClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
 		Preconditions.checkNotNull(originalId, "Original ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId)+ originalId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, ORIGINAL.expand(siteId, mediaId, originalId), params, false, "GET",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getOriginalById(String, String, String, Map)}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param mediaId - Unique identifier for a resource
+	 * @param originalId - Unique identifier for a rendition
+	 * @param params   - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> getOriginalByIdAsync(String siteId, String mediaId, String originalId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(originalId, "Original ID must not be null!");
+		return HttpCalls.requestAsync(transport, ORIGINAL.expand(siteId, mediaId, originalId), params, false, "GET",
+				headers);
 	}
 	
 	/**
@@ -114,9 +203,27 @@ public class OriginalClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Config ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId) + originalId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, ORIGINAL.expand(siteId, mediaId, originalId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateOriginal(String, String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param mediaId   - Unique identifier for a resource
+	 * @param originalId   - Unique identifier for an original
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> updateOriginalAsync(String siteId, String mediaId, String originalId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Config ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, ORIGINAL.expand(siteId, mediaId, originalId), bodyParams, isBodyParams,
+				"PATCH", headers);
 	}
 
 	/**
@@ -132,8 +239,24 @@ public class OriginalClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
 		Preconditions.checkNotNull(originalId, "Original ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId) + originalId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, ORIGINAL.expand(siteId, mediaId, originalId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteOriginal(String, String, String)}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param mediaId - Unique identifier for a resource
+	 * @param originalId - Unique identifier for a rendition
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> deleteOriginalAsync(String siteId, String mediaId, String originalId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(originalId, "Original ID must not be null!");
+		return HttpCalls.requestAsync(transport, ORIGINAL.expand(siteId, mediaId, originalId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 
 }
\ No newline at end of file
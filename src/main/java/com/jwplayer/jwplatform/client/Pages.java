@@ -0,0 +1,358 @@
+package com.jwplayer.jwplatform.client;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.google.common.base.Preconditions;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+import com.jwplayer.jwplatform.exception.UncheckedJWPlatformException;
+
+/**
+ * Pages class
+ *
+ * The items of a V2 list endpoint across all of its pages, e.g. every media
+ * item of a site. Pages are requested with the {@code page} and
+ * {@code page_length} parameters, starting from the {@code page} given, or the
+ * first. Each page's items are the entries of the array named by the
+ * listing's item key, such as {@code media} or {@code playlists}.
+ *
+ * <p>
+ * Iteration is lazy and prefetches: as soon as a page arrives the next one is
+ * requested, so it is on its way while the caller works through the current
+ * one. A failed request surfaces as an {@link UncheckedJWPlatformException}
+ * from the iterator or stream.
+ *
+ * <p>
+ * With {@link #parallel(int)}, once the first page tells how many items there
+ * are, the remaining pages are requested concurrently, at most
+ * {@code parallelism} at a time. Items are delivered in page order unless
+ * {@link #unordered()} is set, in which case each page is delivered as soon as
+ * it arrives. The requests go through the client's transport, so its rate and
+ * concurrency limits still apply. Listings without a {@code total} are paged
+ * one at a time as usual.
+ *
+ * <p>
+ * Example: mediaClient.listAllMediaPages(siteId, params).pageLength(500).stream()
+ * .forEach(media -> process(media));
+ */
+public final class Pages implements Iterable<JSONObject> {
+
+	private final Function<Map<String, String>, CompletableFuture<JSONObject>> fetcher;
+	private final String itemKey;
+	private final Map<String, String> params;
+	private final int parallelism;
+	private final boolean ordered;
+
+	/**
+	 * @param fetcher - requests one page given its parameters
+	 * @param itemKey - the top-level field holding a page's items, e.g.
+	 *                {@code media}
+	 * @param params  - parameters sent with every page, may be null
+	 */
+	Pages(final Function<Map<String, String>, CompletableFuture<JSONObject>> fetcher, final String itemKey,
+			final Map<String, String> params) {
+		this(fetcher, itemKey, params, 1, true);
+	}
+
+	private Pages(final Function<Map<String, String>, CompletableFuture<JSONObject>> fetcher, final String itemKey,
+			final Map<String, String> params, final int parallelism, final boolean ordered) {
+		this.fetcher = fetcher;
+		this.itemKey = itemKey;
+		this.params = params == null ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(params));
+		this.parallelism = parallelism;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * @param pageLength - items to request per page
+	 * @return - the same listing requested with pages of {@code pageLength}
+	 */
+	public Pages pageLength(final int pageLength) {
+		Preconditions.checkArgument(pageLength > 0, "Page length must be positive!");
+		final Map<String, String> withLength = new HashMap<>(params);
+		withLength.put("page_length", Integer.toString(pageLength));
+		return new Pages(fetcher, itemKey, withLength, parallelism, ordered);
+	}
+
+	/**
+	 * @param parallelism - page requests in flight at most, once the total is
+	 *                    known
+	 * @return - the same listing, scanning the remaining pages concurrently
+	 */
+	public Pages parallel(final int parallelism) {
+		Preconditions.checkArgument(parallelism > 0, "Parallelism must be positive!");
+		return new Pages(fetcher, itemKey, params, parallelism, ordered);
+	}
+
+	/**
+	 * @return - the same listing, delivering pages as they arrive rather than in
+	 *         page order
+	 */
+	public Pages unordered() {
+		return new Pages(fetcher, itemKey, params, parallelism, false);
+	}
+
+	public String getItemKey() {
+		return itemKey;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	public boolean isOrdered() {
+		return ordered;
+	}
+
+	/**
+	 * @return - an iterator over the items, requesting pages as it goes
+	 */
+	@Override
+	public Iterator<JSONObject> iterator() {
+		return parallelism > 1 ? new ParallelPageIterator() : new PageIterator(firstPage(), null);
+	}
+
+	/**
+	 * @return - a sequential stream of the items, requesting pages as it goes
+	 */
+	public Stream<JSONObject> stream() {
+		return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	/**
+	 * @param page - the page number, starting at 1
+	 * @return - future completed with that page
+	 */
+	CompletableFuture<JSONObject> fetch(final int page) {
+		final Map<String, String> pageParams = new HashMap<>(params);
+		pageParams.put("page", Integer.toString(page));
+		return fetcher.apply(pageParams);
+	}
+
+	/**
+	 * @return - the page iteration starts from
+	 */
+	int firstPage() {
+		return parseInt(params.get("page"), 1);
+	}
+
+	/**
+	 * @param body - a page as returned by the API
+	 * @return - the entries of its item array, or an empty array if it has none
+	 */
+	JSONArray items(final JSONObject body) {
+		final JSONArray items = body.optJSONArray(itemKey);
+		return items == null ? new JSONArray() : items;
+	}
+
+	/**
+	 * @param body - the page just received
+	 * @param page - its number
+	 * @return - whether a later page may have items
+	 */
+	boolean hasMore(final JSONObject body, final int page) {
+		final int count = items(body).length();
+		if (count == 0) {
+			return false;
+		}
+		final int pageLength = body.optInt("page_length", parseInt(params.get("page_length"), -1));
+		if (body.has("total") && pageLength > 0) {
+			return (long) page * pageLength < body.optLong("total");
+		}
+		return pageLength <= 0 || count >= pageLength;
+	}
+
+	/**
+	 * @param body - the page just received
+	 * @param page - its number
+	 * @return - the number of the last page, or -1 if the body does not tell
+	 */
+	int lastPage(final JSONObject body, final int page) {
+		final int pageLength = body.optInt("page_length", parseInt(params.get("page_length"), -1));
+		if (!body.has("total") || pageLength <= 0) {
+			return -1;
+		}
+		final long last = (body.optLong("total") + pageLength - 1) / pageLength;
+		return (int) Math.min(Integer.MAX_VALUE, Math.max(last, page));
+	}
+
+	/**
+	 * @return - the page's JSON, waiting for it if needed
+	 * @throws UncheckedJWPlatformException - the request failed
+	 */
+	static JSONObject await(final CompletableFuture<JSONObject> page) {
+		try {
+			return page.get();
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof JWPlatformException) {
+				throw new UncheckedJWPlatformException((JWPlatformException) e.getCause());
+			}
+			throw new UncheckedJWPlatformException(
+					new JWPlatformUnknownException(String.format("Page request failed: %s", e.getCause())));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncheckedJWPlatformException(new JWPlatformUnknownException("Page request interrupted"));
+		}
+	}
+
+	private static int parseInt(final String value, final int fallback) {
+		if (value == null) {
+			return fallback;
+		}
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (final NumberFormatException e) {
+			return fallback;
+		}
+	}
+
+	/**
+	 * Walks the pages in order, keeping the next one in flight.
+	 */
+	private final class PageIterator implements Iterator<JSONObject> {
+		private int page;
+		private CompletableFuture<JSONObject> pending;
+		private boolean started;
+		private JSONArray items = new JSONArray();
+		private int index;
+
+		/**
+		 * @param page    - the page to start from
+		 * @param pending - that page if already requested, otherwise null
+		 */
+		PageIterator(final int page, final CompletableFuture<JSONObject> pending) {
+			this.page = page;
+			this.pending = pending;
+			this.started = pending != null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (!started) {
+				started = true;
+				pending = fetch(page);
+			}
+			while (index >= items.length()) {
+				if (pending == null) {
+					return false;
+				}
+				final JSONObject body = await(pending);
+				pending = hasMore(body, page) ? fetch(++page) : null;
+				items = items(body);
+				index = 0;
+			}
+			return true;
+		}
+
+		@Override
+		public JSONObject next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return items.getJSONObject(index++);
+		}
+	}
+
+	/**
+	 * Requests the first page, then keeps up to {@code parallelism} of the
+	 * remaining pages in flight until the last one has been requested.
+	 */
+	private final class ParallelPageIterator implements Iterator<JSONObject> {
+		private int nextPage = firstPage();
+		private int lastPage;
+		private boolean started;
+		private int outstanding;
+		private final Deque<CompletableFuture<JSONObject>> inOrder = new ArrayDeque<>();
+		private final BlockingQueue<CompletableFuture<JSONObject>> arrived = new LinkedBlockingQueue<>();
+		private Iterator<JSONObject> sequential;
+		private JSONArray items = new JSONArray();
+		private int index;
+
+		@Override
+		public boolean hasNext() {
+			if (!started) {
+				start();
+			}
+			if (index < items.length()) {
+				return true;
+			}
+			if (sequential != null) {
+				return sequential.hasNext();
+			}
+			while (index >= items.length()) {
+				if (outstanding == 0) {
+					return false;
+				}
+				final CompletableFuture<JSONObject> page = ordered ? inOrder.poll() : take();
+				outstanding--;
+				items = items(await(page));
+				index = 0;
+				fill();
+			}
+			return true;
+		}
+
+		@Override
+		public JSONObject next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return index < items.length() ? items.getJSONObject(index++) : sequential.next();
+		}
+
+		private void start() {
+			started = true;
+			final int first = nextPage;
+			final JSONObject body = await(fetch(first));
+			items = items(body);
+			lastPage = lastPage(body, first);
+			nextPage = first + 1;
+			index = 0;
+			if (lastPage < 0 && hasMore(body, first)) {
+				// no total to fan out over, page through the rest one at a time
+				sequential = new PageIterator(nextPage, fetch(nextPage));
+			}
+			fill();
+		}
+
+		private void fill() {
+			while (outstanding < parallelism && nextPage <= lastPage) {
+				final CompletableFuture<JSONObject> page = fetch(nextPage++);
+				outstanding++;
+				if (ordered) {
+					inOrder.add(page);
+				} else {
+					page.whenComplete((body, error) -> arrived.add(page));
+				}
+			}
+		}
+
+		private CompletableFuture<JSONObject> take() {
+			try {
+				return arrived.take();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new UncheckedJWPlatformException(new JWPlatformUnknownException("Page request interrupted"));
+			}
+		}
+	}
+}
@@ -2,12 +2,21 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.Playlist;
+import com.jwplayer.jwplatform.model.PlaylistMetadata;
+import com.jwplayer.jwplatform.model.ResourcePage;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+import com.jwplayer.jwplatform.rest.Projection;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Playlists API client.
@@ -23,29 +32,63 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class PlaylistsClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate PLAYLISTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/");
+	private static final RouteTemplate PLAYLIST = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/{playlist_id}/");
+	private static final RouteTemplate MANUAL_PLAYLISTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/manual_playlist/");
+	private static final RouteTemplate MANUAL_PLAYLIST = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/{playlist_id}/manual_playlist/");
+	private static final RouteTemplate DYNAMIC_PLAYLISTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/dynamic_playlist/");
+	private static final RouteTemplate DYNAMIC_PLAYLIST = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/{playlist_id}/dynamic_playlist/");
+	private static final RouteTemplate TRENDING_PLAYLISTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/trending_playlist/");
+	private static final RouteTemplate TRENDING_PLAYLIST = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/{playlist_id}/trending_playlist/");
+	private static final RouteTemplate ARTICLE_MATCHING_PLAYLISTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/article_matching_playlist/");
+	private static final RouteTemplate ARTICLE_MATCHING_PLAYLIST = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/{playlist_id}/article_matching_playlist/");
+	private static final RouteTemplate SEARCH_PLAYLISTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/search_playlist/");
+	private static final RouteTemplate SEARCH_PLAYLIST = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/{playlist_id}/search_playlist/");
+	private static final RouteTemplate RECOMMENDATIONS_PLAYLISTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/recommendations_playlist/");
+	private static final RouteTemplate RECOMMENDATIONS_PLAYLIST = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/{playlist_id}/recommendations_playlist/");
+	private static final RouteTemplate WATCHLIST_PLAYLISTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/watchlist_playlist/");
+	private static final RouteTemplate WATCHLIST_PLAYLIST = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/playlists/{playlist_id}/watchlist_playlist/");
 
 	/**
 	 * Instantiate a new {@code PlaylistsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private PlaylistsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/playlists/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private PlaylistsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #PlaylistsClient(String)}.
+	 * see {@link #PlaylistsClient(String, HttpTransport)}.
 	 */
 	public static PlaylistsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #PlaylistsClient(String, HttpTransport)}.
+	 */
+	public static PlaylistsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new PlaylistsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new PlaylistsClient(secret, transport);
 	}
 
 	/**
@@ -59,8 +102,78 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listPlaylists(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, PLAYLISTS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listPlaylists(String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> listPlaylistsAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, PLAYLISTS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listPlaylists(String, Map)} returning a lazily decoded
+	 * {@link JsonView}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from Playlists API
+	 * @throws JWPlatformException See {@link #listPlaylists(String, Map)}
+	 */
+	public JsonView listPlaylistsView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, PLAYLISTS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listPlaylists(String, Map)} decoding the response into
+	 * {@link Playlist} models.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return the page of playlists
+	 * @throws JWPlatformException See {@link #listPlaylists(String, Map)}
+	 */
+	public ResourcePage<Playlist> listPlaylistsTyped(String siteId, Map<String, String> params)
+			throws JWPlatformException {
+		return ResourcePage.decode(listPlaylistsView(siteId, params), Playlist::decode);
+	}
+
+	/**
+	 * Variant of {@link #listPlaylists(String, Map)} keeping only the fields of
+	 * {@code projection} from each playlist. The other fields are skipped as the
+	 * response is read and never built.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param params     - Parameters to be included in the request
+	 * @param projection - the fields to keep from each playlist
+	 * @return JSON response from Playlists API with projected playlists
+	 * @throws JWPlatformException See {@link #listPlaylists(String, Map)}
+	 */
+	public JSONObject listPlaylists(String siteId, Map<String, String> params, Projection projection)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(projection, "Projection must not be null!");
+		return HttpCalls.requestProjected(transport, PLAYLISTS.expand(siteId), params, headers, projection,
+				"playlists");
+	}
+
+	/**
+	 * Every item of {@link #listPlaylists(String, Map)}, across all pages.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listPlaylistsPages(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listPlaylistsAsync(siteId, pageParams), "playlists", params);
 	}
 
 	/**
@@ -77,8 +190,54 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, PLAYLIST.expand(siteId, playlistId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrievePlaylistById(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> retrievePlaylistByIdAsync(String siteId, String playlistId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, PLAYLIST.expand(siteId, playlistId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrievePlaylistById(String, String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return view of the JSON response from Playlists API
+	 * @throws JWPlatformException See {@link #retrievePlaylistById(String, String, Map)}
+	 */
+	public JsonView retrievePlaylistByIdView(String siteId, String playlistId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestView(transport, PLAYLIST.expand(siteId, playlistId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrievePlaylistById(String, String, Map)} decoding the
+	 * response into a {@link Playlist} model.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return the playlist
+	 * @throws JWPlatformException See {@link #retrievePlaylistById(String, String, Map)}
+	 */
+	public Playlist retrievePlaylistByIdTyped(String siteId, String playlistId, Map<String, String> params)
+			throws JWPlatformException {
+		return Playlist.decode(retrievePlaylistByIdView(siteId, playlistId, params));
 	}
 
 	/**
@@ -93,8 +252,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject deletePlaylistById(String siteId, String playlistId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false, "DELETE",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deletePlaylistById(String, String)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> deletePlaylistByIdAsync(String siteId, String playlistId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false, "DELETE",
+				headers);
 	}
 
 	/**
@@ -108,9 +281,40 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createManualPlaylist(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "manual_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, MANUAL_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createManualPlaylist(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> createManualPlaylistAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, MANUAL_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Variant of {@link #createManualPlaylist(String, Map)} with the body
+	 * written straight from {@code metadata}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param metadata - Metadata of the new playlist
+	 * @return the created playlist
+	 * @throws JWPlatformException See {@link #createManualPlaylist(String, Map)}
+	 */
+	public Playlist createManualPlaylistTyped(String siteId, PlaylistMetadata metadata) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("metadata");
+		metadata.encode(body).endObject();
+		return Playlist.decode(HttpCalls.requestView(transport, MANUAL_PLAYLISTS.expand(siteId), body.toByteArray(),
+				"POST", headers));
 	}
 
 	/**
@@ -127,8 +331,23 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/manual_playlist/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, MANUAL_PLAYLIST.expand(siteId, playlistId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveManualPlaylistById(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> retrieveManualPlaylistByIdAsync(String siteId, String playlistId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, MANUAL_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
 	}
 
 	/**
@@ -145,9 +364,47 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/manual_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, MANUAL_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateManualPlaylist(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> updateManualPlaylistAsync(String siteId, String playlistId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, MANUAL_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Variant of {@link #updateManualPlaylist(String, String, Map)} sending only
+	 * the fields set on {@code metadata}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param metadata   - The fields to change
+	 * @return the updated playlist
+	 * @throws JWPlatformException See {@link #updateManualPlaylist(String, String, Map)}
+	 */
+	public Playlist updateManualPlaylistTyped(String siteId, String playlistId, PlaylistMetadata metadata)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("metadata");
+		metadata.encode(body).endObject();
+		return Playlist.decode(HttpCalls.requestView(transport, MANUAL_PLAYLIST.expand(siteId, playlistId),
+				body.toByteArray(), "PATCH", headers));
 	}
 
 	/**
@@ -162,8 +419,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject deleteManualPlaylist(String siteId, String playlistId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/manual_playlist/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, MANUAL_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteManualPlaylist(String, String)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> deleteManualPlaylistAsync(String siteId, String playlistId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, MANUAL_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 
 	/**
@@ -177,9 +448,23 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createDynamicPlaylist(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "dynamic_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, DYNAMIC_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createDynamicPlaylist(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> createDynamicPlaylistAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, DYNAMIC_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
 	}
 
 	/**
@@ -196,8 +481,23 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/dynamic_playlist/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, DYNAMIC_PLAYLIST.expand(siteId, playlistId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveDynamicPlaylistById(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> retrieveDynamicPlaylistByIdAsync(String siteId, String playlistId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, DYNAMIC_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
 	}
 
 	/**
@@ -214,9 +514,26 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/dynamic_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, DYNAMIC_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateDynamicPlaylist(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> updateDynamicPlaylistAsync(String siteId, String playlistId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, DYNAMIC_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
 	}
 
 	/**
@@ -231,8 +548,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject deleteDynamicPlaylist(String siteId, String playlistId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/dynamic_playlist/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, DYNAMIC_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteDynamicPlaylist(String, String)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> deleteDynamicPlaylistAsync(String siteId, String playlistId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, DYNAMIC_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 
 	/**
@@ -246,9 +577,23 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createTrendingPlaylist(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "trending_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, TRENDING_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createTrendingPlaylist(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> createTrendingPlaylistAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, TRENDING_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
 	}
 
 	/**
@@ -265,8 +610,24 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/trending_playlist/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, TRENDING_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveTrendingPlaylistById(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> retrieveTrendingPlaylistByIdAsync(String siteId, String playlistId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, TRENDING_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
 	}
 
 	/**
@@ -283,9 +644,26 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/trending_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, TRENDING_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateTrendingPlaylist(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> updateTrendingPlaylistAsync(String siteId, String playlistId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, TRENDING_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
 	}
 
 	/**
@@ -300,8 +678,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject deleteTrendingPlaylist(String siteId, String playlistId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/trending_playlist/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, TRENDING_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteTrendingPlaylist(String, String)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> deleteTrendingPlaylistAsync(String siteId, String playlistId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, TRENDING_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 
 	/**
@@ -316,9 +708,24 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject createArticleMatchingPlaylist(String siteId, Map<String, String> bodyParams)
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "article_matching_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, ARTICLE_MATCHING_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createArticleMatchingPlaylist(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> createArticleMatchingPlaylistAsync(String siteId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, ARTICLE_MATCHING_PLAYLISTS.expand(siteId), bodyParams, isBodyParams,
+				"POST", headers);
 	}
 
 	/**
@@ -335,8 +742,42 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/article_matching_playlist/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, ARTICLE_MATCHING_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveArticleMatchingPlaylistById(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> retrieveArticleMatchingPlaylistByIdAsync(String siteId, String playlistId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, ARTICLE_MATCHING_PLAYLIST.expand(siteId, playlistId), params, false,
+				"GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveArticleMatchingPlaylistById(String, String,
+	 * Map)} returning a lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return view of the JSON response from Playlists API
+	 * @throws JWPlatformException See {@link #retrieveArticleMatchingPlaylistById(String, String, Map)}
+	 */
+	public JsonView retrieveArticleMatchingPlaylistByIdView(String siteId, String playlistId, Map<String,
+			String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestView(transport, ARTICLE_MATCHING_PLAYLIST.expand(siteId, playlistId), params, false,
+				"GET", headers);
 	}
 
 	/**
@@ -353,9 +794,26 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/article_matching_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, ARTICLE_MATCHING_PLAYLIST.expand(siteId, playlistId), bodyParams,
+				isBodyParams, "PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateArticleMatchingPlaylist(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> updateArticleMatchingPlaylistAsync(String siteId, String playlistId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, ARTICLE_MATCHING_PLAYLIST.expand(siteId, playlistId), bodyParams,
+				isBodyParams, "PATCH", headers);
 	}
 
 	/**
@@ -370,8 +828,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject deleteArticleMatchingPlaylist(String siteId, String playlistId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/article_matching_playlist/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, ARTICLE_MATCHING_PLAYLIST.expand(siteId, playlistId), new HashMap<>(),
+				false, "DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteArticleMatchingPlaylist(String, String)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> deleteArticleMatchingPlaylistAsync(String siteId, String playlistId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, ARTICLE_MATCHING_PLAYLIST.expand(siteId, playlistId), new HashMap<>(),
+				false, "DELETE", headers);
 	}
 
 	/**
@@ -385,9 +857,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createSearchPlaylist(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "search_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, SEARCH_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createSearchPlaylist(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> createSearchPlaylistAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, SEARCH_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
 	}
 
 	/**
@@ -404,8 +889,23 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/search_playlist/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, SEARCH_PLAYLIST.expand(siteId, playlistId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveSearchPlaylistById(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> retrieveSearchPlaylistByIdAsync(String siteId, String playlistId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, SEARCH_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
 	}
 
 	/**
@@ -422,9 +922,26 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/search_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, SEARCH_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateSearchPlaylist(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> updateSearchPlaylistAsync(String siteId, String playlistId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, SEARCH_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
 	}
 
 	/**
@@ -439,8 +956,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject deleteSearchPlaylist(String siteId, String playlistId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/search_playlist/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, SEARCH_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteSearchPlaylist(String, String)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> deleteSearchPlaylistAsync(String siteId, String playlistId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, SEARCH_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 
 	/**
@@ -455,9 +986,24 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject createRecommendationsPlaylist(String siteId, Map<String, String> bodyParams)
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "recommendations_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, RECOMMENDATIONS_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createRecommendationsPlaylist(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> createRecommendationsPlaylistAsync(String siteId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, RECOMMENDATIONS_PLAYLISTS.expand(siteId), bodyParams, isBodyParams,
+				"POST", headers);
 	}
 
 	/**
@@ -474,8 +1020,42 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/recommendations_playlist/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, RECOMMENDATIONS_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveRecommendationsPlaylistById(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> retrieveRecommendationsPlaylistByIdAsync(String siteId, String playlistId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, RECOMMENDATIONS_PLAYLIST.expand(siteId, playlistId), params, false,
+				"GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveRecommendationsPlaylistById(String, String,
+	 * Map)} returning a lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return view of the JSON response from Playlists API
+	 * @throws JWPlatformException See {@link #retrieveRecommendationsPlaylistById(String, String, Map)}
+	 */
+	public JsonView retrieveRecommendationsPlaylistByIdView(String siteId, String playlistId, Map<String,
+			String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestView(transport, RECOMMENDATIONS_PLAYLIST.expand(siteId, playlistId), params, false,
+				"GET", headers);
 	}
 
 	/**
@@ -492,9 +1072,26 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/recommendations_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, RECOMMENDATIONS_PLAYLIST.expand(siteId, playlistId), bodyParams,
+				isBodyParams, "PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateRecommendationsPlaylist(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> updateRecommendationsPlaylistAsync(String siteId, String playlistId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, RECOMMENDATIONS_PLAYLIST.expand(siteId, playlistId), bodyParams,
+				isBodyParams, "PATCH", headers);
 	}
 
 	/**
@@ -509,8 +1106,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject deleteRecommendationsPlaylist(String siteId, String playlistId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/recommendations_playlist/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, RECOMMENDATIONS_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteRecommendationsPlaylist(String, String)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> deleteRecommendationsPlaylistAsync(String siteId, String playlistId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, RECOMMENDATIONS_PLAYLIST.expand(siteId, playlistId), new HashMap<>(),
+				false, "DELETE", headers);
 	}
 	
 	/**
@@ -525,9 +1136,23 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject createWatchlistPlaylist(String siteId, Map<String, String> bodyParams)
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "watchlist_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, WATCHLIST_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createWatchlistPlaylist(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> createWatchlistPlaylistAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, WATCHLIST_PLAYLISTS.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
 	}
 
 	/**
@@ -544,8 +1169,24 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/watchlist_playlist/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, WATCHLIST_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveWatchlistPlaylistById(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param params     - Parameters to be included in the request
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> retrieveWatchlistPlaylistByIdAsync(String siteId, String playlistId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, WATCHLIST_PLAYLIST.expand(siteId, playlistId), params, false, "GET",
+				headers);
 	}
 
 	/**
@@ -562,9 +1203,26 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/watchlist_playlist/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, WATCHLIST_PLAYLIST.expand(siteId, playlistId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateWatchlistPlaylist(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> updateWatchlistPlaylistAsync(String siteId, String playlistId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, WATCHLIST_PLAYLIST.expand(siteId, playlistId), bodyParams,
+				isBodyParams, "PATCH", headers);
 	}
 
 	/**
@@ -579,8 +1237,22 @@ public class PlaylistsClient extends JWPlatformClientV2 {
 	public JSONObject deleteWatchlistPlaylist(String siteId, String playlistId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
-		this.path = String.format(this.path, siteId) + playlistId + "/watchlist_playlist/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, WATCHLIST_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteWatchlistPlaylist(String, String)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param playlistId - Alphanumeric Playlist ID
+	 * @return future completed with the JSON response from Playlists API
+	 */
+	public CompletableFuture<JSONObject> deleteWatchlistPlaylistAsync(String siteId, String playlistId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(playlistId, "Playlist ID must not be null!");
+		return HttpCalls.requestAsync(transport, WATCHLIST_PLAYLIST.expand(siteId, playlistId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 
 }
@@ -2,12 +2,16 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Protection Rules API client.
@@ -23,29 +27,37 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  * ProtectionRulesClient.getClient(secret);
  */
 public class ProtectionRulesClient extends JWPlatformClientV2 {
-	private String path;
-	private final String secret;
+	private static final RouteTemplate MEDIA_PROTECTION_RULES = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media_protection_rules/");
+	private static final RouteTemplate MEDIA_PROTECTION_RULE = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media_protection_rules/{protection_rule_id}/");
+	private static final RouteTemplate SITE_PROTECTION_RULE = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/site_protection_rule/");
 
 	/**
 	 * Instantiate a new {@code ProtectionRulesClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private ProtectionRulesClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private ProtectionRulesClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #ProtectionRulesClient(String)}.
+	 * see {@link #ProtectionRulesClient(String, HttpTransport)}.
 	 */
 	public static ProtectionRulesClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #ProtectionRulesClient(String, HttpTransport)}.
+	 */
+	public static ProtectionRulesClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new ProtectionRulesClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new ProtectionRulesClient(secret, transport);
 	}
 
 	/**
@@ -59,8 +71,46 @@ public class ProtectionRulesClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listMediaProtectionRules(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "media_protection_rules/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, MEDIA_PROTECTION_RULES.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listMediaProtectionRules(String, Map)}.
+	 *
+	 * @param siteId - PropertyId
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from ProtectionRules API
+	 */
+	public CompletableFuture<JSONObject> listMediaProtectionRulesAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, MEDIA_PROTECTION_RULES.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listMediaProtectionRules(String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId - PropertyId
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from ProtectionRules API
+	 * @throws JWPlatformException See {@link #listMediaProtectionRules(String, Map)}
+	 */
+	public JsonView listMediaProtectionRulesView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, MEDIA_PROTECTION_RULES.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Every item of {@link #listMediaProtectionRules(String, Map)}, across all pages.
+	 *
+	 * @param siteId - PropertyId
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listMediaProtectionRulesPages(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listMediaProtectionRulesAsync(siteId, pageParams),
+				"media_protection_rules", params);
 	}
 
 	/**
@@ -75,9 +125,23 @@ public class ProtectionRulesClient extends JWPlatformClientV2 {
 	public JSONObject createMediaProtectionRule(String siteId, Map<String, String> bodyParams)
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "media_protection_rules/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, MEDIA_PROTECTION_RULES.expand(siteId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createMediaProtectionRule(String, Map)}.
+	 *
+	 * @param siteId     - PropertyId
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from ProtectionRules API
+	 */
+	public CompletableFuture<JSONObject> createMediaProtectionRuleAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, MEDIA_PROTECTION_RULES.expand(siteId), bodyParams, isBodyParams,
+				"POST", headers);
 	}
 
 	/**
@@ -94,8 +158,42 @@ public class ProtectionRulesClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(protectionRuleId, "ProtectionRule ID must not be null!");
-		this.path = String.format(this.path, siteId) + "media_protection_rules/" + protectionRuleId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, MEDIA_PROTECTION_RULE.expand(siteId, protectionRuleId), params, false,
+				"GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getMediaProtectionRuleById(String, String, Map)}.
+	 *
+	 * @param siteId           - PropertyId
+	 * @param protectionRuleId - Unique identifier for a protection rule
+	 * @param params           - Parameters to be included in the request
+	 * @return future completed with the JSON response from ProtectionRules API
+	 */
+	public CompletableFuture<JSONObject> getMediaProtectionRuleByIdAsync(String siteId, String protectionRuleId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(protectionRuleId, "ProtectionRule ID must not be null!");
+		return HttpCalls.requestAsync(transport, MEDIA_PROTECTION_RULE.expand(siteId, protectionRuleId), params, false,
+				"GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #getMediaProtectionRuleById(String, String, Map)}
+	 * returning a lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId           - PropertyId
+	 * @param protectionRuleId - Unique identifier for a protection rule
+	 * @param params           - Parameters to be included in the request
+	 * @return view of the JSON response from ProtectionRules API
+	 * @throws JWPlatformException See {@link #getMediaProtectionRuleById(String, String, Map)}
+	 */
+	public JsonView getMediaProtectionRuleByIdView(String siteId, String protectionRuleId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(protectionRuleId, "ProtectionRule ID must not be null!");
+		return HttpCalls.requestView(transport, MEDIA_PROTECTION_RULE.expand(siteId, protectionRuleId), params, false,
+				"GET", headers);
 	}
 
 	/**
@@ -110,8 +208,22 @@ public class ProtectionRulesClient extends JWPlatformClientV2 {
 	public JSONObject deleteMediaProtectionRule(String siteId, String protectionRuleId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(protectionRuleId, "ProtectionRule ID must not be null!");
-		this.path = String.format(this.path, siteId) + "media_protection_rules/" + protectionRuleId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, MEDIA_PROTECTION_RULE.expand(siteId, protectionRuleId), new HashMap<>(),
+				false, "DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteMediaProtectionRule(String, String)}.
+	 *
+	 * @param siteId           - PropertyId
+	 * @param protectionRuleId - Unique identifier for a protection rule
+	 * @return future completed with the JSON response from ProtectionRules API
+	 */
+	public CompletableFuture<JSONObject> deleteMediaProtectionRuleAsync(String siteId, String protectionRuleId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(protectionRuleId, "ProtectionRule ID must not be null!");
+		return HttpCalls.requestAsync(transport, MEDIA_PROTECTION_RULE.expand(siteId, protectionRuleId),
+				new HashMap<>(), false, "DELETE", headers);
 	}
 
 	/**
@@ -128,9 +240,26 @@ public class ProtectionRulesClient extends JWPlatformClientV2 {
 			Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(protectionRuleId, "ProtectionRule ID must not be null!");
-		this.path = String.format(this.path, siteId) + "media_protection_rules/" + protectionRuleId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, MEDIA_PROTECTION_RULE.expand(siteId, protectionRuleId), bodyParams,
+				isBodyParams, "PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #changeSettingsMediaProtectionRule(String, String, Map)}.
+	 *
+	 * @param siteId           - PropertyId
+	 * @param protectionRuleId - Unique identifier for a protection rule
+	 * @param bodyParams       - Parameters to be included in the request body
+	 * @return future completed with the JSON response from ProtectionRules API
+	 */
+	public CompletableFuture<JSONObject> changeSettingsMediaProtectionRuleAsync(String siteId, String protectionRuleId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(protectionRuleId, "ProtectionRule ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, MEDIA_PROTECTION_RULE.expand(siteId, protectionRuleId), bodyParams,
+				isBodyParams, "PATCH", headers);
 	}
 
 	/**
@@ -144,8 +273,33 @@ public class ProtectionRulesClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject getSiteProtectionRules(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "site_protection_rule/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, SITE_PROTECTION_RULE.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getSiteProtectionRules(String, Map)}.
+	 *
+	 * @param siteId - PropertyId
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from ProtectionRules API
+	 */
+	public CompletableFuture<JSONObject> getSiteProtectionRulesAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, SITE_PROTECTION_RULE.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #getSiteProtectionRules(String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId - PropertyId
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from ProtectionRules API
+	 * @throws JWPlatformException See {@link #getSiteProtectionRules(String, Map)}
+	 */
+	public JsonView getSiteProtectionRulesView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, SITE_PROTECTION_RULE.expand(siteId), params, false, "GET", headers);
 	}
 
 	/**
@@ -160,9 +314,23 @@ public class ProtectionRulesClient extends JWPlatformClientV2 {
 	public JSONObject updateSiteProtectionRule(String siteId, Map<String, String> bodyParams)
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId) + "site_protection_rule/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, SITE_PROTECTION_RULE.expand(siteId), bodyParams, isBodyParams, "PATCH",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateSiteProtectionRule(String, Map)}.
+	 *
+	 * @param siteId     - PropertyId
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from ProtectionRules API
+	 */
+	public CompletableFuture<JSONObject> updateSiteProtectionRuleAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, SITE_PROTECTION_RULE.expand(siteId), bodyParams, isBodyParams, "PATCH",
+				headers);
 	}
 
 }
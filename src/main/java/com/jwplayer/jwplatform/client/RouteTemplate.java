@@ -0,0 +1,89 @@
+package com.jwplayer.jwplatform.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * RouteTemplate class
+ *
+ * An endpoint URL with named placeholders, for example
+ * {@code https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/}. The
+ * template is split into its literal parts once, when the client class that
+ * declares it is loaded, so building a request URL is a single pass over a
+ * {@code StringBuilder} with no format string to parse. Instances are immutable
+ * and may be shared between threads.
+ */
+final class RouteTemplate {
+
+	private final String template;
+	private final String[] literals;
+	private final String[] names;
+	private final int literalLength;
+
+	private RouteTemplate(final String template, final String[] literals, final String[] names) {
+		this.template = template;
+		this.literals = literals;
+		this.names = names;
+		int length = 0;
+		for (final String literal : literals) {
+			length += literal.length();
+		}
+		this.literalLength = length;
+	}
+
+	/**
+	 * Compile a template. Placeholders are written as {@code {name}}; their
+	 * names only document the template, values are bound by position.
+	 *
+	 * @param template - URL with {@code {name}} placeholders
+	 * @return - the compiled template
+	 */
+	static RouteTemplate compile(final String template) {
+		Preconditions.checkNotNull(template, "Route template must not be null!");
+		final List<String> literals = new ArrayList<>();
+		final List<String> names = new ArrayList<>();
+		int start = 0;
+		int open = template.indexOf('{');
+		while (open >= 0) {
+			final int close = template.indexOf('}', open);
+			Preconditions.checkArgument(close > open + 1, "Unterminated placeholder in route template %s", template);
+			literals.add(template.substring(start, open));
+			names.add(template.substring(open + 1, close));
+			start = close + 1;
+			open = template.indexOf('{', start);
+		}
+		literals.add(template.substring(start));
+		return new RouteTemplate(template, literals.toArray(new String[0]), names.toArray(new String[0]));
+	}
+
+	/**
+	 * Build a URL from this template.
+	 *
+	 * @param values - one value per placeholder, in the order they appear
+	 * @return - the expanded URL
+	 */
+	String expand(final String... values) {
+		Preconditions.checkArgument(values.length == names.length, "Route %s expects %s values but got %s", template,
+				names.length, values.length);
+		if (values.length == 0) {
+			return literals[0];
+		}
+		int length = literalLength;
+		for (int i = 0; i < values.length; i++) {
+			Preconditions.checkNotNull(values[i], "%s must not be null!", names[i]);
+			length += values[i].length();
+		}
+		final StringBuilder url = new StringBuilder(length);
+		for (int i = 0; i < values.length; i++) {
+			url.append(literals[i]).append(values[i]);
+		}
+		return url.append(literals[values.length]).toString();
+	}
+
+	@Override
+	public String toString() {
+		return template;
+	}
+}
@@ -1,13 +1,15 @@
 package com.jwplayer.jwplatform.client;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Tags API client.
@@ -23,29 +25,35 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 
 public class TagsClient extends JWPlatformClientV2 {
-	private String path;
-	private final String secret;
+	private static final RouteTemplate REMOVE_TAG = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/remove_tag/");
+	private static final RouteTemplate RENAME_TAG = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/rename_tag/");
 
 	/**
 	 * Instantiate a new {@code TagsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private TagsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private TagsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #TagsClient(String)}.
+	 * see {@link #TagsClient(String, HttpTransport)}.
 	 */
 	public static TagsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #TagsClient(String, HttpTransport)}.
+	 */
+	public static TagsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new TagsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new TagsClient(secret, transport);
 	}
 	
 	/**
@@ -58,8 +66,19 @@ public class TagsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject bulkRemoveTag(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId)+"remove_tag/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, REMOVE_TAG.expand(siteId), bodyParams, false, "PUT", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #bulkRemoveTag(String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param bodyParams - Parameters to be included in the request
+	 * @return future completed with the JSON response from Tags APIs
+	 */
+	public CompletableFuture<JSONObject> bulkRemoveTagAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, REMOVE_TAG.expand(siteId), bodyParams, false, "PUT", headers);
 	}
 	
 	/**
@@ -72,8 +91,19 @@ public class TagsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject bulkRenameTag(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId)+"rename_tag/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, RENAME_TAG.expand(siteId), bodyParams, false, "PUT", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #bulkRenameTag(String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param bodyParams - Parameters to be included in the request
+	 * @return future completed with the JSON response from Tags API
+	 */
+	public CompletableFuture<JSONObject> bulkRenameTagAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, RENAME_TAG.expand(siteId), bodyParams, false, "PUT", headers);
 	}
 
 }
@@ -2,12 +2,18 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.ResourcePage;
+import com.jwplayer.jwplatform.model.TextTrack;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Text Tracks API client.
@@ -23,29 +29,39 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 
 public class TextTracksClient extends JWPlatformClientV2 {
-	private String path;
-	private final String secret;
+	private static final RouteTemplate TEXT_TRACKS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/text_tracks/");
+	private static final RouteTemplate TEXT_TRACK = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/text_tracks/{track_id}/");
+	private static final RouteTemplate PUBLISH = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/text_tracks/{track_id}/publish/");
+	private static final RouteTemplate UNPUBLISH = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/text_tracks/{track_id}/unpublish/");
 
 	/**
 	 * Instantiate a new {@code TextTracksClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private TextTracksClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/media/%s/text_tracks/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private TextTracksClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #TextTracksClient(String)}.
+	 * see {@link #TextTracksClient(String, HttpTransport)}.
 	 */
 	public static TextTracksClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #TextTracksClient(String, HttpTransport)}.
+	 */
+	public static TextTracksClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new TextTracksClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new TextTracksClient(secret, transport);
 	}
 	
 	/**
@@ -58,8 +74,62 @@ public class TextTracksClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listTextTracks(String siteId, String mediaId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, TEXT_TRACKS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listTextTracks(String, String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from Text Tracks API
+	 */
+	public CompletableFuture<JSONObject> listTextTracksAsync(String siteId, String mediaId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, TEXT_TRACKS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listTextTracks(String, String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from Text Tracks API
+	 * @throws JWPlatformException See {@link #listTextTracks(String, String, Map)}
+	 */
+	public JsonView listTextTracksView(String siteId, String mediaId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, TEXT_TRACKS.expand(siteId, mediaId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listTextTracks(String, String, Map)} decoding the
+	 * response into {@link TextTrack} models.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param mediaId - Unique identifier for a Media
+	 * @param params  - Parameters to be included in the request
+	 * @return the page of text tracks
+	 * @throws JWPlatformException See {@link #listTextTracks(String, String, Map)}
+	 */
+	public ResourcePage<TextTrack> listTextTracksTyped(String siteId, String mediaId, Map<String, String> params)
+			throws JWPlatformException {
+		return ResourcePage.decode(listTextTracksView(siteId, mediaId, params), TextTrack::decode);
+	}
+
+	/**
+	 * Every item of {@link #listTextTracks(String, String, Map)}, across all pages.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listTextTracksPages(String siteId, String mediaId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listTextTracksAsync(siteId, mediaId, pageParams), "text_tracks", params);
 	}
 
 	/**
@@ -73,9 +143,25 @@ public class TextTracksClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createTextTrack(String siteId,  String mediaId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, TEXT_TRACKS.expand(siteId, mediaId), bodyParams, isBodyParams, "POST",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createTextTrack(String, String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - Unique identifier for a Media
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Text Tracks API
+	 */
+	public CompletableFuture<JSONObject> createTextTrackAsync(String siteId, String mediaId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, TEXT_TRACKS.expand(siteId, mediaId), bodyParams, isBodyParams, "POST",
+				headers);
 	}
 
 	/**
@@ -92,9 +178,27 @@ public class TextTracksClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId) + trackId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, TEXT_TRACK.expand(siteId, mediaId, trackId), bodyParams, isBodyParams,
+				"PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateTextTrack(String, String, String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - Unique identifier for a Media
+	 * @param trackId - Unique identifier for a Track
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Text Tracks API
+	 */
+	public CompletableFuture<JSONObject> updateTextTrackAsync(String siteId, String mediaId, String trackId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, TEXT_TRACK.expand(siteId, mediaId, trackId), bodyParams, isBodyParams,
+				"PATCH", headers);
 	}
 
 	/**
@@ -112,8 +216,45 @@ public class TextTracksClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
 		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
-		this.path = String.format(this.path, siteId, mediaId) + trackId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, TEXT_TRACK.expand(siteId, mediaId, trackId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getTextTrackById(String, String, String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - Unique identifier for a Media
+	 * @param trackId - Unique identifier for a Track
+	 * @param params   - Parameters to be included in the request
+	 * @return future completed with the JSON response from Text Tracks API
+	 */
+	public CompletableFuture<JSONObject> getTextTrackByIdAsync(String siteId, String mediaId, String trackId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
+		return HttpCalls.requestAsync(transport, TEXT_TRACK.expand(siteId, mediaId, trackId), params, false, "GET",
+				headers);
+	}
+
+	/**
+	 * Variant of {@link #getTextTrackById(String, String, String, Map)} decoding
+	 * the response into a {@link TextTrack} model.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param mediaId - Unique identifier for a Media
+	 * @param trackId - Unique identifier for a Track
+	 * @param params  - Parameters to be included in the request
+	 * @return the text track
+	 * @throws JWPlatformException See {@link #getTextTrackById(String, String, String, Map)}
+	 */
+	public TextTrack getTextTrackByIdTyped(String siteId, String mediaId, String trackId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
+		return TextTrack.decode(HttpCalls.requestView(transport, TEXT_TRACK.expand(siteId, mediaId, trackId), params,
+				false, "GET", headers));
 	}
 
 	/**
@@ -129,8 +270,24 @@ public class TextTracksClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
 		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
-		this.path = String.format(this.path, siteId,mediaId) + trackId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, TEXT_TRACK.expand(siteId, mediaId, trackId), new HashMap<>(), false,
+				"DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteTextTrack(String, String, String)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - Unique identifier for a Media
+	 * @param trackId - Unique identifier for a Track
+	 * @return future completed with the JSON response from Text Tracks API
+	 */
+	public CompletableFuture<JSONObject> deleteTextTrackAsync(String siteId, String mediaId, String trackId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
+		return HttpCalls.requestAsync(transport, TEXT_TRACK.expand(siteId, mediaId, trackId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 	
 	/**
@@ -147,8 +304,26 @@ public class TextTracksClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
 		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
-		this.path = String.format(this.path, siteId,mediaId) + trackId + "/publish/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, PUBLISH.expand(siteId, mediaId, trackId), bodyParams, false, "PUT",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #publishTextTrack(String, String, String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - Unique identifier for a Media
+	 * @param trackId - Unique identifier for a Track
+	 * @param bodyParams - Parameters to be included in the request
+	 * @return future completed with the JSON response from Text Tracks API
+	 */
+	public CompletableFuture<JSONObject> publishTextTrackAsync(String siteId, String mediaId, String trackId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
+		return HttpCalls.requestAsync(transport, PUBLISH.expand(siteId, mediaId, trackId), bodyParams, false, "PUT",
+				headers);
 	}
 
 	/**
@@ -165,7 +340,25 @@ public class TextTracksClient extends JWPlatformClientV2 {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
 		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
-		this.path = String.format(this.path, siteId,mediaId) + trackId + "/unpublish/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, UNPUBLISH.expand(siteId, mediaId, trackId), bodyParams, false, "PUT",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #unpublishTextTrack(String, String, String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param mediaId - Unique identifier for a Media
+	 * @param trackId - Unique identifier for a Track
+	 * @param bodyParams - Parameters to be included in the request
+	 * @return future completed with the JSON response from Text Tracks API
+	 */
+	public CompletableFuture<JSONObject> unpublishTextTrackAsync(String siteId, String mediaId, String trackId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(mediaId, "Media ID must not be null!");
+		Preconditions.checkNotNull(trackId, "Track ID must not be null!");
+		return HttpCalls.requestAsync(transport, UNPUBLISH.expand(siteId, mediaId, trackId), bodyParams, false, "PUT",
+				headers);
 	}
 }
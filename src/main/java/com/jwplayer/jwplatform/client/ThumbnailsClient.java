@@ -2,12 +2,18 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.ResourcePage;
+import com.jwplayer.jwplatform.model.Thumbnail;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Thumbnails API client.
@@ -23,29 +29,35 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class ThumbnailsClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate THUMBNAILS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/thumbnails/");
+	private static final RouteTemplate THUMBNAIL = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/thumbnails/{thumbnail_id}/");
 
 	/**
 	 * Instantiate a new {@code ThumbnailsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private ThumbnailsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/thumbnails/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private ThumbnailsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #ThumbnailsClient(String)}.
+	 * see {@link #ThumbnailsClient(String, HttpTransport)}.
 	 */
 	public static ThumbnailsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #ThumbnailsClient(String, HttpTransport)}.
+	 */
+	public static ThumbnailsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new ThumbnailsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new ThumbnailsClient(secret, transport);
 	}
 
 	/**
@@ -59,8 +71,59 @@ public class ThumbnailsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listThumbnails(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, THUMBNAILS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listThumbnails(String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from Thumbnail API
+	 */
+	public CompletableFuture<JSONObject> listThumbnailsAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, THUMBNAILS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listThumbnails(String, Map)} returning a lazily
+	 * decoded {@link JsonView}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from Thumbnail API
+	 * @throws JWPlatformException See {@link #listThumbnails(String, Map)}
+	 */
+	public JsonView listThumbnailsView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, THUMBNAILS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listThumbnails(String, Map)} decoding the response into
+	 * {@link Thumbnail} models.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return the page of thumbnails
+	 * @throws JWPlatformException See {@link #listThumbnails(String, Map)}
+	 */
+	public ResourcePage<Thumbnail> listThumbnailsTyped(String siteId, Map<String, String> params)
+			throws JWPlatformException {
+		return ResourcePage.decode(listThumbnailsView(siteId, params), Thumbnail::decode);
+	}
+
+	/**
+	 * Every item of {@link #listThumbnails(String, Map)}, across all pages.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listThumbnailsPages(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listThumbnailsAsync(siteId, pageParams), "thumbnails", params);
 	}
 
 	/**
@@ -74,9 +137,21 @@ public class ThumbnailsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createThumbnail(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, THUMBNAILS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createThumbnail(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Thumbnail API
+	 */
+	public CompletableFuture<JSONObject> createThumbnailAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, THUMBNAILS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
 	}
 
 	/**
@@ -93,8 +168,54 @@ public class ThumbnailsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(thumbnailId, "Thumbnail ID must not be null!");
-		this.path = String.format(this.path, siteId) + thumbnailId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, THUMBNAIL.expand(siteId, thumbnailId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveThumbnailById(String, String, Map)}.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param thumbnailId - Unique alphanumeric ID of the media
+	 * @param params  - Parameters to be included in the request
+	 * @return future completed with the JSON response from Thumbnail API
+	 */
+	public CompletableFuture<JSONObject> retrieveThumbnailByIdAsync(String siteId, String thumbnailId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(thumbnailId, "Thumbnail ID must not be null!");
+		return HttpCalls.requestAsync(transport, THUMBNAIL.expand(siteId, thumbnailId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveThumbnailById(String, String, Map)} returning
+	 * a lazily decoded {@link JsonView}.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param thumbnailId - Unique alphanumeric ID of the media
+	 * @param params  - Parameters to be included in the request
+	 * @return view of the JSON response from Thumbnail API
+	 * @throws JWPlatformException See {@link #retrieveThumbnailById(String, String, Map)}
+	 */
+	public JsonView retrieveThumbnailByIdView(String siteId, String thumbnailId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(thumbnailId, "Thumbnail ID must not be null!");
+		return HttpCalls.requestView(transport, THUMBNAIL.expand(siteId, thumbnailId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveThumbnailById(String, String, Map)} decoding
+	 * the response into a {@link Thumbnail} model.
+	 *
+	 * @param siteId      - PropertyID
+	 * @param thumbnailId - Unique identifier for a thumbnail
+	 * @param params      - Parameters to be included in the request
+	 * @return the thumbnail
+	 * @throws JWPlatformException See {@link #retrieveThumbnailById(String, String, Map)}
+	 */
+	public Thumbnail retrieveThumbnailByIdTyped(String siteId, String thumbnailId, Map<String, String> params)
+			throws JWPlatformException {
+		return Thumbnail.decode(retrieveThumbnailByIdView(siteId, thumbnailId, params));
 	}
 
 	/**
@@ -109,8 +230,22 @@ public class ThumbnailsClient extends JWPlatformClientV2 {
 	public JSONObject deleteThumbnail(String siteId, String thumbnailId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(thumbnailId, "Thumbnail ID must not be null!");
-		this.path = String.format(this.path, siteId) + thumbnailId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, THUMBNAIL.expand(siteId, thumbnailId), new HashMap<>(), false, "DELETE",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteThumbnail(String, String)}.
+	 *
+	 * @param siteId  - PropertyID
+	 * @param thumbnailId - Unique alphanumeric ID of the media
+	 * @return future completed with the JSON response from Thumbnail API
+	 */
+	public CompletableFuture<JSONObject> deleteThumbnailAsync(String siteId, String thumbnailId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(thumbnailId, "Thumbnail ID must not be null!");
+		return HttpCalls.requestAsync(transport, THUMBNAIL.expand(siteId, thumbnailId), new HashMap<>(), false,
+				"DELETE", headers);
 	}
 
 	/**
@@ -127,8 +262,25 @@ public class ThumbnailsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(thumbnailId, "Media ID must not be null!");
-		this.path = String.format(this.path, siteId) + thumbnailId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, THUMBNAIL.expand(siteId, thumbnailId), bodyParams, isBodyParams, "PATCH",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateThumbnail(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param thumbnailId    - Unique alphanumeric ID of the media
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Thumbnail API
+	 */
+	public CompletableFuture<JSONObject> updateThumbnailAsync(String siteId, String thumbnailId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(thumbnailId, "Media ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, THUMBNAIL.expand(siteId, thumbnailId), bodyParams, isBodyParams,
+				"PATCH", headers);
 	}
 }
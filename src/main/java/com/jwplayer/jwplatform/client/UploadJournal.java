@@ -0,0 +1,151 @@
+package com.jwplayer.jwplatform.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * UploadJournal class
+ *
+ * The checkpoint of a resumable {@link MultipartUploader} upload: a file of
+ * JSON lines, the first describing the upload and each following one a part
+ * that was uploaded. The journal is first written to a temporary file and
+ * moved into place, then each part is appended and forced to disk before the
+ * next is recorded, so a crash loses at most the parts in flight. A line torn
+ * by a crash is ignored when the journal is read back.
+ */
+final class UploadJournal implements Closeable {
+
+	private final JSONObject header;
+	private final Map<Integer, String> parts;
+	private final FileChannel channel;
+
+	private UploadJournal(final JSONObject header, final Map<Integer, String> parts, final FileChannel channel) {
+		this.header = header;
+		this.parts = parts;
+		this.channel = channel;
+	}
+
+	/**
+	 * @param path - where the journal is kept
+	 * @return - the journal found there, read only, or null when there is none
+	 *         or it is unreadable
+	 * @throws IOException - the file could not be read
+	 */
+	static UploadJournal load(final Path path) throws IOException {
+		final List<String> lines;
+		try {
+			lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+		} catch (final NoSuchFileException e) {
+			return null;
+		}
+		if (lines.isEmpty()) {
+			return null;
+		}
+		final JSONObject header;
+		try {
+			header = new JSONObject(lines.get(0));
+		} catch (final JSONException e) {
+			return null;
+		}
+		final Map<Integer, String> parts = new TreeMap<>();
+		for (int i = 1; i < lines.size(); i++) {
+			try {
+				final JSONObject part = new JSONObject(lines.get(i));
+				parts.put(part.getInt("part"), part.optString("etag", null));
+			} catch (final JSONException e) {
+				// torn by a crash while appending, the part is sent again
+			}
+		}
+		return new UploadJournal(header, parts, null);
+	}
+
+	/**
+	 * Replace the journal at {@code path} and keep it open for
+	 * {@link #record(int, String)}.
+	 *
+	 * @param path   - where the journal is kept
+	 * @param header - describes the upload
+	 * @param parts  - parts already uploaded, by number, with their ETags
+	 * @return - the journal
+	 * @throws IOException - the journal could not be written
+	 */
+	static UploadJournal start(final Path path, final JSONObject header, final Map<Integer, String> parts)
+			throws IOException {
+		final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			write(out, header);
+			for (final Map.Entry<Integer, String> part : parts.entrySet()) {
+				write(out, line(part.getKey(), part.getValue()));
+			}
+			out.force(true);
+		}
+		Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		return new UploadJournal(header, new TreeMap<>(parts), channel);
+	}
+
+	JSONObject getHeader() {
+		return header;
+	}
+
+	/**
+	 * @return - the parts recorded as uploaded, by number, with their ETags
+	 */
+	synchronized Map<Integer, String> getParts() {
+		return Collections.unmodifiableMap(new TreeMap<>(parts));
+	}
+
+	/**
+	 * Record a part as uploaded, on disk before returning.
+	 *
+	 * @param part - the part number, starting at 1
+	 * @param etag - the ETag of the part, may be null
+	 * @throws IOException - the journal could not be written
+	 */
+	synchronized void record(final int part, final String etag) throws IOException {
+		if (channel == null) {
+			throw new IllegalStateException("Journal is read only!");
+		}
+		write(channel, line(part, etag));
+		channel.force(false);
+		parts.put(part, etag);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+		}
+	}
+
+	private static JSONObject line(final int part, final String etag) {
+		final JSONObject line = new JSONObject().put("part", part);
+		if (etag != null) {
+			line.put("etag", etag);
+		}
+		return line;
+	}
+
+	private static void write(final FileChannel out, final JSONObject line) throws IOException {
+		final ByteBuffer bytes = ByteBuffer.wrap((line.toString() + "\n").getBytes(StandardCharsets.UTF_8));
+		while (bytes.hasRemaining()) {
+			out.write(bytes);
+		}
+	}
+}
@@ -1,13 +1,16 @@
 package com.jwplayer.jwplatform.client;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Uploads API client.
@@ -23,29 +26,35 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class UploadsClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate PARTS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/uploads/{upload_id}/parts/");
+	private static final RouteTemplate COMPLETE = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/uploads/{upload_id}/complete/");
 
 	/**
 	 * Instantiate a new {@code UploadsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private UploadsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/uploads/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private UploadsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #UploadsClient(String)}.
+	 * see {@link #UploadsClient(String, HttpTransport)}.
 	 */
 	public static UploadsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #UploadsClient(String, HttpTransport)}.
+	 */
+	public static UploadsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new UploadsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new UploadsClient(secret, transport);
 	}
 
 	/**
@@ -60,8 +69,45 @@ public class UploadsClient extends JWPlatformClientV2 {
 	public JSONObject listCompleteIncompleteParts(String uploadId, Map<String, String> params)
 			throws JWPlatformException {
 		Preconditions.checkNotNull(uploadId, "Upload ID must not be null!");
-		String reqPath = this.path + uploadId + "/parts/";
-		return HttpCalls.request(reqPath, params, false, "GET", headers);
+		return HttpCalls.request(transport, PARTS.expand(uploadId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listCompleteIncompleteParts(String, Map)}.
+	 *
+	 * @param uploadId - Unique identifier for a resource
+	 * @param params   - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> listCompleteIncompletePartsAsync(String uploadId, Map<String, String> params) {
+		Preconditions.checkNotNull(uploadId, "Upload ID must not be null!");
+		return HttpCalls.requestAsync(transport, PARTS.expand(uploadId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listCompleteIncompleteParts(String, Map)} returning a
+	 * lazily decoded {@link JsonView}.
+	 *
+	 * @param uploadId - Unique identifier for a resource
+	 * @param params   - Parameters to be included in the request
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public JsonView listCompleteIncompletePartsView(String uploadId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(uploadId, "Upload ID must not be null!");
+		return HttpCalls.requestView(transport, PARTS.expand(uploadId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Every item of {@link #listCompleteIncompleteParts(String, Map)}, across all pages.
+	 *
+	 * @param uploadId - Unique identifier for a resource
+	 * @param params   - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listCompleteIncompletePartsPages(String uploadId, Map<String, String> params) {
+		Preconditions.checkNotNull(uploadId, "Upload ID must not be null!");
+		return new Pages(pageParams -> listCompleteIncompletePartsAsync(uploadId, pageParams), "parts", params);
 	}
 
 	/**
@@ -75,7 +121,18 @@ public class UploadsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject completeUpload(String uploadId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(uploadId, "Upload ID must not be null!");
-		String reqPath = this.path + uploadId + "/complete/";
-		return HttpCalls.request(reqPath, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, COMPLETE.expand(uploadId), bodyParams, false, "PUT", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #completeUpload(String, Map)}.
+	 *
+	 * @param uploadId   - Unique identifier for a resource
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSONObject response from api call
+	 */
+	public CompletableFuture<JSONObject> completeUploadAsync(String uploadId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(uploadId, "Upload ID must not be null!");
+		return HttpCalls.requestAsync(transport, COMPLETE.expand(uploadId), bodyParams, false, "PUT", headers);
 	}
 }
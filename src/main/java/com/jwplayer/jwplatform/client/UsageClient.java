@@ -1,13 +1,15 @@
 package com.jwplayer.jwplatform.client;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Usage API client.
@@ -23,29 +25,35 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 
 public class UsageClient extends JWPlatformClientV2 {
-	private String path;
-	private final String secret;
+	private static final RouteTemplate ACCOUNT_USAGE = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/query_usage/");
+	private static final RouteTemplate SITE_USAGE = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/query_usage/");
 
 	/**
 	 * Instantiate a new {@code UsageClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private UsageClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private UsageClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #UsageClient(String)}.
+	 * see {@link #UsageClient(String, HttpTransport)}.
 	 */
 	public static UsageClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #UsageClient(String, HttpTransport)}.
+	 */
+	public static UsageClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new UsageClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new UsageClient(secret, transport);
 	}
 	
 	/**
@@ -56,8 +64,17 @@ public class UsageClient extends JWPlatformClientV2 {
 	 *                             "https://developer.jwplayer.com/jwplayer/reference/put_v2-query-usage">Query Account Usage</a>
 	 */
 	public JSONObject queryAccountUsage(Map<String, String> bodyParams) throws JWPlatformException {
-		this.path = this.path+ "query_usage/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, ACCOUNT_USAGE.expand(), bodyParams, false, "PUT", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #queryAccountUsage(Map)}.
+	 *
+	 * @param bodyParams - Parameters to be included in the request
+	 * @return future completed with the JSON response from Usage API
+	 */
+	public CompletableFuture<JSONObject> queryAccountUsageAsync(Map<String, String> bodyParams) {
+		return HttpCalls.requestAsync(transport, ACCOUNT_USAGE.expand(), bodyParams, false, "PUT", headers);
 	}
 	
 	/**
@@ -70,8 +87,19 @@ public class UsageClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject querySiteUsage(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = this.path+ "sites/"+ siteId+ "/query_usage/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, SITE_USAGE.expand(siteId), bodyParams, false, "PUT", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #querySiteUsage(String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param bodyParams - Parameters to be included in the request
+	 * @return future completed with the JSON response from Usage API
+	 */
+	public CompletableFuture<JSONObject> querySiteUsageAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, SITE_USAGE.expand(siteId), bodyParams, false, "PUT", headers);
 	}
 }
 	
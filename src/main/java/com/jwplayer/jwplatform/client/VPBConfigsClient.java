@@ -2,12 +2,16 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform VPBConfigs API client.
@@ -23,29 +27,37 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class VPBConfigsClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate CONFIGS = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/advertising/vpb_configs/");
+	private static final RouteTemplate CONFIG = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/advertising/vpb_configs/{config_id}/");
+	private static final RouteTemplate UPDATE_SCHEDULES = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/sites/{site_id}/advertising/update_schedules_vpb_config/");
 
 	/**
 	 * Instantiate a new {@code VPBConfigsClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private VPBConfigsClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/sites/%s/advertising/vpb_configs/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private VPBConfigsClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #VPBConfigsClient(String)}.
+	 * see {@link #VPBConfigsClient(String, HttpTransport)}.
 	 */
 	public static VPBConfigsClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #VPBConfigsClient(String, HttpTransport)}.
+	 */
+	public static VPBConfigsClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new VPBConfigsClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new VPBConfigsClient(secret, transport);
 	}
 
 	/**
@@ -59,8 +71,45 @@ public class VPBConfigsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject listConfigs(String siteId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, CONFIGS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listConfigs(String, Map)}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> listConfigsAsync(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, CONFIGS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listConfigs(String, Map)} returning a lazily decoded
+	 * {@link JsonView}.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from Media API
+	 * @throws JWPlatformException See {@link #listConfigs(String, Map)}
+	 */
+	public JsonView listConfigsView(String siteId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestView(transport, CONFIGS.expand(siteId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Every item of {@link #listConfigs(String, Map)}, across all pages.
+	 *
+	 * @param siteId - PropertyID
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listConfigsPages(String siteId, Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return new Pages(pageParams -> listConfigsAsync(siteId, pageParams), "vpb_configs", params);
 	}
 
 	/**
@@ -74,9 +123,21 @@ public class VPBConfigsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createConfig(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = String.format(this.path, siteId);
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, CONFIGS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createConfig(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> createConfigAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, CONFIGS.expand(siteId), bodyParams, isBodyParams, "POST", headers);
 	}
 
 	/**
@@ -93,9 +154,26 @@ public class VPBConfigsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(configId, "Config ID must not be null!");
-		this.path = String.format(this.path, siteId) + configId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, CONFIG.expand(siteId, configId), bodyParams, isBodyParams, "PATCH",
+				headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateConfig(String, String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param configId   - Unique identifier for a resource
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> updateConfigAsync(String siteId, String configId,
+			Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(configId, "Config ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, CONFIG.expand(siteId, configId), bodyParams, isBodyParams, "PATCH",
+				headers);
 	}
 
 	/**
@@ -112,8 +190,39 @@ public class VPBConfigsClient extends JWPlatformClientV2 {
 			throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(configId, "Config ID must not be null!");
-		this.path = String.format(this.path, siteId) + configId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, CONFIG.expand(siteId, configId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #getConfigById(String, String, Map)}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param configId - Unique identifier for a resource
+	 * @param params   - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> getConfigByIdAsync(String siteId, String configId,
+			Map<String, String> params) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(configId, "Config ID must not be null!");
+		return HttpCalls.requestAsync(transport, CONFIG.expand(siteId, configId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #getConfigById(String, String, Map)} returning a lazily
+	 * decoded {@link JsonView}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param configId - Unique identifier for a resource
+	 * @param params   - Parameters to be included in the request
+	 * @return view of the JSON response from Media API
+	 * @throws JWPlatformException See {@link #getConfigById(String, String, Map)}
+	 */
+	public JsonView getConfigByIdView(String siteId, String configId, Map<String, String> params)
+			throws JWPlatformException {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(configId, "Config ID must not be null!");
+		return HttpCalls.requestView(transport, CONFIG.expand(siteId, configId), params, false, "GET", headers);
 	}
 
 	/**
@@ -128,8 +237,21 @@ public class VPBConfigsClient extends JWPlatformClientV2 {
 	public JSONObject deleteConfig(String siteId, String configId) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
 		Preconditions.checkNotNull(configId, "Config ID must not be null!");
-		this.path = String.format(this.path, siteId) + configId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, CONFIG.expand(siteId, configId), new HashMap<>(), false, "DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteConfig(String, String)}.
+	 *
+	 * @param siteId   - PropertyID
+	 * @param configId - Unique identifier for a resource
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> deleteConfigAsync(String siteId, String configId) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		Preconditions.checkNotNull(configId, "Config ID must not be null!");
+		return HttpCalls.requestAsync(transport, CONFIG.expand(siteId, configId), new HashMap<>(), false, "DELETE",
+				headers);
 	}
 
 	/**
@@ -143,8 +265,19 @@ public class VPBConfigsClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject updateSchedules(String siteId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
-		this.path = "https://api.jwplayer.com/v2/sites/" + siteId + "/advertising/update_schedules_vpb_config/";
-		return HttpCalls.request(this.path, bodyParams, false, "PUT", headers);
+		return HttpCalls.request(transport, UPDATE_SCHEDULES.expand(siteId), bodyParams, false, "PUT", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateSchedules(String, Map)}.
+	 *
+	 * @param siteId     - PropertyID
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> updateSchedulesAsync(String siteId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(siteId, "Site ID must not be null!");
+		return HttpCalls.requestAsync(transport, UPDATE_SCHEDULES.expand(siteId), bodyParams, false, "PUT", headers);
 	}
 
 }
\ No newline at end of file
@@ -2,12 +2,20 @@ package com.jwplayer.jwplatform.client;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.json.JSONObject;
 
 import com.google.common.base.Preconditions;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.ResourcePage;
+import com.jwplayer.jwplatform.model.Webhook;
+import com.jwplayer.jwplatform.model.WebhookMetadata;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 
 /**
  * JW Platform Webhooks API client.
@@ -23,29 +31,34 @@ import com.jwplayer.jwplatform.rest.HttpCalls;
  */
 public class WebhooksClient extends JWPlatformClientV2 {
 
-	private String path;
-	private final String secret;
+	private static final RouteTemplate WEBHOOKS = RouteTemplate.compile("https://api.jwplayer.com/v2/webhooks/");
+	private static final RouteTemplate WEBHOOK = RouteTemplate
+			.compile("https://api.jwplayer.com/v2/webhooks/{webhook_id}/");
 
 	/**
 	 * Instantiate a new {@code WebhooksClient} instance.
 	 *
-	 * @param secret - your api secret
+	 * @param secret    - your api secret
+	 * @param transport - the transport used to send requests
 	 */
-	private WebhooksClient(String secret) {
-		this.secret = secret;
-		this.path = "https://api.jwplayer.com/v2/webhooks/";
-		headers = new HashMap<>();
-		headers.put("Authorization", "Bearer " + this.secret);
-		headers.put("accept", "application/json");
-		headers.put("Content-Type", "application/json");
+	private WebhooksClient(String secret, HttpTransport transport) {
+		super(secret, transport);
 	}
 
 	/**
-	 * see {@link #WebhooksClient(String)}.
+	 * see {@link #WebhooksClient(String, HttpTransport)}.
 	 */
 	public static WebhooksClient getClient(String secret) {
+		return getClient(secret, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #WebhooksClient(String, HttpTransport)}.
+	 */
+	public static WebhooksClient getClient(String secret, HttpTransport transport) {
 		Preconditions.checkNotNull(secret, "API Secret must not be null!");
-		return new WebhooksClient(secret);
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
+		return new WebhooksClient(secret, transport);
 	}
 
 	/**
@@ -57,7 +70,51 @@ public class WebhooksClient extends JWPlatformClientV2 {
 	 *                             webhooks</a>
 	 */
 	public JSONObject listWebhooks(Map<String, String> params) throws JWPlatformException {
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, WEBHOOKS.expand(), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #listWebhooks(Map)}.
+	 *
+	 * @param params - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> listWebhooksAsync(Map<String, String> params) {
+		return HttpCalls.requestAsync(transport, WEBHOOKS.expand(), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listWebhooks(Map)} returning a lazily decoded {@link
+	 * JsonView}.
+	 *
+	 * @param params - Parameters to be included in the request
+	 * @return view of the JSON response from Media API
+	 * @throws JWPlatformException See {@link #listWebhooks(Map)}
+	 */
+	public JsonView listWebhooksView(Map<String, String> params) throws JWPlatformException {
+		return HttpCalls.requestView(transport, WEBHOOKS.expand(), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #listWebhooks(Map)} decoding the response into
+	 * {@link Webhook} models.
+	 *
+	 * @param params - Parameters to be included in the request
+	 * @return the page of webhooks
+	 * @throws JWPlatformException See {@link #listWebhooks(Map)}
+	 */
+	public ResourcePage<Webhook> listWebhooksTyped(Map<String, String> params) throws JWPlatformException {
+		return ResourcePage.decode(listWebhooksView(params), Webhook::decode);
+	}
+
+	/**
+	 * Every item of {@link #listWebhooks(Map)}, across all pages.
+	 *
+	 * @param params - Parameters to be included in each request
+	 * @return the items, requested page by page as they are consumed
+	 */
+	public Pages listWebhooksPages(Map<String, String> params) {
+		return new Pages(pageParams -> listWebhooksAsync(pageParams), "webhooks", params);
 	}
 
 	/**
@@ -70,7 +127,33 @@ public class WebhooksClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject createWebhookResource(Map<String, String> bodyParams) throws JWPlatformException {
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "POST", headers);
+		return HttpCalls.request(transport, WEBHOOKS.expand(), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #createWebhookResource(Map)}.
+	 *
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> createWebhookResourceAsync(Map<String, String> bodyParams) {
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, WEBHOOKS.expand(), bodyParams, isBodyParams, "POST", headers);
+	}
+
+	/**
+	 * Variant of {@link #createWebhookResource(Map)} with the body written
+	 * straight from {@code metadata}.
+	 *
+	 * @param metadata - Metadata of the new webhook
+	 * @return the created webhook, including its secret
+	 * @throws JWPlatformException See {@link #createWebhookResource(Map)}
+	 */
+	public Webhook createWebhookResourceTyped(WebhookMetadata metadata) throws JWPlatformException {
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("metadata");
+		metadata.encode(body).endObject();
+		return Webhook.decode(HttpCalls.requestView(transport, WEBHOOKS.expand(), body.toByteArray(), "POST", headers));
 	}
 
 	/**
@@ -84,8 +167,46 @@ public class WebhooksClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject retrieveWebhookById(String webhookId, Map<String, String> params) throws JWPlatformException {
 		Preconditions.checkNotNull(webhookId, "Webhook ID must not be null!");
-		this.path = String.format(this.path) + webhookId + "/";
-		return HttpCalls.request(this.path, params, false, "GET", headers);
+		return HttpCalls.request(transport, WEBHOOK.expand(webhookId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #retrieveWebhookById(String, Map)}.
+	 *
+	 * @param webhookId - Unique identifier for a resource
+	 * @param params    - Parameters to be included in the request
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> retrieveWebhookByIdAsync(String webhookId, Map<String, String> params) {
+		Preconditions.checkNotNull(webhookId, "Webhook ID must not be null!");
+		return HttpCalls.requestAsync(transport, WEBHOOK.expand(webhookId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveWebhookById(String, Map)} returning a lazily
+	 * decoded {@link JsonView}.
+	 *
+	 * @param webhookId - Unique identifier for a resource
+	 * @param params    - Parameters to be included in the request
+	 * @return view of the JSON response from Media API
+	 * @throws JWPlatformException See {@link #retrieveWebhookById(String, Map)}
+	 */
+	public JsonView retrieveWebhookByIdView(String webhookId, Map<String, String> params) throws JWPlatformException {
+		Preconditions.checkNotNull(webhookId, "Webhook ID must not be null!");
+		return HttpCalls.requestView(transport, WEBHOOK.expand(webhookId), params, false, "GET", headers);
+	}
+
+	/**
+	 * Variant of {@link #retrieveWebhookById(String, Map)} decoding the
+	 * response into a {@link Webhook} model.
+	 *
+	 * @param webhookId - Unique identifier for a webhook
+	 * @param params    - Parameters to be included in the request
+	 * @return the webhook
+	 * @throws JWPlatformException See {@link #retrieveWebhookById(String, Map)}
+	 */
+	public Webhook retrieveWebhookByIdTyped(String webhookId, Map<String, String> params) throws JWPlatformException {
+		return Webhook.decode(retrieveWebhookByIdView(webhookId, params));
 	}
 
 	/**
@@ -98,8 +219,18 @@ public class WebhooksClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject deleteWebhook(String webhookId) throws JWPlatformException {
 		Preconditions.checkNotNull(webhookId, "Webhook ID must not be null!");
-		this.path = String.format(this.path) + webhookId + "/";
-		return HttpCalls.request(this.path, new HashMap<>(), false, "DELETE", headers);
+		return HttpCalls.request(transport, WEBHOOK.expand(webhookId), new HashMap<>(), false, "DELETE", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #deleteWebhook(String)}.
+	 *
+	 * @param webhookId - Unique identifier for a resource
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> deleteWebhookAsync(String webhookId) {
+		Preconditions.checkNotNull(webhookId, "Webhook ID must not be null!");
+		return HttpCalls.requestAsync(transport, WEBHOOK.expand(webhookId), new HashMap<>(), false, "DELETE", headers);
 	}
 
 	/**
@@ -113,8 +244,38 @@ public class WebhooksClient extends JWPlatformClientV2 {
 	 */
 	public JSONObject updateWebhook(String webhookId, Map<String, String> bodyParams) throws JWPlatformException {
 		Preconditions.checkNotNull(webhookId, "Webhook ID must not be null!");
-		this.path = String.format(this.path) + webhookId + "/";
 		final boolean isBodyParams = bodyParams.size() > 0;
-		return HttpCalls.request(this.path, bodyParams, isBodyParams, "PATCH", headers);
+		return HttpCalls.request(transport, WEBHOOK.expand(webhookId), bodyParams, isBodyParams, "PATCH", headers);
+	}
+
+	/**
+	 * Asynchronous variant of {@link #updateWebhook(String, Map)}.
+	 *
+	 * @param webhookId  - Unique identifier for a resource
+	 * @param bodyParams - Parameters to be included in the request body
+	 * @return future completed with the JSON response from Media API
+	 */
+	public CompletableFuture<JSONObject> updateWebhookAsync(String webhookId, Map<String, String> bodyParams) {
+		Preconditions.checkNotNull(webhookId, "Webhook ID must not be null!");
+		final boolean isBodyParams = bodyParams.size() > 0;
+		return HttpCalls.requestAsync(transport, WEBHOOK.expand(webhookId), bodyParams, isBodyParams, "PATCH", headers);
+	}
+
+	/**
+	 * Variant of {@link #updateWebhook(String, Map)} sending only the fields set
+	 * on {@code metadata}.
+	 *
+	 * @param webhookId - Unique identifier for a webhook
+	 * @param metadata  - The fields to change
+	 * @return the updated webhook
+	 * @throws JWPlatformException See {@link #updateWebhook(String, Map)}
+	 */
+	public Webhook updateWebhookTyped(String webhookId, WebhookMetadata metadata) throws JWPlatformException {
+		Preconditions.checkNotNull(webhookId, "Webhook ID must not be null!");
+		Preconditions.checkNotNull(metadata, "Metadata must not be null!");
+		final JsonWriter body = new JsonWriter().beginObject().name("metadata");
+		metadata.encode(body).endObject();
+		return Webhook.decode(HttpCalls.requestView(transport, WEBHOOK.expand(webhookId), body.toByteArray(), "PATCH",
+				headers));
 	}
 }
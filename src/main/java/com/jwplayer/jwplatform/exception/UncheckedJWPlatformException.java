@@ -0,0 +1,22 @@
+package com.jwplayer.jwplatform.exception;
+
+/**
+ * Wraps a {@link JWPlatformException} where a checked exception cannot be
+ * thrown, such as from an {@code Iterator} or a {@code Stream}.
+ */
+public class UncheckedJWPlatformException extends RuntimeException {
+
+  /**
+   * Instance of an UncheckedJWPlatformException.
+   *
+   * @param cause the exception being wrapped
+   */
+  public UncheckedJWPlatformException(final JWPlatformException cause) {
+    super(cause.getMessage(), cause);
+  }
+
+  @Override
+  public synchronized JWPlatformException getCause() {
+    return (JWPlatformException) super.getCause();
+  }
+}
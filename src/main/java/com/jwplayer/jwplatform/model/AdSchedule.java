@@ -0,0 +1,40 @@
+package com.jwplayer.jwplatform.model;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * AdSchedule class
+ *
+ * An advertising schedule, decoded in one pass over the response.
+ */
+public final class AdSchedule extends Resource {
+
+	private AdScheduleMetadata metadata;
+
+	private AdSchedule(final JsonView view) {
+		super(view);
+	}
+
+	/**
+	 * @param view - an advertising schedule resource
+	 * @return - the decoded schedule
+	 */
+	public static AdSchedule decode(final JsonView view) {
+		final AdSchedule schedule = new AdSchedule(view);
+		view.forEachMember((key, value) -> {
+			if ("metadata".equals(key)) {
+				schedule.metadata = AdScheduleMetadata.decode(value);
+			} else {
+				schedule.decodeCommon(key, value);
+			}
+		});
+		return schedule;
+	}
+
+	/**
+	 * @return - the metadata, or null when the response had none
+	 */
+	public AdScheduleMetadata getMetadata() {
+		return metadata;
+	}
+}
@@ -0,0 +1,95 @@
+package com.jwplayer.jwplatform.model;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+
+/**
+ * AdScheduleMetadata class
+ *
+ * The {@code metadata} of an advertising schedule. Fields left null are not
+ * sent; the ad breaks themselves are left to the schedule's raw view.
+ */
+public final class AdScheduleMetadata {
+
+	private final String name;
+	private final String client;
+
+	private AdScheduleMetadata(final Builder builder) {
+		this.name = builder.name;
+		this.client = builder.client;
+	}
+
+	/**
+	 * @return - a builder with every field unset
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @param view - a schedule's {@code metadata} object
+	 * @return - the decoded metadata
+	 */
+	public static AdScheduleMetadata decode(final JsonView view) {
+		final Builder builder = builder();
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "name":
+				builder.name = Decoding.string(value);
+				break;
+			case "client":
+				builder.client = Decoding.string(value);
+				break;
+			default:
+				break;
+			}
+		});
+		return builder.build();
+	}
+
+	/**
+	 * Write the fields that are set as a JSON object.
+	 *
+	 * @param writer - positioned where a value may be written
+	 * @return - the writer
+	 */
+	public JsonWriter encode(final JsonWriter writer) {
+		return writer.beginObject().field("name", name).field("client", client).endObject();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return - the ad client, e.g. {@code vast} or {@code googima}
+	 */
+	public String getClient() {
+		return client;
+	}
+
+	/**
+	 * Builder for {@link AdScheduleMetadata}.
+	 */
+	public static final class Builder {
+		private String name;
+		private String client;
+
+		private Builder() {
+		}
+
+		public Builder name(final String name) {
+			this.name = name;
+			return this;
+		}
+
+		public Builder client(final String client) {
+			this.client = client;
+			return this;
+		}
+
+		public AdScheduleMetadata build() {
+			return new AdScheduleMetadata(this);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.jwplayer.jwplatform.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * Null-tolerant conversions shared by the model decoders. A JSON
+ * {@code null} or a value of an unexpected type decodes to null, an empty
+ * collection or zero rather than failing the whole response.
+ */
+final class Decoding {
+
+	private Decoding() {
+	}
+
+	static String string(final JsonView value) {
+		return value.isString() ? value.asString() : null;
+	}
+
+	static double number(final JsonView value) {
+		return value.isNumber() ? value.asDouble() : 0;
+	}
+
+	static List<String> strings(final JsonView value) {
+		if (!value.isArray()) {
+			return Collections.emptyList();
+		}
+		final List<String> strings = new ArrayList<>(value.size());
+		for (final JsonView element : value.values()) {
+			strings.add(element.isString() ? element.asString() : element.toString());
+		}
+		return Collections.unmodifiableList(strings);
+	}
+
+	/**
+	 * @return - the members of an object, non-string values as their JSON text
+	 */
+	static Map<String, String> stringMap(final JsonView value) {
+		if (!value.isObject()) {
+			return Collections.emptyMap();
+		}
+		final Map<String, String> map = new LinkedHashMap<>();
+		value.forEachMember((key, member) -> map.put(key,
+				member.isString() ? member.asString() : member.isNull() ? null : member.toString()));
+		return Collections.unmodifiableMap(map);
+	}
+}
@@ -0,0 +1,120 @@
+package com.jwplayer.jwplatform.model;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * Media class
+ *
+ * A media resource, decoded in one pass over the response.
+ */
+public final class Media extends Resource {
+
+	private String status;
+	private String errorMessage;
+	private double duration;
+	private String externalId;
+	private String trimInPoint;
+	private String trimOutPoint;
+	private String mimeType;
+	private String mediaType;
+	private String hostingType;
+	private MediaMetadata metadata;
+
+	private Media(final JsonView view) {
+		super(view);
+	}
+
+	/**
+	 * @param view - a media resource
+	 * @return - the decoded media
+	 */
+	public static Media decode(final JsonView view) {
+		final Media media = new Media(view);
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "status":
+				media.status = Decoding.string(value);
+				break;
+			case "error_message":
+				media.errorMessage = Decoding.string(value);
+				break;
+			case "duration":
+				media.duration = Decoding.number(value);
+				break;
+			case "external_id":
+				media.externalId = Decoding.string(value);
+				break;
+			case "trim_in_point":
+				media.trimInPoint = Decoding.string(value);
+				break;
+			case "trim_out_point":
+				media.trimOutPoint = Decoding.string(value);
+				break;
+			case "mime_type":
+				media.mimeType = Decoding.string(value);
+				break;
+			case "media_type":
+				media.mediaType = Decoding.string(value);
+				break;
+			case "hosting_type":
+				media.hostingType = Decoding.string(value);
+				break;
+			case "metadata":
+				media.metadata = MediaMetadata.decode(value);
+				break;
+			default:
+				media.decodeCommon(key, value);
+			}
+		});
+		return media;
+	}
+
+	/**
+	 * @return - e.g. {@code processing}, {@code ready} or {@code failed}
+	 */
+	public String getStatus() {
+		return status;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	/**
+	 * @return - the duration in seconds, 0 while unknown
+	 */
+	public double getDuration() {
+		return duration;
+	}
+
+	public String getExternalId() {
+		return externalId;
+	}
+
+	public String getTrimInPoint() {
+		return trimInPoint;
+	}
+
+	public String getTrimOutPoint() {
+		return trimOutPoint;
+	}
+
+	public String getMimeType() {
+		return mimeType;
+	}
+
+	public String getMediaType() {
+		return mediaType;
+	}
+
+	public String getHostingType() {
+		return hostingType;
+	}
+
+	/**
+	 * @return - the metadata, or null when the response had none
+	 */
+	public MediaMetadata getMetadata() {
+		return metadata;
+	}
+}
@@ -0,0 +1,252 @@
+package com.jwplayer.jwplatform.model;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+
+/**
+ * MediaMetadata class
+ *
+ * The {@code metadata} of a media resource. Fields left null are not sent, so
+ * metadata built with only a title updates only the title.
+ *
+ * <p>
+ * Example: MediaMetadata metadata = MediaMetadata.builder().title("My video")
+ * .tags(Arrays.asList("news")).build();
+ */
+public final class MediaMetadata {
+
+	private final String title;
+	private final String description;
+	private final String author;
+	private final String permalink;
+	private final String category;
+	private final String publishStartDate;
+	private final String publishEndDate;
+	private final String externalId;
+	private final String language;
+	private final List<String> tags;
+	private final Map<String, String> customParams;
+
+	private MediaMetadata(final Builder builder) {
+		this.title = builder.title;
+		this.description = builder.description;
+		this.author = builder.author;
+		this.permalink = builder.permalink;
+		this.category = builder.category;
+		this.publishStartDate = builder.publishStartDate;
+		this.publishEndDate = builder.publishEndDate;
+		this.externalId = builder.externalId;
+		this.language = builder.language;
+		this.tags = builder.tags;
+		this.customParams = builder.customParams;
+	}
+
+	/**
+	 * @return - a builder with every field unset
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @param view - a media's {@code metadata} object
+	 * @return - the decoded metadata
+	 */
+	public static MediaMetadata decode(final JsonView view) {
+		final Builder builder = builder();
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "title":
+				builder.title = Decoding.string(value);
+				break;
+			case "description":
+				builder.description = Decoding.string(value);
+				break;
+			case "author":
+				builder.author = Decoding.string(value);
+				break;
+			case "permalink":
+				builder.permalink = Decoding.string(value);
+				break;
+			case "category":
+				builder.category = Decoding.string(value);
+				break;
+			case "publish_start_date":
+				builder.publishStartDate = Decoding.string(value);
+				break;
+			case "publish_end_date":
+				builder.publishEndDate = Decoding.string(value);
+				break;
+			case "external_id":
+				builder.externalId = Decoding.string(value);
+				break;
+			case "language":
+				builder.language = Decoding.string(value);
+				break;
+			case "tags":
+				builder.tags = Decoding.strings(value);
+				break;
+			case "custom_params":
+				builder.customParams = Decoding.stringMap(value);
+				break;
+			default:
+				break;
+			}
+		});
+		return builder.build();
+	}
+
+	/**
+	 * Write the fields that are set as a JSON object.
+	 *
+	 * @param writer - positioned where a value may be written
+	 * @return - the writer
+	 */
+	public JsonWriter encode(final JsonWriter writer) {
+		return writer.beginObject().field("title", title).field("description", description).field("author", author)
+				.field("permalink", permalink).field("category", category)
+				.field("publish_start_date", publishStartDate).field("publish_end_date", publishEndDate)
+				.field("external_id", externalId).field("language", language).field("tags", tags)
+				.field("custom_params", customParams).endObject();
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public String getAuthor() {
+		return author;
+	}
+
+	public String getPermalink() {
+		return permalink;
+	}
+
+	public String getCategory() {
+		return category;
+	}
+
+	/**
+	 * @return - an ISO 8601 timestamp
+	 */
+	public String getPublishStartDate() {
+		return publishStartDate;
+	}
+
+	/**
+	 * @return - an ISO 8601 timestamp
+	 */
+	public String getPublishEndDate() {
+		return publishEndDate;
+	}
+
+	public String getExternalId() {
+		return externalId;
+	}
+
+	public String getLanguage() {
+		return language;
+	}
+
+	public List<String> getTags() {
+		return tags;
+	}
+
+	public Map<String, String> getCustomParams() {
+		return customParams;
+	}
+
+	/**
+	 * Builder for {@link MediaMetadata}.
+	 */
+	public static final class Builder {
+		private String title;
+		private String description;
+		private String author;
+		private String permalink;
+		private String category;
+		private String publishStartDate;
+		private String publishEndDate;
+		private String externalId;
+		private String language;
+		private List<String> tags;
+		private Map<String, String> customParams;
+
+		private Builder() {
+		}
+
+		public Builder title(final String title) {
+			this.title = title;
+			return this;
+		}
+
+		public Builder description(final String description) {
+			this.description = description;
+			return this;
+		}
+
+		public Builder author(final String author) {
+			this.author = author;
+			return this;
+		}
+
+		public Builder permalink(final String permalink) {
+			this.permalink = permalink;
+			return this;
+		}
+
+		public Builder category(final String category) {
+			this.category = category;
+			return this;
+		}
+
+		/**
+		 * @param publishStartDate - an ISO 8601 timestamp
+		 */
+		public Builder publishStartDate(final String publishStartDate) {
+			this.publishStartDate = publishStartDate;
+			return this;
+		}
+
+		/**
+		 * @param publishEndDate - an ISO 8601 timestamp
+		 */
+		public Builder publishEndDate(final String publishEndDate) {
+			this.publishEndDate = publishEndDate;
+			return this;
+		}
+
+		public Builder externalId(final String externalId) {
+			this.externalId = externalId;
+			return this;
+		}
+
+		public Builder language(final String language) {
+			this.language = language;
+			return this;
+		}
+
+		public Builder tags(final List<String> tags) {
+			this.tags = tags == null ? null : ImmutableList.copyOf(tags);
+			return this;
+		}
+
+		public Builder customParams(final Map<String, String> customParams) {
+			this.customParams = customParams == null ? null : ImmutableMap.copyOf(customParams);
+			return this;
+		}
+
+		public MediaMetadata build() {
+			return new MediaMetadata(this);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.jwplayer.jwplatform.model;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * Playlist class
+ *
+ * A playlist resource, decoded in one pass over the response.
+ */
+public final class Playlist extends Resource {
+
+	private PlaylistMetadata metadata;
+
+	private Playlist(final JsonView view) {
+		super(view);
+	}
+
+	/**
+	 * @param view - a playlist resource
+	 * @return - the decoded playlist
+	 */
+	public static Playlist decode(final JsonView view) {
+		final Playlist playlist = new Playlist(view);
+		view.forEachMember((key, value) -> {
+			if ("metadata".equals(key)) {
+				playlist.metadata = PlaylistMetadata.decode(value);
+			} else {
+				playlist.decodeCommon(key, value);
+			}
+		});
+		return playlist;
+	}
+
+	/**
+	 * @return - the metadata, or null when the response had none
+	 */
+	public PlaylistMetadata getMetadata() {
+		return metadata;
+	}
+}
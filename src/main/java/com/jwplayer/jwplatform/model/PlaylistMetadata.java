@@ -0,0 +1,133 @@
+package com.jwplayer.jwplatform.model;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+
+/**
+ * PlaylistMetadata class
+ *
+ * The {@code metadata} of a playlist. Fields left null are not sent.
+ */
+public final class PlaylistMetadata {
+
+	private final String title;
+	private final String description;
+	private final List<String> mediaIds;
+	private final Map<String, String> customParams;
+
+	private PlaylistMetadata(final Builder builder) {
+		this.title = builder.title;
+		this.description = builder.description;
+		this.mediaIds = builder.mediaIds;
+		this.customParams = builder.customParams;
+	}
+
+	/**
+	 * @return - a builder with every field unset
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @param view - a playlist's {@code metadata} object
+	 * @return - the decoded metadata
+	 */
+	public static PlaylistMetadata decode(final JsonView view) {
+		final Builder builder = builder();
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "title":
+				builder.title = Decoding.string(value);
+				break;
+			case "description":
+				builder.description = Decoding.string(value);
+				break;
+			case "media":
+				builder.mediaIds = Decoding.strings(value);
+				break;
+			case "custom_params":
+				builder.customParams = Decoding.stringMap(value);
+				break;
+			default:
+				break;
+			}
+		});
+		return builder.build();
+	}
+
+	/**
+	 * Write the fields that are set as a JSON object.
+	 *
+	 * @param writer - positioned where a value may be written
+	 * @return - the writer
+	 */
+	public JsonWriter encode(final JsonWriter writer) {
+		return writer.beginObject().field("title", title).field("description", description).field("media", mediaIds)
+				.field("custom_params", customParams).endObject();
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	/**
+	 * @return - the media of a manual playlist, in order
+	 */
+	public List<String> getMediaIds() {
+		return mediaIds;
+	}
+
+	public Map<String, String> getCustomParams() {
+		return customParams;
+	}
+
+	/**
+	 * Builder for {@link PlaylistMetadata}.
+	 */
+	public static final class Builder {
+		private String title;
+		private String description;
+		private List<String> mediaIds;
+		private Map<String, String> customParams;
+
+		private Builder() {
+		}
+
+		public Builder title(final String title) {
+			this.title = title;
+			return this;
+		}
+
+		public Builder description(final String description) {
+			this.description = description;
+			return this;
+		}
+
+		/**
+		 * @param mediaIds - the media of a manual playlist, in order
+		 */
+		public Builder mediaIds(final List<String> mediaIds) {
+			this.mediaIds = mediaIds == null ? null : ImmutableList.copyOf(mediaIds);
+			return this;
+		}
+
+		public Builder customParams(final Map<String, String> customParams) {
+			this.customParams = customParams == null ? null : ImmutableMap.copyOf(customParams);
+			return this;
+		}
+
+		public PlaylistMetadata build() {
+			return new PlaylistMetadata(this);
+		}
+	}
+}
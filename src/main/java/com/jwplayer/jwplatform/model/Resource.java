@@ -0,0 +1,81 @@
+package com.jwplayer.jwplatform.model;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * Resource class
+ *
+ * The fields every V2 resource has. Subclasses decode their own fields in the
+ * same pass over the response; anything not modelled can still be read from
+ * {@link #getView()}.
+ */
+public abstract class Resource {
+
+	private final JsonView view;
+	private String id;
+	private String type;
+	private String created;
+	private String lastModified;
+
+	/**
+	 * @param view - the resource as returned by the API
+	 */
+	protected Resource(final JsonView view) {
+		this.view = view;
+	}
+
+	/**
+	 * Decode a field shared by all resources.
+	 *
+	 * @param key   - the member name
+	 * @param value - its value
+	 * @return - whether the field was one of them
+	 */
+	boolean decodeCommon(final String key, final JsonView value) {
+		switch (key) {
+		case "id":
+			id = Decoding.string(value);
+			return true;
+		case "type":
+			type = Decoding.string(value);
+			return true;
+		case "created":
+			created = Decoding.string(value);
+			return true;
+		case "last_modified":
+			lastModified = Decoding.string(value);
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	/**
+	 * @return - when the resource was created, as an ISO 8601 timestamp
+	 */
+	public String getCreated() {
+		return created;
+	}
+
+	/**
+	 * @return - when the resource was last modified, as an ISO 8601 timestamp
+	 */
+	public String getLastModified() {
+		return lastModified;
+	}
+
+	/**
+	 * @return - the resource as returned by the API, for fields not modelled
+	 */
+	public JsonView getView() {
+		return view;
+	}
+}
@@ -0,0 +1,81 @@
+package com.jwplayer.jwplatform.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * ResourcePage class
+ *
+ * One page of a V2 list response: its items, decoded from the first top-level
+ * array, and the paging fields.
+ *
+ * @param <T> - the resource type
+ */
+public final class ResourcePage<T> {
+
+	private final List<T> items;
+	private final int page;
+	private final int pageLength;
+	private final long total;
+
+	private ResourcePage(final List<T> items, final int page, final int pageLength, final long total) {
+		this.items = items;
+		this.page = page;
+		this.pageLength = pageLength;
+		this.total = total;
+	}
+
+	/**
+	 * @param view    - a list response
+	 * @param decoder - decodes one item
+	 * @return - the decoded page
+	 */
+	public static <T> ResourcePage<T> decode(final JsonView view, final Function<JsonView, T> decoder) {
+		final List<T> items = new ArrayList<>();
+		final int[] paging = new int[2];
+		final long[] total = new long[1];
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "page":
+				paging[0] = value.isNumber() ? value.asInt() : 0;
+				break;
+			case "page_length":
+				paging[1] = value.isNumber() ? value.asInt() : 0;
+				break;
+			case "total":
+				total[0] = value.isNumber() ? value.asLong() : 0;
+				break;
+			default:
+				if (value.isArray() && items.isEmpty()) {
+					for (final JsonView item : value.values()) {
+						items.add(decoder.apply(item));
+					}
+				}
+			}
+		});
+		return new ResourcePage<>(Collections.unmodifiableList(items), paging[0], paging[1], total[0]);
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	public int getPage() {
+		return page;
+	}
+
+	public int getPageLength() {
+		return pageLength;
+	}
+
+	/**
+	 * @return - the number of items over all pages
+	 */
+	public long getTotal() {
+		return total;
+	}
+}
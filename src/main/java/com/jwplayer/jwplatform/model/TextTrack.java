@@ -0,0 +1,80 @@
+package com.jwplayer.jwplatform.model;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * TextTrack class
+ *
+ * A text track resource, decoded in one pass over the response.
+ */
+public final class TextTrack extends Resource {
+
+	private String status;
+	private String deliveryUrl;
+	private String trackKind;
+	private String label;
+	private String srclang;
+
+	private TextTrack(final JsonView view) {
+		super(view);
+	}
+
+	/**
+	 * @param view - a text track resource
+	 * @return - the decoded track
+	 */
+	public static TextTrack decode(final JsonView view) {
+		final TextTrack track = new TextTrack(view);
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "status":
+				track.status = Decoding.string(value);
+				break;
+			case "delivery_url":
+				track.deliveryUrl = Decoding.string(value);
+				break;
+			case "track_kind":
+				track.trackKind = Decoding.string(value);
+				break;
+			case "metadata":
+				value.forEachMember((field, member) -> {
+					if ("label".equals(field)) {
+						track.label = Decoding.string(member);
+					} else if ("srclang".equals(field)) {
+						track.srclang = Decoding.string(member);
+					}
+				});
+				break;
+			default:
+				track.decodeCommon(key, value);
+			}
+		});
+		return track;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public String getDeliveryUrl() {
+		return deliveryUrl;
+	}
+
+	/**
+	 * @return - e.g. {@code captions} or {@code chapters}
+	 */
+	public String getTrackKind() {
+		return trackKind;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	/**
+	 * @return - the track's language, e.g. {@code en}
+	 */
+	public String getSrclang() {
+		return srclang;
+	}
+}
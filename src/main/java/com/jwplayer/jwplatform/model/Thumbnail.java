@@ -0,0 +1,83 @@
+package com.jwplayer.jwplatform.model;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * Thumbnail class
+ *
+ * A thumbnail resource, decoded in one pass over the response.
+ */
+public final class Thumbnail extends Resource {
+
+	private String status;
+	private String deliveryUrl;
+	private String sourceType;
+	private String thumbnailType;
+	private String mediaId;
+
+	private Thumbnail(final JsonView view) {
+		super(view);
+	}
+
+	/**
+	 * @param view - a thumbnail resource
+	 * @return - the decoded thumbnail
+	 */
+	public static Thumbnail decode(final JsonView view) {
+		final Thumbnail thumbnail = new Thumbnail(view);
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "status":
+				thumbnail.status = Decoding.string(value);
+				break;
+			case "delivery_url":
+				thumbnail.deliveryUrl = Decoding.string(value);
+				break;
+			case "source_type":
+				thumbnail.sourceType = Decoding.string(value);
+				break;
+			case "thumbnail_type":
+				thumbnail.thumbnailType = Decoding.string(value);
+				break;
+			case "relationships":
+				final JsonView media = value.at("media");
+				final JsonView first = media == null ? null : media.get(0);
+				final JsonView id = first == null ? null : first.get("id");
+				thumbnail.mediaId = id == null ? null : Decoding.string(id);
+				break;
+			default:
+				thumbnail.decodeCommon(key, value);
+			}
+		});
+		return thumbnail;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public String getDeliveryUrl() {
+		return deliveryUrl;
+	}
+
+	/**
+	 * @return - how the thumbnail was made, e.g. {@code fetch_from_url}
+	 */
+	public String getSourceType() {
+		return sourceType;
+	}
+
+	/**
+	 * @return - {@code static} or {@code moving}
+	 */
+	public String getThumbnailType() {
+		return thumbnailType;
+	}
+
+	/**
+	 * @return - the media the thumbnail belongs to
+	 */
+	public String getMediaId() {
+		return mediaId;
+	}
+}
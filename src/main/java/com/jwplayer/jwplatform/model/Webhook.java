@@ -0,0 +1,53 @@
+package com.jwplayer.jwplatform.model;
+
+import com.jwplayer.jwplatform.rest.JsonView;
+
+/**
+ * Webhook class
+ *
+ * A webhook resource, decoded in one pass over the response.
+ */
+public final class Webhook extends Resource {
+
+	private String secret;
+	private WebhookMetadata metadata;
+
+	private Webhook(final JsonView view) {
+		super(view);
+	}
+
+	/**
+	 * @param view - a webhook resource
+	 * @return - the decoded webhook
+	 */
+	public static Webhook decode(final JsonView view) {
+		final Webhook webhook = new Webhook(view);
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "secret":
+				webhook.secret = Decoding.string(value);
+				break;
+			case "metadata":
+				webhook.metadata = WebhookMetadata.decode(value);
+				break;
+			default:
+				webhook.decodeCommon(key, value);
+			}
+		});
+		return webhook;
+	}
+
+	/**
+	 * @return - the signing secret, only returned when the webhook is created
+	 */
+	public String getSecret() {
+		return secret;
+	}
+
+	/**
+	 * @return - the metadata, or null when the response had none
+	 */
+	public WebhookMetadata getMetadata() {
+		return metadata;
+	}
+}
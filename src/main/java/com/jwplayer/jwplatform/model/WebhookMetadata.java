@@ -0,0 +1,144 @@
+package com.jwplayer.jwplatform.model;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+
+/**
+ * WebhookMetadata class
+ *
+ * The {@code metadata} of a webhook. Fields left null are not sent.
+ */
+public final class WebhookMetadata {
+
+	private final String name;
+	private final String description;
+	private final String webhookUrl;
+	private final List<String> events;
+	private final List<String> siteIds;
+
+	private WebhookMetadata(final Builder builder) {
+		this.name = builder.name;
+		this.description = builder.description;
+		this.webhookUrl = builder.webhookUrl;
+		this.events = builder.events;
+		this.siteIds = builder.siteIds;
+	}
+
+	/**
+	 * @return - a builder with every field unset
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @param view - a webhook's {@code metadata} object
+	 * @return - the decoded metadata
+	 */
+	public static WebhookMetadata decode(final JsonView view) {
+		final Builder builder = builder();
+		view.forEachMember((key, value) -> {
+			switch (key) {
+			case "name":
+				builder.name = Decoding.string(value);
+				break;
+			case "description":
+				builder.description = Decoding.string(value);
+				break;
+			case "webhook_url":
+				builder.webhookUrl = Decoding.string(value);
+				break;
+			case "events":
+				builder.events = Decoding.strings(value);
+				break;
+			case "site_ids":
+				builder.siteIds = Decoding.strings(value);
+				break;
+			default:
+				break;
+			}
+		});
+		return builder.build();
+	}
+
+	/**
+	 * Write the fields that are set as a JSON object.
+	 *
+	 * @param writer - positioned where a value may be written
+	 * @return - the writer
+	 */
+	public JsonWriter encode(final JsonWriter writer) {
+		return writer.beginObject().field("name", name).field("description", description)
+				.field("webhook_url", webhookUrl).field("events", events).field("site_ids", siteIds).endObject();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public String getWebhookUrl() {
+		return webhookUrl;
+	}
+
+	/**
+	 * @return - the events the webhook is called for, e.g.
+	 *         {@code media_available}
+	 */
+	public List<String> getEvents() {
+		return events;
+	}
+
+	public List<String> getSiteIds() {
+		return siteIds;
+	}
+
+	/**
+	 * Builder for {@link WebhookMetadata}.
+	 */
+	public static final class Builder {
+		private String name;
+		private String description;
+		private String webhookUrl;
+		private List<String> events;
+		private List<String> siteIds;
+
+		private Builder() {
+		}
+
+		public Builder name(final String name) {
+			this.name = name;
+			return this;
+		}
+
+		public Builder description(final String description) {
+			this.description = description;
+			return this;
+		}
+
+		public Builder webhookUrl(final String webhookUrl) {
+			this.webhookUrl = webhookUrl;
+			return this;
+		}
+
+		public Builder events(final List<String> events) {
+			this.events = events == null ? null : ImmutableList.copyOf(events);
+			return this;
+		}
+
+		public Builder siteIds(final List<String> siteIds) {
+			this.siteIds = siteIds == null ? null : ImmutableList.copyOf(siteIds);
+			return this;
+		}
+
+		public WebhookMetadata build() {
+			return new WebhookMetadata(this);
+		}
+	}
+}
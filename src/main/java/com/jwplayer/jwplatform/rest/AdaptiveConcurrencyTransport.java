@@ -0,0 +1,297 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformRateLimitExceededException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * AdaptiveConcurrencyTransport class
+ *
+ * A {@link HttpTransport} decorator that limits the number of requests in
+ * flight and adapts that limit to how the API copes, so bulk jobs can be
+ * written as "send everything" and still run as fast as the API allows.
+ *
+ * <p>
+ * The limit follows additive increase, multiplicative decrease: it grows by
+ * one for each request that completes while the limit is in use and latency
+ * is within tolerance of the baseline, and shrinks by the back-off ratio when a
+ * request is rate limited, whether by the API or by a
+ * {@link RateLimitingTransport} further down, or takes too long. Requests over
+ * the limit wait in FIFO order; asynchronous ones do so without holding a
+ * thread, and are sent from a worker thread once let through, so the request
+ * that made room does not send them on its own callback thread.
+ *
+ * <p>
+ * There is no gradient limit, one that scales with the ratio of baseline to
+ * current latency. Such a limit only reacts to latency, while the API signals
+ * overload with 429s that can come back as fast as any other answer; AIMD
+ * treats both alike and needs no tuning beyond the back-off ratio.
+ *
+ * <p>
+ * The current limit is available from {@link #getLimit()} and is reported to
+ * the listener given to {@link #create(HttpTransport, ConcurrencyLimitConfig,
+ * IntConsumer)} every time it changes.
+ *
+ * <p>
+ * Example: AdaptiveConcurrencyTransport transport =
+ * AdaptiveConcurrencyTransport.create(ApacheAsyncTransport.create(), ConcurrencyLimitConfig.defaults());
+ */
+public class AdaptiveConcurrencyTransport implements HttpTransport {
+
+	private static final IntConsumer IGNORE = limit -> {
+	};
+
+	private final HttpTransport delegate;
+	private final ConcurrencyLimitConfig config;
+	private final IntConsumer listener;
+	private final Ticker ticker;
+	private final AsyncPermits permits;
+
+	private final Object lock = new Object();
+	private double limit;
+	private long baselineNanos = Long.MAX_VALUE;
+	private long windowMinNanos = Long.MAX_VALUE;
+	private int windowSamples;
+
+	/**
+	 * Instantiate a new {@code AdaptiveConcurrencyTransport} instance.
+	 *
+	 * @param delegate - the transport that sends requests once let through
+	 * @param config   - limits and how they adapt
+	 * @param listener - told the new limit each time it changes
+	 * @param ticker   - monotonic time source for latencies
+	 */
+	AdaptiveConcurrencyTransport(final HttpTransport delegate, final ConcurrencyLimitConfig config,
+			final IntConsumer listener, final Ticker ticker) {
+		this.delegate = delegate;
+		this.config = config;
+		this.listener = listener;
+		this.ticker = ticker;
+		this.limit = config.getInitialLimit();
+		this.permits = new AsyncPermits(config.getInitialLimit());
+	}
+
+	/**
+	 * see {@link #create(HttpTransport, ConcurrencyLimitConfig, IntConsumer)}.
+	 */
+	public static AdaptiveConcurrencyTransport create(final HttpTransport delegate,
+			final ConcurrencyLimitConfig config) {
+		return create(delegate, config, IGNORE);
+	}
+
+	/**
+	 * @param delegate - the transport that sends requests once let through
+	 * @param config   - limits and how they adapt
+	 * @param listener - told the new limit each time it changes; called while
+	 *                 the limit is locked, so it should return quickly
+	 * @return - a transport limiting the requests in flight on
+	 *         {@code delegate}
+	 */
+	public static AdaptiveConcurrencyTransport create(final HttpTransport delegate,
+			final ConcurrencyLimitConfig config, final IntConsumer listener) {
+		Preconditions.checkNotNull(delegate, "Transport must not be null!");
+		Preconditions.checkNotNull(config, "Concurrency limit config must not be null!");
+		Preconditions.checkNotNull(listener, "Listener must not be null!");
+		return new AdaptiveConcurrencyTransport(delegate, config, listener, Ticker.systemTicker());
+	}
+
+	/**
+	 * @return - the number of requests currently allowed in flight
+	 */
+	public int getLimit() {
+		synchronized (lock) {
+			return (int) limit;
+		}
+	}
+
+	/**
+	 * @return - the number of requests currently in flight
+	 */
+	public int getInFlight() {
+		return permits.held();
+	}
+
+	public ConcurrencyLimitConfig getConfig() {
+		return config;
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		awaitPermit(request);
+		final int inFlight = permits.held();
+		final long start = ticker.read();
+		final TransportResponse response;
+		try {
+			response = delegate.execute(request);
+		} catch (final JWPlatformException | RuntimeException e) {
+			onComplete(ticker.read() - start, inFlight, null, e);
+			throw e;
+		}
+		onComplete(ticker.read() - start, inFlight, response, null);
+		return response;
+	}
+
+	/**
+	 * Holds a permit until the body has been read. Latency is measured up to the
+	 * response headers, so reading a long body does not count as the API being
+	 * slow.
+	 */
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		awaitPermit(request);
+		final int inFlight = permits.held();
+		final long start = ticker.read();
+		final AtomicReference<TransportResponse> head = new AtomicReference<>();
+		final AtomicLong latency = new AtomicLong();
+		final T result;
+		try {
+			result = delegate.executeStreaming(request, (response, body) -> {
+				latency.set(ticker.read() - start);
+				head.set(response);
+				return reader.read(response, body);
+			});
+		} catch (final JWPlatformException | RuntimeException e) {
+			if (head.get() == null) {
+				onComplete(ticker.read() - start, inFlight, null, e);
+			} else {
+				// the API answered; the failure is in the body or the reader
+				onComplete(latency.get(), inFlight, head.get(), null);
+			}
+			throw e;
+		}
+		onComplete(latency.get(), inFlight, head.get(), null);
+		return result;
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		final CompletableFuture<Void> permit = acquire(request);
+		if (permit.isDone()) {
+			return permit.thenCompose(granted -> send(request));
+		}
+		// granted later on the thread releasing a permit, which must not run this request
+		return permit.thenComposeAsync(granted -> send(request), DaemonExecutor.INSTANCE);
+	}
+
+	/**
+	 * Send a request that holds a permit, returning the permit once answered.
+	 */
+	private CompletableFuture<TransportResponse> send(final TransportRequest request) {
+		final int inFlight = permits.held();
+		final long start = ticker.read();
+		final CompletableFuture<TransportResponse> sent;
+		try {
+			sent = delegate.executeAsync(request);
+		} catch (final RuntimeException e) {
+			onComplete(ticker.read() - start, inFlight, null, e);
+			throw e;
+		}
+		return sent.whenComplete(
+				(response, error) -> onComplete(ticker.read() - start, inFlight, response, error));
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	/**
+	 * Wait on the calling thread until the request may be sent.
+	 *
+	 * @throws JWPlatformException - waited longer than {@code maxWait}, or was
+	 *                             interrupted
+	 */
+	private void awaitPermit(final TransportRequest request) throws JWPlatformException {
+		final CompletableFuture<Void> permit = acquire(request);
+		try {
+			permit.get();
+		} catch (final InterruptedException e) {
+			permits.abandon(permit);
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException(String.format("Request to %s interrupted", request.getUrl()));
+		} catch (final ExecutionException e) {
+			throw (JWPlatformException) e.getCause();
+		}
+	}
+
+	/**
+	 * @return - a future completed once the request may be sent, or failed once
+	 *         it has waited longer than {@code maxWait}
+	 */
+	private CompletableFuture<Void> acquire(final TransportRequest request) {
+		final CompletableFuture<Void> permit = permits.acquire();
+		if (!permit.isDone()) {
+			final ScheduledFuture<?> timeout = DaemonTimer.INSTANCE.schedule(
+					() -> permit.completeExceptionally(new JWPlatformRateLimitExceededException(String
+							.format("Concurrency limit of %d reached, request to %s not sent", getLimit(),
+									request.getUrl()))),
+					config.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+			permit.whenComplete((granted, error) -> timeout.cancel(false));
+		}
+		return permit;
+	}
+
+	private void onComplete(final long latencyNanos, final int inFlight, final TransportResponse response,
+			final Throwable error) {
+		permits.release();
+		final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+				: error;
+		if (cause instanceof JWPlatformRateLimitExceededException
+				|| (response != null && RetryPolicy.isRateLimited(response))) {
+			adapt(true, inFlight);
+		} else if (response != null) {
+			adapt(isSlow(latencyNanos), inFlight);
+		}
+		// other failures never got an answer from the API, so say nothing about its load
+	}
+
+	/**
+	 * Record a latency sample against the baseline.
+	 *
+	 * @return - whether the sample is above the tolerated latency
+	 */
+	private boolean isSlow(final long rttNanos) {
+		synchronized (lock) {
+			windowMinNanos = Math.min(windowMinNanos, rttNanos);
+			if (++windowSamples >= config.getBaselineWindow()) {
+				baselineNanos = windowMinNanos;
+				windowMinNanos = Long.MAX_VALUE;
+				windowSamples = 0;
+			} else {
+				baselineNanos = Math.min(baselineNanos, rttNanos);
+			}
+			return rttNanos > baselineNanos * config.getLatencyTolerance();
+		}
+	}
+
+	private void adapt(final boolean backOff, final int inFlight) {
+		synchronized (lock) {
+			final int before = (int) limit;
+			if (backOff) {
+				limit = Math.max(config.getMinLimit(), limit * config.getBackoffRatio());
+			} else if (inFlight * 2 >= limit) {
+				limit = Math.min(config.getMaxLimit(), limit + 1);
+			}
+			final int after = (int) limit;
+			if (after == before) {
+				return;
+			}
+			// updated under the lock so concurrent changes apply, and are reported, in order
+			permits.setLimit(after);
+			listener.accept(after);
+		}
+		permits.grantWaiters();
+	}
+}
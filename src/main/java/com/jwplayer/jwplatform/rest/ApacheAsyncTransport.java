@@ -0,0 +1,228 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.util.EntityUtils;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * ApacheAsyncTransport class
+ *
+ * A {@link HttpTransport} backed by an Apache {@code CloseableHttpAsyncClient}.
+ * Each instance owns its client and connection pool, which are released by
+ * {@link #close()}. When created from a {@link ConnectionPoolConfig} every
+ * setting of the config is applied, including a background sweep that evicts
+ * idle connections.
+ *
+ * <p>
+ * Example: HttpTransport transport = ApacheAsyncTransport.create(config);
+ */
+public class ApacheAsyncTransport implements HttpTransport {
+
+	private final CloseableHttpAsyncClient httpClient;
+	private final ScheduledExecutorService evictor;
+
+	/**
+	 * Instantiate a new {@code ApacheAsyncTransport} instance.
+	 *
+	 * @param httpClient - the client used to send requests, started if needed
+	 * @param evictor    - the idle connection sweeper to stop on close, or null
+	 */
+	private ApacheAsyncTransport(final CloseableHttpAsyncClient httpClient, final ScheduledExecutorService evictor) {
+		this.httpClient = httpClient;
+		this.evictor = evictor;
+		if (!httpClient.isRunning()) {
+			httpClient.start();
+		}
+	}
+
+	/**
+	 * see
+	 * {@link #ApacheAsyncTransport(CloseableHttpAsyncClient, ScheduledExecutorService)}.
+	 */
+	public static ApacheAsyncTransport create() {
+		return create(HttpAsyncClients.createDefault());
+	}
+
+	/**
+	 * see
+	 * {@link #ApacheAsyncTransport(CloseableHttpAsyncClient, ScheduledExecutorService)}.
+	 */
+	public static ApacheAsyncTransport create(final CloseableHttpAsyncClient httpClient) {
+		Preconditions.checkNotNull(httpClient, "HttpAsyncClient must not be null!");
+		return new ApacheAsyncTransport(httpClient, null);
+	}
+
+	/**
+	 * Create a transport with its own connection pool configured from
+	 * {@code config}.
+	 *
+	 * @param config - pool and timeout settings
+	 * @return - a started transport
+	 * @throws JWPlatformException - the I/O reactor or TLS context could not be
+	 *                             created
+	 */
+	public static ApacheAsyncTransport create(final ConnectionPoolConfig config) throws JWPlatformException {
+		Preconditions.checkNotNull(config, "Connection pool config must not be null!");
+		final PoolingNHttpClientConnectionManager connectionManager;
+		try {
+			// timeouts are only checked once per select interval, so keep it below the shortest timeout
+			final long selectIntervalMillis = Math.min(1000,
+					Math.min(config.getConnectTimeout().toMillis(), config.getReadTimeout().toMillis()));
+			final IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+					.setConnectTimeout((int) config.getConnectTimeout().toMillis())
+					.setSoTimeout((int) config.getReadTimeout().toMillis())
+					.setSelectInterval(Math.max(1, selectIntervalMillis)).build();
+			connectionManager = new PoolingNHttpClientConnectionManager(
+					new DefaultConnectingIOReactor(ioReactorConfig),
+					RegistryBuilder.<SchemeIOSessionStrategy>create().register("http", NoopIOSessionStrategy.INSTANCE)
+							.register("https", new SSLIOSessionStrategy(config.newSslContext(),
+									SSLIOSessionStrategy.getDefaultHostnameVerifier()))
+							.build());
+		} catch (final IOReactorException e) {
+			throw new JWPlatformUnknownException(String.format("Unable to create I/O reactor: %s", e.toString()));
+		}
+		connectionManager.setMaxTotal(config.getMaxConnectionsTotal());
+		connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+
+		final long keepAliveMillis = config.getKeepAlive().toMillis();
+		final RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectTimeout((int) config.getConnectTimeout().toMillis())
+				.setConnectionRequestTimeout((int) config.getConnectTimeout().toMillis())
+				.setSocketTimeout((int) config.getReadTimeout().toMillis()).build();
+		final CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom().setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig).setKeepAliveStrategy((response, context) -> {
+					final long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+							.getKeepAliveDuration(response, context);
+					return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+				}).build();
+
+		final long idleMillis = config.getIdleEviction().toMillis();
+		final ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder().setDaemon(true).setNameFormat("jwplatform-idle-evictor-%d").build());
+		evictor.scheduleWithFixedDelay(() -> {
+			connectionManager.closeExpiredConnections();
+			connectionManager.closeIdleConnections(idleMillis, TimeUnit.MILLISECONDS);
+		}, idleMillis, idleMillis, TimeUnit.MILLISECONDS);
+
+		return new ApacheAsyncTransport(httpClient, evictor);
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		try {
+			return executeAsync(request).get();
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof JWPlatformException) {
+				throw (JWPlatformException) e.getCause();
+			}
+			throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", request.getUrl(), e));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException(String.format("Request to %s interrupted", request.getUrl()));
+		}
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+		httpClient.execute(toHttpRequest(request), new FutureCallback<HttpResponse>() {
+			@Override
+			public void completed(final HttpResponse response) {
+				try {
+					future.complete(toTransportResponse(response));
+				} catch (final IOException e) {
+					failed(e);
+				}
+			}
+
+			@Override
+			public void failed(final Exception e) {
+				future.completeExceptionally(new JWPlatformUnknownException(
+						String.format("Request to %s failed: %s", request.getUrl(), e)));
+			}
+
+			@Override
+			public void cancelled() {
+				future.cancel(false);
+			}
+		});
+		return future;
+	}
+
+	@Override
+	public void close() {
+		if (evictor != null) {
+			evictor.shutdownNow();
+		}
+		try {
+			httpClient.close();
+		} catch (final IOException e) {
+			// nothing left to release
+		}
+	}
+
+	/**
+	 * Convert a {@code TransportRequest} into an Apache request.
+	 *
+	 * @param request - the request to convert
+	 * @return - the equivalent Apache request
+	 */
+	static HttpUriRequest toHttpRequest(final TransportRequest request) {
+		final RequestBuilder builder = RequestBuilder.create(request.getMethod()).setUri(request.getUrl());
+		for (final Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+			builder.addHeader(header.getKey(), header.getValue());
+		}
+		if (request.hasBody()) {
+			builder.setEntity(new NByteArrayEntity(request.getBodyBytes()));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Convert a buffered Apache response into a {@code TransportResponse}.
+	 *
+	 * @param response - the response to convert
+	 * @return - the equivalent transport response
+	 * @throws IOException - the body could not be read
+	 */
+	static TransportResponse toTransportResponse(final HttpResponse response) throws IOException {
+		final Map<String, String> headers = new HashMap<>();
+		for (final Header header : response.getAllHeaders()) {
+			headers.putIfAbsent(header.getName(), header.getValue());
+		}
+		final HttpEntity entity = response.getEntity();
+		final byte[] body = entity == null ? new byte[0] : EntityUtils.toByteArray(entity);
+		return new TransportResponse(response.getStatusLine().getStatusCode(), headers, body);
+	}
+}
@@ -0,0 +1,115 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AsyncPermits class
+ *
+ * A counting semaphore whose {@link #acquire()} returns a future instead of
+ * blocking. Waiters are granted permits in FIFO order as earlier holders call
+ * {@link #release()}, so a caller that is out of permits never parks a thread.
+ *
+ * <p>
+ * The number of permits can be changed while they are held. Lowering it takes
+ * effect as holders release theirs. A waiter that cancels its future, or
+ * completes it some other way, gives up its place in the queue.
+ */
+final class AsyncPermits {
+
+	private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+	private int limit;
+	private int held;
+
+	/**
+	 * @param permits - the number of permits that can be held at once
+	 */
+	AsyncPermits(final int permits) {
+		this.limit = permits;
+	}
+
+	/**
+	 * @return - a future completed once a permit has been granted to the caller
+	 */
+	CompletableFuture<Void> acquire() {
+		final CompletableFuture<Void> permit = new CompletableFuture<>();
+		synchronized (this) {
+			if (held >= limit) {
+				waiters.add(permit);
+				return permit;
+			}
+			held++;
+		}
+		permit.complete(null);
+		return permit;
+	}
+
+	/**
+	 * Return a permit, handing it straight to the oldest waiter if there is one.
+	 */
+	void release() {
+		synchronized (this) {
+			held--;
+		}
+		grantWaiters();
+	}
+
+	/**
+	 * Give up a future from {@link #acquire()} that the caller no longer waits
+	 * for. A pending future is cancelled; a granted permit is returned. A future
+	 * that failed, for example on a timeout, never held a permit, so nothing is
+	 * returned for it.
+	 *
+	 * @param permit - a future returned by {@link #acquire()}
+	 */
+	void abandon(final CompletableFuture<Void> permit) {
+		if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+			release();
+		}
+	}
+
+	/**
+	 * Change the number of permits. Waiters are only granted newly available
+	 * permits by {@link #grantWaiters()}, which callers holding a lock should
+	 * call once they have released it.
+	 *
+	 * @param permits - the new number of permits that can be held at once
+	 */
+	synchronized void setLimit(final int permits) {
+		limit = permits;
+	}
+
+	/**
+	 * @return - the number of permits currently held
+	 */
+	synchronized int held() {
+		return held;
+	}
+
+	/**
+	 * Hand free permits to the oldest waiters. Their futures are completed on
+	 * the calling thread.
+	 */
+	void grantWaiters() {
+		while (true) {
+			final CompletableFuture<Void> next;
+			synchronized (this) {
+				if (held >= limit) {
+					return;
+				}
+				next = waiters.poll();
+				if (next == null) {
+					return;
+				}
+				held++;
+			}
+			if (!next.complete(null)) {
+				// the waiter gave up, so the permit is still free
+				synchronized (this) {
+					held--;
+				}
+			}
+		}
+	}
+}
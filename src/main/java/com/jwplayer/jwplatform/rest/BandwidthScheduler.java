@@ -0,0 +1,151 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.Closeable;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+
+/**
+ * BandwidthScheduler class
+ *
+ * Shares an egress budget, in bytes per second, between concurrent uploads.
+ * Each upload registers a {@link Flow} and acquires bytes from it before
+ * sending them. The budget is split equally between the flows that sent
+ * anything within the last second, whatever the number of connections each
+ * uses, so one very large upload gets the same share as each small one next
+ * to it, and the share of a flow that goes idle is handed to the others.
+ *
+ * <p>
+ * Like {@link RateLimiter}, each flow tracks when its next byte may be sent
+ * rather than counting tokens, so acquiring is a single compare-and-set and
+ * only the flow's own connections wait on it. The budget can be changed at any
+ * time.
+ *
+ * <p>
+ * Example: BandwidthScheduler scheduler = BandwidthScheduler.create(100_000_000);
+ * MultipartUploader.builder(mediaClient).bandwidth(scheduler).build();
+ */
+public final class BandwidthScheduler {
+
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+	/** A flow that sent nothing for this long leaves its share to the others. */
+	private static final long IDLE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private final Ticker ticker;
+	private final Sleeper sleeper;
+	private final Set<Flow> flows = ConcurrentHashMap.newKeySet();
+	private volatile long bytesPerSecond;
+
+	/**
+	 * @param bytesPerSecond - the egress budget
+	 * @param ticker         - monotonic time source
+	 * @param sleeper        - waits until bytes may be sent
+	 */
+	BandwidthScheduler(final long bytesPerSecond, final Ticker ticker, final Sleeper sleeper) {
+		this.bytesPerSecond = bytesPerSecond;
+		this.ticker = ticker;
+		this.sleeper = sleeper;
+	}
+
+	/**
+	 * @param bytesPerSecond - the egress budget shared by all flows
+	 * @return - the scheduler
+	 */
+	public static BandwidthScheduler create(final long bytesPerSecond) {
+		Preconditions.checkArgument(bytesPerSecond > 0, "Bytes per second must be positive!");
+		return new BandwidthScheduler(bytesPerSecond, Ticker.systemTicker(), Sleeper.SYSTEM);
+	}
+
+	public long getBytesPerSecond() {
+		return bytesPerSecond;
+	}
+
+	/**
+	 * @param bytesPerSecond - the new egress budget, applied to bytes acquired
+	 *                       from now on
+	 */
+	public void setBytesPerSecond(final long bytesPerSecond) {
+		Preconditions.checkArgument(bytesPerSecond > 0, "Bytes per second must be positive!");
+		this.bytesPerSecond = bytesPerSecond;
+	}
+
+	/**
+	 * @return - a new flow sharing the budget, to be closed when its upload is
+	 *         done
+	 */
+	public Flow register() {
+		final Flow flow = new Flow(ticker.read());
+		flows.add(flow);
+		return flow;
+	}
+
+	/**
+	 * @return - how many flows share the budget at {@code now}, at least one
+	 */
+	int activeFlows(final long now) {
+		int active = 0;
+		for (final Flow flow : flows) {
+			if (now - flow.lastActiveNanos < IDLE_NANOS) {
+				active++;
+			}
+		}
+		return Math.max(1, active);
+	}
+
+	/**
+	 * Flow class
+	 *
+	 * One upload's claim on the budget, safe to use from all of its
+	 * connections at once.
+	 */
+	public final class Flow implements Closeable {
+		private final AtomicLong nextFreeNanos;
+		private volatile long lastActiveNanos;
+
+		private Flow(final long now) {
+			this.nextFreeNanos = new AtomicLong(now);
+			this.lastActiveNanos = now;
+		}
+
+		/**
+		 * Wait until {@code bytes} may be sent.
+		 *
+		 * @param bytes - how many bytes are about to be sent
+		 * @throws InterruptedException - the thread was interrupted while waiting
+		 */
+		public void acquire(final long bytes) throws InterruptedException {
+			final long wait = reserve(bytes);
+			// shorter waits are caught up by the next acquire
+			if (wait >= TimeUnit.MILLISECONDS.toNanos(1)) {
+				sleeper.sleep(TimeUnit.NANOSECONDS.toMillis(wait));
+			}
+		}
+
+		/**
+		 * @param bytes - how many bytes are about to be sent
+		 * @return - nanoseconds to wait before sending them
+		 */
+		long reserve(final long bytes) {
+			final long now = ticker.read();
+			lastActiveNanos = now;
+			final long share = Math.max(1, bytesPerSecond / activeFlows(now));
+			final long cost = bytes * NANOS_PER_SECOND / share;
+			while (true) {
+				final long current = nextFreeNanos.get();
+				final long start = Math.max(current, now);
+				if (nextFreeNanos.compareAndSet(current, start + cost)) {
+					return start - now;
+				}
+			}
+		}
+
+		@Override
+		public void close() {
+			flows.remove(this);
+		}
+	}
+}
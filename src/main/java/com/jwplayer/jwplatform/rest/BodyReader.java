@@ -0,0 +1,28 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+
+/**
+ * BodyReader interface
+ *
+ * Consumes a response body as it is read from the connection, for use with
+ * {@link HttpTransport#executeStreaming(TransportRequest, BodyReader)}.
+ *
+ * @param <T> - what the body is read into
+ */
+@FunctionalInterface
+public interface BodyReader<T> {
+
+	/**
+	 * @param response - the status and headers of the response; its body is not
+	 *                 buffered
+	 * @param body     - the response body, closed by the transport afterwards
+	 * @return - the result of reading the body
+	 * @throws IOException         - the body could not be read
+	 * @throws JWPlatformException - the body is not what was expected
+	 */
+	T read(TransportResponse response, InputStream body) throws IOException, JWPlatformException;
+}
@@ -0,0 +1,346 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+
+/**
+ * CachingTransport class
+ *
+ * A {@link HttpTransport} decorator that keeps successful GET responses from
+ * the V2 API in memory, so repeated reads of the same media, playlists or
+ * configs do not go to the API every time. All resource types share one
+ * cache bounded by {@link ResponseCacheConfig#getMaxEntries()}, evicting the
+ * least recently used response of any type, and each response is kept for
+ * the time to live of its resource type. Entries are keyed by URL and
+ * headers, so different secrets never see each other's entries.
+ *
+ * <p>
+ * Any write sent through the same transport (POST, PUT, PATCH or DELETE)
+ * drops the cached responses of the resource type it touched on that site,
+ * e.g. updating a media item drops every cached media response of its site.
+ * Writes are counted whether or not they succeed, as a failed one may still
+ * have been applied. Changes made elsewhere are only seen once entries expire.
+ *
+ * <p>
+ * Streamed GETs are answered from the cache when it holds the response, and
+ * are otherwise read from the connection without being stored, as storing
+ * them would hold the whole body in memory.
+ *
+ * <p>
+ * Every hit returns its own {@link TransportResponse}, so callers can modify
+ * the parsed JSON without affecting the cache. Hit, miss and eviction counts
+ * are available from {@link #getStats()}, overall or per resource type.
+ *
+ * <p>
+ * Example: CachingTransport transport =
+ * CachingTransport.create(ApacheAsyncTransport.create(), ResponseCacheConfig.defaults());
+ */
+public class CachingTransport implements HttpTransport {
+
+	private final HttpTransport delegate;
+	private final ResponseCacheConfig config;
+	private final Ticker ticker;
+	private final Cache<RequestKey, Entry> cache;
+	private final ConcurrentMap<String, Counters> counters = new ConcurrentHashMap<>();
+	private final AtomicLong writes = new AtomicLong();
+
+	/**
+	 * Instantiate a new {@code CachingTransport} instance.
+	 *
+	 * @param delegate - the transport that sends requests the cache cannot
+	 *                 answer
+	 * @param config   - bounds and time to live per resource type
+	 * @param ticker   - time source for expiry
+	 */
+	CachingTransport(final HttpTransport delegate, final ResponseCacheConfig config, final Ticker ticker) {
+		this.delegate = delegate;
+		this.config = config;
+		this.ticker = ticker;
+		// entries expire by their own type's TTL, the cache drops them after the longest
+		Duration longest = config.getDefaultTtl();
+		for (final Duration ttl : config.getTtls().values()) {
+			if (ttl.compareTo(longest) > 0) {
+				longest = ttl;
+			}
+		}
+		this.cache = CacheBuilder.newBuilder().maximumSize(config.getMaxEntries())
+				.expireAfterWrite(longest.toNanos(), TimeUnit.NANOSECONDS).ticker(ticker)
+				.removalListener((RemovalListener<RequestKey, Entry>) removal -> {
+					if (removal.wasEvicted()) {
+						removal.getValue().counters.evictions.increment();
+					}
+				}).build();
+	}
+
+	/**
+	 * see {@link #CachingTransport(HttpTransport, ResponseCacheConfig, Ticker)}.
+	 */
+	public static CachingTransport create(final HttpTransport delegate, final ResponseCacheConfig config) {
+		Preconditions.checkNotNull(delegate, "Transport must not be null!");
+		Preconditions.checkNotNull(config, "Response cache config must not be null!");
+		return new CachingTransport(delegate, config, Ticker.systemTicker());
+	}
+
+	public ResponseCacheConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * @return - hit, miss and eviction counts over all resource types
+	 */
+	public CacheStats getStats() {
+		CacheStats stats = new CacheStats(0, 0, 0, 0, 0, 0);
+		for (final Counters type : counters.values()) {
+			stats = stats.plus(type.stats());
+		}
+		return stats;
+	}
+
+	/**
+	 * @param resourceType - a resource type, e.g. {@code media}
+	 * @return - hit, miss and eviction counts for that type
+	 */
+	public CacheStats getStats(final String resourceType) {
+		final Counters type = counters.get(resourceType);
+		return type == null ? new CacheStats(0, 0, 0, 0, 0, 0) : type.stats();
+	}
+
+	/**
+	 * @return - the number of responses currently cached, over all resource
+	 *         types
+	 */
+	public long size() {
+		return cache.size();
+	}
+
+	/**
+	 * Drop every cached response.
+	 */
+	public void invalidateAll() {
+		writes.incrementAndGet();
+		cache.invalidateAll();
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		final Target target = Target.of(request.getUrl(), config);
+		if (target == null || "HEAD".equals(request.getMethod())) {
+			return delegate.execute(request);
+		}
+		if (!"GET".equals(request.getMethod())) {
+			try {
+				return delegate.execute(request);
+			} finally {
+				invalidate(target.scope);
+			}
+		}
+		final Counters type = countersFor(target);
+		if (type == null) {
+			return delegate.execute(request);
+		}
+		final RequestKey key = new RequestKey(request);
+		final Entry hit = lookup(key, type);
+		if (hit != null) {
+			return hit.response.copy();
+		}
+		final long generation = writes.get();
+		final TransportResponse response = delegate.execute(request);
+		store(key, target, type, generation, response);
+		return response;
+	}
+
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		final Target target = Target.of(request.getUrl(), config);
+		if (target == null || "HEAD".equals(request.getMethod())) {
+			return delegate.executeStreaming(request, reader);
+		}
+		if (!"GET".equals(request.getMethod())) {
+			try {
+				return delegate.executeStreaming(request, reader);
+			} finally {
+				invalidate(target.scope);
+			}
+		}
+		final Counters type = countersFor(target);
+		final Entry hit = type == null ? null : lookup(new RequestKey(request), type);
+		if (hit != null) {
+			return hit.response.copy().readWith(reader, request.getUrl());
+		}
+		return delegate.executeStreaming(request, reader);
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		final Target target = Target.of(request.getUrl(), config);
+		if (target == null || "HEAD".equals(request.getMethod())) {
+			return delegate.executeAsync(request);
+		}
+		if (!"GET".equals(request.getMethod())) {
+			return delegate.executeAsync(request).whenComplete((response, error) -> invalidate(target.scope));
+		}
+		final Counters type = countersFor(target);
+		if (type == null) {
+			return delegate.executeAsync(request);
+		}
+		final RequestKey key = new RequestKey(request);
+		final Entry hit = lookup(key, type);
+		if (hit != null) {
+			return CompletableFuture.completedFuture(hit.response.copy());
+		}
+		final long generation = writes.get();
+		return delegate.executeAsync(request).thenApply(response -> {
+			store(key, target, type, generation, response);
+			return response;
+		});
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	/**
+	 * @return - the counters of the target's resource type, or null when that
+	 *         type is not cached
+	 */
+	private Counters countersFor(final Target target) {
+		if (config.getTtl(target.type).isZero()) {
+			return null;
+		}
+		return counters.computeIfAbsent(target.type, type -> new Counters());
+	}
+
+	/**
+	 * @return - the live entry for {@code key}, or null, counting a hit or a
+	 *         miss for its resource type
+	 */
+	private Entry lookup(final RequestKey key, final Counters type) {
+		final Entry entry = cache.getIfPresent(key);
+		if (entry != null && ticker.read() - entry.expiresAt < 0) {
+			type.hits.increment();
+			return entry;
+		}
+		if (entry != null && cache.asMap().remove(key, entry)) {
+			// outlived its own type's TTL, though not yet the cache's
+			type.evictions.increment();
+		}
+		type.misses.increment();
+		return null;
+	}
+
+	private void store(final RequestKey key, final Target target, final Counters type, final long generation,
+			final TransportResponse response) {
+		if (response.getStatus() != 200 || writes.get() != generation) {
+			return;
+		}
+		// keep a copy, the caller's JSON is theirs to modify
+		final Entry entry = new Entry(target.scope, type, response.copy(),
+				ticker.read() + config.getTtl(target.type).toNanos());
+		cache.put(key, entry);
+		if (writes.get() != generation) {
+			// a write finished meanwhile and may have missed this entry
+			cache.asMap().remove(key, entry);
+		}
+	}
+
+	private void invalidate(final String scope) {
+		writes.incrementAndGet();
+		cache.asMap().values().removeIf(entry -> entry.scope.equals(scope));
+	}
+
+	/**
+	 * A cached response, the scope writes invalidate it by, the counters of
+	 * its resource type and when it expires on the ticker.
+	 */
+	private static final class Entry {
+		private final String scope;
+		private final Counters counters;
+		private final TransportResponse response;
+		private final long expiresAt;
+
+		Entry(final String scope, final Counters counters, final TransportResponse response, final long expiresAt) {
+			this.scope = scope;
+			this.counters = counters;
+			this.response = response;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/**
+	 * Hit, miss and eviction counts of one resource type.
+	 */
+	private static final class Counters {
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder evictions = new LongAdder();
+
+		CacheStats stats() {
+			return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, evictions.sum());
+		}
+	}
+
+	/**
+	 * Where a V2 request points: its resource type, and the site and top-level
+	 * resource that writes to it affect.
+	 */
+	private static final class Target {
+		private final String type;
+		private final String scope;
+
+		private Target(final String type, final String scope) {
+			this.type = type;
+			this.scope = scope;
+		}
+
+		/**
+		 * @return - the target of {@code url}, or null when it is not a V2
+		 *         resource
+		 */
+		static Target of(final String url, final ResponseCacheConfig config) {
+			final int v2 = url.indexOf("/v2/");
+			if (v2 < 0) {
+				return null;
+			}
+			final int query = url.indexOf('?', v2);
+			final int end = query < 0 ? url.length() : query;
+			int start = v2 + 4;
+			if (url.startsWith("sites/", start)) {
+				final int site = url.indexOf('/', start + 6);
+				if (site < 0 || site >= end) {
+					return null;
+				}
+				start = site + 1;
+			}
+			final String path = url.substring(start, end);
+			final int slash = path.indexOf('/');
+			final String resource = slash < 0 ? path : path.substring(0, slash);
+			if (resource.isEmpty()) {
+				return null;
+			}
+			// a configured sub-resource such as advertising/schedules takes precedence
+			String type = resource;
+			for (final String configured : config.getTtls().keySet()) {
+				if (configured.length() > type.length()
+						&& (path.equals(configured) || path.startsWith(configured + "/"))) {
+					type = configured;
+				}
+			}
+			return new Target(type, url.substring(0, start) + resource);
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.Preconditions;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * CoalescingTransport class
+ *
+ * A {@link HttpTransport} decorator that lets identical concurrent reads share
+ * one HTTP call. While a GET or HEAD is in flight, any other request with the
+ * same method, URL and headers, which include the credentials, waits for its
+ * result instead of being sent. Once the call completes, the next request
+ * goes to the API again; nothing is cached.
+ *
+ * <p>
+ * Every caller gets its own {@link TransportResponse}, so the parsed JSON is
+ * never shared between them, and cancelling one caller's future does not
+ * affect the others. Signed V1 requests carry a fresh nonce in their URL and
+ * are therefore never coalesced. Streamed requests are not coalesced either:
+ * a body read from the connection can only be read by one caller.
+ *
+ * <p>
+ * Example: MediaClient client = MediaClient.getClient(apiSecret,
+ * CoalescingTransport.create(ApacheAsyncTransport.create()));
+ */
+public class CoalescingTransport implements HttpTransport {
+
+	private final HttpTransport delegate;
+	private final ConcurrentMap<RequestKey, CompletableFuture<TransportResponse>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder coalesced = new LongAdder();
+
+	/**
+	 * Instantiate a new {@code CoalescingTransport} instance.
+	 *
+	 * @param delegate - the transport that sends the shared calls
+	 */
+	private CoalescingTransport(final HttpTransport delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * see {@link #CoalescingTransport(HttpTransport)}.
+	 */
+	public static CoalescingTransport create(final HttpTransport delegate) {
+		Preconditions.checkNotNull(delegate, "Transport must not be null!");
+		return new CoalescingTransport(delegate);
+	}
+
+	/**
+	 * @return - the number of requests answered by another request's call
+	 */
+	public long getCoalescedCount() {
+		return coalesced.sum();
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		if (!isCoalescable(request)) {
+			return delegate.execute(request);
+		}
+		try {
+			return executeAsync(request).get();
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof JWPlatformException) {
+				throw (JWPlatformException) e.getCause();
+			}
+			throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", request.getUrl(), e));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException(String.format("Request to %s interrupted", request.getUrl()));
+		}
+	}
+
+	/**
+	 * Sends the request on its own call; see the class description.
+	 */
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		return delegate.executeStreaming(request, reader);
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		if (!isCoalescable(request)) {
+			return delegate.executeAsync(request);
+		}
+		final RequestKey key = new RequestKey(request);
+		final CompletableFuture<TransportResponse> shared = new CompletableFuture<>();
+		final CompletableFuture<TransportResponse> existing = inFlight.putIfAbsent(key, shared);
+		if (existing != null) {
+			coalesced.increment();
+			return existing.thenApply(TransportResponse::copy);
+		}
+		final CompletableFuture<TransportResponse> call;
+		try {
+			call = delegate.executeAsync(request);
+		} catch (final RuntimeException e) {
+			inFlight.remove(key, shared);
+			shared.completeExceptionally(e);
+			throw e;
+		}
+		call.whenComplete((response, error) -> {
+			// leave the map first, so requests arriving from now on are sent afresh
+			inFlight.remove(key, shared);
+			if (error != null) {
+				shared.completeExceptionally(error);
+			} else {
+				shared.complete(response);
+			}
+		});
+		// the shared response is only ever copied, so no caller can edit it while another copies it
+		return shared.thenApply(TransportResponse::copy);
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	private static boolean isCoalescable(final TransportRequest request) {
+		return "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+	}
+}
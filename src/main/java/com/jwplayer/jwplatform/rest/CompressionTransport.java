@@ -0,0 +1,302 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.json.JSONObject;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * CompressionTransport class
+ *
+ * A {@link HttpTransport} decorator that asks for compressed responses with
+ * {@code Accept-Encoding} and decompresses them before they reach the caller.
+ * {@code gzip} and {@code deflate} are built in; other codings, such as
+ * {@code br} from a Brotli library, can be registered at creation. Streamed
+ * responses are decompressed as they are read, straight into the parser.
+ *
+ * <p>
+ * The bytes received and the bytes they decompressed to are counted, see
+ * {@link #getCompressedBytes()} and {@link #getUncompressedBytes()}. Only
+ * transports that hand over the body as it came off the wire, such as the
+ * {@link JdkHttpTransport} and the {@link ApacheAsyncTransport}, benefit; the
+ * {@link UnirestTransport} already negotiates gzip and deflate itself and
+ * hands over decompressed, already parsed bodies, which are counted as
+ * uncompressed at their {@code Content-Length} or, without one, at the size
+ * of the JSON as text.
+ *
+ * <p>
+ * Example: CompressionTransport transport =
+ * CompressionTransport.create(JdkHttpTransport.create());
+ */
+public class CompressionTransport implements HttpTransport {
+
+	/**
+	 * Decodes a response body in one content coding.
+	 */
+	@FunctionalInterface
+	public interface ContentDecoder {
+
+		/**
+		 * @param encoded - the body as received
+		 * @return - the decoded body, read as the caller reads it
+		 * @throws IOException - the body could not be decoded
+		 */
+		InputStream decode(InputStream encoded) throws IOException;
+	}
+
+	private static final Map<String, ContentDecoder> BUILT_IN = ImmutableMap.of("gzip", GZIPInputStream::new,
+			"x-gzip", GZIPInputStream::new, "deflate", CompressionTransport::inflate);
+
+	private final HttpTransport delegate;
+	private final Map<String, ContentDecoder> decoders;
+	private final String acceptEncoding;
+	private final LongAdder compressedBytes = new LongAdder();
+	private final LongAdder uncompressedBytes = new LongAdder();
+
+	/**
+	 * Instantiate a new {@code CompressionTransport} instance.
+	 *
+	 * @param delegate - the transport that sends the requests
+	 * @param decoders - decoders by lower-case content coding
+	 */
+	private CompressionTransport(final HttpTransport delegate, final Map<String, ContentDecoder> decoders) {
+		this.delegate = delegate;
+		this.decoders = decoders;
+		this.acceptEncoding = String.join(", ",
+				decoders.keySet().stream().filter(coding -> !"x-gzip".equals(coding)).toArray(String[]::new));
+	}
+
+	/**
+	 * Create a transport negotiating {@code gzip} and {@code deflate}.
+	 *
+	 * @param delegate - the transport that sends the requests
+	 * @return - the transport
+	 */
+	public static CompressionTransport create(final HttpTransport delegate) {
+		return create(delegate, ImmutableMap.of());
+	}
+
+	/**
+	 * Create a transport negotiating {@code gzip}, {@code deflate} and the given
+	 * codings, which are preferred in the order given.
+	 *
+	 * @param delegate - the transport that sends the requests
+	 * @param extra    - decoders by content coding, e.g. {@code br}
+	 * @return - the transport
+	 */
+	public static CompressionTransport create(final HttpTransport delegate, final Map<String, ContentDecoder> extra) {
+		Preconditions.checkNotNull(delegate, "Transport must not be null!");
+		Preconditions.checkNotNull(extra, "Decoders must not be null!");
+		final Map<String, ContentDecoder> decoders = new LinkedHashMap<>();
+		for (final Map.Entry<String, ContentDecoder> decoder : extra.entrySet()) {
+			Preconditions.checkNotNull(decoder.getValue(), "Decoder must not be null!");
+			decoders.put(decoder.getKey().toLowerCase(Locale.ROOT), decoder.getValue());
+		}
+		BUILT_IN.forEach(decoders::putIfAbsent);
+		return new CompressionTransport(delegate, ImmutableMap.copyOf(decoders));
+	}
+
+	/**
+	 * @return - response body bytes received, before decompression
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes.sum();
+	}
+
+	/**
+	 * @return - response body bytes handed to the caller, after decompression
+	 */
+	public long getUncompressedBytes() {
+		return uncompressedBytes.sum();
+	}
+
+	/**
+	 * @return - the value sent as {@code Accept-Encoding}
+	 */
+	public String getAcceptEncoding() {
+		return acceptEncoding;
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		return decode(request, delegate.execute(negotiate(request)));
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		return delegate.executeAsync(negotiate(request)).thenApply(response -> {
+			try {
+				return decode(request, response);
+			} catch (final JWPlatformException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		return delegate.executeStreaming(negotiate(request), (response, body) -> {
+			final ContentDecoder decoder = decoder(response);
+			if (decoder == null) {
+				final CountingInputStream counted = new CountingInputStream(body);
+				try {
+					return reader.read(response, counted);
+				} finally {
+					compressedBytes.add(counted.getCount());
+					uncompressedBytes.add(counted.getCount());
+				}
+			}
+			final CountingInputStream received = new CountingInputStream(body);
+			final CountingInputStream decoded = new CountingInputStream(open(decoder, received));
+			try {
+				return reader.read(decoded(response, null), decoded);
+			} finally {
+				decoded.close();
+				compressedBytes.add(received.getCount());
+				uncompressedBytes.add(decoded.getCount());
+			}
+		});
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	private TransportRequest negotiate(final TransportRequest request) {
+		for (final String name : request.getHeaders().keySet()) {
+			if ("accept-encoding".equalsIgnoreCase(name)) {
+				return request;
+			}
+		}
+		final Map<String, String> headers = new HashMap<>(request.getHeaders());
+		headers.put("Accept-Encoding", acceptEncoding);
+		return request.withHeaders(headers);
+	}
+
+	/**
+	 * @return - the decoder for the response's content coding, or null when it
+	 *         is not encoded or the coding is unknown
+	 */
+	private ContentDecoder decoder(final TransportResponse response) {
+		final String coding = response.getHeader("Content-Encoding");
+		return coding == null ? null : decoders.get(coding.trim().toLowerCase(Locale.ROOT));
+	}
+
+	private TransportResponse decode(final TransportRequest request, final TransportResponse response)
+			throws JWPlatformException {
+		final byte[] body = response.getBody();
+		if (body == null) {
+			final long length = parsedLength(response);
+			compressedBytes.add(length);
+			uncompressedBytes.add(length);
+			return response;
+		}
+		final ContentDecoder decoder = decoder(response);
+		compressedBytes.add(body.length);
+		if (decoder == null) {
+			uncompressedBytes.add(body.length);
+			return response;
+		}
+		final byte[] decoded;
+		try (InputStream in = open(decoder, new ByteArrayInputStream(body))) {
+			decoded = ByteStreams.toByteArray(in);
+		} catch (final IOException e) {
+			throw new JWPlatformUnknownException(
+					String.format("Could not decompress the response to %s: %s", request.getUrl(), e));
+		}
+		uncompressedBytes.add(decoded.length);
+		return decoded(response, decoded);
+	}
+
+	/**
+	 * @return - the size of a body the delegate only handed over as parsed
+	 *         JSON: its {@code Content-Length} when still given, otherwise the
+	 *         size of the JSON as text
+	 */
+	private static long parsedLength(final TransportResponse response) throws JWPlatformException {
+		final String contentLength = response.getHeader("Content-Length");
+		if (contentLength != null) {
+			try {
+				return Long.parseLong(contentLength.trim());
+			} catch (final NumberFormatException e) {
+				// fall through to the parsed body
+			}
+		}
+		final JSONObject json = response.getJson();
+		return json == null ? 0 : json.toString().getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	/**
+	 * @return - the decoded body; an empty body stays empty, as sent with e.g.
+	 *         a 304 that still names the coding
+	 */
+	private static InputStream open(final ContentDecoder decoder, final InputStream encoded) throws IOException {
+		final PushbackInputStream in = new PushbackInputStream(encoded, 1);
+		final int first = in.read();
+		if (first < 0) {
+			return in;
+		}
+		in.unread(first);
+		return decoder.decode(in);
+	}
+
+	/**
+	 * @return - the response without the headers describing the encoded body
+	 */
+	private static TransportResponse decoded(final TransportResponse response, final byte[] body) {
+		final Map<String, String> headers = new HashMap<>(response.getHeaders());
+		headers.remove("content-encoding");
+		headers.remove("content-length");
+		return new TransportResponse(response.getStatus(), headers, body);
+	}
+
+	/**
+	 * Inflate a {@code deflate} body, which is meant to be zlib wrapped but is
+	 * sent raw by some servers.
+	 */
+	private static InputStream inflate(final InputStream encoded) throws IOException {
+		final PushbackInputStream in = new PushbackInputStream(encoded, 2);
+		final int first = in.read();
+		final int second = in.read();
+		if (second >= 0) {
+			in.unread(second);
+		}
+		if (first >= 0) {
+			in.unread(first);
+		}
+		final boolean zlib = first >= 0 && second >= 0 && (first & 0x0f) == 8 && ((first << 8) | second) % 31 == 0;
+		final Inflater inflater = new Inflater(!zlib);
+		return new InflaterInputStream(in, inflater) {
+			@Override
+			public void close() throws IOException {
+				try {
+					super.close();
+				} finally {
+					inflater.end();
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,176 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.time.Duration;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * ConcurrencyLimitConfig class
+ *
+ * Settings for an {@link AdaptiveConcurrencyTransport}. The number of requests
+ * allowed in flight starts at {@code initialLimit} and moves between
+ * {@code minLimit} and {@code maxLimit}: it grows by one for every request that
+ * completes while the limit is in use and latency is flat, and is multiplied
+ * by {@code backoffRatio} when the API rate limits a request or latency rises
+ * above {@code latencyTolerance} times the baseline.
+ *
+ * <p>
+ * The baseline is the lowest latency seen, refreshed every
+ * {@code baselineWindow} requests so that it follows lasting changes in the
+ * API's response times.
+ *
+ * <p>
+ * Example: ConcurrencyLimitConfig config =
+ * ConcurrencyLimitConfig.builder().initialLimit(8).maxLimit(64).build();
+ */
+public final class ConcurrencyLimitConfig {
+
+	private final int initialLimit;
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final double latencyTolerance;
+	private final int baselineWindow;
+	private final Duration maxWait;
+
+	private ConcurrencyLimitConfig(final Builder builder) {
+		this.initialLimit = builder.initialLimit;
+		this.minLimit = builder.minLimit;
+		this.maxLimit = builder.maxLimit;
+		this.backoffRatio = builder.backoffRatio;
+		this.latencyTolerance = builder.latencyTolerance;
+		this.baselineWindow = builder.baselineWindow;
+		this.maxWait = builder.maxWait;
+	}
+
+	/**
+	 * @return - a builder initialised with the defaults
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return - a config with the default settings
+	 */
+	public static ConcurrencyLimitConfig defaults() {
+		return builder().build();
+	}
+
+	public int getInitialLimit() {
+		return initialLimit;
+	}
+
+	public int getMinLimit() {
+		return minLimit;
+	}
+
+	public int getMaxLimit() {
+		return maxLimit;
+	}
+
+	public double getBackoffRatio() {
+		return backoffRatio;
+	}
+
+	public double getLatencyTolerance() {
+		return latencyTolerance;
+	}
+
+	public int getBaselineWindow() {
+		return baselineWindow;
+	}
+
+	public Duration getMaxWait() {
+		return maxWait;
+	}
+
+	/**
+	 * Builder for {@link ConcurrencyLimitConfig}.
+	 */
+	public static final class Builder {
+		private int initialLimit = 10;
+		private int minLimit = 1;
+		private int maxLimit = 200;
+		private double backoffRatio = 0.9;
+		private double latencyTolerance = 2.0;
+		private int baselineWindow = 1000;
+		private Duration maxWait = Duration.ofSeconds(60);
+
+		private Builder() {
+		}
+
+		/**
+		 * @param initialLimit - requests allowed in flight before any adaptation
+		 */
+		public Builder initialLimit(final int initialLimit) {
+			Preconditions.checkArgument(initialLimit > 0, "Initial limit must be positive!");
+			this.initialLimit = initialLimit;
+			return this;
+		}
+
+		/**
+		 * @param minLimit - floor of the limit
+		 */
+		public Builder minLimit(final int minLimit) {
+			Preconditions.checkArgument(minLimit > 0, "Min limit must be positive!");
+			this.minLimit = minLimit;
+			return this;
+		}
+
+		/**
+		 * @param maxLimit - ceiling of the limit
+		 */
+		public Builder maxLimit(final int maxLimit) {
+			Preconditions.checkArgument(maxLimit > 0, "Max limit must be positive!");
+			this.maxLimit = maxLimit;
+			return this;
+		}
+
+		/**
+		 * @param backoffRatio - factor applied to the limit on each back-off
+		 */
+		public Builder backoffRatio(final double backoffRatio) {
+			Preconditions.checkArgument(backoffRatio > 0 && backoffRatio < 1, "Backoff ratio must be between 0 and 1!");
+			this.backoffRatio = backoffRatio;
+			return this;
+		}
+
+		/**
+		 * @param latencyTolerance - how many times the baseline latency a request
+		 *                         may take before the limit backs off
+		 */
+		public Builder latencyTolerance(final double latencyTolerance) {
+			Preconditions.checkArgument(latencyTolerance >= 1, "Latency tolerance must be at least 1!");
+			this.latencyTolerance = latencyTolerance;
+			return this;
+		}
+
+		/**
+		 * @param baselineWindow - requests after which the baseline latency is
+		 *                       measured afresh
+		 */
+		public Builder baselineWindow(final int baselineWindow) {
+			Preconditions.checkArgument(baselineWindow > 0, "Baseline window must be positive!");
+			this.baselineWindow = baselineWindow;
+			return this;
+		}
+
+		/**
+		 * @param maxWait - longest a blocking request waits to be let through
+		 */
+		public Builder maxWait(final Duration maxWait) {
+			Preconditions.checkNotNull(maxWait, "Max wait must not be null!");
+			Preconditions.checkArgument(!maxWait.isNegative(), "Max wait must not be negative!");
+			this.maxWait = maxWait;
+			return this;
+		}
+
+		public ConcurrencyLimitConfig build() {
+			Preconditions.checkArgument(minLimit <= maxLimit, "Min limit must not exceed max limit!");
+			Preconditions.checkArgument(initialLimit >= minLimit && initialLimit <= maxLimit,
+					"Initial limit must be between min limit and max limit!");
+			return new ConcurrencyLimitConfig(this);
+		}
+	}
+}
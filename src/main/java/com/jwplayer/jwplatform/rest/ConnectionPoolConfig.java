@@ -0,0 +1,210 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+
+import javax.net.ssl.SSLContext;
+
+import com.google.common.base.Preconditions;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * ConnectionPoolConfig class
+ *
+ * Connection pool and timeout settings for a {@link HttpTransport}. Every
+ * transport created from a config owns its own pool, so giving a client its
+ * own transport isolates it from the sockets used by other clients.
+ *
+ * <p>
+ * Example: ConnectionPoolConfig config =
+ * ConnectionPoolConfig.builder().maxConnectionsTotal(50).build();
+ */
+public final class ConnectionPoolConfig {
+
+	private final int maxConnectionsTotal;
+	private final int maxConnectionsPerRoute;
+	private final Duration keepAlive;
+	private final Duration idleEviction;
+	private final Duration connectTimeout;
+	private final Duration readTimeout;
+	private final int tlsSessionCacheSize;
+	private final Duration tlsSessionTimeout;
+
+	private ConnectionPoolConfig(final Builder builder) {
+		this.maxConnectionsTotal = builder.maxConnectionsTotal;
+		this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+		this.keepAlive = builder.keepAlive;
+		this.idleEviction = builder.idleEviction;
+		this.connectTimeout = builder.connectTimeout;
+		this.readTimeout = builder.readTimeout;
+		this.tlsSessionCacheSize = builder.tlsSessionCacheSize;
+		this.tlsSessionTimeout = builder.tlsSessionTimeout;
+	}
+
+	/**
+	 * @return - a builder initialised with the defaults
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return - a config with the default settings
+	 */
+	public static ConnectionPoolConfig defaults() {
+		return builder().build();
+	}
+
+	public int getMaxConnectionsTotal() {
+		return maxConnectionsTotal;
+	}
+
+	public int getMaxConnectionsPerRoute() {
+		return maxConnectionsPerRoute;
+	}
+
+	public Duration getKeepAlive() {
+		return keepAlive;
+	}
+
+	public Duration getIdleEviction() {
+		return idleEviction;
+	}
+
+	public Duration getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	public Duration getReadTimeout() {
+		return readTimeout;
+	}
+
+	public int getTlsSessionCacheSize() {
+		return tlsSessionCacheSize;
+	}
+
+	public Duration getTlsSessionTimeout() {
+		return tlsSessionTimeout;
+	}
+
+	/**
+	 * Create a TLS context with its own session cache, sized according to this
+	 * config, so resumed TLS sessions are not shared with other pools.
+	 *
+	 * @return - a new, initialised {@code SSLContext}
+	 * @throws JWPlatformException - the JVM does not support TLS
+	 */
+	SSLContext newSslContext() throws JWPlatformException {
+		try {
+			final SSLContext sslContext = SSLContext.getInstance("TLS");
+			sslContext.init(null, null, null);
+			sslContext.getClientSessionContext().setSessionCacheSize(tlsSessionCacheSize);
+			sslContext.getClientSessionContext().setSessionTimeout((int) tlsSessionTimeout.getSeconds());
+			return sslContext;
+		} catch (final NoSuchAlgorithmException | KeyManagementException e) {
+			throw new JWPlatformUnknownException(String.format("Unable to create TLS context: %s", e.toString()));
+		}
+	}
+
+	/**
+	 * Builder for {@link ConnectionPoolConfig}. The defaults match the ones used
+	 * by Unirest.
+	 */
+	public static final class Builder {
+		private int maxConnectionsTotal = 200;
+		private int maxConnectionsPerRoute = 20;
+		private Duration keepAlive = Duration.ofSeconds(30);
+		private Duration idleEviction = Duration.ofSeconds(30);
+		private Duration connectTimeout = Duration.ofSeconds(10);
+		private Duration readTimeout = Duration.ofSeconds(60);
+		private int tlsSessionCacheSize = 100;
+		private Duration tlsSessionTimeout = Duration.ofHours(1);
+
+		private Builder() {
+		}
+
+		/**
+		 * @param maxConnectionsTotal - maximum open connections across all hosts
+		 */
+		public Builder maxConnectionsTotal(final int maxConnectionsTotal) {
+			Preconditions.checkArgument(maxConnectionsTotal > 0, "Max connections must be positive!");
+			this.maxConnectionsTotal = maxConnectionsTotal;
+			return this;
+		}
+
+		/**
+		 * @param maxConnectionsPerRoute - maximum open connections to a single host
+		 */
+		public Builder maxConnectionsPerRoute(final int maxConnectionsPerRoute) {
+			Preconditions.checkArgument(maxConnectionsPerRoute > 0, "Max connections per route must be positive!");
+			this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+			return this;
+		}
+
+		/**
+		 * @param keepAlive - how long an idle connection may be reused, capped by
+		 *                  the server's Keep-Alive header
+		 */
+		public Builder keepAlive(final Duration keepAlive) {
+			this.keepAlive = checkPositive(keepAlive, "Keep-alive");
+			return this;
+		}
+
+		/**
+		 * @param idleEviction - connections idle for longer than this are closed
+		 *                     by a background sweep
+		 */
+		public Builder idleEviction(final Duration idleEviction) {
+			this.idleEviction = checkPositive(idleEviction, "Idle eviction");
+			return this;
+		}
+
+		/**
+		 * @param connectTimeout - time allowed to establish a connection
+		 */
+		public Builder connectTimeout(final Duration connectTimeout) {
+			this.connectTimeout = checkPositive(connectTimeout, "Connect timeout");
+			return this;
+		}
+
+		/**
+		 * @param readTimeout - time allowed to wait for response data
+		 */
+		public Builder readTimeout(final Duration readTimeout) {
+			this.readTimeout = checkPositive(readTimeout, "Read timeout");
+			return this;
+		}
+
+		/**
+		 * @param tlsSessionCacheSize - number of TLS sessions kept for resumption,
+		 *                            0 for no limit
+		 */
+		public Builder tlsSessionCacheSize(final int tlsSessionCacheSize) {
+			Preconditions.checkArgument(tlsSessionCacheSize >= 0, "TLS session cache size must not be negative!");
+			this.tlsSessionCacheSize = tlsSessionCacheSize;
+			return this;
+		}
+
+		/**
+		 * @param tlsSessionTimeout - how long a cached TLS session may be resumed
+		 */
+		public Builder tlsSessionTimeout(final Duration tlsSessionTimeout) {
+			this.tlsSessionTimeout = checkPositive(tlsSessionTimeout, "TLS session timeout");
+			return this;
+		}
+
+		public ConnectionPoolConfig build() {
+			Preconditions.checkArgument(maxConnectionsPerRoute <= maxConnectionsTotal,
+					"Max connections per route must not exceed max connections total!");
+			return new ConnectionPoolConfig(this);
+		}
+
+		private static Duration checkPositive(final Duration duration, final String name) {
+			Preconditions.checkNotNull(duration, name + " must not be null!");
+			Preconditions.checkArgument(!duration.isNegative() && !duration.isZero(), name + " must be positive!");
+			return duration;
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * DaemonExecutor class
+ *
+ * The daemon threads shared by the transports to run blocking calls for
+ * asynchronous requests, such as {@link HttpTransport#execute} behind the
+ * default {@link HttpTransport#executeAsync}, and sends resumed by the
+ * {@link DaemonTimer}. Threads are created as needed and end after a minute
+ * idle, so a blocking call never waits for another one to finish.
+ */
+final class DaemonExecutor {
+
+	static final ExecutorService INSTANCE = Executors.newCachedThreadPool(
+			new ThreadFactoryBuilder().setDaemon(true).setNameFormat("jwplatform-worker-%d").build());
+
+	private DaemonExecutor() {
+	}
+}
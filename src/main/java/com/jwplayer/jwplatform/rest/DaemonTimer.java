@@ -0,0 +1,36 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * DaemonTimer class
+ *
+ * The single daemon thread shared by the transport decorators to resume
+ * asynchronous requests after a delay. Scheduled tasks must only hand work
+ * back to a transport and never block; sends go through
+ * {@link #resume(Runnable, long, TimeUnit)}.
+ */
+final class DaemonTimer {
+
+	static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+			new ThreadFactoryBuilder().setDaemon(true).setNameFormat("jwplatform-timer-%d").build());
+
+	private DaemonTimer() {
+	}
+
+	/**
+	 * Run {@code task} on the {@link DaemonExecutor} once {@code delay} has
+	 * passed, so a task that blocks or fails never holds up the timer.
+	 *
+	 * @param task  - the work to resume, which must handle its own failures
+	 * @param delay - how long to wait
+	 * @param unit  - the unit of {@code delay}
+	 */
+	static void resume(final Runnable task, final long delay, final TimeUnit unit) {
+		INSTANCE.schedule(() -> DaemonExecutor.INSTANCE.execute(task), delay, unit);
+	}
+}
@@ -1,28 +1,41 @@
 package com.jwplayer.jwplatform.rest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
 
 import org.json.JSONObject;
 
+import com.google.common.io.ByteStreams;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
-import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
 import com.jwplayer.jwplatform.utils.Util;
-import com.mashape.unirest.http.HttpResponse;
-import com.mashape.unirest.http.JsonNode;
-import com.mashape.unirest.http.Unirest;
-import com.mashape.unirest.http.exceptions.UnirestException;
 
 /**
  * HttpCalls class
  * 
  * HttpCalls is used internally by client classes for management API V2 to make
  * Http calls. Additionally, it is also used to build the request to be used for
- * the Http call. Detailed description of each method is provided below
+ * the Http call. The call itself is delegated to a {@link HttpTransport}.
+ * Detailed description of each method is provided below
  */
 public class HttpCalls {
 
+	/**
+	 * Send a request to the Management API V2 of the JWPlatform using the default
+	 * {@link UnirestTransport}.
+	 *
+	 * <p>
+	 * see {@link #request(HttpTransport, String, Map, boolean, String, Map)}.
+	 */
+	public static JSONObject request(final String path, final Map<String, String> params, final boolean isBodyParams,
+			final String requestType, final Map<String, String> headers) throws JWPlatformException {
+		return request(UnirestTransport.getInstance(), path, params, isBodyParams, requestType, headers);
+	}
+
 	/**
 	 * Send a request to the Management API V2 of the JWPlatform.
 	 *
@@ -30,9 +43,11 @@ public class HttpCalls {
 	 * This function generates an API signature, makes request to JWPlatform API V2
 	 * and returns result.
 	 *
+	 * @param transport    - the transport used to send the request
 	 * @param path         - endpoint to be used in API request which includes a
 	 *                     leading slash (ie /my/path not my/path)
-	 * @param params       - Parameters to be included in the request
+	 * @param params       - Parameters to be included in the request; for GET
+	 *                     requests they are sent as the query string
 	 * @param isBodyParams - Whether the parameters are to be included as query
 	 *                     params or in the body of the request. This is only
 	 *                     relevant for POST requests.
@@ -41,58 +56,264 @@ public class HttpCalls {
 	 * @return - JSON response from JW Platform API
 	 * @throws JWPlatformException - JWPlatform API returned an exception.
 	 */
-	public static JSONObject request(final String path, final Map<String, String> params, final boolean isBodyParams,
-			final String requestType, final Map<String, String> headers) throws JWPlatformException {
-		final String requestUrl;
-		final HttpResponse<JsonNode> response;
+	public static JSONObject request(final HttpTransport transport, final String path,
+			final Map<String, String> params, final boolean isBodyParams, final String requestType,
+			final Map<String, String> headers) throws JWPlatformException {
+		final TransportRequest request = buildRequest(path, params, isBodyParams, requestType, headers);
+		return handleResponse(request, transport.execute(request));
+	}
 
+	/**
+	 * Send a request to the Management API V2 of the JWPlatform without blocking
+	 * the calling thread.
+	 *
+	 * <p>
+	 * The request is handed to {@link HttpTransport#executeAsync(TransportRequest)}.
+	 * A non-200 response fails the returned future with the same
+	 * {@link JWPlatformException} subclass that
+	 * {@link #request(HttpTransport, String, Map, boolean, String, Map)} would
+	 * have thrown; it is not wrapped in a {@code CompletionException}.
+	 *
+	 * @param transport    - the transport used to send the request
+	 * @param path         - endpoint to be used in API request which includes a
+	 *                     leading slash (ie /my/path not my/path)
+	 * @param params       - Parameters to be included in the request; for GET
+	 *                     requests they are sent as the query string
+	 * @param isBodyParams - Whether the parameters are to be included as query
+	 *                     params or in the body of the request. This is only
+	 *                     relevant for POST requests.
+	 * @param requestType  - The type of HTTP. Valid values are ["GET", "POST"].
+	 * @param headers      - Map of headers to add to the request
+	 * @return - future completed with the JSON response from JW Platform API
+	 */
+	public static CompletableFuture<JSONObject> requestAsync(final HttpTransport transport, final String path,
+			final Map<String, String> params, final boolean isBodyParams, final String requestType,
+			final Map<String, String> headers) {
+		final CompletableFuture<JSONObject> result = new CompletableFuture<>();
+		final TransportRequest request;
 		try {
-			switch (requestType.toUpperCase()) {
-			case "GET":
-				response = Unirest.get(path).headers(headers).asJson();
-				break;
-			case "POST":
-				if (isBodyParams) {
-					requestUrl = buildRequestUrl(path, Collections.emptyMap());
-					response = Unirest.post(requestUrl).headers(headers).body(new JSONObject(params)).asJson();
-				} else {
-					requestUrl = buildRequestUrl(path, params);
-					response = Unirest.post(requestUrl).asJson();
-				}
-				break;
-			case "PATCH":
-				if (isBodyParams) {
-					requestUrl = buildRequestUrl(path, Collections.emptyMap());
-					response = Unirest.patch(requestUrl).headers(headers).body(new JSONObject(params)).asJson();
-				} else {
-					requestUrl = buildRequestUrl(path, params);
-					response = Unirest.patch(requestUrl).asJson();
-				}
-				break;
-			case "PUT":
-				if (isBodyParams) {
-					requestUrl = buildRequestUrl(path, Collections.emptyMap());
-					response = Unirest.put(requestUrl).headers(headers).body(new JSONObject(params)).asJson();
-				} else {
-					requestUrl = buildRequestUrl(path, params);
-					response = Unirest.put(requestUrl).asJson();
-				}
-				break;
-			case "DELETE":
-				response = Unirest.delete(path).headers(headers).asJson();
-				int firstDigit = Integer.parseInt(Integer.toString(response.getStatus()).substring(0, 1));
-				if (firstDigit == 2)
-					return new JSONObject("{\"message\":\"Deletion successful for the request" + path + " \"}");
-				break;
-			default:
-				throw new JWPlatformException(String.format("%s is not a supported request type.", requestType));
+			request = buildRequest(path, params, isBodyParams, requestType, headers);
+		} catch (final JWPlatformException e) {
+			result.completeExceptionally(e);
+			return result;
+		}
+		transport.executeAsync(request).whenComplete((response, error) -> {
+			if (error != null) {
+				result.completeExceptionally(
+						error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+				return;
+			}
+			try {
+				result.complete(handleResponse(request, response));
+			} catch (final JWPlatformException | RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Send a GET request to the Management API V2 of the JWPlatform and stream
+	 * the items of its response.
+	 *
+	 * <p>
+	 * The body is parsed as it is read from the transport: each object of its
+	 * {@code itemKey} array, e.g. the {@code media} of a list response, is parsed
+	 * on its own and handed to {@code onItem}, and the rest of the response is
+	 * returned. Neither the whole body nor the full JSON tree is ever built. A
+	 * non-200 response throws the same {@link JWPlatformException} subclass that
+	 * {@link #request(HttpTransport, String, Map, boolean, String, Map)} would.
+	 *
+	 * @param transport - the transport used to send the request
+	 * @param path      - endpoint to be used in API request which includes a
+	 *                  leading slash (ie /my/path not my/path)
+	 * @param params    - Parameters to be included in the query string
+	 * @param headers   - Map of headers to add to the request
+	 * @param itemKey   - the top-level field holding the items, e.g.
+	 *                  {@code media}
+	 * @param onItem    - called with each item, in order, on the calling thread
+	 * @return - the response without its items
+	 * @throws JWPlatformException - JWPlatform API returned an exception.
+	 */
+	public static JSONObject requestStreaming(final HttpTransport transport, final String path,
+			final Map<String, String> params, final Map<String, String> headers, final String itemKey,
+			final Consumer<JSONObject> onItem) throws JWPlatformException {
+		final TransportRequest request = buildRequest(path, params, false, "GET", headers);
+		return transport.executeStreaming(request, (response, body) -> {
+			if (response.getStatus() == 200) {
+				return JsonItemReader.read(body, itemKey, onItem);
+			}
+			final JSONObject json = JsonItemReader.read(body, null, null);
+			Util.checkForNon200Response(response.getStatus(), json);
+			return json;
+		});
+	}
+
+	/**
+	 * Send a GET request to the Management API V2 of the JWPlatform and keep only
+	 * the fields of a {@link Projection} from the response. The body is parsed
+	 * as it is read and the other fields are skipped without being built. Error
+	 * responses are read in full and thrown as by
+	 * {@link #request(HttpTransport, String, Map, boolean, String, Map)}.
+	 *
+	 * @param transport  - the transport used to send the request
+	 * @param path       - endpoint to be used in API request which includes a
+	 *                   leading slash (ie /my/path not my/path)
+	 * @param params     - Parameters to be included in the query string
+	 * @param headers    - Map of headers to add to the request
+	 * @param projection - the fields to keep
+	 * @param itemKey    - for a list response, the top-level field holding the
+	 *                   items the projection applies to, e.g. {@code media}; null
+	 *                   to project the response itself
+	 * @return - the projected JSON response from JW Platform API
+	 * @throws JWPlatformException - JWPlatform API returned an exception.
+	 */
+	public static JSONObject requestProjected(final HttpTransport transport, final String path,
+			final Map<String, String> params, final Map<String, String> headers, final Projection projection,
+			final String itemKey) throws JWPlatformException {
+		final TransportRequest request = buildRequest(path, params, false, "GET", headers);
+		return transport.executeStreaming(request, (response, body) -> {
+			if (response.getStatus() == 200) {
+				return ProjectingReader.read(body, projection, itemKey);
+			}
+			final JSONObject json = JsonItemReader.read(body, null, null);
+			Util.checkForNon200Response(response.getStatus(), json);
+			return json;
+		});
+	}
+
+	/**
+	 * Send a request to the Management API V2 of the JWPlatform and return the
+	 * response as a lazily decoded {@link JsonView} instead of a
+	 * {@code JSONObject}.
+	 *
+	 * <p>
+	 * The body is read as raw bytes through
+	 * {@link HttpTransport#executeStreaming(TransportRequest, BodyReader)} and
+	 * only indexed; fields are decoded when they are read. Errors are thrown as
+	 * by {@link #request(HttpTransport, String, Map, boolean, String, Map)}.
+	 *
+	 * @param transport    - the transport used to send the request
+	 * @param path         - endpoint to be used in API request which includes a
+	 *                     leading slash (ie /my/path not my/path)
+	 * @param params       - Parameters to be included in the request; for GET
+	 *                     requests they are sent as the query string
+	 * @param isBodyParams - Whether the parameters are to be included as query
+	 *                     params or in the body of the request. This is only
+	 *                     relevant for POST requests.
+	 * @param requestType  - The type of HTTP. Valid values are ["GET", "POST"].
+	 * @param headers      - Map of headers to add to the request
+	 * @return - view of the JSON response from JW Platform API
+	 * @throws JWPlatformException - JWPlatform API returned an exception.
+	 */
+	public static JsonView requestView(final HttpTransport transport, final String path,
+			final Map<String, String> params, final boolean isBodyParams, final String requestType,
+			final Map<String, String> headers) throws JWPlatformException {
+		return view(transport, buildRequest(path, params, isBodyParams, requestType, headers));
+	}
+
+	/**
+	 * Send a request with a body that is already encoded, e.g. by a
+	 * {@link JsonWriter}, and return the response as a {@link JsonView}. The
+	 * body is sent as is, so it is never built as a {@code JSONObject}.
+	 *
+	 * @param transport   - the transport used to send the request
+	 * @param path        - endpoint to be used in API request which includes a
+	 *                    leading slash (ie /my/path not my/path)
+	 * @param body        - UTF-8 JSON body
+	 * @param requestType - The type of HTTP. Valid values are ["POST", "PATCH",
+	 *                    "PUT"].
+	 * @param headers     - Map of headers to add to the request
+	 * @return - view of the JSON response from JW Platform API
+	 * @throws JWPlatformException - JWPlatform API returned an exception.
+	 */
+	public static JsonView requestView(final HttpTransport transport, final String path, final byte[] body,
+			final String requestType, final Map<String, String> headers) throws JWPlatformException {
+		final String method = requestType.toUpperCase();
+		if (!"POST".equals(method) && !"PATCH".equals(method) && !"PUT".equals(method)) {
+			throw new JWPlatformException(String.format("%s requests do not take a body.", requestType));
+		}
+		return view(transport, TransportRequest.encoded(method, buildRequestUrl(path, Collections.emptyMap()),
+				headers, body));
+	}
+
+	/**
+	 * Build the transport request for an API call. GET parameters go into the
+	 * query string; POST, PATCH and PUT requests get a signed query string.
+	 */
+	private static TransportRequest buildRequest(final String path, final Map<String, String> params,
+			final boolean isBodyParams, final String requestType, final Map<String, String> headers)
+			throws JWPlatformException {
+		final String method = requestType.toUpperCase();
+		switch (method) {
+		case "GET":
+			return new TransportRequest(method, appendQuery(path, params), headers, null);
+		case "DELETE":
+			return new TransportRequest(method, path, headers, null);
+		case "POST":
+		case "PATCH":
+		case "PUT":
+			if (isBodyParams) {
+				return new TransportRequest(method, buildRequestUrl(path, Collections.emptyMap()), headers,
+						new JSONObject(params));
+			}
+			return new TransportRequest(method, buildRequestUrl(path, params), headers, null);
+		default:
+			throw new JWPlatformException(String.format("%s is not a supported request type.", requestType));
+		}
+	}
+
+	/**
+	 * Send a request and index its response, reading the body as raw bytes.
+	 */
+	private static JsonView view(final HttpTransport transport, final TransportRequest request)
+			throws JWPlatformException {
+		final TransportResponse response = transport.executeStreaming(request, (head, body) -> new TransportResponse(
+				head.getStatus(), head.getHeaders(), ByteStreams.toByteArray(body)));
+		final int status = response.getStatus();
+		if ((status == 200 || status == 201) && !"DELETE".equals(request.getMethod())) {
+			return JsonView.parse(response.getBody());
+		}
+		return JsonView.parse(handleResponse(request, response).toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Turn a transport response into the JSON returned to the caller, mapping
+	 * non-200 responses to exceptions.
+	 */
+	private static JSONObject handleResponse(final TransportRequest request, final TransportResponse response)
+			throws JWPlatformException {
+		if ("DELETE".equals(request.getMethod()) && response.getStatus() / 100 == 2) {
+			return new JSONObject("{\"message\":\"Deletion successful for the request" + request.getUrl() + " \"}");
+		}
+		final JSONObject responseBlock = response.getJson();
+		Util.checkForNon200Response(response.getStatus(), responseBlock);
+		return responseBlock;
+	}
+
+	/**
+	 * Appends parameters to a URL as a query string, in key order.
+	 *
+	 * @param path   - endpoint, which may already have a query string
+	 * @param params - Parameters to be included in the request, may be null
+	 * @return - the URL with the encoded parameters
+	 * @throws JWPlatformException - an exception occurred during encoding
+	 */
+	static String appendQuery(final String path, final Map<String, String> params) throws JWPlatformException {
+		if (params == null || params.isEmpty()) {
+			return path;
+		}
+		final StringBuilder url = new StringBuilder(path);
+		char separator = path.indexOf('?') < 0 ? '?' : '&';
+		for (final Map.Entry<String, String> param : new TreeMap<>(params).entrySet()) {
+			if (param.getValue() == null) {
+				continue;
 			}
-			final JSONObject responseBlock = response.getBody().getObject();
-			Util.checkForNon200Response(response.getStatus(), responseBlock);
-			return responseBlock;
-		} catch (final UnirestException e) {
-			throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
+			url.append(separator).append(Util.encodeStringForJWPlatformAPI(param.getKey())).append('=')
+					.append(Util.encodeStringForJWPlatformAPI(param.getValue()));
+			separator = '&';
 		}
+		return url.toString();
 	}
 
 	/**
@@ -0,0 +1,118 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformFileUploadFailedException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * HttpPartSender class
+ *
+ * The default {@link PartSender}, a {@code PUT} over
+ * {@link HttpURLConnection} with a fixed {@code Content-Length}. The part is
+ * streamed from its buffer through a small per-thread chunk, so a
+ * memory-mapped part is never held on the heap as a whole. With a
+ * {@link BandwidthScheduler}, each chunk waits for its share of the budget
+ * before it is written. Connections are kept alive by the JDK between parts
+ * sent to the same host.
+ */
+public final class HttpPartSender implements PartSender {
+
+	private static final int CHUNK = 64 * 1024;
+	/** The most of an error response kept for the exception message. */
+	private static final int MAX_ERROR = 4 * 1024;
+	private static final ThreadLocal<byte[]> CHUNKS = ThreadLocal.withInitial(() -> new byte[CHUNK]);
+
+	private final int connectTimeoutMillis;
+	private final int readTimeoutMillis;
+
+	private HttpPartSender(final Duration connectTimeout, final Duration readTimeout) {
+		this.connectTimeoutMillis = (int) Math.min(Integer.MAX_VALUE, connectTimeout.toMillis());
+		this.readTimeoutMillis = (int) Math.min(Integer.MAX_VALUE, readTimeout.toMillis());
+	}
+
+	/**
+	 * @return - a sender with a 10 second connect and 5 minute read timeout
+	 */
+	public static HttpPartSender create() {
+		return create(Duration.ofSeconds(10), Duration.ofMinutes(5));
+	}
+
+	/**
+	 * @param connectTimeout - how long to wait for a connection
+	 * @param readTimeout    - how long to wait for the storage to answer
+	 * @return - the sender
+	 */
+	public static HttpPartSender create(final Duration connectTimeout, final Duration readTimeout) {
+		Preconditions.checkNotNull(connectTimeout, "Connect timeout must not be null!");
+		Preconditions.checkNotNull(readTimeout, "Read timeout must not be null!");
+		return new HttpPartSender(connectTimeout, readTimeout);
+	}
+
+	@Override
+	public String send(final String uploadLink, final ByteBuffer part) throws JWPlatformException {
+		return send(uploadLink, part, null);
+	}
+
+	/**
+	 * Acquires each chunk from {@code flow} as it is written.
+	 */
+	@Override
+	public String send(final String uploadLink, final ByteBuffer part, final BandwidthScheduler.Flow flow)
+			throws JWPlatformException {
+		try {
+			final HttpURLConnection connection = (HttpURLConnection) new URL(uploadLink).openConnection();
+			connection.setRequestMethod("PUT");
+			connection.setDoOutput(true);
+			connection.setConnectTimeout(connectTimeoutMillis);
+			connection.setReadTimeout(readTimeoutMillis);
+			connection.setFixedLengthStreamingMode((long) part.remaining());
+			final ByteBuffer source = part.duplicate();
+			final byte[] chunk = CHUNKS.get();
+			try (OutputStream out = connection.getOutputStream()) {
+				while (source.hasRemaining()) {
+					final int length = Math.min(chunk.length, source.remaining());
+					if (flow != null) {
+						flow.acquire(length);
+					}
+					source.get(chunk, 0, length);
+					out.write(chunk, 0, length);
+				}
+			}
+			final int status = connection.getResponseCode();
+			if (status / 100 != 2) {
+				throw new JWPlatformFileUploadFailedException(
+						String.format("Part upload failed with HTTP %d: %s", status, errorBody(connection)));
+			}
+			try (InputStream in = connection.getInputStream()) {
+				// read to the end so the connection can be reused
+				ByteStreams.exhaust(in);
+			}
+			return connection.getHeaderField("ETag");
+		} catch (final IOException e) {
+			throw new JWPlatformUnknownException(String.format("Part upload failed: %s", e));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException("Interrupted while waiting for bandwidth");
+		}
+	}
+
+	private static String errorBody(final HttpURLConnection connection) throws IOException {
+		try (InputStream in = connection.getErrorStream()) {
+			if (in == null) {
+				return "";
+			}
+			return new String(ByteStreams.toByteArray(ByteStreams.limit(in, MAX_ERROR)), StandardCharsets.UTF_8);
+		}
+	}
+}
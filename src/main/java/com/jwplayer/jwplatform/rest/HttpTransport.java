@@ -0,0 +1,95 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+
+/**
+ * HttpTransport interface
+ *
+ * The connection layer used by {@link HttpCalls} and the V1
+ * {@code JWPlatformClient} to put a request on the wire. V2 clients and the V1
+ * client accept a transport at construction time; when none is given the
+ * {@link UnirestTransport} is used.
+ *
+ * <p>
+ * Implementations only move bytes: they must not inspect the status code or
+ * throw for non-2xx responses, that is left to the caller. Failures to reach
+ * the server are reported as a {@link JWPlatformException}.
+ *
+ * <p>
+ * Example: MediaClient client = MediaClient.getClient(secret,
+ * JdkHttpTransport.create());
+ */
+public interface HttpTransport extends Closeable {
+
+	/**
+	 * Execute a request and wait for the response.
+	 *
+	 * @param request - the request to send
+	 * @return - the response as returned by the server
+	 * @throws JWPlatformException - the request could not be executed
+	 */
+	TransportResponse execute(TransportRequest request) throws JWPlatformException;
+
+	/**
+	 * Execute a request without blocking the calling thread. The returned future
+	 * completes with the response, or fails with a {@link JWPlatformException}
+	 * when the request could not be executed.
+	 *
+	 * <p>
+	 * The default implementation runs {@link #execute(TransportRequest)} on a
+	 * shared pool of daemon threads, so the caller never blocks but each request
+	 * in flight holds a thread; transports backed by a non-blocking client
+	 * override it.
+	 *
+	 * @param request - the request to send
+	 * @return - a future for the response as returned by the server
+	 */
+	default CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+		try {
+			DaemonExecutor.INSTANCE.execute(() -> {
+				try {
+					future.complete(execute(request));
+				} catch (final JWPlatformException | RuntimeException e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (final RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * Execute a request and hand its body to {@code reader} as it is read, so
+	 * large responses need not be held in memory as a whole.
+	 *
+	 * <p>
+	 * The default implementation buffers the response with
+	 * {@link #execute(TransportRequest)} and reads it from memory; transports
+	 * that can read from the connection override it, and decorators override it
+	 * to apply their policy around their delegate's streaming.
+	 *
+	 * @param request - the request to send
+	 * @param reader  - consumes the response body
+	 * @return - what {@code reader} returned
+	 * @throws JWPlatformException - the request could not be executed, or the
+	 *                             reader failed
+	 */
+	default <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		return execute(request).readWith(reader, request.getUrl());
+	}
+
+	/**
+	 * Release the resources held by this transport. Transports that do not own
+	 * any resources do not need to override this.
+	 */
+	@Override
+	default void close() {
+	}
+}
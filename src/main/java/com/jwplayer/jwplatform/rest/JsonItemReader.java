@@ -0,0 +1,114 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * JsonItemReader class
+ *
+ * Reads a JSON object from a stream, handing the objects of one top-level
+ * array to a callback one at a time instead of collecting them, e.g. the
+ * {@code media} of a list response. Each item is parsed on its own and can
+ * be collected as soon as the callback returns, so the whole body is never
+ * held as a string or as a tree.
+ */
+final class JsonItemReader {
+
+	private JsonItemReader() {
+	}
+
+	/**
+	 * @param body    - a JSON object, UTF-8 encoded
+	 * @param itemKey - the top-level array whose objects are streamed, e.g.
+	 *                {@code media}; other arrays are read into the result
+	 * @param onItem  - receives each object of the {@code itemKey} array, or
+	 *                null to read the whole body into the result
+	 * @return - the body's other fields; the streamed array is left empty and
+	 *         keeps any items that are not objects
+	 * @throws JWPlatformException - the body is not a JSON object
+	 */
+	static JSONObject read(final InputStream body, final String itemKey, final Consumer<JSONObject> onItem)
+			throws JWPlatformException {
+		final JSONTokener tokener = new JSONTokener(new InputStreamReader(body, StandardCharsets.UTF_8));
+		try {
+			final JSONObject envelope = new JSONObject();
+			char c = tokener.nextClean();
+			if (c == 0) {
+				return envelope;
+			}
+			if (c != '{') {
+				throw tokener.syntaxError("A JSONObject text must begin with '{'");
+			}
+			if (tokener.nextClean() == '}') {
+				return envelope;
+			}
+			tokener.back();
+			while (true) {
+				c = tokener.nextClean();
+				if (c != '"') {
+					throw tokener.syntaxError("Expected a quoted key");
+				}
+				final String key = tokener.nextString(c);
+				if (tokener.nextClean() != ':') {
+					throw tokener.syntaxError("Expected a ':' after a key");
+				}
+				final boolean items = onItem != null && key.equals(itemKey);
+				if (items && tokener.nextClean() == '[') {
+					envelope.put(key, readItems(tokener, onItem));
+				} else {
+					if (items) {
+						tokener.back();
+					}
+					envelope.put(key, tokener.nextValue());
+				}
+				c = tokener.nextClean();
+				if (c == '}') {
+					return envelope;
+				}
+				if (c != ',') {
+					throw tokener.syntaxError("Expected a ',' or '}'");
+				}
+			}
+		} catch (final JSONException e) {
+			throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
+		}
+	}
+
+	/**
+	 * Read an array whose '[' was just consumed.
+	 *
+	 * @return - the items that are not objects
+	 */
+	private static JSONArray readItems(final JSONTokener tokener, final Consumer<JSONObject> onItem) {
+		final JSONArray others = new JSONArray();
+		if (tokener.nextClean() == ']') {
+			return others;
+		}
+		tokener.back();
+		while (true) {
+			final Object item = tokener.nextValue();
+			if (item instanceof JSONObject) {
+				onItem.accept((JSONObject) item);
+			} else {
+				others.put(item);
+			}
+			final char c = tokener.nextClean();
+			if (c == ']') {
+				return others;
+			}
+			if (c != ',') {
+				throw tokener.syntaxError("Expected a ',' or ']'");
+			}
+		}
+	}
+}
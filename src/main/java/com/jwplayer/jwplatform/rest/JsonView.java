@@ -0,0 +1,694 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * JsonView class
+ *
+ * A read-only view of a JSON document that keeps the raw UTF-8 bytes and a
+ * structural index of them, and only decodes the values that are read. The
+ * index is built in one pass and held in a single {@code int[]} with four
+ * entries per value: its type, where it starts and ends in the bytes, and for
+ * objects and arrays the index of the value after them, so lookups can skip
+ * whole subtrees. No strings, numbers or maps are created until a value is
+ * accessed.
+ *
+ * <p>
+ * Getters follow {@code JSONObject}: {@code getX} throws a
+ * {@link JSONException} when the value is missing or of another type, and
+ * {@code optX} returns a fallback instead. Views are immutable and can be
+ * shared between threads; {@link #toJSONObject()} converts to the regular
+ * representation when it is needed.
+ *
+ * <p>
+ * Example: JsonView media = mediaClient.retrieveMediaByIdView(siteId, mediaId,
+ * params); String title = media.at("metadata", "title").asString();
+ */
+public final class JsonView {
+
+	static final int OBJECT = 1;
+	static final int ARRAY = 2;
+	static final int STRING = 3;
+	static final int ESCAPED_STRING = 4;
+	static final int NUMBER = 5;
+	static final int TRUE = 6;
+	static final int FALSE = 7;
+	static final int NULL = 8;
+
+	private static final byte[] EMPTY_OBJECT = { '{', '}' };
+
+	private final Tape tape;
+	private final int node;
+
+	private JsonView(final Tape tape, final int node) {
+		this.tape = tape;
+		this.node = node;
+	}
+
+	/**
+	 * Index a JSON document. An empty body is read as an empty object.
+	 *
+	 * @param json - the document, UTF-8 encoded; it is not copied and must not
+	 *             be modified afterwards
+	 * @return - a view of its top-level value
+	 * @throws JWPlatformException - the bytes are not valid JSON
+	 */
+	public static JsonView parse(final byte[] json) throws JWPlatformException {
+		int start = 0;
+		while (start < json.length && isWhitespace(json[start])) {
+			start++;
+		}
+		final byte[] bytes = start == json.length ? EMPTY_OBJECT : json;
+		try {
+			return new JsonView(new Tape(bytes), 0);
+		} catch (final JSONException e) {
+			throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
+		}
+	}
+
+	public boolean isObject() {
+		return type() == OBJECT;
+	}
+
+	public boolean isArray() {
+		return type() == ARRAY;
+	}
+
+	public boolean isString() {
+		return type() == STRING || type() == ESCAPED_STRING;
+	}
+
+	public boolean isNumber() {
+		return type() == NUMBER;
+	}
+
+	public boolean isBoolean() {
+		return type() == TRUE || type() == FALSE;
+	}
+
+	public boolean isNull() {
+		return type() == NULL;
+	}
+
+	/**
+	 * @return - the number of members of an object or elements of an array, 0
+	 *         for other values
+	 */
+	public int size() {
+		if (!isObject() && !isArray()) {
+			return 0;
+		}
+		final int step = isObject() ? 2 : 1;
+		int size = 0;
+		for (int child = node + 1; child < tape.skip(node); child = tape.after(child + step - 1)) {
+			size++;
+		}
+		return size;
+	}
+
+	/**
+	 * @param key - a member name
+	 * @return - whether this is an object with that member
+	 */
+	public boolean has(final String key) {
+		return find(key) >= 0;
+	}
+
+	/**
+	 * @param key - a member name
+	 * @return - the member's value, or null when this is not an object or has no
+	 *         such member
+	 */
+	public JsonView get(final String key) {
+		final int value = find(key);
+		return value < 0 ? null : new JsonView(tape, value);
+	}
+
+	/**
+	 * @param index - an array position
+	 * @return - the element, or null when this is not an array or is shorter
+	 */
+	public JsonView get(final int index) {
+		if (!isArray() || index < 0) {
+			return null;
+		}
+		int child = node + 1;
+		for (int i = 0; i < index && child < tape.skip(node); i++) {
+			child = tape.after(child);
+		}
+		return child < tape.skip(node) ? new JsonView(tape, child) : null;
+	}
+
+	/**
+	 * Follow a path of member names, e.g. {@code at("metadata", "title")}.
+	 *
+	 * @param keys - member names, outermost first
+	 * @return - the value at the end of the path, or null when any step is
+	 *         missing
+	 */
+	public JsonView at(final String... keys) {
+		JsonView view = this;
+		for (final String key : keys) {
+			view = view.get(key);
+			if (view == null) {
+				return null;
+			}
+		}
+		return view;
+	}
+
+	/**
+	 * @return - the member names of an object in document order, or an empty
+	 *         list for other values
+	 */
+	public List<String> keys() {
+		if (!isObject()) {
+			return Collections.emptyList();
+		}
+		final List<String> keys = new ArrayList<>();
+		for (int child = node + 1; child < tape.skip(node); child = tape.after(child + 1)) {
+			keys.add(tape.string(child));
+		}
+		return keys;
+	}
+
+	/**
+	 * Visit the members of an object in document order, in a single pass.
+	 *
+	 * @param visitor - called with each member name and value; not called for
+	 *                other values
+	 */
+	public void forEachMember(final BiConsumer<String, JsonView> visitor) {
+		if (!isObject()) {
+			return;
+		}
+		for (int child = node + 1; child < tape.skip(node); child = tape.after(child + 1)) {
+			visitor.accept(tape.string(child), new JsonView(tape, child + 1));
+		}
+	}
+
+	/**
+	 * @return - the elements of an array, or the member values of an object, in
+	 *         document order
+	 */
+	public List<JsonView> values() {
+		if (!isObject() && !isArray()) {
+			return Collections.emptyList();
+		}
+		final int step = isObject() ? 2 : 1;
+		final List<JsonView> values = new ArrayList<>();
+		for (int child = node + 1; child < tape.skip(node); child = tape.after(child + step - 1)) {
+			values.add(new JsonView(tape, child + step - 1));
+		}
+		return values;
+	}
+
+	/**
+	 * @return - the decoded string
+	 * @throws JSONException - this is not a string
+	 */
+	public String asString() {
+		if (!isString()) {
+			throw new JSONException("Value is not a string.");
+		}
+		return tape.string(node);
+	}
+
+	/**
+	 * @return - the number as a long, truncating any fraction
+	 * @throws JSONException - this is not a number
+	 */
+	public long asLong() {
+		if (!isNumber()) {
+			throw new JSONException("Value is not a number.");
+		}
+		return tape.longValue(node);
+	}
+
+	/**
+	 * @return - the number as an int, truncating any fraction
+	 * @throws JSONException - this is not a number
+	 */
+	public int asInt() {
+		return (int) asLong();
+	}
+
+	/**
+	 * @return - the number as a double
+	 * @throws JSONException - this is not a number
+	 */
+	public double asDouble() {
+		if (!isNumber()) {
+			throw new JSONException("Value is not a number.");
+		}
+		return Double.parseDouble(tape.text(node));
+	}
+
+	/**
+	 * @return - the boolean value
+	 * @throws JSONException - this is not a boolean
+	 */
+	public boolean asBoolean() {
+		if (!isBoolean()) {
+			throw new JSONException("Value is not a boolean.");
+		}
+		return type() == TRUE;
+	}
+
+	/**
+	 * @param key - a member name
+	 * @return - the member's string value
+	 * @throws JSONException - the member is missing or not a string
+	 */
+	public String getString(final String key) {
+		return member(key).asString();
+	}
+
+	/**
+	 * @param key      - a member name
+	 * @param fallback - returned when the member is missing or not a string
+	 * @return - the member's string value
+	 */
+	public String optString(final String key, final String fallback) {
+		final JsonView value = get(key);
+		return value != null && value.isString() ? value.asString() : fallback;
+	}
+
+	/**
+	 * @param key - a member name
+	 * @return - the member's value as a long
+	 * @throws JSONException - the member is missing or not a number
+	 */
+	public long getLong(final String key) {
+		return member(key).asLong();
+	}
+
+	/**
+	 * @param key      - a member name
+	 * @param fallback - returned when the member is missing or not a number
+	 * @return - the member's value as a long
+	 */
+	public long optLong(final String key, final long fallback) {
+		final JsonView value = get(key);
+		return value != null && value.isNumber() ? value.asLong() : fallback;
+	}
+
+	/**
+	 * @param key - a member name
+	 * @return - the member's value as an int
+	 * @throws JSONException - the member is missing or not a number
+	 */
+	public int getInt(final String key) {
+		return member(key).asInt();
+	}
+
+	/**
+	 * @param key - a member name
+	 * @return - the member's value as a double
+	 * @throws JSONException - the member is missing or not a number
+	 */
+	public double getDouble(final String key) {
+		return member(key).asDouble();
+	}
+
+	/**
+	 * @param key - a member name
+	 * @return - the member's boolean value
+	 * @throws JSONException - the member is missing or not a boolean
+	 */
+	public boolean getBoolean(final String key) {
+		return member(key).asBoolean();
+	}
+
+	/**
+	 * @param key - a member name
+	 * @return - the member's value
+	 * @throws JSONException - the member is missing
+	 */
+	public JsonView getView(final String key) {
+		return member(key);
+	}
+
+	/**
+	 * @return - this object decoded into a {@code JSONObject}
+	 * @throws JSONException - this is not an object
+	 */
+	public JSONObject toJSONObject() {
+		if (!isObject()) {
+			throw new JSONException("Value is not an object.");
+		}
+		return new JSONObject(tape.text(node));
+	}
+
+	/**
+	 * @return - this array decoded into a {@code JSONArray}
+	 * @throws JSONException - this is not an array
+	 */
+	public JSONArray toJSONArray() {
+		if (!isArray()) {
+			throw new JSONException("Value is not an array.");
+		}
+		return new JSONArray(tape.text(node));
+	}
+
+	/**
+	 * @return - the JSON text of this value, exactly as received
+	 */
+	@Override
+	public String toString() {
+		final int type = type();
+		if (type == STRING || type == ESCAPED_STRING) {
+			// the tape excludes the quotes
+			return new String(tape.bytes, tape.start(node) - 1, tape.end(node) - tape.start(node) + 2,
+					StandardCharsets.UTF_8);
+		}
+		return tape.text(node);
+	}
+
+	private int type() {
+		return tape.type(node);
+	}
+
+	private JsonView member(final String key) {
+		final JsonView value = get(key);
+		if (value == null) {
+			throw new JSONException("JSONObject[" + JSONObject.quote(key) + "] not found.");
+		}
+		return value;
+	}
+
+	/**
+	 * @return - the node of the member's value, or -1
+	 */
+	private int find(final String key) {
+		if (!isObject()) {
+			return -1;
+		}
+		final byte[] raw = key.getBytes(StandardCharsets.UTF_8);
+		for (int child = node + 1; child < tape.skip(node); child = tape.after(child + 1)) {
+			if (tape.keyEquals(child, raw, key)) {
+				return child + 1;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean isWhitespace(final byte b) {
+		return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+	}
+
+	/**
+	 * The bytes and their index. Node {@code i} occupies
+	 * {@code nodes[4i..4i+3]}: type, start, end and, for objects and arrays, the
+	 * node after the last of their children. Object members are a string node
+	 * for the name followed by the value's node.
+	 */
+	static final class Tape {
+		private final byte[] bytes;
+		private int[] nodes;
+		private int count;
+
+		Tape(final byte[] bytes) {
+			this.bytes = bytes;
+			// roughly one value per 16 bytes of typical API responses, grown as needed
+			this.nodes = new int[Math.max(64, bytes.length / 4) & ~3];
+			int pos = value(skipWhitespace(0));
+			pos = skipWhitespace(pos);
+			if (pos != bytes.length) {
+				throw error("Unexpected content after the value", pos);
+			}
+		}
+
+		int type(final int node) {
+			return nodes[4 * node];
+		}
+
+		int start(final int node) {
+			return nodes[4 * node + 1];
+		}
+
+		int end(final int node) {
+			return nodes[4 * node + 2];
+		}
+
+		int skip(final int node) {
+			return nodes[4 * node + 3];
+		}
+
+		/**
+		 * @return - the node following {@code node} and all of its children
+		 */
+		int after(final int node) {
+			final int type = type(node);
+			return type == OBJECT || type == ARRAY ? skip(node) : node + 1;
+		}
+
+		String text(final int node) {
+			return new String(bytes, start(node), end(node) - start(node), StandardCharsets.UTF_8);
+		}
+
+		String string(final int node) {
+			return type(node) == STRING ? text(node) : unescape(start(node), end(node));
+		}
+
+		boolean keyEquals(final int node, final byte[] raw, final String key) {
+			if (type(node) == ESCAPED_STRING) {
+				return string(node).equals(key);
+			}
+			final int start = start(node);
+			if (end(node) - start != raw.length) {
+				return false;
+			}
+			for (int i = 0; i < raw.length; i++) {
+				if (bytes[start + i] != raw[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		long longValue(final int node) {
+			final int start = start(node);
+			final int end = end(node);
+			int pos = start;
+			final boolean negative = bytes[pos] == '-';
+			if (negative) {
+				pos++;
+			}
+			if (end - pos > 18) {
+				return new BigDecimal(text(node)).longValue();
+			}
+			long value = 0;
+			for (; pos < end; pos++) {
+				final byte b = bytes[pos];
+				if (b < '0' || b > '9') {
+					// fraction or exponent
+					return new BigDecimal(text(node)).longValue();
+				}
+				value = value * 10 + (b - '0');
+			}
+			return negative ? -value : value;
+		}
+
+		private int add(final int type, final int start, final int end) {
+			if (4 * count + 4 > nodes.length) {
+				nodes = Arrays.copyOf(nodes, nodes.length * 2);
+			}
+			final int node = count++;
+			nodes[4 * node] = type;
+			nodes[4 * node + 1] = start;
+			nodes[4 * node + 2] = end;
+			return node;
+		}
+
+		/**
+		 * Index the value starting at {@code pos}.
+		 *
+		 * @return - the position after it
+		 */
+		private int value(int pos) {
+			if (pos >= bytes.length) {
+				throw error("Unexpected end of input", pos);
+			}
+			switch (bytes[pos]) {
+			case '{':
+				return container(OBJECT, pos, '}');
+			case '[':
+				return container(ARRAY, pos, ']');
+			case '"':
+				return scanString(pos);
+			case 't':
+				return literal(TRUE, "true", pos);
+			case 'f':
+				return literal(FALSE, "false", pos);
+			case 'n':
+				return literal(NULL, "null", pos);
+			default:
+				return number(pos);
+			}
+		}
+
+		private int container(final int type, final int open, final char close) {
+			final int node = add(type, open, 0);
+			int pos = skipWhitespace(open + 1);
+			if (pos < bytes.length && bytes[pos] == close) {
+				pos++;
+			} else {
+				while (true) {
+					if (type == OBJECT) {
+						if (pos >= bytes.length || bytes[pos] != '"') {
+							throw error("Expected a quoted key", pos);
+						}
+						pos = skipWhitespace(scanString(pos));
+						if (pos >= bytes.length || bytes[pos] != ':') {
+							throw error("Expected a ':' after a key", pos);
+						}
+						pos = skipWhitespace(pos + 1);
+					}
+					pos = skipWhitespace(value(pos));
+					if (pos >= bytes.length) {
+						throw error("Unexpected end of input", pos);
+					}
+					if (bytes[pos] == close) {
+						pos++;
+						break;
+					}
+					if (bytes[pos] != ',') {
+						throw error("Expected a ',' or '" + close + "'", pos);
+					}
+					pos = skipWhitespace(pos + 1);
+				}
+			}
+			nodes[4 * node + 2] = pos;
+			nodes[4 * node + 3] = count;
+			return pos;
+		}
+
+		private int scanString(final int quote) {
+			boolean escaped = false;
+			int pos = quote + 1;
+			while (pos < bytes.length && bytes[pos] != '"') {
+				if (bytes[pos] == '\\') {
+					escaped = true;
+					pos += 2;
+				} else if (bytes[pos] >= 0 && bytes[pos] < 0x20) {
+					throw error("Control character in string", pos);
+				} else {
+					pos++;
+				}
+			}
+			if (pos >= bytes.length) {
+				throw error("Unterminated string", quote);
+			}
+			add(escaped ? ESCAPED_STRING : STRING, quote + 1, pos);
+			return pos + 1;
+		}
+
+		private int literal(final int type, final String text, final int pos) {
+			if (pos + text.length() > bytes.length) {
+				throw error("Unexpected end of input", pos);
+			}
+			for (int i = 0; i < text.length(); i++) {
+				if (bytes[pos + i] != text.charAt(i)) {
+					throw error("Unexpected character", pos + i);
+				}
+			}
+			add(type, pos, pos + text.length());
+			return pos + text.length();
+		}
+
+		private int number(final int start) {
+			int pos = start;
+			if (pos < bytes.length && bytes[pos] == '-') {
+				pos++;
+			}
+			final int digits = pos;
+			while (pos < bytes.length && isNumberPart(bytes[pos])) {
+				pos++;
+			}
+			if (pos == digits || bytes[digits] < '0' || bytes[digits] > '9') {
+				throw error("Unexpected character", start);
+			}
+			add(NUMBER, start, pos);
+			return pos;
+		}
+
+		private String unescape(final int start, final int end) {
+			final StringBuilder out = new StringBuilder(end - start);
+			int run = start;
+			int pos = start;
+			while (pos < end) {
+				if (bytes[pos] != '\\') {
+					pos++;
+					continue;
+				}
+				out.append(new String(bytes, run, pos - run, StandardCharsets.UTF_8));
+				final byte escape = bytes[pos + 1];
+				switch (escape) {
+				case 'b':
+					out.append('\b');
+					break;
+				case 'f':
+					out.append('\f');
+					break;
+				case 'n':
+					out.append('\n');
+					break;
+				case 'r':
+					out.append('\r');
+					break;
+				case 't':
+					out.append('\t');
+					break;
+				case 'u':
+					if (pos + 6 > end) {
+						throw error("Illegal escape", pos);
+					}
+					try {
+						out.append((char) Integer.parseInt(new String(bytes, pos + 2, 4, StandardCharsets.US_ASCII),
+								16));
+					} catch (final NumberFormatException e) {
+						throw error("Illegal escape", pos);
+					}
+					pos += 4;
+					break;
+				default:
+					// \" \\ \/ and anything else stand for themselves
+					out.append((char) escape);
+				}
+				pos += 2;
+				run = pos;
+			}
+			out.append(new String(bytes, run, end - run, StandardCharsets.UTF_8));
+			return out.toString();
+		}
+
+		private int skipWhitespace(int pos) {
+			while (pos < bytes.length && isWhitespace(bytes[pos])) {
+				pos++;
+			}
+			return pos;
+		}
+
+		private static boolean isNumberPart(final byte b) {
+			return b >= '0' && b <= '9' || b == '.' || b == 'e' || b == 'E' || b == '+' || b == '-';
+		}
+
+		private static JSONException error(final String message, final int pos) {
+			return new JSONException(String.format("%s at %d", message, pos));
+		}
+	}
+}
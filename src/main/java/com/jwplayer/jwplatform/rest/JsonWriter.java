@@ -0,0 +1,261 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * JsonWriter class
+ *
+ * Writes JSON straight into a UTF-8 byte array, without building a
+ * {@code JSONObject} first. Commas are placed automatically; callers only open
+ * and close objects and arrays, and write member names and values in order.
+ *
+ * <p>
+ * Example: byte[] body = new JsonWriter().beginObject().name("metadata")
+ * .beginObject().name("title").value("My video").endObject().endObject()
+ * .toByteArray();
+ */
+public final class JsonWriter {
+
+	private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	private byte[] buffer = new byte[256];
+	private int size;
+	/** For each open container, whether it already has an element. */
+	private boolean[] nonEmpty = new boolean[8];
+	private int depth;
+	private boolean afterName;
+
+	public JsonWriter beginObject() {
+		beforeValue();
+		return open('{');
+	}
+
+	public JsonWriter endObject() {
+		return close('}');
+	}
+
+	public JsonWriter beginArray() {
+		beforeValue();
+		return open('[');
+	}
+
+	public JsonWriter endArray() {
+		return close(']');
+	}
+
+	/**
+	 * @param name - the name of the next object member
+	 */
+	public JsonWriter name(final String name) {
+		Preconditions.checkNotNull(name, "Name must not be null!");
+		Preconditions.checkState(depth > 0 && !afterName, "A name must be followed by a value!");
+		separate();
+		string(name);
+		write((byte) ':');
+		afterName = true;
+		return this;
+	}
+
+	/**
+	 * @param value - a string, or null to write {@code null}
+	 */
+	public JsonWriter value(final String value) {
+		if (value == null) {
+			return nullValue();
+		}
+		beforeValue();
+		string(value);
+		return this;
+	}
+
+	public JsonWriter value(final long value) {
+		beforeValue();
+		ascii(Long.toString(value));
+		return this;
+	}
+
+	/**
+	 * @param value - a finite number
+	 */
+	public JsonWriter value(final double value) {
+		Preconditions.checkArgument(!Double.isNaN(value) && !Double.isInfinite(value),
+				"JSON numbers must be finite!");
+		beforeValue();
+		ascii(value == Math.rint(value) && Math.abs(value) < 1e15 ? Long.toString((long) value)
+				: Double.toString(value));
+		return this;
+	}
+
+	public JsonWriter value(final boolean value) {
+		beforeValue();
+		ascii(value ? "true" : "false");
+		return this;
+	}
+
+	public JsonWriter nullValue() {
+		beforeValue();
+		ascii("null");
+		return this;
+	}
+
+	/**
+	 * Write a member whose value is a string, skipping it when the value is
+	 * null.
+	 */
+	public JsonWriter field(final String name, final String value) {
+		return value == null ? this : name(name).value(value);
+	}
+
+	/**
+	 * Write a member whose value is an array of strings, skipping it when the
+	 * values are null.
+	 */
+	public JsonWriter field(final String name, final Collection<String> values) {
+		if (values == null) {
+			return this;
+		}
+		name(name).beginArray();
+		for (final String value : values) {
+			value(value);
+		}
+		return endArray();
+	}
+
+	/**
+	 * Write a member whose value is an object of strings, skipping it when the
+	 * map is null.
+	 */
+	public JsonWriter field(final String name, final Map<String, String> values) {
+		if (values == null) {
+			return this;
+		}
+		name(name).beginObject();
+		for (final Map.Entry<String, String> entry : values.entrySet()) {
+			name(entry.getKey()).value(entry.getValue());
+		}
+		return endObject();
+	}
+
+	/**
+	 * @return - the JSON written so far
+	 */
+	public byte[] toByteArray() {
+		Preconditions.checkState(depth == 0 && !afterName, "JSON is incomplete!");
+		return Arrays.copyOf(buffer, size);
+	}
+
+	private JsonWriter open(final char bracket) {
+		write((byte) bracket);
+		if (depth == nonEmpty.length) {
+			nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+		}
+		nonEmpty[depth++] = false;
+		return this;
+	}
+
+	private JsonWriter close(final char bracket) {
+		Preconditions.checkState(depth > 0 && !afterName, "Nothing to close!");
+		depth--;
+		write((byte) bracket);
+		return this;
+	}
+
+	private void beforeValue() {
+		if (afterName) {
+			afterName = false;
+		} else {
+			separate();
+		}
+	}
+
+	private void separate() {
+		if (depth > 0) {
+			if (nonEmpty[depth - 1]) {
+				write((byte) ',');
+			}
+			nonEmpty[depth - 1] = true;
+		}
+	}
+
+	/**
+	 * Write a quoted string, escaping and encoding it to UTF-8 as it goes.
+	 */
+	private void string(final String value) {
+		write((byte) '"');
+		for (int i = 0; i < value.length(); i++) {
+			// the most a char is written as
+			ensure(7);
+			final char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				buffer[size++] = '\\';
+				buffer[size++] = (byte) c;
+			} else if (c < 0x20) {
+				escape(c);
+			} else if (c < 0x80) {
+				buffer[size++] = (byte) c;
+			} else if (c < 0x800) {
+				buffer[size++] = (byte) (0xc0 | c >> 6);
+				buffer[size++] = (byte) (0x80 | c & 0x3f);
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+					&& Character.isLowSurrogate(value.charAt(i + 1))) {
+				final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				buffer[size++] = (byte) (0xf0 | codePoint >> 18);
+				buffer[size++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+				buffer[size++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+				buffer[size++] = (byte) (0x80 | codePoint & 0x3f);
+			} else if (Character.isSurrogate(c)) {
+				// unpaired, not representable in UTF-8
+				escape(c);
+			} else {
+				buffer[size++] = (byte) (0xe0 | c >> 12);
+				buffer[size++] = (byte) (0x80 | c >> 6 & 0x3f);
+				buffer[size++] = (byte) (0x80 | c & 0x3f);
+			}
+		}
+		write((byte) '"');
+	}
+
+	private void escape(final char c) {
+		buffer[size++] = '\\';
+		switch (c) {
+		case '\n':
+			buffer[size++] = 'n';
+			return;
+		case '\r':
+			buffer[size++] = 'r';
+			return;
+		case '\t':
+			buffer[size++] = 't';
+			return;
+		default:
+			buffer[size++] = 'u';
+			buffer[size++] = HEX[c >> 12 & 0xf];
+			buffer[size++] = HEX[c >> 8 & 0xf];
+			buffer[size++] = HEX[c >> 4 & 0xf];
+			buffer[size++] = HEX[c & 0xf];
+		}
+	}
+
+	private void ascii(final String text) {
+		ensure(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			buffer[size++] = (byte) text.charAt(i);
+		}
+	}
+
+	private void write(final byte b) {
+		ensure(1);
+		buffer[size++] = b;
+	}
+
+	private void ensure(final int extra) {
+		if (size + extra > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.nio.ByteBuffer;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * PartSender interface
+ *
+ * Puts one part of a multipart upload to its presigned upload link. Parts are
+ * handed over as a {@link ByteBuffer}, typically a memory-mapped region of the
+ * file being uploaded, so implementations should write from it directly
+ * rather than copy the whole part into a heap array first.
+ *
+ * <p>
+ * Upload links point at the storage, not at the API: they are already signed,
+ * so no api secret is sent with them.
+ */
+@FunctionalInterface
+public interface PartSender {
+
+	/**
+	 * @param uploadLink - the presigned URL of the part
+	 * @param part       - the bytes of the part, from its position to its
+	 *                   limit; must not be modified
+	 * @return - the ETag the storage returned for the part, or null
+	 * @throws JWPlatformException - the part could not be uploaded
+	 */
+	String send(String uploadLink, ByteBuffer part) throws JWPlatformException;
+
+	/**
+	 * Put a part within a share of a {@link BandwidthScheduler}.
+	 *
+	 * <p>
+	 * The default implementation acquires the whole part before sending it;
+	 * senders that write in chunks override it to acquire each chunk as it is
+	 * written.
+	 *
+	 * @param uploadLink - the presigned URL of the part
+	 * @param part       - the bytes of the part, from its position to its
+	 *                   limit; must not be modified
+	 * @param flow       - the upload's share of the bandwidth
+	 * @return - the ETag the storage returned for the part, or null
+	 * @throws JWPlatformException - the part could not be uploaded
+	 */
+	default String send(final String uploadLink, final ByteBuffer part, final BandwidthScheduler.Flow flow)
+			throws JWPlatformException {
+		try {
+			flow.acquire(part.remaining());
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException("Interrupted while waiting for bandwidth");
+		}
+		return send(uploadLink, part);
+	}
+}
@@ -0,0 +1,219 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * ProjectingReader class
+ *
+ * Reads a JSON object from a stream keeping only the fields of a
+ * {@link Projection}. Everything else is skipped character by character, so
+ * no strings, objects or arrays are built for it.
+ */
+final class ProjectingReader {
+
+	private ProjectingReader() {
+	}
+
+	/**
+	 * @param body       - a JSON object, UTF-8 encoded
+	 * @param projection - the fields to keep
+	 * @param itemKey    - for a list response, the top-level array holding the
+	 *                   items the projection applies to, e.g. {@code media};
+	 *                   its other fields, such as {@code total}, are kept. Null
+	 *                   to project the body itself
+	 * @return - the projected body
+	 * @throws JWPlatformException - the body is not a JSON object
+	 */
+	static JSONObject read(final InputStream body, final Projection projection, final String itemKey)
+			throws JWPlatformException {
+		final JSONTokener tokener = new JSONTokener(new InputStreamReader(body, StandardCharsets.UTF_8));
+		try {
+			final char c = tokener.nextClean();
+			if (c == 0) {
+				return new JSONObject();
+			}
+			if (c != '{') {
+				throw tokener.syntaxError("A JSONObject text must begin with '{'");
+			}
+			return itemKey != null ? readListing(tokener, projection, itemKey) : readObject(tokener, projection);
+		} catch (final JSONException e) {
+			throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
+		}
+	}
+
+	/**
+	 * Read a list response whose '{' was just consumed.
+	 */
+	private static JSONObject readListing(final JSONTokener tokener, final Projection projection,
+			final String itemKey) {
+		final JSONObject envelope = new JSONObject();
+		for (String key = firstKey(tokener); key != null; key = nextKey(tokener)) {
+			final boolean items = key.equals(itemKey);
+			if (items && tokener.nextClean() == '[') {
+				envelope.put(key, readArray(tokener, projection));
+			} else {
+				if (items) {
+					tokener.back();
+				}
+				envelope.put(key, tokener.nextValue());
+			}
+		}
+		return envelope;
+	}
+
+	/**
+	 * Read an object whose '{' was just consumed, keeping the projected fields.
+	 */
+	private static JSONObject readObject(final JSONTokener tokener, final Projection projection) {
+		final JSONObject object = new JSONObject();
+		for (String key = firstKey(tokener); key != null; key = nextKey(tokener)) {
+			final Projection field = projection.field(key);
+			if (field == null) {
+				skipValue(tokener);
+			} else {
+				object.put(key, readValue(tokener, field));
+			}
+		}
+		return object;
+	}
+
+	/**
+	 * Read an array whose '[' was just consumed, projecting each element.
+	 */
+	private static JSONArray readArray(final JSONTokener tokener, final Projection projection) {
+		final JSONArray array = new JSONArray();
+		if (tokener.nextClean() == ']') {
+			return array;
+		}
+		tokener.back();
+		while (true) {
+			array.put(readValue(tokener, projection));
+			final char c = tokener.nextClean();
+			if (c == ']') {
+				return array;
+			}
+			if (c != ',') {
+				throw tokener.syntaxError("Expected a ',' or ']'");
+			}
+		}
+	}
+
+	private static Object readValue(final JSONTokener tokener, final Projection projection) {
+		if (projection.isWhole()) {
+			return tokener.nextValue();
+		}
+		final char c = tokener.nextClean();
+		if (c == '{') {
+			return readObject(tokener, projection);
+		}
+		if (c == '[') {
+			return readArray(tokener, projection);
+		}
+		tokener.back();
+		return tokener.nextValue();
+	}
+
+	/**
+	 * @return - the first member name of an object whose '{' was just
+	 *         consumed, or null when it is empty
+	 */
+	private static String firstKey(final JSONTokener tokener) {
+		if (tokener.nextClean() == '}') {
+			return null;
+		}
+		tokener.back();
+		return key(tokener);
+	}
+
+	/**
+	 * @return - the next member name after a value, or null at the end of the
+	 *         object
+	 */
+	private static String nextKey(final JSONTokener tokener) {
+		final char c = tokener.nextClean();
+		if (c == '}') {
+			return null;
+		}
+		if (c != ',') {
+			throw tokener.syntaxError("Expected a ',' or '}'");
+		}
+		return key(tokener);
+	}
+
+	private static String key(final JSONTokener tokener) {
+		if (tokener.nextClean() != '"') {
+			throw tokener.syntaxError("Expected a quoted key");
+		}
+		final String key = tokener.nextString('"');
+		if (tokener.nextClean() != ':') {
+			throw tokener.syntaxError("Expected a ':' after a key");
+		}
+		return key;
+	}
+
+	/**
+	 * Skip one value without building it.
+	 */
+	private static void skipValue(final JSONTokener tokener) {
+		char c = tokener.nextClean();
+		if (c == '"') {
+			skipString(tokener);
+			return;
+		}
+		if (c != '{' && c != '[') {
+			while (c != 0 && c != ',' && c != '}' && c != ']' && c > ' ') {
+				c = tokener.next();
+			}
+			tokener.back();
+			return;
+		}
+		int depth = 1;
+		while (depth > 0) {
+			c = tokener.next();
+			switch (c) {
+			case 0:
+				throw tokener.syntaxError("Unterminated value");
+			case '"':
+				skipString(tokener);
+				break;
+			case '{':
+			case '[':
+				depth++;
+				break;
+			case '}':
+			case ']':
+				depth--;
+				break;
+			default:
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Skip the rest of a string whose opening quote was just consumed.
+	 */
+	private static void skipString(final JSONTokener tokener) {
+		while (true) {
+			final char c = tokener.next();
+			if (c == 0) {
+				throw tokener.syntaxError("Unterminated string");
+			}
+			if (c == '\\') {
+				tokener.next();
+			} else if (c == '"') {
+				return;
+			}
+		}
+	}
+}
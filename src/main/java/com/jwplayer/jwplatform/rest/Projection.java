@@ -0,0 +1,100 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Projection class
+ *
+ * The fields to keep from a response, as dotted paths such as {@code id} or
+ * {@code metadata.title}. A path keeps its whole value, so {@code metadata}
+ * keeps every metadata field; arrays are projected element by element. Fields
+ * outside the projection are skipped while the body is read and are never
+ * turned into objects.
+ *
+ * <p>
+ * Example: Projection projection = Projection.of("id", "status",
+ * "metadata.title", "metadata.tags");
+ */
+public final class Projection {
+
+	/** Kept fields by name; empty when the whole value is kept. */
+	private final Map<String, Projection> fields = new LinkedHashMap<>();
+
+	private Projection() {
+	}
+
+	/**
+	 * @param paths - dotted paths of the fields to keep
+	 * @return - the projection
+	 */
+	public static Projection of(final String... paths) {
+		Preconditions.checkNotNull(paths, "Paths must not be null!");
+		Preconditions.checkArgument(paths.length > 0, "A projection needs at least one path!");
+		final Projection root = new Projection();
+		for (final String path : paths) {
+			Preconditions.checkNotNull(path, "Path must not be null!");
+			Projection node = root;
+			final String[] names = path.split("\\.", -1);
+			for (int i = 0; i < names.length; i++) {
+				Preconditions.checkArgument(!names[i].isEmpty(), "Invalid path: %s", path);
+				final Projection existing = node.fields.get(names[i]);
+				if (existing != null && existing.isWhole()) {
+					break;
+				}
+				final Projection child = existing == null ? new Projection() : existing;
+				if (i == names.length - 1) {
+					child.fields.clear();
+				}
+				node.fields.put(names[i], child);
+				node = child;
+			}
+		}
+		return root;
+	}
+
+	/**
+	 * @return - the dotted paths that are kept
+	 */
+	public List<String> getPaths() {
+		final List<String> paths = new ArrayList<>();
+		collect("", paths);
+		return Collections.unmodifiableList(paths);
+	}
+
+	@Override
+	public String toString() {
+		return String.join(",", getPaths());
+	}
+
+	/**
+	 * @return - whether values under this node are kept as they are
+	 */
+	boolean isWhole() {
+		return fields.isEmpty();
+	}
+
+	/**
+	 * @param name - a member name
+	 * @return - the projection of that member, or null when it is not kept
+	 */
+	Projection field(final String name) {
+		return fields.get(name);
+	}
+
+	private void collect(final String prefix, final List<String> paths) {
+		for (final Map.Entry<String, Projection> field : fields.entrySet()) {
+			final String path = prefix + field.getKey();
+			if (field.getValue().isWhole()) {
+				paths.add(path);
+			} else {
+				field.getValue().collect(path + ".", paths);
+			}
+		}
+	}
+}
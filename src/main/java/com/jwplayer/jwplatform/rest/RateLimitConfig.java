@@ -0,0 +1,170 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.time.Duration;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * RateLimitConfig class
+ *
+ * Settings for the client-side token bucket a {@link RateLimitingTransport}
+ * keeps per API secret. The bucket refills at {@code permitsPerSecond} and
+ * holds up to {@code burst} permits. When it is empty a request either waits
+ * for a permit, for at most {@code maxWait}, or is shed straight away.
+ *
+ * <p>
+ * With {@code adaptive} set, the refill rate follows the
+ * {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset} headers returned
+ * by the API, never exceeding {@code permitsPerSecond}, and a 429 response
+ * pauses the bucket until the server's quota resets.
+ *
+ * <p>
+ * Example: RateLimitConfig config =
+ * RateLimitConfig.builder().permitsPerSecond(20).mode(Mode.SHED).build();
+ */
+public final class RateLimitConfig {
+
+	/**
+	 * What to do with a request when no permit is available.
+	 */
+	public enum Mode {
+		/**
+		 * Wait for a permit, up to {@code maxWait}, then shed.
+		 */
+		QUEUE,
+		/**
+		 * Fail the request immediately.
+		 */
+		SHED
+	}
+
+	private final double permitsPerSecond;
+	private final int burst;
+	private final Mode mode;
+	private final Duration maxWait;
+	private final boolean adaptive;
+	private final double minPermitsPerSecond;
+
+	private RateLimitConfig(final Builder builder) {
+		this.permitsPerSecond = builder.permitsPerSecond;
+		this.burst = builder.burst;
+		this.mode = builder.mode;
+		this.maxWait = builder.maxWait;
+		this.adaptive = builder.adaptive;
+		this.minPermitsPerSecond = builder.minPermitsPerSecond;
+	}
+
+	/**
+	 * @return - a builder initialised with the defaults
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return - a config with the default settings
+	 */
+	public static RateLimitConfig defaults() {
+		return builder().build();
+	}
+
+	public double getPermitsPerSecond() {
+		return permitsPerSecond;
+	}
+
+	public int getBurst() {
+		return burst;
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	public Duration getMaxWait() {
+		return maxWait;
+	}
+
+	public boolean isAdaptive() {
+		return adaptive;
+	}
+
+	public double getMinPermitsPerSecond() {
+		return minPermitsPerSecond;
+	}
+
+	/**
+	 * Builder for {@link RateLimitConfig}.
+	 */
+	public static final class Builder {
+		private double permitsPerSecond = 10;
+		private int burst = 10;
+		private Mode mode = Mode.QUEUE;
+		private Duration maxWait = Duration.ofSeconds(30);
+		private boolean adaptive = true;
+		private double minPermitsPerSecond = 0.1;
+
+		private Builder() {
+		}
+
+		/**
+		 * @param permitsPerSecond - refill rate, and the ceiling when adaptive
+		 */
+		public Builder permitsPerSecond(final double permitsPerSecond) {
+			Preconditions.checkArgument(permitsPerSecond > 0, "Permits per second must be positive!");
+			this.permitsPerSecond = permitsPerSecond;
+			return this;
+		}
+
+		/**
+		 * @param burst - permits that may be used back to back after an idle
+		 *              period
+		 */
+		public Builder burst(final int burst) {
+			Preconditions.checkArgument(burst > 0, "Burst must be positive!");
+			this.burst = burst;
+			return this;
+		}
+
+		/**
+		 * @param mode - whether to queue or shed requests over the limit
+		 */
+		public Builder mode(final Mode mode) {
+			Preconditions.checkNotNull(mode, "Mode must not be null!");
+			this.mode = mode;
+			return this;
+		}
+
+		/**
+		 * @param maxWait - longest a queued request waits for a permit
+		 */
+		public Builder maxWait(final Duration maxWait) {
+			Preconditions.checkNotNull(maxWait, "Max wait must not be null!");
+			Preconditions.checkArgument(!maxWait.isNegative(), "Max wait must not be negative!");
+			this.maxWait = maxWait;
+			return this;
+		}
+
+		/**
+		 * @param adaptive - follow the API's rate limit headers
+		 */
+		public Builder adaptive(final boolean adaptive) {
+			this.adaptive = adaptive;
+			return this;
+		}
+
+		/**
+		 * @param minPermitsPerSecond - floor for the adapted refill rate
+		 */
+		public Builder minPermitsPerSecond(final double minPermitsPerSecond) {
+			Preconditions.checkArgument(minPermitsPerSecond > 0, "Min permits per second must be positive!");
+			this.minPermitsPerSecond = minPermitsPerSecond;
+			return this;
+		}
+
+		public RateLimitConfig build() {
+			Preconditions.checkArgument(minPermitsPerSecond <= permitsPerSecond,
+					"Min permits per second must not exceed permits per second!");
+			return new RateLimitConfig(this);
+		}
+	}
+}
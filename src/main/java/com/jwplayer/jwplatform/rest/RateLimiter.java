@@ -0,0 +1,161 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Ticker;
+
+/**
+ * RateLimiter class
+ *
+ * A lock-free token bucket. Instead of counting tokens it tracks the
+ * theoretical arrival time of the next request (the generic cell rate
+ * algorithm), so a permit is taken with a single compare-and-set on
+ * one {@code AtomicLong} and callers never block each other.
+ *
+ * <p>
+ * Reserving a permit returns how long the caller has to wait before using it;
+ * the caller decides whether to sleep, schedule or give up. The refill rate
+ * can be changed at any time, which is how the limiter follows the rate limit
+ * headers of the API.
+ */
+public final class RateLimiter {
+
+	private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final RateLimitConfig config;
+	private final Ticker ticker;
+	private final Clock clock;
+	private final AtomicLong nextFreeNanos;
+	private volatile long intervalNanos;
+
+	/**
+	 * Instantiate a new {@code RateLimiter} instance with a full bucket.
+	 *
+	 * @param config - rate, burst and adaptation settings
+	 * @param ticker - monotonic time source for the bucket
+	 * @param clock  - wall clock used to read {@code X-RateLimit-Reset}
+	 */
+	RateLimiter(final RateLimitConfig config, final Ticker ticker, final Clock clock) {
+		this.config = config;
+		this.ticker = ticker;
+		this.clock = clock;
+		this.intervalNanos = intervalFor(config.getPermitsPerSecond());
+		this.nextFreeNanos = new AtomicLong(ticker.read());
+	}
+
+	/**
+	 * @return - the current refill rate in permits per second
+	 */
+	public double getPermitsPerSecond() {
+		return (double) NANOS_PER_SECOND / intervalNanos;
+	}
+
+	/**
+	 * @return - the settings this limiter was created with
+	 */
+	public RateLimitConfig getConfig() {
+		return config;
+	}
+
+	/**
+	 * Reserve a permit if it can be used within {@code maxWaitNanos}.
+	 *
+	 * @param maxWaitNanos - longest acceptable wait
+	 * @return - nanoseconds to wait before using the permit, or -1 if none is
+	 *         available in time, in which case nothing was reserved
+	 */
+	long reserve(final long maxWaitNanos) {
+		while (true) {
+			final long now = ticker.read();
+			final long interval = intervalNanos;
+			final long current = nextFreeNanos.get();
+			final long theoretical = Math.max(current, now);
+			final long wait = Math.max(0, theoretical - toleranceNanos(interval) - now);
+			if (wait > maxWaitNanos) {
+				return -1;
+			}
+			if (nextFreeNanos.compareAndSet(current, theoretical + interval)) {
+				return wait;
+			}
+		}
+	}
+
+	/**
+	 * Adapt to a response from the API. Only has an effect when the limiter is
+	 * adaptive.
+	 *
+	 * @param response - the response just received
+	 */
+	void onResponse(final TransportResponse response) {
+		if (!config.isAdaptive()) {
+			return;
+		}
+		final long resetMillis = resetMillis(response.getHeader("X-RateLimit-Reset"));
+		final long remaining = parseLong(response.getHeader("X-RateLimit-Remaining"));
+		if (resetMillis >= 0 && remaining >= 0) {
+			final double seconds = Math.max(1, resetMillis) / 1000.0;
+			final double rate = Math.min(config.getPermitsPerSecond(),
+					Math.max(config.getMinPermitsPerSecond(), remaining / seconds));
+			intervalNanos = intervalFor(rate);
+			if (remaining == 0) {
+				pauseFor(TimeUnit.MILLISECONDS.toNanos(resetMillis));
+			}
+		}
+		if (response.getStatus() == 429) {
+			final long retryAfterMillis = RetryPolicy.retryAfterMillis(response.getHeader("Retry-After"));
+			final long pauseMillis = retryAfterMillis > 0 ? retryAfterMillis : Math.max(resetMillis, 1000);
+			pauseFor(TimeUnit.MILLISECONDS.toNanos(pauseMillis));
+		}
+	}
+
+	/**
+	 * Hand out no permits for the next {@code nanos}; afterwards permits are
+	 * granted at the refill rate, without an initial burst.
+	 */
+	private void pauseFor(final long nanos) {
+		final long until = ticker.read() + nanos + toleranceNanos(intervalNanos);
+		nextFreeNanos.accumulateAndGet(until, Math::max);
+	}
+
+	/**
+	 * @return - how far ahead of now the bucket may run: the burst, less the
+	 *         permit being taken
+	 */
+	private long toleranceNanos(final long interval) {
+		return interval * (config.getBurst() - 1);
+	}
+
+	/**
+	 * @param reset - {@code X-RateLimit-Reset}, epoch seconds or seconds from
+	 *              now
+	 * @return - milliseconds until the quota resets, or -1 if unknown
+	 */
+	private long resetMillis(final String reset) {
+		final long value = parseLong(reset);
+		if (value < 0) {
+			return -1;
+		}
+		// values this large are epoch seconds, anything smaller is a delta
+		if (value > 1_000_000_000L) {
+			return Math.max(0, value * 1000 - clock.millis());
+		}
+		return value * 1000;
+	}
+
+	private static long parseLong(final String value) {
+		if (value == null) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(value.trim());
+		} catch (final NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private static long intervalFor(final double permitsPerSecond) {
+		return Math.max(1, (long) (NANOS_PER_SECOND / permitsPerSecond));
+	}
+}
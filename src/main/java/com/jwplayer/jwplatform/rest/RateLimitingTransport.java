@@ -0,0 +1,249 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformRateLimitExceededException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * RateLimitingTransport class
+ *
+ * A {@link HttpTransport} decorator that keeps requests within the API's rate
+ * limits on the client side, instead of sending them and getting 429s back.
+ * Each credential gets its own {@link RateLimiter}: V2 requests are keyed by
+ * their {@code Authorization} header, V1 requests by their {@code api_key}
+ * parameter. Busy credentials therefore never contend with each other, and
+ * requests sharing one only meet on a single compare-and-set.
+ *
+ * <p>
+ * Blocking and streaming requests wait for their permit on the calling
+ * thread. Asynchronous requests are sent from a shared daemon timer once their
+ * permit is due, so no thread is held while waiting. A request that cannot get a permit in time
+ * fails with a {@link JWPlatformRateLimitExceededException} without being
+ * sent.
+ *
+ * <p>
+ * Example: HttpTransport transport =
+ * RateLimitingTransport.builder(ApacheAsyncTransport.create()).defaultLimit(RateLimitConfig.defaults()).build();
+ */
+public class RateLimitingTransport implements HttpTransport {
+
+	private final HttpTransport delegate;
+	private final RateLimitConfig defaultLimit;
+	private final Map<String, RateLimitConfig> limits;
+	private final ConcurrentMap<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+	private final Ticker ticker;
+	private final Clock clock;
+	private final Sleeper sleeper;
+
+	/**
+	 * Instantiate a new {@code RateLimitingTransport} instance.
+	 *
+	 * @param delegate     - the transport that sends permitted requests
+	 * @param defaultLimit - limit for credentials without one of their own
+	 * @param limits       - limits by api secret or V1 api key
+	 * @param ticker       - monotonic time source for the buckets
+	 * @param clock        - wall clock used to read rate limit headers
+	 * @param sleeper      - waits for permits on blocking requests
+	 */
+	RateLimitingTransport(final HttpTransport delegate, final RateLimitConfig defaultLimit,
+			final Map<String, RateLimitConfig> limits, final Ticker ticker, final Clock clock,
+			final Sleeper sleeper) {
+		this.delegate = delegate;
+		this.defaultLimit = defaultLimit;
+		this.limits = limits;
+		this.ticker = ticker;
+		this.clock = clock;
+		this.sleeper = sleeper;
+	}
+
+	/**
+	 * @param delegate - the transport that sends permitted requests
+	 * @return - a builder for a transport wrapping {@code delegate}
+	 */
+	public static Builder builder(final HttpTransport delegate) {
+		Preconditions.checkNotNull(delegate, "Transport must not be null!");
+		return new Builder(delegate);
+	}
+
+	/**
+	 * @param delegate - the transport that sends permitted requests
+	 * @param config   - limit applied to every credential
+	 * @return - a transport applying {@code config} to each credential
+	 */
+	public static RateLimitingTransport create(final HttpTransport delegate, final RateLimitConfig config) {
+		return builder(delegate).defaultLimit(config).build();
+	}
+
+	/**
+	 * @param credential - an api secret, or a V1 api key
+	 * @return - the limiter for that credential, created on first use
+	 */
+	public RateLimiter getLimiter(final String credential) {
+		Preconditions.checkNotNull(credential, "Credential must not be null!");
+		return limiterFor(credential);
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		final RateLimiter limiter = awaitPermit(request);
+		final TransportResponse response = delegate.execute(request);
+		limiter.onResponse(response);
+		return response;
+	}
+
+	/**
+	 * Waits for a permit like {@link #execute(TransportRequest)}, then follows
+	 * the rate limit headers before the body is read.
+	 */
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		final RateLimiter limiter = awaitPermit(request);
+		return delegate.executeStreaming(request, (response, body) -> {
+			limiter.onResponse(response);
+			return reader.read(response, body);
+		});
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		final RateLimiter limiter = limiterFor(credentialOf(request));
+		final long wait;
+		try {
+			wait = reserve(limiter, request);
+		} catch (final JWPlatformException e) {
+			final CompletableFuture<TransportResponse> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+		final CompletableFuture<TransportResponse> result = new CompletableFuture<>();
+		final Runnable send = () -> {
+			try {
+				delegate.executeAsync(request).whenComplete((response, error) -> {
+					if (error != null) {
+						result.completeExceptionally(error);
+					} else {
+						limiter.onResponse(response);
+						result.complete(response);
+					}
+				});
+			} catch (final RuntimeException e) {
+				result.completeExceptionally(e);
+			}
+		};
+		if (wait > 0) {
+			DaemonTimer.resume(send, wait, TimeUnit.NANOSECONDS);
+		} else {
+			send.run();
+		}
+		return result;
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	/**
+	 * @return - the request's limiter, once it has granted a permit
+	 */
+	private RateLimiter awaitPermit(final TransportRequest request) throws JWPlatformException {
+		final RateLimiter limiter = limiterFor(credentialOf(request));
+		final long wait = reserve(limiter, request);
+		if (wait > 0) {
+			try {
+				sleeper.sleep(TimeUnit.NANOSECONDS.toMillis(wait + 999_999));
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new JWPlatformUnknownException(String.format("Request to %s interrupted", request.getUrl()));
+			}
+		}
+		return limiter;
+	}
+
+	private long reserve(final RateLimiter limiter, final TransportRequest request) throws JWPlatformException {
+		final RateLimitConfig config = limiter.getConfig();
+		final long maxWait = config.getMode() == RateLimitConfig.Mode.SHED ? 0 : config.getMaxWait().toNanos();
+		final long wait = limiter.reserve(maxWait);
+		if (wait < 0) {
+			throw new JWPlatformRateLimitExceededException(
+					String.format("Client-side rate limit exceeded, request to %s not sent", request.getUrl()));
+		}
+		return wait;
+	}
+
+	private RateLimiter limiterFor(final String credential) {
+		return limiters.computeIfAbsent(credential,
+				key -> new RateLimiter(limits.getOrDefault(key, defaultLimit), ticker, clock));
+	}
+
+	/**
+	 * @return - the api secret of a V2 request, the api key of a V1 request, or
+	 *         an empty string for unauthenticated requests
+	 */
+	static String credentialOf(final TransportRequest request) {
+		final String authorization = request.getHeaders().get("Authorization");
+		if (authorization != null) {
+			return authorization.startsWith("Bearer ") ? authorization.substring(7) : authorization;
+		}
+		final String url = request.getUrl();
+		final int query = url.indexOf('?');
+		if (query >= 0) {
+			for (final String pair : url.substring(query + 1).split("&")) {
+				if (pair.startsWith("api_key=")) {
+					return pair.substring(8);
+				}
+			}
+		}
+		return "";
+	}
+
+	/**
+	 * Builder for {@link RateLimitingTransport}.
+	 */
+	public static final class Builder {
+		private final HttpTransport delegate;
+		private RateLimitConfig defaultLimit = RateLimitConfig.defaults();
+		private final Map<String, RateLimitConfig> limits = new HashMap<>();
+
+		private Builder(final HttpTransport delegate) {
+			this.delegate = delegate;
+		}
+
+		/**
+		 * @param config - limit for credentials without one of their own
+		 */
+		public Builder defaultLimit(final RateLimitConfig config) {
+			Preconditions.checkNotNull(config, "Rate limit config must not be null!");
+			this.defaultLimit = config;
+			return this;
+		}
+
+		/**
+		 * @param credential - an api secret, or a V1 api key
+		 * @param config     - limit for requests made with it
+		 */
+		public Builder limit(final String credential, final RateLimitConfig config) {
+			Preconditions.checkNotNull(credential, "Credential must not be null!");
+			Preconditions.checkNotNull(config, "Rate limit config must not be null!");
+			limits.put(credential, config);
+			return this;
+		}
+
+		public RateLimitingTransport build() {
+			return new RateLimitingTransport(delegate, defaultLimit, ImmutableMap.copyOf(limits),
+					Ticker.systemTicker(), Clock.systemUTC(), Sleeper.SYSTEM);
+		}
+	}
+}
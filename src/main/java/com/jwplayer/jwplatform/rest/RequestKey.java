@@ -0,0 +1,51 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * RequestKey class
+ *
+ * Identifies requests that would get the same answer: same method, URL and
+ * headers, which include the credentials. Bodies are not compared, so only
+ * requests without one should be keyed.
+ */
+final class RequestKey {
+
+	private final String method;
+	private final String url;
+	private final Map<String, String> headers;
+	private final int hash;
+
+	/**
+	 * @param request - the request to identify
+	 */
+	RequestKey(final TransportRequest request) {
+		this.method = request.getMethod();
+		this.url = request.getUrl();
+		this.headers = request.getHeaders();
+		this.hash = Objects.hash(method, url, headers);
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof RequestKey)) {
+			return false;
+		}
+		final RequestKey key = (RequestKey) other;
+		return hash == key.hash && method.equals(key.method) && url.equals(key.url) && headers.equals(key.headers);
+	}
+
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return method + " " + url;
+	}
+}
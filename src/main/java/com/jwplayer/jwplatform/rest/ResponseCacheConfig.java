@@ -0,0 +1,121 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * ResponseCacheConfig class
+ *
+ * Settings for a {@link CachingTransport}. Responses are cached per resource
+ * type, the path below the site such as {@code media} or
+ * {@code advertising/schedules}. The cache holds up to {@code maxEntries}
+ * responses over all types, evicting the least recently used, and keeps each
+ * for the time to live of its type, or {@code defaultTtl} if it has none. A
+ * time to live of zero turns caching off for that type.
+ *
+ * <p>
+ * Example: ResponseCacheConfig config = ResponseCacheConfig.builder()
+ * .ttl("media", Duration.ofMinutes(5)).ttl("advertising/schedules",
+ * Duration.ofMinutes(1)).build();
+ */
+public final class ResponseCacheConfig {
+
+	private final long maxEntries;
+	private final Duration defaultTtl;
+	private final Map<String, Duration> ttls;
+
+	private ResponseCacheConfig(final Builder builder) {
+		this.maxEntries = builder.maxEntries;
+		this.defaultTtl = builder.defaultTtl;
+		this.ttls = ImmutableMap.copyOf(builder.ttls);
+	}
+
+	/**
+	 * @return - a builder initialised with the defaults
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return - a config with the default settings
+	 */
+	public static ResponseCacheConfig defaults() {
+		return builder().build();
+	}
+
+	public long getMaxEntries() {
+		return maxEntries;
+	}
+
+	public Duration getDefaultTtl() {
+		return defaultTtl;
+	}
+
+	/**
+	 * @return - time to live by resource type
+	 */
+	public Map<String, Duration> getTtls() {
+		return ttls;
+	}
+
+	/**
+	 * @param resourceType - a resource type, e.g. {@code media}
+	 * @return - how long responses of that type are kept
+	 */
+	public Duration getTtl(final String resourceType) {
+		return ttls.getOrDefault(resourceType, defaultTtl);
+	}
+
+	/**
+	 * Builder for {@link ResponseCacheConfig}.
+	 */
+	public static final class Builder {
+		private long maxEntries = 10_000;
+		private Duration defaultTtl = Duration.ofSeconds(30);
+		private final Map<String, Duration> ttls = new HashMap<>();
+
+		private Builder() {
+		}
+
+		/**
+		 * @param maxEntries - responses kept over all resource types
+		 */
+		public Builder maxEntries(final long maxEntries) {
+			Preconditions.checkArgument(maxEntries > 0, "Max entries must be positive!");
+			this.maxEntries = maxEntries;
+			return this;
+		}
+
+		/**
+		 * @param defaultTtl - time to live for resource types without their own
+		 */
+		public Builder defaultTtl(final Duration defaultTtl) {
+			Preconditions.checkNotNull(defaultTtl, "Default TTL must not be null!");
+			Preconditions.checkArgument(!defaultTtl.isNegative(), "Default TTL must not be negative!");
+			this.defaultTtl = defaultTtl;
+			return this;
+		}
+
+		/**
+		 * @param resourceType - path below the site, e.g. {@code media} or
+		 *                     {@code advertising/vpb_configs}
+		 * @param ttl          - time to live for responses of that type
+		 */
+		public Builder ttl(final String resourceType, final Duration ttl) {
+			Preconditions.checkNotNull(resourceType, "Resource type must not be null!");
+			Preconditions.checkNotNull(ttl, "TTL must not be null!");
+			Preconditions.checkArgument(!ttl.isNegative(), "TTL must not be negative!");
+			ttls.put(resourceType, ttl);
+			return this;
+		}
+
+		public ResponseCacheConfig build() {
+			return new ResponseCacheConfig(this);
+		}
+	}
+}
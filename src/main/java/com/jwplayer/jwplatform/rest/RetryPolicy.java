@@ -0,0 +1,257 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import com.jwplayer.jwplatform.exception.JWPlatformCallUnavailableException;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformInternalException;
+import com.jwplayer.jwplatform.exception.JWPlatformRateLimitExceededException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+import com.jwplayer.jwplatform.utils.Util;
+
+/**
+ * RetryPolicy class
+ *
+ * Decides which failed requests a {@link RetryingTransport} sends again and
+ * how long it waits in between. Delays grow exponentially from
+ * {@code baseDelay} up to {@code maxDelay} and use full jitter: the actual
+ * wait is drawn uniformly from zero to the exponential bound, so clients that
+ * failed together do not retry together.
+ *
+ * <p>
+ * A response is retried when the API reports it as rate limited (HTTP 429 or
+ * {@code RateLimitExceeded}), unavailable (HTTP 502, 503, 504 or
+ * {@code CallUnavailable}) or failing internally (HTTP 500 or
+ * {@code Internal}); requests that never reached the server are retried too.
+ * Rate limited requests were rejected before being processed, so they are
+ * retried whatever their method. Everything else is only retried for
+ * idempotent methods (GET, PUT, DELETE, HEAD, OPTIONS) unless
+ * {@link Builder#retryNonIdempotent(boolean)} is set, since a POST that timed
+ * out may still have been applied.
+ *
+ * <p>
+ * A {@code Retry-After} header, in seconds or as an HTTP date, sets the minimum
+ * wait. If it asks for longer than {@code maxDelay} the response is returned
+ * as is rather than retried.
+ *
+ * <p>
+ * Example: RetryPolicy policy =
+ * RetryPolicy.builder().maxAttempts(5).baseDelay(Duration.ofMillis(200)).build();
+ */
+public final class RetryPolicy {
+
+	private static final ImmutableSet<String> IDEMPOTENT_METHODS = ImmutableSet.of("GET", "PUT", "DELETE", "HEAD",
+			"OPTIONS");
+
+	private final int maxAttempts;
+	private final Duration baseDelay;
+	private final Duration maxDelay;
+	private final boolean retryNonIdempotent;
+
+	private RetryPolicy(final Builder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.baseDelay = builder.baseDelay;
+		this.maxDelay = builder.maxDelay;
+		this.retryNonIdempotent = builder.retryNonIdempotent;
+	}
+
+	/**
+	 * @return - a builder initialised with the defaults
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * @return - a policy with the default settings
+	 */
+	public static RetryPolicy defaults() {
+		return builder().build();
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	public Duration getBaseDelay() {
+		return baseDelay;
+	}
+
+	public Duration getMaxDelay() {
+		return maxDelay;
+	}
+
+	public boolean isRetryNonIdempotent() {
+		return retryNonIdempotent;
+	}
+
+	/**
+	 * @param request  - the request that was sent
+	 * @param response - the response received for it
+	 * @return - whether the response is a transient failure worth retrying
+	 */
+	public boolean isRetryable(final TransportRequest request, final TransportResponse response) {
+		final int status = response.getStatus();
+		if (status / 100 == 2) {
+			return false;
+		}
+		if (isRateLimited(response)) {
+			return true;
+		}
+		if (status == 500 || status == 502 || status == 503 || status == 504) {
+			return mayRepeat(request);
+		}
+		try {
+			Util.checkForNon200Response(status, response.getJson());
+		} catch (final JWPlatformCallUnavailableException | JWPlatformInternalException e) {
+			return mayRepeat(request);
+		} catch (final JWPlatformException | RuntimeException e) {
+			return false;
+		}
+		return false;
+	}
+
+	/**
+	 * @param request - the request that could not be executed
+	 * @param failure - why the transport failed to execute it
+	 * @return - whether the request may be sent again
+	 */
+	public boolean isRetryable(final TransportRequest request, final Throwable failure) {
+		return failure instanceof JWPlatformUnknownException && mayRepeat(request);
+	}
+
+	/**
+	 * Compute the wait before the next attempt.
+	 *
+	 * @param attempt  - the attempt that just failed, starting at 1
+	 * @param response - the failed response, or null when the request did not
+	 *                 get one
+	 * @return - the delay in milliseconds, or -1 when the server asked to wait
+	 *         longer than {@code maxDelay}
+	 */
+	public long delayMillis(final int attempt, final TransportResponse response) {
+		final long cap = maxDelay.toMillis();
+		final long base = baseDelay.toMillis();
+		final int doublings = Math.min(attempt - 1, 30);
+		final long bound = base > cap >> doublings ? cap : base << doublings;
+		final long jitter = ThreadLocalRandom.current().nextLong(bound + 1);
+		final long retryAfter = response == null ? 0 : retryAfterMillis(response.getHeader("Retry-After"));
+		if (retryAfter > cap) {
+			return -1;
+		}
+		return Math.max(jitter, retryAfter);
+	}
+
+	/**
+	 * @param response - a response from the API
+	 * @return - whether the API rejected the request for exceeding its rate
+	 *         limit, by status or by error code
+	 */
+	static boolean isRateLimited(final TransportResponse response) {
+		final int status = response.getStatus();
+		if (status == 429) {
+			return true;
+		}
+		if (status / 100 == 2) {
+			return false;
+		}
+		try {
+			Util.checkForNon200Response(status, response.getJson());
+		} catch (final JWPlatformRateLimitExceededException e) {
+			return true;
+		} catch (final JWPlatformException | RuntimeException e) {
+			return false;
+		}
+		return false;
+	}
+
+	private boolean mayRepeat(final TransportRequest request) {
+		return retryNonIdempotent || IDEMPOTENT_METHODS.contains(request.getMethod());
+	}
+
+	/**
+	 * @param retryAfter - value of a {@code Retry-After} header, may be null
+	 * @return - the requested wait in milliseconds, 0 if absent or malformed
+	 */
+	static long retryAfterMillis(final String retryAfter) {
+		if (retryAfter == null || retryAfter.trim().isEmpty()) {
+			return 0;
+		}
+		final String value = retryAfter.trim();
+		try {
+			return Math.max(0, Long.parseLong(value) * 1000);
+		} catch (final NumberFormatException e) {
+			// not delta-seconds, try an HTTP date
+		}
+		try {
+			final ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+			return Math.max(0, date.toInstant().toEpochMilli() - System.currentTimeMillis());
+		} catch (final DateTimeParseException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Builder for {@link RetryPolicy}.
+	 */
+	public static final class Builder {
+		private int maxAttempts = 3;
+		private Duration baseDelay = Duration.ofMillis(100);
+		private Duration maxDelay = Duration.ofSeconds(10);
+		private boolean retryNonIdempotent = false;
+
+		private Builder() {
+		}
+
+		/**
+		 * @param maxAttempts - total attempts including the first one; 1 disables
+		 *                    retries
+		 */
+		public Builder maxAttempts(final int maxAttempts) {
+			Preconditions.checkArgument(maxAttempts > 0, "Max attempts must be positive!");
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * @param baseDelay - upper bound of the wait before the first retry
+		 */
+		public Builder baseDelay(final Duration baseDelay) {
+			Preconditions.checkNotNull(baseDelay, "Base delay must not be null!");
+			Preconditions.checkArgument(!baseDelay.isNegative(), "Base delay must not be negative!");
+			this.baseDelay = baseDelay;
+			return this;
+		}
+
+		/**
+		 * @param maxDelay - upper bound of any single wait, including one asked
+		 *                 for by {@code Retry-After}
+		 */
+		public Builder maxDelay(final Duration maxDelay) {
+			Preconditions.checkNotNull(maxDelay, "Max delay must not be null!");
+			Preconditions.checkArgument(!maxDelay.isNegative(), "Max delay must not be negative!");
+			this.maxDelay = maxDelay;
+			return this;
+		}
+
+		/**
+		 * @param retryNonIdempotent - also retry POST and PATCH requests after
+		 *                           server errors and connection failures
+		 */
+		public Builder retryNonIdempotent(final boolean retryNonIdempotent) {
+			this.retryNonIdempotent = retryNonIdempotent;
+			return this;
+		}
+
+		public RetryPolicy build() {
+			Preconditions.checkArgument(baseDelay.compareTo(maxDelay) <= 0, "Base delay must not exceed max delay!");
+			return new RetryPolicy(this);
+		}
+	}
+}
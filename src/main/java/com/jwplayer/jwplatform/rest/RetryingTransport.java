@@ -0,0 +1,188 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteStreams;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * RetryingTransport class
+ *
+ * A {@link HttpTransport} decorator that sends transient failures again
+ * according to a {@link RetryPolicy}. Once the attempts are used up, the last
+ * response is returned, or the last failure thrown, unchanged, so callers see
+ * the same exception they would have seen without retries.
+ *
+ * <p>
+ * Blocking and streaming requests wait on the calling thread. Asynchronous
+ * requests are rescheduled on a shared daemon timer, so no thread is held
+ * while waiting to retry.
+ *
+ * <p>
+ * Example: HttpTransport transport =
+ * RetryingTransport.create(ApacheAsyncTransport.create(), RetryPolicy.defaults());
+ */
+public class RetryingTransport implements HttpTransport {
+
+	private final HttpTransport delegate;
+	private final RetryPolicy policy;
+	private final Sleeper sleeper;
+
+	/**
+	 * Instantiate a new {@code RetryingTransport} instance.
+	 *
+	 * @param delegate - the transport that sends each attempt
+	 * @param policy   - which failures to retry and how long to wait
+	 * @param sleeper  - waits between blocking attempts
+	 */
+	RetryingTransport(final HttpTransport delegate, final RetryPolicy policy, final Sleeper sleeper) {
+		this.delegate = delegate;
+		this.policy = policy;
+		this.sleeper = sleeper;
+	}
+
+	/**
+	 * see {@link #RetryingTransport(HttpTransport, RetryPolicy, Sleeper)}.
+	 */
+	public static RetryingTransport create(final HttpTransport delegate, final RetryPolicy policy) {
+		Preconditions.checkNotNull(delegate, "Transport must not be null!");
+		Preconditions.checkNotNull(policy, "Retry policy must not be null!");
+		return new RetryingTransport(delegate, policy, Sleeper.SYSTEM);
+	}
+
+	public RetryPolicy getPolicy() {
+		return policy;
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		for (int attempt = 1;; attempt++) {
+			final TransportResponse response;
+			try {
+				response = delegate.execute(request);
+			} catch (final JWPlatformException e) {
+				if (attempt >= policy.getMaxAttempts() || !policy.isRetryable(request, e)) {
+					throw e;
+				}
+				pause(request, policy.delayMillis(attempt, null));
+				continue;
+			}
+			if (attempt >= policy.getMaxAttempts() || !policy.isRetryable(request, response)) {
+				return response;
+			}
+			final long delay = policy.delayMillis(attempt, response);
+			if (delay < 0) {
+				return response;
+			}
+			pause(request, delay);
+		}
+	}
+
+	/**
+	 * Retries like {@link #execute(TransportRequest)}. A 2xx body is handed to
+	 * {@code reader} as it is read. Other bodies are small, so they are buffered
+	 * to decide on a retry and only handed over once the response is final.
+	 * Failures of {@code reader} itself are never retried.
+	 */
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		for (int attempt = 1;; attempt++) {
+			final int current = attempt;
+			final AtomicLong retryDelay = new AtomicLong(-1);
+			final AtomicBoolean reading = new AtomicBoolean();
+			final T result;
+			try {
+				result = delegate.executeStreaming(request, (response, body) -> {
+					if (response.getStatus() / 100 == 2 || current >= policy.getMaxAttempts()) {
+						reading.set(true);
+						return reader.read(response, body);
+					}
+					final TransportResponse buffered = response.withBody(ByteStreams.toByteArray(body));
+					final long delay = policy.isRetryable(request, buffered) ? policy.delayMillis(current, buffered)
+							: -1;
+					if (delay >= 0) {
+						retryDelay.set(delay);
+						return null;
+					}
+					reading.set(true);
+					return reader.read(buffered, new ByteArrayInputStream(buffered.getBody()));
+				});
+			} catch (final JWPlatformException e) {
+				if (reading.get() || attempt >= policy.getMaxAttempts() || !policy.isRetryable(request, e)) {
+					throw e;
+				}
+				pause(request, policy.delayMillis(attempt, null));
+				continue;
+			}
+			if (retryDelay.get() < 0) {
+				return result;
+			}
+			pause(request, retryDelay.get());
+		}
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		final CompletableFuture<TransportResponse> result = new CompletableFuture<>();
+		attemptAsync(request, 1, result);
+		return result;
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	private void attemptAsync(final TransportRequest request, final int attempt,
+			final CompletableFuture<TransportResponse> result) {
+		CompletableFuture<TransportResponse> sent;
+		try {
+			sent = delegate.executeAsync(request);
+		} catch (final RuntimeException e) {
+			// a delegate that throws instead of failing its future must not leave the caller waiting
+			sent = new CompletableFuture<>();
+			sent.completeExceptionally(e);
+		}
+		sent.whenComplete((response, error) -> {
+			final long delay;
+			if (error != null) {
+				final Throwable cause = error instanceof CompletionException && error.getCause() != null
+						? error.getCause()
+						: error;
+				if (attempt >= policy.getMaxAttempts() || !policy.isRetryable(request, cause)) {
+					result.completeExceptionally(cause);
+					return;
+				}
+				delay = policy.delayMillis(attempt, null);
+			} else {
+				if (attempt >= policy.getMaxAttempts() || !policy.isRetryable(request, response)) {
+					result.complete(response);
+					return;
+				}
+				delay = policy.delayMillis(attempt, response);
+				if (delay < 0) {
+					result.complete(response);
+					return;
+				}
+			}
+			DaemonTimer.resume(() -> attemptAsync(request, attempt + 1, result), delay, TimeUnit.MILLISECONDS);
+		});
+	}
+
+	private void pause(final TransportRequest request, final long millis) throws JWPlatformException {
+		try {
+			sleeper.sleep(millis);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException(String.format("Request to %s interrupted", request.getUrl()));
+		}
+	}
+}
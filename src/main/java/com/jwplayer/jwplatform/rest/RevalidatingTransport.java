@@ -0,0 +1,173 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+
+/**
+ * RevalidatingTransport class
+ *
+ * A {@link HttpTransport} decorator that makes repeated V2 GETs conditional.
+ * The last successful response of each request is kept together with its
+ * {@code ETag} and {@code Last-Modified} headers, and the next identical GET
+ * is sent with {@code If-None-Match} and {@code If-Modified-Since}. When the
+ * API answers 304 Not Modified, the kept response is returned instead, so
+ * the body is neither downloaded nor parsed again.
+ *
+ * <p>
+ * The JSON of a kept response is parsed once, the first time it is reused,
+ * and every caller gets its own copy of the parsed tree. At most
+ * {@code maxEntries} responses are kept, evicting the least recently used.
+ * Streamed GETs are sent conditionally too and read the kept response on a
+ * 304, but their own bodies are not kept, as that would hold them in memory;
+ * a changed response only drops the outdated one.
+ *
+ * <p>
+ * Unlike a {@link CachingTransport} every request still goes to the API, so
+ * the two combine well: put the {@code CachingTransport} in front to answer
+ * fresh reads locally and let this transport revalidate the rest.
+ *
+ * <p>
+ * Example: RevalidatingTransport transport =
+ * RevalidatingTransport.create(ApacheAsyncTransport.create(), 10_000);
+ */
+public class RevalidatingTransport implements HttpTransport {
+
+	private final HttpTransport delegate;
+	private final Cache<RequestKey, TransportResponse> responses;
+	private final LongAdder notModified = new LongAdder();
+
+	/**
+	 * Instantiate a new {@code RevalidatingTransport} instance.
+	 *
+	 * @param delegate   - the transport that sends the requests
+	 * @param maxEntries - responses kept for revalidation
+	 */
+	private RevalidatingTransport(final HttpTransport delegate, final long maxEntries) {
+		this.delegate = delegate;
+		this.responses = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
+	}
+
+	/**
+	 * see {@link #RevalidatingTransport(HttpTransport, long)}.
+	 */
+	public static RevalidatingTransport create(final HttpTransport delegate, final long maxEntries) {
+		Preconditions.checkNotNull(delegate, "Transport must not be null!");
+		Preconditions.checkArgument(maxEntries > 0, "Max entries must be positive!");
+		return new RevalidatingTransport(delegate, maxEntries);
+	}
+
+	/**
+	 * @return - the number of requests answered from a kept response after a
+	 *         304
+	 */
+	public long getNotModifiedCount() {
+		return notModified.sum();
+	}
+
+	/**
+	 * @return - the number of responses currently kept
+	 */
+	public long size() {
+		return responses.size();
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		if (!isRevalidatable(request)) {
+			return delegate.execute(request);
+		}
+		final RequestKey key = new RequestKey(request);
+		final TransportResponse kept = responses.getIfPresent(key);
+		final TransportResponse response = delegate.execute(kept == null ? request : conditional(request, kept));
+		return resolve(key, kept, response);
+	}
+
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		if (!isRevalidatable(request)) {
+			return delegate.executeStreaming(request, reader);
+		}
+		final RequestKey key = new RequestKey(request);
+		final TransportResponse kept = responses.getIfPresent(key);
+		if (kept == null) {
+			return delegate.executeStreaming(request, reader);
+		}
+		return delegate.executeStreaming(conditional(request, kept), (response, body) -> {
+			if (response.getStatus() == 304) {
+				notModified.increment();
+				return kept.copy().readWith(reader, request.getUrl());
+			}
+			if (response.getStatus() == 200) {
+				responses.asMap().remove(key, kept);
+			}
+			return reader.read(response, body);
+		});
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		if (!isRevalidatable(request)) {
+			return delegate.executeAsync(request);
+		}
+		final RequestKey key = new RequestKey(request);
+		final TransportResponse kept = responses.getIfPresent(key);
+		return delegate.executeAsync(kept == null ? request : conditional(request, kept)).thenApply(response -> {
+			try {
+				return resolve(key, kept, response);
+			} catch (final JWPlatformException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	/**
+	 * @return - the response to hand the caller: a copy of the kept one when
+	 *         the API says it is unchanged, otherwise the API's response
+	 */
+	private TransportResponse resolve(final RequestKey key, final TransportResponse kept,
+			final TransportResponse response) throws JWPlatformException {
+		if (kept != null && response.getStatus() == 304) {
+			notModified.increment();
+			// parses the kept body the first time only; copies reuse the tree
+			kept.getJson();
+			return kept.copy();
+		}
+		if (response.getStatus() == 200
+				&& (response.getHeader("ETag") != null || response.getHeader("Last-Modified") != null)) {
+			// keep a copy, the caller's JSON is theirs to modify
+			responses.put(key, response.copy());
+		}
+		return response;
+	}
+
+	private static TransportRequest conditional(final TransportRequest request, final TransportResponse kept) {
+		final Map<String, String> headers = new HashMap<>(request.getHeaders());
+		final String etag = kept.getHeader("ETag");
+		if (etag != null) {
+			headers.putIfAbsent("If-None-Match", etag);
+		}
+		final String lastModified = kept.getHeader("Last-Modified");
+		if (lastModified != null) {
+			headers.putIfAbsent("If-Modified-Since", lastModified);
+		}
+		return new TransportRequest(request.getMethod(), request.getUrl(), headers, null);
+	}
+
+	private static boolean isRevalidatable(final TransportRequest request) {
+		return "GET".equals(request.getMethod()) && request.getUrl().contains("/v2/");
+	}
+}
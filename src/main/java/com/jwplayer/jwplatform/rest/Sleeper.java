@@ -0,0 +1,21 @@
+package com.jwplayer.jwplatform.rest;
+
+/**
+ * Sleeper interface
+ *
+ * Waits on the calling thread. Transports that pause between attempts take
+ * one so tests can record the waits instead of sleeping.
+ */
+interface Sleeper {
+
+	/**
+	 * The default, backed by {@link Thread#sleep(long)}.
+	 */
+	Sleeper SYSTEM = Thread::sleep;
+
+	/**
+	 * @param millis - how long to wait
+	 * @throws InterruptedException - the thread was interrupted while waiting
+	 */
+	void sleep(long millis) throws InterruptedException;
+}
@@ -0,0 +1,111 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.json.JSONObject;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * TransportRequest class
+ *
+ * An immutable description of a single HTTP call handed to a
+ * {@link HttpTransport}. The URL is fully formed, including any query string.
+ * The headers are copied, and the body is kept only in its encoded form: a
+ * {@code JSONObject} body is encoded when the request is created, and JSON
+ * that was already encoded, see {@link #encoded(String, String, Map, byte[])},
+ * is sent as is.
+ */
+public final class TransportRequest {
+
+	private final String method;
+	private final String url;
+	private final Map<String, String> headers;
+	private final byte[] body;
+
+	/**
+	 * Instantiate a new {@code TransportRequest} instance.
+	 *
+	 * @param method  - the HTTP method, e.g. GET or POST
+	 * @param url     - the fully formed request URL
+	 * @param headers - headers to send
+	 * @param body    - JSON body to send, or null for no body
+	 */
+	public TransportRequest(final String method, final String url, final Map<String, String> headers,
+			final JSONObject body) {
+		this(method, url, headers, body == null ? null : body.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private TransportRequest(final String method, final String url, final Map<String, String> headers,
+			final byte[] body) {
+		Preconditions.checkNotNull(method, "Method must not be null!");
+		Preconditions.checkNotNull(url, "URL must not be null!");
+		this.method = method.toUpperCase();
+		this.url = url;
+		this.headers = headers == null || headers.isEmpty() ? Collections.emptyMap()
+				: Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+		this.body = body;
+	}
+
+	/**
+	 * Create a request whose body is already encoded, e.g. by a
+	 * {@link JsonWriter}, so it is sent as is.
+	 *
+	 * @param method  - the HTTP method, e.g. POST or PATCH
+	 * @param url     - the fully formed request URL
+	 * @param headers - headers to send
+	 * @param body    - UTF-8 JSON body, must not be modified afterwards
+	 * @return - the request
+	 */
+	public static TransportRequest encoded(final String method, final String url, final Map<String, String> headers,
+			final byte[] body) {
+		Preconditions.checkNotNull(body, "Body must not be null!");
+		return new TransportRequest(method, url, headers, body);
+	}
+
+	/**
+	 * @param headers - headers to send instead
+	 * @return - a copy of this request with other headers and the same body
+	 */
+	public TransportRequest withHeaders(final Map<String, String> headers) {
+		return new TransportRequest(method, url, headers, body);
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	/**
+	 * @return - the headers, unmodifiable
+	 */
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * @return - the body parsed into a new {@code JSONObject} on every call, or
+	 *         null when the request has no body
+	 */
+	public JSONObject getBody() {
+		return body == null ? null : new JSONObject(new String(body, StandardCharsets.UTF_8));
+	}
+
+	public boolean hasBody() {
+		return body != null;
+	}
+
+	/**
+	 * @return - the body as UTF-8 JSON, not to be modified, or an empty array
+	 *         when the request has no body
+	 */
+	public byte[] getBodyBytes() {
+		return body == null ? new byte[0] : body;
+	}
+}
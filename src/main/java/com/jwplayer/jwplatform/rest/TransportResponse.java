@@ -0,0 +1,202 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * TransportResponse class
+ *
+ * The status, headers and body returned by a {@link HttpTransport}. Header
+ * names are matched case-insensitively. The body is kept as raw bytes and
+ * only parsed into a {@code JSONObject} when {@link #getJson()} is called,
+ * unless the transport already produced the JSON itself.
+ */
+public final class TransportResponse {
+
+	private final int status;
+	private final Map<String, String> headers;
+	private final byte[] body;
+	private JSONObject json;
+
+	/**
+	 * Instantiate a new {@code TransportResponse} from a raw body.
+	 *
+	 * @param status  - the HTTP status code
+	 * @param headers - response headers, first value per name
+	 * @param body    - the raw response body
+	 */
+	public TransportResponse(final int status, final Map<String, String> headers, final byte[] body) {
+		this.status = status;
+		this.headers = normalize(headers);
+		this.body = body;
+	}
+
+	/**
+	 * Instantiate a new {@code TransportResponse} from an already parsed body.
+	 *
+	 * @param status  - the HTTP status code
+	 * @param headers - response headers, first value per name
+	 * @param json    - the parsed response body, may be null
+	 */
+	public TransportResponse(final int status, final Map<String, String> headers, final JSONObject json) {
+		this.status = status;
+		this.headers = normalize(headers);
+		this.body = null;
+		this.json = json;
+	}
+
+	/**
+	 * @param body - the body, read in full
+	 * @return - a response with the same status and headers and {@code body}
+	 */
+	TransportResponse withBody(final byte[] body) {
+		return new TransportResponse(status, headers, body);
+	}
+
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * @param name - header name, case-insensitive
+	 * @return - the first value of the header, or null if absent
+	 */
+	public String getHeader(final String name) {
+		return headers.get(name.toLowerCase(Locale.ROOT));
+	}
+
+	/**
+	 * @return - all headers keyed by lower-case name
+	 */
+	public Map<String, String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * @return - the raw body, or null when the transport only produced JSON
+	 */
+	public byte[] getBody() {
+		return body;
+	}
+
+	/**
+	 * Parse the body as a JSON object. An empty body yields an empty object.
+	 *
+	 * @return - the parsed body, or null when the transport had no object body
+	 * @throws JWPlatformException - the body is not a JSON object
+	 */
+	public synchronized JSONObject getJson() throws JWPlatformException {
+		if (json == null && body != null) {
+			final String text = new String(body, StandardCharsets.UTF_8).trim();
+			try {
+				json = text.isEmpty() ? new JSONObject() : new JSONObject(text);
+			} catch (final JSONException e) {
+				throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
+			}
+		}
+		return json;
+	}
+
+	/**
+	 * Hand this already buffered response to {@code reader} as if it were read
+	 * from the connection.
+	 *
+	 * @param reader - consumes the body
+	 * @param url    - the URL the response came from, for error messages
+	 * @return - what {@code reader} returned
+	 * @throws JWPlatformException - the reader failed
+	 */
+	<T> T readWith(final BodyReader<T> reader, final String url) throws JWPlatformException {
+		byte[] bytes = body;
+		if (bytes == null) {
+			final JSONObject parsed = getJson();
+			bytes = parsed == null ? new byte[0] : parsed.toString().getBytes(StandardCharsets.UTF_8);
+		}
+		try (InputStream in = new ByteArrayInputStream(bytes)) {
+			return reader.read(this, in);
+		} catch (final IOException e) {
+			throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", url, e));
+		}
+	}
+
+	/**
+	 * Copy the response without sharing its parsed JSON, so either can be
+	 * modified. JSON that was already parsed is copied as a tree rather than
+	 * parsed again; otherwise the copy shares the raw body and parses its own.
+	 *
+	 * @return - a response with the same status, headers and body
+	 */
+	synchronized TransportResponse copy() {
+		if (json == null) {
+			return new TransportResponse(status, headers, body);
+		}
+		return new TransportResponse(status, headers, (JSONObject) deepCopy(json));
+	}
+
+	/**
+	 * Flatten a multi-valued header map, keeping the first value of each header.
+	 *
+	 * @param headers - headers as returned by the underlying HTTP library
+	 * @return - first value per header name
+	 */
+	public static Map<String, String> firstValues(final Map<String, List<String>> headers) {
+		if (headers == null || headers.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		final Map<String, String> flattened = new HashMap<>();
+		for (final Map.Entry<String, List<String>> header : headers.entrySet()) {
+			if (header.getKey() != null && header.getValue() != null && !header.getValue().isEmpty()) {
+				flattened.put(header.getKey(), header.getValue().get(0));
+			}
+		}
+		return flattened;
+	}
+
+	private static Object deepCopy(final Object value) {
+		if (value instanceof JSONObject) {
+			final JSONObject source = (JSONObject) value;
+			final JSONObject copy = new JSONObject();
+			for (final String key : source.keySet()) {
+				copy.put(key, deepCopy(source.get(key)));
+			}
+			return copy;
+		}
+		if (value instanceof JSONArray) {
+			final JSONArray source = (JSONArray) value;
+			final JSONArray copy = new JSONArray();
+			for (int i = 0; i < source.length(); i++) {
+				copy.put(deepCopy(source.get(i)));
+			}
+			return copy;
+		}
+		// strings, numbers, booleans and JSONObject.NULL are immutable
+		return value;
+	}
+
+	private static Map<String, String> normalize(final Map<String, String> headers) {
+		if (headers == null || headers.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		final Map<String, String> normalized = new HashMap<>();
+		for (final Map.Entry<String, String> header : headers.entrySet()) {
+			if (header.getKey() != null) {
+				normalized.put(header.getKey().toLowerCase(Locale.ROOT), header.getValue());
+			}
+		}
+		return Collections.unmodifiableMap(normalized);
+	}
+}
@@ -0,0 +1,166 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.google.common.io.ByteStreams;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+import com.mashape.unirest.http.HttpResponse;
+import com.mashape.unirest.http.Unirest;
+import com.mashape.unirest.http.async.Callback;
+import com.mashape.unirest.http.exceptions.UnirestException;
+import com.mashape.unirest.request.BaseRequest;
+import com.mashape.unirest.request.HttpRequest;
+import com.mashape.unirest.request.HttpRequestWithBody;
+
+/**
+ * UnirestTransport class
+ *
+ * The default {@link HttpTransport}, backed by the global {@code Unirest}
+ * singleton. Since Unirest keeps a single connection pool per JVM, every
+ * client using this transport shares that pool.
+ *
+ * <p>
+ * Example: HttpTransport transport = UnirestTransport.getInstance();
+ */
+public final class UnirestTransport implements HttpTransport {
+
+	private static final UnirestTransport INSTANCE = new UnirestTransport();
+
+	private UnirestTransport() {
+	}
+
+	/**
+	 * @return - the shared Unirest transport
+	 */
+	public static UnirestTransport getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Apply pool settings to the global Unirest client. Unirest only supports
+	 * the connection limits and the connect/read timeouts; since its pool is
+	 * shared by the whole JVM this affects every client using this transport.
+	 * Use {@link ApacheAsyncTransport#create(ConnectionPoolConfig)} for an
+	 * isolated, fully configurable pool.
+	 *
+	 * @param config - pool and timeout settings
+	 */
+	public static void configure(final ConnectionPoolConfig config) {
+		Unirest.setConcurrency(config.getMaxConnectionsTotal(), config.getMaxConnectionsPerRoute());
+		Unirest.setTimeouts(config.getConnectTimeout().toMillis(), config.getReadTimeout().toMillis());
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		try {
+			return toTransportResponse(toUnirestRequest(request).asBinary());
+		} catch (final UnirestException | IOException e) {
+			throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", request.getUrl(), e));
+		}
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+		final BaseRequest unirestRequest;
+		try {
+			unirestRequest = toUnirestRequest(request);
+		} catch (final JWPlatformException e) {
+			future.completeExceptionally(e);
+			return future;
+		}
+		unirestRequest.asBinaryAsync(new Callback<InputStream>() {
+			@Override
+			public void completed(final HttpResponse<InputStream> response) {
+				try {
+					future.complete(toTransportResponse(response));
+				} catch (final IOException e) {
+					failed(new UnirestException(e));
+				}
+			}
+
+			@Override
+			public void failed(final UnirestException e) {
+				future.completeExceptionally(new JWPlatformUnknownException(
+						String.format("Request to %s failed: %s", request.getUrl(), e)));
+			}
+
+			@Override
+			public void cancelled() {
+				future.cancel(false);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Reads the body as bytes rather than through Unirest's {@code JsonNode}, so
+	 * it is never turned into a string or a tree.
+	 */
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		final HttpResponse<InputStream> response;
+		try {
+			response = toUnirestRequest(request).asBinary();
+		} catch (final UnirestException e) {
+			throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", request.getUrl(), e));
+		}
+		try (InputStream body = response.getRawBody()) {
+			return reader.read(new TransportResponse(response.getStatus(),
+					TransportResponse.firstValues(response.getHeaders()), (byte[]) null), body);
+		} catch (final IOException e) {
+			throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", request.getUrl(), e));
+		}
+	}
+
+	private static BaseRequest toUnirestRequest(final TransportRequest request) throws JWPlatformException {
+		switch (request.getMethod()) {
+		case "GET":
+			return withHeaders(Unirest.get(request.getUrl()), request.getHeaders());
+		case "DELETE":
+			return withHeaders(Unirest.delete(request.getUrl()), request.getHeaders());
+		case "POST":
+			return withBody(Unirest.post(request.getUrl()), request);
+		case "PATCH":
+			return withBody(Unirest.patch(request.getUrl()), request);
+		case "PUT":
+			return withBody(Unirest.put(request.getUrl()), request);
+		default:
+			throw new JWPlatformException(String.format("%s is not a supported request type.", request.getMethod()));
+		}
+	}
+
+	/**
+	 * Keep the body as the bytes read, so it is parsed once, when the JSON is
+	 * first asked for, rather than by Unirest into a string and a
+	 * {@code JsonNode}.
+	 */
+	private static TransportResponse toTransportResponse(final HttpResponse<InputStream> response)
+			throws IOException {
+		final InputStream raw = response.getRawBody();
+		final byte[] body;
+		if (raw == null) {
+			body = new byte[0];
+		} else {
+			try (InputStream in = raw) {
+				body = ByteStreams.toByteArray(in);
+			}
+		}
+		return new TransportResponse(response.getStatus(), TransportResponse.firstValues(response.getHeaders()), body);
+	}
+
+	private static HttpRequest withHeaders(final HttpRequest unirestRequest, final Map<String, String> headers) {
+		return headers.isEmpty() ? unirestRequest : unirestRequest.headers(headers);
+	}
+
+	private static BaseRequest withBody(final HttpRequestWithBody unirestRequest, final TransportRequest request) {
+		final HttpRequestWithBody withHeaders = request.getHeaders().isEmpty() ? unirestRequest
+				: unirestRequest.headers(request.getHeaders());
+		return request.hasBody() ? withHeaders.body(request.getBodyBytes()) : withHeaders;
+	}
+}
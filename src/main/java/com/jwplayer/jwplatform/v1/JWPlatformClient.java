@@ -5,22 +5,27 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
-import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.entity.ContentType;
 import org.json.JSONObject;
 import org.json.XML;
 
 import com.google.common.base.Preconditions;
 import com.google.common.io.CharStreams;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformTimestampInvalidException;
 import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.TransportRequest;
+import com.jwplayer.jwplatform.rest.TransportResponse;
+import com.jwplayer.jwplatform.rest.UnirestTransport;
 import com.jwplayer.jwplatform.utils.Util;
 import com.mashape.unirest.http.HttpResponse;
-import com.mashape.unirest.http.JsonNode;
 import com.mashape.unirest.http.Unirest;
 import com.mashape.unirest.http.exceptions.UnirestException;
 
@@ -38,38 +43,53 @@ import com.mashape.unirest.http.exceptions.UnirestException;
 public class JWPlatformClient {
 
 	private final String host;
-	private final String apiSecret;
-	private final String apiKey;
+	private final HttpTransport transport;
+	private final RequestSigner signer;
+	private final NonceGenerator nonces;
+	private final ServerClock clock;
 
 	/**
 	 * Instantiate a new {@code JWPlatformClient} instance.
 	 *
-	 * @param apiSecret - your api key
-	 * @param apiKey    - your api secret
+	 * @param apiKey    - your api key
+	 * @param apiSecret - your api secret
 	 * @param host      - url for the Media API
+	 * @param transport - the transport used to send requests
 	 */
-	private JWPlatformClient(final String apiKey, final String apiSecret, final String host) {
-		this.apiKey = apiKey;
-		this.apiSecret = apiSecret;
+	private JWPlatformClient(final String apiKey, final String apiSecret, final String host,
+			final HttpTransport transport) {
 		this.host = host;
+		this.transport = transport;
+		this.signer = new RequestSigner(apiKey, apiSecret);
+		this.nonces = NonceGenerator.forKey(apiKey);
+		this.clock = ServerClock.forKey(apiKey);
 	}
 
 	/**
-	 * see {@link #JWPlatformClient(String, String, String)}.
+	 * see {@link #JWPlatformClient(String, String, String, HttpTransport)}.
 	 */
 	public static JWPlatformClient create(final String apiKey, final String apiSecret) {
 		return create(apiKey, apiSecret, "https://api.jwplatform.com/v1/");
 	}
 
 	/**
-	 * see {@link #JWPlatformClient(String, String, String)}.
+	 * see {@link #JWPlatformClient(String, String, String, HttpTransport)}.
 	 */
 	public static JWPlatformClient create(final String apiKey, final String apiSecret, final String host) {
+		return create(apiKey, apiSecret, host, UnirestTransport.getInstance());
+	}
+
+	/**
+	 * see {@link #JWPlatformClient(String, String, String, HttpTransport)}.
+	 */
+	public static JWPlatformClient create(final String apiKey, final String apiSecret, final String host,
+			final HttpTransport transport) {
 		Preconditions.checkNotNull(apiKey, "API Key must not be null!");
 		Preconditions.checkNotNull(apiSecret, "API Secret must not be null!");
 		Preconditions.checkNotNull(host, "Host must not be null!");
+		Preconditions.checkNotNull(transport, "Transport must not be null!");
 
-		return new JWPlatformClient(apiKey, apiSecret, host);
+		return new JWPlatformClient(apiKey, apiSecret, host, transport);
 	}
 
 	/**
@@ -79,32 +99,11 @@ public class JWPlatformClient {
 	 *               slash (ie /my/path not my/path)
 	 * @param params - Parameters to be included in the request
 	 * @return - Fully formed request URL for an API request with api signature
-	 * @throws JWPlatformException - an exception occurred during encoding
 	 */
-	private String buildRequestUrl(final String host, final String path, final Map<String, String> params)
-			throws JWPlatformException {
-		final TreeMap<String, String> orderedParams = new TreeMap<>(params);
-		orderedParams.put("api_key", this.apiKey);
-		orderedParams.put("api_format", "json");
-		orderedParams.put("api_nonce", Util.getRandomNonce());
-		orderedParams.put("api_timestamp", Util.getCurrentUnixTimestampInSeconds());
-
-		final StringBuilder encodedParams = new StringBuilder();
-		for (final String param : orderedParams.keySet()) {
-			if (encodedParams.length() != 0) {
-				encodedParams.append("&");
-			}
-			final String encodedValue = Util.encodeStringForJWPlatformAPI(orderedParams.get(param));
-			encodedParams.append(param).append("=").append(encodedValue);
-		}
-
-		// We need to keep appending to encodedParams to get the hex digest, but
-		// we branch off here to keep the params we'll use directly in the request
-		final String paramsNoSignature = encodedParams.toString();
-		encodedParams.append(this.apiSecret);
-		final String hexDigest = DigestUtils.sha1Hex(encodedParams.toString());
-
-		return host + path + "?" + paramsNoSignature + "&api_signature=" + hexDigest;
+	private String buildRequestUrl(final String host, final String path, final Map<String, String> params) {
+		final long issued = nonces.next();
+		return signer.signedUrl(host + path, params, Long.toString(nonces.nonce(issued)),
+				Long.toString(NonceGenerator.timestamp(issued)));
 	}
 
 	/**
@@ -119,16 +118,42 @@ public class JWPlatformClient {
 	 */
 	private JSONObject uploadVideo(final String uploadPath, final String localFilePath,
 			final Map<String, String> headers) throws JWPlatformException {
-		JSONObject response;
 		try {
-			HttpResponse<InputStream> r = Unirest.post(uploadPath).headers(headers)
-					.field("file", new File(localFilePath)).asBinary();
+			return uploadResponse(
+					Unirest.post(uploadPath).headers(headers).field("file", new File(localFilePath)).asBinary());
+		} catch (final UnirestException e) {
+			throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
+		}
+	}
 
+	/**
+	 * Upload a video read from a stream, sent as it is read.
+	 *
+	 * @param uploadPath - the fully constructed upload url
+	 * @param source     - the video, read to its end but not closed
+	 * @param fileName   - the file name sent with the video
+	 * @param headers    - Map of headers to add to the request
+	 * @return - JSON response from JW Platform API
+	 * @throws JWPlatformException - API returned an exception
+	 */
+	private JSONObject uploadVideo(final String uploadPath, final InputStream source, final String fileName,
+			final Map<String, String> headers) throws JWPlatformException {
+		try {
+			return uploadResponse(Unirest.post(uploadPath).headers(headers)
+					.field("file", source, ContentType.APPLICATION_OCTET_STREAM, fileName).asBinary());
+		} catch (final UnirestException e) {
+			throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
+		}
+	}
+
+	private static JSONObject uploadResponse(final HttpResponse<InputStream> r) throws JWPlatformException {
+		JSONObject response;
+		try {
 			final Reader reader = new InputStreamReader(r.getBody());
 			response = XML.toJSONObject(CharStreams.toString(reader));
 
 			Util.checkForNon200Response(r.getStatus(), response.getJSONObject("response"));
-		} catch (final UnirestException | IOException e) {
+		} catch (final IOException e) {
 			throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
 		}
 
@@ -184,33 +209,46 @@ public class JWPlatformClient {
 	 */
 	public JSONObject request(final String path, final Map<String, String> params, final boolean isBodyParams,
 			final String requestType, final Map<String, String> headers) throws JWPlatformException {
-		final String requestUrl;
-		final HttpResponse<JsonNode> response;
-
+		long sent = clock.localMillis();
+		TransportResponse response = transport.execute(buildRequest(path, params, isBodyParams, requestType, headers));
+		long received = clock.localMillis();
+		JSONObject responseBlock = response.getJson();
 		try {
-			switch (requestType.toUpperCase()) {
-			case "GET":
-				requestUrl = this.buildRequestUrl(host, path, params);
-				response = Unirest.get(requestUrl).headers(headers).asJson();
-				break;
-			case "POST":
-				if (isBodyParams) {
-					requestUrl = this.buildRequestUrl(host, path, Collections.emptyMap());
-					response = Unirest.post(requestUrl).headers(headers).body(new JSONObject(params)).asJson();
-				} else {
-					requestUrl = this.buildRequestUrl(host, path, params);
-					response = Unirest.post(requestUrl).asJson();
-				}
-				break;
-			default:
-				throw new JWPlatformException(String.format("%s is not a supported request type.", requestType));
+			Util.checkForNon200Response(response.getStatus(), responseBlock);
+		} catch (final JWPlatformTimestampInvalidException e) {
+			// the local clock is off, sign again on the server's time once
+			if (!clock.resync(response.getHeader("Date"), sent, received)) {
+				throw e;
 			}
-			final JSONObject responseBlock = response.getBody().getObject();
+			sent = clock.localMillis();
+			response = transport.execute(buildRequest(path, params, isBodyParams, requestType, headers));
+			received = clock.localMillis();
+			responseBlock = response.getJson();
 			Util.checkForNon200Response(response.getStatus(), responseBlock);
+		}
+		clock.observe(response.getHeader("Date"), sent, received);
 
-			return responseBlock;
-		} catch (final UnirestException e) {
-			throw new JWPlatformUnknownException(String.format("Non-JSON response from server: %s", e.toString()));
+		return responseBlock;
+	}
+
+	/**
+	 * Build a signed request, see
+	 * {@link #request(String, Map, boolean, String, Map)}.
+	 */
+	private TransportRequest buildRequest(final String path, final Map<String, String> params,
+			final boolean isBodyParams, final String requestType, final Map<String, String> headers)
+			throws JWPlatformException {
+		switch (requestType.toUpperCase()) {
+		case "GET":
+			return new TransportRequest("GET", this.buildRequestUrl(host, path, params), headers, null);
+		case "POST":
+			if (isBodyParams) {
+				return new TransportRequest("POST", this.buildRequestUrl(host, path, Collections.emptyMap()), headers,
+						new JSONObject(params));
+			}
+			return new TransportRequest("POST", this.buildRequestUrl(host, path, params), headers, null);
+		default:
+			throw new JWPlatformException(String.format("%s is not a supported request type.", requestType));
 		}
 	}
 
@@ -223,7 +261,8 @@ public class JWPlatformClient {
 	}
 
 	/**
-	 * Upload a video file for a video created with `sourcetype: file`.
+	 * Upload a video file for a video created with `sourcetype: file`. Sent
+	 * with Unirest, see {@link #upload(JSONObject, InputStream, String, Map)}.
 	 *
 	 * @param videosCreateResponse - the response object from a '/videos/create' API
 	 *                             call.
@@ -235,6 +274,48 @@ public class JWPlatformClient {
 	 */
 	public JSONObject upload(final JSONObject videosCreateResponse, final String localFilePath,
 			final Map<String, String> headers) throws JWPlatformException {
+		return this.upload(uploadUrl(videosCreateResponse), localFilePath, headers);
+	}
+
+	/**
+	 * Upload a video for a video created with `sourcetype: file`, streamed from
+	 * {@code source} as it is read. Nothing is staged on disk, so videos of
+	 * unknown length can be uploaded straight from other storage.
+	 *
+	 * <p>
+	 * Uploads are always sent with Unirest, to the upload link rather than the
+	 * API; the {@link HttpTransport} this client was created with is not used,
+	 * nor are any decorators around it.
+	 *
+	 * @param videosCreateResponse - the response object from a '/videos/create' API
+	 *                             call.
+	 * @param source               - the video, read to its end but not closed.
+	 * @param fileName             - the file name sent with the video.
+	 * @param headers              - map of headers for the request
+	 * @return - JSON response from JW Platform API
+	 * @throws JWPlatformException - JWPlatform API returned an exception.
+	 */
+	public JSONObject upload(final JSONObject videosCreateResponse, final InputStream source, final String fileName,
+			final Map<String, String> headers) throws JWPlatformException {
+		Preconditions.checkNotNull(source, "Source must not be null!");
+		Preconditions.checkNotNull(fileName, "File name must not be null!");
+		return uploadVideo(uploadUrl(videosCreateResponse), source, fileName, headers);
+	}
+
+	/**
+	 * see {@link #upload(JSONObject, InputStream, String, Map)}; like it, sent
+	 * with Unirest rather than this client's {@link HttpTransport}.
+	 */
+	public JSONObject upload(final JSONObject videosCreateResponse, final ReadableByteChannel source,
+			final String fileName, final Map<String, String> headers) throws JWPlatformException {
+		Preconditions.checkNotNull(source, "Source must not be null!");
+		return upload(videosCreateResponse, Channels.newInputStream(source), fileName, headers);
+	}
+
+	/**
+	 * @return - the upload url given by a '/videos/create' API call
+	 */
+	private static String uploadUrl(final JSONObject videosCreateResponse) {
 		final JSONObject link = videosCreateResponse.getJSONObject("link");
 		final String path = link.getString("path");
 		final String protocol = link.getString("protocol");
@@ -242,13 +323,12 @@ public class JWPlatformClient {
 		final JSONObject query = link.getJSONObject("query");
 		final String key = query.getString("key");
 		final String token = query.getString("token");
-		final String uploadUrl = protocol + "://" + address + path + "?api_format=xml&key=" + key + "&token=" + token;
-
-		return this.upload(uploadUrl, localFilePath, headers);
+		return protocol + "://" + address + path + "?api_format=xml&key=" + key + "&token=" + token;
 	}
 
 	/**
-	 * Upload a video file for a video created with `sourcetype: file`.
+	 * Upload a video file for a video created with `sourcetype: file`. Sent
+	 * with Unirest, see {@link #upload(JSONObject, InputStream, String, Map)}.
 	 *
 	 * @param uploadPath    - the fully constructed upload url. Refer to the
 	 *                      JWPlatform documentation for instructions on how to
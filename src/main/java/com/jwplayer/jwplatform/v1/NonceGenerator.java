@@ -0,0 +1,112 @@
+package com.jwplayer.jwplatform.v1;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * NonceGenerator class
+ *
+ * Issues {@code api_timestamp} and {@code api_nonce} pairs that never repeat
+ * for an api key. Each second has a sequence of up to 90,000,000 eight-digit
+ * nonces, taken with a single compare-and-set; the sequence starts at a
+ * random point of the range for every second, so separate processes sharing
+ * a key are unlikely to overlap either. A second whose nonces run out moves
+ * on to the next one.
+ *
+ * <p>
+ * The sequences of the last {@link #WINDOW_SECONDS} seconds are kept, so the
+ * timestamps follow the clock when it steps back, as it does when the
+ * {@link ServerClock} learns that the server is behind: a second seen within
+ * the window carries on with its sequence. A step back of the whole window or
+ * more starts the second over; pairs that far from the server's time were
+ * refused by it.
+ *
+ * <p>
+ * A pair is packed into a {@code long}: the timestamp in the upper 32 bits and
+ * the sequence number in the lower 32, see {@link #timestamp(long)} and
+ * {@link #nonce(long)}.
+ */
+final class NonceGenerator {
+
+	static final int NONCES_PER_SECOND = 90_000_000;
+	static final int WINDOW_SECONDS = 300;
+	private static final int FIRST_NONCE = 10_000_000;
+	private static final ConcurrentMap<String, NonceGenerator> BY_KEY = new ConcurrentHashMap<>();
+
+	private final LongSupplier clock;
+	private final long salt;
+	/** The last pair issued for each second of the window, by second modulo its size. */
+	private final AtomicLongArray last = new AtomicLongArray(WINDOW_SECONDS);
+
+	/**
+	 * @param clock - the current unix time in seconds
+	 * @param salt  - varies where each second's sequence starts
+	 */
+	NonceGenerator(final LongSupplier clock, final long salt) {
+		this.clock = clock;
+		this.salt = salt;
+	}
+
+	/**
+	 * @param apiKey - an api key
+	 * @return - the generator shared by every client of that key, on the
+	 *         key's {@link ServerClock}
+	 */
+	static NonceGenerator forKey(final String apiKey) {
+		return BY_KEY.computeIfAbsent(apiKey, key -> new NonceGenerator(ServerClock.forKey(key)::nowSeconds,
+				ThreadLocalRandom.current().nextLong()));
+	}
+
+	/**
+	 * @return - a pair no other call returns
+	 */
+	long next() {
+		long now = clock.getAsLong();
+		while (true) {
+			final int slot = (int) Math.floorMod(now, (long) WINDOW_SECONDS);
+			final long previous = last.get(slot);
+			final long next;
+			if (previous >>> 32 != now) {
+				next = now << 32;
+			} else if ((previous & 0xffffffffL) + 1 < NONCES_PER_SECOND) {
+				next = previous + 1;
+			} else {
+				now++;
+				continue;
+			}
+			if (last.compareAndSet(slot, previous, next)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * @param pair - a pair returned by {@link #next()}
+	 * @return - its unix timestamp in seconds
+	 */
+	static long timestamp(final long pair) {
+		return pair >>> 32;
+	}
+
+	/**
+	 * @param pair - a pair returned by {@link #next()}
+	 * @return - its eight-digit nonce
+	 */
+	long nonce(final long pair) {
+		final long start = Math.floorMod(mix(salt + timestamp(pair)), (long) NONCES_PER_SECOND);
+		return FIRST_NONCE + (start + (pair & 0xffffffffL)) % NONCES_PER_SECOND;
+	}
+
+	/**
+	 * The finalizer of SplitMix64, spreading consecutive seconds over the range.
+	 */
+	private static long mix(final long value) {
+		long z = value;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
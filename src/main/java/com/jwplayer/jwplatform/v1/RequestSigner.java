@@ -0,0 +1,227 @@
+package com.jwplayer.jwplatform.v1;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * RequestSigner class
+ *
+ * Builds signed V1 request URLs. The query is sorted by parameter name,
+ * percent-encoded in one pass as {@code Util.encodeStringForJWPlatformAPI}
+ * would encode it, and signed with the SHA-1 of the query followed by the api
+ * secret. The URL is built in a per-thread buffer and the digest is fed from
+ * it in chunks, so the only object allocated per request is the resulting
+ * URL.
+ */
+final class RequestSigner {
+
+	private static final char[] HEX_UPPER = "0123456789ABCDEF".toCharArray();
+	private static final char[] HEX_LOWER = "0123456789abcdef".toCharArray();
+	private static final String[] RESERVED = { "api_format", "api_key", "api_nonce", "api_timestamp" };
+	private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+	private final String apiKey;
+	private final byte[] secret;
+
+	/**
+	 * @param apiKey    - your api key
+	 * @param apiSecret - your api secret
+	 */
+	RequestSigner(final String apiKey, final String apiSecret) {
+		this.apiKey = apiKey;
+		this.secret = apiSecret.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @param base      - host and path the query is appended to
+	 * @param params    - Parameters to be included in the request; values for
+	 *                  the api parameters set here are replaced
+	 * @param nonce     - the api nonce
+	 * @param timestamp - the api timestamp in seconds
+	 * @return - the signed URL
+	 */
+	String signedUrl(final String base, final Map<String, String> params, final String nonce,
+			final String timestamp) {
+		final Scratch scratch = SCRATCH.get();
+		final String[] keys = scratch.sortedKeys(params);
+		final StringBuilder url = scratch.url;
+		url.setLength(0);
+		url.append(base).append('?');
+		final int queryStart = url.length();
+		for (int i = 0; i < scratch.keyCount; i++) {
+			if (i > 0) {
+				url.append('&');
+			}
+			final String key = keys[i];
+			url.append(key).append('=');
+			encode(url, value(key, params, nonce, timestamp));
+		}
+		final int queryEnd = url.length();
+		final byte[] hash = scratch.sign(url, queryStart, queryEnd, secret);
+		url.append("&api_signature=");
+		for (final byte b : hash) {
+			url.append(HEX_LOWER[b >> 4 & 0xf]).append(HEX_LOWER[b & 0xf]);
+		}
+		final String signed = url.toString();
+		if (url.capacity() > Scratch.MAX_KEPT) {
+			scratch.url = new StringBuilder(Scratch.INITIAL);
+		}
+		return signed;
+	}
+
+	private String value(final String key, final Map<String, String> params, final String nonce,
+			final String timestamp) {
+		switch (key) {
+		case "api_format":
+			return "json";
+		case "api_key":
+			return apiKey;
+		case "api_nonce":
+			return nonce;
+		case "api_timestamp":
+			return timestamp;
+		default:
+			return params.get(key);
+		}
+	}
+
+	/**
+	 * Percent-encode UTF-8, leaving only {@code A-Z a-z 0-9 - . _ ~} as they
+	 * are. An unpaired surrogate is encoded as {@code ?}, as
+	 * {@code URLEncoder} does.
+	 */
+	static void encode(final StringBuilder out, final String value) {
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.'
+					|| c == '_' || c == '~') {
+				out.append(c);
+			} else if (c < 0x80) {
+				percent(out, c);
+			} else if (c < 0x800) {
+				percent(out, 0xc0 | c >> 6);
+				percent(out, 0x80 | c & 0x3f);
+			} else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+					&& Character.isLowSurrogate(value.charAt(i + 1))) {
+				final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+				percent(out, 0xf0 | codePoint >> 18);
+				percent(out, 0x80 | codePoint >> 12 & 0x3f);
+				percent(out, 0x80 | codePoint >> 6 & 0x3f);
+				percent(out, 0x80 | codePoint & 0x3f);
+			} else if (Character.isSurrogate(c)) {
+				percent(out, '?');
+			} else {
+				percent(out, 0xe0 | c >> 12);
+				percent(out, 0x80 | c >> 6 & 0x3f);
+				percent(out, 0x80 | c & 0x3f);
+			}
+		}
+	}
+
+	private static void percent(final StringBuilder out, final int b) {
+		out.append('%').append(HEX_UPPER[b >> 4 & 0xf]).append(HEX_UPPER[b & 0xf]);
+	}
+
+	/**
+	 * Buffers reused by every request signed on a thread.
+	 */
+	private static final class Scratch {
+		static final int INITIAL = 512;
+		/** Buffers grown past this by an unusually large request are dropped. */
+		static final int MAX_KEPT = 64 * 1024;
+
+		private final MessageDigest sha1;
+		private final byte[] chunk = new byte[INITIAL];
+		private final byte[] hash = new byte[20];
+		private StringBuilder url = new StringBuilder(INITIAL);
+		private String[] keys = new String[16];
+		private int keyCount;
+
+		Scratch() {
+			try {
+				sha1 = MessageDigest.getInstance("SHA-1");
+			} catch (final NoSuchAlgorithmException e) {
+				// every Java platform is required to support SHA-1
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/**
+		 * @return - the parameter names and the api parameter names, sorted; the
+		 *         first {@link #keyCount} entries are used
+		 */
+		String[] sortedKeys(final Map<String, String> params) {
+			final int most = params.size() + RESERVED.length;
+			if (keys.length < most) {
+				keys = new String[Math.max(most, keys.length * 2)];
+			}
+			int count = 0;
+			for (final String key : RESERVED) {
+				keys[count++] = key;
+			}
+			for (final String key : params.keySet()) {
+				if (Arrays.binarySearch(RESERVED, key) < 0) {
+					keys[count++] = key;
+				}
+			}
+			// insertion sort, requests have a handful of parameters
+			for (int i = RESERVED.length; i < count; i++) {
+				final String key = keys[i];
+				int j = i - 1;
+				while (j >= 0 && keys[j].compareTo(key) > 0) {
+					keys[j + 1] = keys[j];
+					j--;
+				}
+				keys[j + 1] = key;
+			}
+			Arrays.fill(keys, count, keys.length, null);
+			keyCount = count;
+			return keys;
+		}
+
+		/**
+		 * @return - the SHA-1 of {@code text[start, end)} in UTF-8 followed by
+		 *         {@code secret}, valid until the next call
+		 */
+		byte[] sign(final CharSequence text, final int start, final int end, final byte[] secret) {
+			int size = 0;
+			for (int i = start; i < end; i++) {
+				if (size > chunk.length - 4) {
+					sha1.update(chunk, 0, size);
+					size = 0;
+				}
+				final char c = text.charAt(i);
+				if (c < 0x80) {
+					chunk[size++] = (byte) c;
+				} else if (c < 0x800) {
+					chunk[size++] = (byte) (0xc0 | c >> 6);
+					chunk[size++] = (byte) (0x80 | c & 0x3f);
+				} else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(text.charAt(i + 1))) {
+					final int codePoint = Character.toCodePoint(c, text.charAt(++i));
+					chunk[size++] = (byte) (0xf0 | codePoint >> 18);
+					chunk[size++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+					chunk[size++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+					chunk[size++] = (byte) (0x80 | codePoint & 0x3f);
+				} else if (Character.isSurrogate(c)) {
+					chunk[size++] = '?';
+				} else {
+					chunk[size++] = (byte) (0xe0 | c >> 12);
+					chunk[size++] = (byte) (0x80 | c >> 6 & 0x3f);
+					chunk[size++] = (byte) (0x80 | c & 0x3f);
+				}
+			}
+			sha1.update(chunk, 0, size);
+			sha1.update(secret);
+			try {
+				sha1.digest(hash, 0, hash.length);
+			} catch (final DigestException e) {
+				throw new IllegalStateException(e);
+			}
+			return hash;
+		}
+	}
+}
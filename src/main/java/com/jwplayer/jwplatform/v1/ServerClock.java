@@ -0,0 +1,120 @@
+package com.jwplayer.jwplatform.v1;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * ServerClock class
+ *
+ * The API's clock as seen from here: the local clock plus an offset estimated
+ * from the {@code Date} header of responses, so {@code api_timestamp} stays
+ * valid when the local clock drifts. Each response gives a sample of the
+ * offset, taken against the middle of the round trip and the middle of the
+ * header's second, and samples are smoothed with an exponentially weighted
+ * moving average. After the API rejects a timestamp the estimate is reset to
+ * the rejecting response's sample instead of being smoothed.
+ */
+final class ServerClock {
+
+	/** Weight of the estimate against a new sample, as a power of two. */
+	private static final int SMOOTHING_SHIFT = 3;
+	private static final long NONE = Long.MIN_VALUE;
+	private static final ConcurrentMap<String, ServerClock> BY_KEY = new ConcurrentHashMap<>();
+
+	private final LongSupplier localMillis;
+	private final AtomicLong offsetMillis = new AtomicLong(NONE);
+
+	/**
+	 * @param localMillis - the local unix time in milliseconds
+	 */
+	ServerClock(final LongSupplier localMillis) {
+		this.localMillis = localMillis;
+	}
+
+	/**
+	 * @param apiKey - an api key
+	 * @return - the clock shared by every client of that key
+	 */
+	static ServerClock forKey(final String apiKey) {
+		return BY_KEY.computeIfAbsent(apiKey, key -> new ServerClock(System::currentTimeMillis));
+	}
+
+	/**
+	 * @return - the local unix time in milliseconds, to time round trips with
+	 */
+	long localMillis() {
+		return localMillis.getAsLong();
+	}
+
+	/**
+	 * @return - the estimated server unix time in seconds
+	 */
+	long nowSeconds() {
+		return Math.floorDiv(localMillis.getAsLong() + getOffsetMillis(), 1000);
+	}
+
+	/**
+	 * @return - how far the server's clock is ahead of the local one, 0 until a
+	 *         response has been seen
+	 */
+	long getOffsetMillis() {
+		final long offset = offsetMillis.get();
+		return offset == NONE ? 0 : offset;
+	}
+
+	/**
+	 * Fold a response's {@code Date} into the estimate.
+	 *
+	 * @param date           - the {@code Date} header, may be null
+	 * @param sentMillis     - local time the request was sent
+	 * @param receivedMillis - local time the response arrived
+	 */
+	void observe(final String date, final long sentMillis, final long receivedMillis) {
+		final long sample = sample(date, sentMillis, receivedMillis);
+		if (sample != NONE) {
+			offsetMillis.accumulateAndGet(sample,
+					(offset, next) -> offset == NONE ? next : offset + (next - offset >> SMOOTHING_SHIFT));
+		}
+	}
+
+	/**
+	 * Replace the estimate with a response's {@code Date}, after the API
+	 * rejected a timestamp.
+	 *
+	 * @param date           - the {@code Date} header, may be null
+	 * @param sentMillis     - local time the request was sent
+	 * @param receivedMillis - local time the response arrived
+	 * @return - whether the header gave a sample
+	 */
+	boolean resync(final String date, final long sentMillis, final long receivedMillis) {
+		final long sample = sample(date, sentMillis, receivedMillis);
+		if (sample == NONE) {
+			return false;
+		}
+		offsetMillis.set(sample);
+		return true;
+	}
+
+	/**
+	 * @return - the offset a response shows, or {@link #NONE} without a valid
+	 *         {@code Date}
+	 */
+	private static long sample(final String date, final long sentMillis, final long receivedMillis) {
+		if (date == null) {
+			return NONE;
+		}
+		final long serverMillis;
+		try {
+			serverMillis = ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+		} catch (final DateTimeParseException e) {
+			return NONE;
+		}
+		// the header is truncated to the second, so the server time is half a second later on average
+		return serverMillis + 500 - (sentMillis + (receivedMillis - sentMillis) / 2);
+	}
+}
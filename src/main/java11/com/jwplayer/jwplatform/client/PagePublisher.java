@@ -0,0 +1,171 @@
+package com.jwplayer.jwplatform.client;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * PagePublisher class
+ *
+ * Publishes the items of a {@link Pages} listing as a
+ * {@link Flow.Publisher}, one {@code onNext} per item, honouring downstream
+ * demand. A page is only requested while the subscriber has requested more
+ * items than are buffered, so a slow subscriber holds at most one page in
+ * memory. Requires a Java 9 runtime.
+ *
+ * <p>
+ * Every subscriber gets its own walk through the pages. A failed page request
+ * ends the stream with {@code onError} and the {@code JWPlatformException} it
+ * failed with. Signals to a subscriber are never concurrent, but may arrive
+ * on the transport's threads.
+ *
+ * <p>
+ * Example: PagePublisher.create(mediaClient.listAllMediaPages(siteId, params)
+ * .pageLength(500)).subscribe(sink);
+ */
+public final class PagePublisher implements Flow.Publisher<JSONObject> {
+
+	private final Pages pages;
+
+	/**
+	 * Instantiate a new {@code PagePublisher} instance.
+	 *
+	 * @param pages - the listing to publish
+	 */
+	private PagePublisher(final Pages pages) {
+		this.pages = pages;
+	}
+
+	/**
+	 * see {@link #PagePublisher(Pages)}.
+	 */
+	public static PagePublisher create(final Pages pages) {
+		Preconditions.checkNotNull(pages, "Pages must not be null!");
+		return new PagePublisher(pages);
+	}
+
+	@Override
+	public void subscribe(final Flow.Subscriber<? super JSONObject> subscriber) {
+		Preconditions.checkNotNull(subscriber, "Subscriber must not be null!");
+		final PageSubscription subscription = new PageSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+		subscription.drain();
+	}
+
+	/**
+	 * One subscriber's walk through the pages. All state below the atomics is
+	 * only touched from {@link #drain()}, which a single thread runs at a time.
+	 */
+	private final class PageSubscription implements Flow.Subscription {
+		private final Flow.Subscriber<? super JSONObject> subscriber;
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private volatile boolean cancelled;
+		private volatile JSONObject arrived;
+		private volatile Throwable failure;
+
+		private int page = pages.firstPage();
+		private boolean fetching;
+		private boolean more = true;
+		private boolean done;
+		private JSONArray items = new JSONArray();
+		private int index;
+
+		PageSubscription(final Flow.Subscriber<? super JSONObject> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				failure = new IllegalArgumentException("Requested items must be positive, got " + n);
+			} else {
+				requested.accumulateAndGet(n, (current, add) -> {
+					final long sum = current + add;
+					return sum < 0 ? Long.MAX_VALUE : sum;
+				});
+			}
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				step();
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		/**
+		 * Emit what demand and the buffer allow, then complete, fail or request
+		 * the next page.
+		 */
+		private void step() {
+			if (done) {
+				return;
+			}
+			if (cancelled) {
+				done = true;
+				items = new JSONArray();
+				return;
+			}
+			if (failure != null) {
+				done = true;
+				subscriber.onError(failure);
+				return;
+			}
+			final JSONObject body = arrived;
+			if (body != null) {
+				arrived = null;
+				fetching = false;
+				items = pages.items(body);
+				index = 0;
+				more = pages.hasMore(body, page);
+				page++;
+			}
+			long emitted = 0;
+			final long demand = requested.get();
+			while (emitted < demand && index < items.length() && !cancelled) {
+				subscriber.onNext(items.getJSONObject(index++));
+				emitted++;
+			}
+			if (emitted > 0 && demand != Long.MAX_VALUE) {
+				requested.addAndGet(-emitted);
+			}
+			if (cancelled || index < items.length() || fetching) {
+				return;
+			}
+			if (!more) {
+				done = true;
+				subscriber.onComplete();
+			} else if (requested.get() > 0) {
+				fetching = true;
+				pages.fetch(page).whenComplete((next, error) -> {
+					if (error != null) {
+						failure = error instanceof CompletionException && error.getCause() != null
+								? error.getCause()
+								: error;
+					} else {
+						arrived = next;
+					}
+					drain();
+				});
+			}
+		}
+	}
+}
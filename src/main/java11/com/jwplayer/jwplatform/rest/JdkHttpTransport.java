@@ -0,0 +1,201 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.base.Preconditions;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+/**
+ * JdkHttpTransport class
+ *
+ * A {@link HttpTransport} backed by the JDK 11 {@code java.net.http.HttpClient}.
+ * Each instance wraps its own {@code HttpClient} and therefore its own
+ * connection pool. Requires a Java 11 runtime.
+ *
+ * <p>
+ * The JDK client only exposes its pool size and keep-alive through JVM-wide
+ * system properties ({@code jdk.httpclient.connectionPoolSize},
+ * {@code jdk.httpclient.keepalive.timeout}). When created from a
+ * {@link ConnectionPoolConfig} this transport applies the timeouts and TLS
+ * session settings directly and enforces the maximum total connections by
+ * capping the number of requests in flight.
+ *
+ * <p>
+ * Example: HttpTransport transport = JdkHttpTransport.create();
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+	private final HttpClient httpClient;
+	private final Duration readTimeout;
+	private final AsyncPermits permits;
+
+	/**
+	 * Instantiate a new {@code JdkHttpTransport} instance.
+	 *
+	 * @param httpClient  - the client used to send requests
+	 * @param readTimeout - per-request response timeout, or null for none
+	 * @param permits     - limit on requests in flight, or null for none
+	 */
+	private JdkHttpTransport(final HttpClient httpClient, final Duration readTimeout, final AsyncPermits permits) {
+		this.httpClient = httpClient;
+		this.readTimeout = readTimeout;
+		this.permits = permits;
+	}
+
+	/**
+	 * see {@link #JdkHttpTransport(HttpClient, Duration, AsyncPermits)}.
+	 */
+	public static JdkHttpTransport create() {
+		return create(HttpClient.newHttpClient());
+	}
+
+	/**
+	 * see {@link #JdkHttpTransport(HttpClient, Duration, AsyncPermits)}.
+	 */
+	public static JdkHttpTransport create(final HttpClient httpClient) {
+		Preconditions.checkNotNull(httpClient, "HttpClient must not be null!");
+		return new JdkHttpTransport(httpClient, null, null);
+	}
+
+	/**
+	 * Create a transport with its own {@code HttpClient} configured from
+	 * {@code config}.
+	 *
+	 * @param config - pool and timeout settings
+	 * @return - a new transport
+	 * @throws JWPlatformException - the TLS context could not be created
+	 */
+	public static JdkHttpTransport create(final ConnectionPoolConfig config) throws JWPlatformException {
+		Preconditions.checkNotNull(config, "Connection pool config must not be null!");
+		final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(config.getConnectTimeout())
+				.sslContext(config.newSslContext()).build();
+		return new JdkHttpTransport(httpClient, config.getReadTimeout(),
+				new AsyncPermits(config.getMaxConnectionsTotal()));
+	}
+
+	@Override
+	public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+		try {
+			return executeAsync(request).get();
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof JWPlatformException) {
+				throw (JWPlatformException) e.getCause();
+			}
+			throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", request.getUrl(), e));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException(String.format("Request to %s interrupted", request.getUrl()));
+		}
+	}
+
+	@Override
+	public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+		final HttpRequest httpRequest;
+		try {
+			httpRequest = toHttpRequest(request, readTimeout);
+		} catch (final JWPlatformException e) {
+			final CompletableFuture<TransportResponse> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+		if (permits == null) {
+			return send(request, httpRequest);
+		}
+		return permits.acquire().thenCompose(permit -> send(request, httpRequest))
+				.whenComplete((response, error) -> permits.release());
+	}
+
+	@Override
+	public <T> T executeStreaming(final TransportRequest request, final BodyReader<T> reader)
+			throws JWPlatformException {
+		final HttpRequest httpRequest = toHttpRequest(request, readTimeout);
+		if (permits != null) {
+			final CompletableFuture<Void> permit = permits.acquire();
+			try {
+				permit.get();
+			} catch (final ExecutionException e) {
+				throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", request.getUrl(), e));
+			} catch (final InterruptedException e) {
+				if (!permit.cancel(false)) {
+					// granted meanwhile
+					permits.release();
+				}
+				Thread.currentThread().interrupt();
+				throw new JWPlatformUnknownException(String.format("Request to %s interrupted", request.getUrl()));
+			}
+		}
+		try {
+			final HttpResponse<InputStream> response = httpClient.send(httpRequest,
+					HttpResponse.BodyHandlers.ofInputStream());
+			try (InputStream body = response.body()) {
+				return reader.read(new TransportResponse(response.statusCode(),
+						TransportResponse.firstValues(response.headers().map()), (byte[]) null), body);
+			}
+		} catch (final IOException e) {
+			throw new JWPlatformUnknownException(String.format("Request to %s failed: %s", request.getUrl(), e));
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JWPlatformUnknownException(String.format("Request to %s interrupted", request.getUrl()));
+		} finally {
+			if (permits != null) {
+				permits.release();
+			}
+		}
+	}
+
+	private CompletableFuture<TransportResponse> send(final TransportRequest request, final HttpRequest httpRequest) {
+		final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+		httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((response, error) -> {
+			if (error == null) {
+				future.complete(new TransportResponse(response.statusCode(),
+						TransportResponse.firstValues(response.headers().map()), response.body()));
+			} else {
+				final Throwable cause = error instanceof CompletionException && error.getCause() != null
+						? error.getCause()
+						: error;
+				future.completeExceptionally(new JWPlatformUnknownException(
+						String.format("Request to %s failed: %s", request.getUrl(), cause)));
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Convert a {@code TransportRequest} into a JDK {@code HttpRequest}.
+	 *
+	 * @param request     - the request to convert
+	 * @param readTimeout - response timeout to apply, or null for none
+	 * @return - the equivalent JDK request
+	 * @throws JWPlatformException - the request URL is malformed
+	 */
+	static HttpRequest toHttpRequest(final TransportRequest request, final Duration readTimeout)
+			throws JWPlatformException {
+		final HttpRequest.Builder builder;
+		try {
+			builder = HttpRequest.newBuilder(URI.create(request.getUrl()));
+		} catch (final IllegalArgumentException e) {
+			throw new JWPlatformException(String.format("Invalid request URL %s", request.getUrl()));
+		}
+		if (readTimeout != null) {
+			builder.timeout(readTimeout);
+		}
+		for (final Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+			builder.header(header.getKey(), header.getValue());
+		}
+		final HttpRequest.BodyPublisher body = request.hasBody()
+				? HttpRequest.BodyPublishers.ofByteArray(request.getBodyBytes())
+				: HttpRequest.BodyPublishers.noBody();
+		return builder.method(request.getMethod(), body).build();
+	}
+}
@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -8,6 +9,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,13 +17,19 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.AdSchedule;
+import com.jwplayer.jwplatform.model.AdScheduleMetadata;
+import com.jwplayer.jwplatform.model.ResourcePage;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -33,13 +41,13 @@ public class AdvertisingClientTest {
 	public void testAllMethods() throws JWPlatformException {
 		advertisingClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"success\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Object creation successful\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Deletion success!\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Update successful\"}"));
 		JSONObject listResp = advertisingClient.listAdvertisingSchedules("siteId", new HashMap<>());
 		assertEquals(listResp.get("code"), "success");
@@ -54,7 +62,7 @@ public class AdvertisingClientTest {
 		advertisingClient.updateAdvertisingSchedule("siteId", "adScheduleId", new HashMap<>());
 		advertisingClient.retrieveAdvertisingScheduleById("siteId", "adScheduleId", new HashMap<>());
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(6));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		advertisingClient.removeHeader("test");
 	}
 
@@ -62,8 +70,41 @@ public class AdvertisingClientTest {
 	public void testGetException() throws JSONException, JWPlatformException {
 		advertisingClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		advertisingClient.listAdvertisingSchedules("siteId", new HashMap<>());
 	}
+
+	@Test
+	public void testTypedMethods() throws JWPlatformException {
+		mockStatic(HttpCalls.class);
+		String schedule = "{\"id\":\"adScheduleId\",\"type\":\"ad_schedule\",\"created\":\"2020-01-01T00:00:00+00:00\","
+				+ "\"last_modified\":\"2020-01-02T00:00:00+00:00\",\"metadata\":{\"name\":\"n\",\"client\":\"vast\"}}";
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(),
+				anyMap())).thenReturn(JsonView.parse(("{\"page\":1,\"total\":1,\"ad_schedules\":[" + schedule + "]}")
+						.getBytes(StandardCharsets.UTF_8)))
+				.thenReturn(JsonView.parse(schedule.getBytes(StandardCharsets.UTF_8)));
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), any(byte[].class), anyString(), anyMap()))
+				.thenReturn(JsonView.parse(schedule.getBytes(StandardCharsets.UTF_8)));
+		ResourcePage<AdSchedule> page = advertisingClient.listAdvertisingSchedulesTyped("siteId", new HashMap<>());
+		assertEquals(1, page.getTotal());
+		assertEquals("adScheduleId", page.getItems().get(0).getId());
+		AdSchedule retrieved = advertisingClient.retrieveAdvertisingScheduleByIdTyped("siteId", "adScheduleId",
+				new HashMap<>());
+		assertEquals("ad_schedule", retrieved.getType());
+		assertEquals("2020-01-01T00:00:00+00:00", retrieved.getCreated());
+		assertEquals("2020-01-02T00:00:00+00:00", retrieved.getLastModified());
+		assertEquals("n", retrieved.getMetadata().getName());
+		assertEquals("vast", retrieved.getMetadata().getClient());
+
+		AdScheduleMetadata metadata = AdScheduleMetadata.builder().name("n").client("vast").build();
+		assertEquals("adScheduleId", advertisingClient.createAdvertisingScheduleTyped("siteId", metadata).getId());
+		assertEquals("vast", advertisingClient.updateAdvertisingScheduleTyped("siteId", "adScheduleId", metadata)
+				.getMetadata().getClient());
+		ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(2));
+		HttpCalls.requestView(any(HttpTransport.class), anyString(), body.capture(), anyString(), anyMap());
+		assertEquals("{\"metadata\":{\"name\":\"n\",\"client\":\"vast\"}}",
+				new String(body.getValue(), StandardCharsets.UTF_8));
+	}
 }
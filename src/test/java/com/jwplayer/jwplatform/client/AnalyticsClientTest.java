@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -20,6 +21,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -30,13 +32,14 @@ public class AnalyticsClientTest {
 	public void testRunQueryNoSourceNoFormat() throws JWPlatformException {
 		analyticsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(
+		when(HttpCalls.request(any(HttpTransport.class),
 				eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=default&format=json"), anyMap(),
 				anyBoolean(), eq("GET"), anyMap())).thenReturn(new JSONObject("{\"code\":\"success\"}"));
 		JSONObject resp = analyticsClient.runQuery("siteID", null, null, new HashMap<>());
 		assertEquals(resp.get("code"), "success");
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=default&format=json"),
+		HttpCalls.request(any(HttpTransport.class),
+				eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=default&format=json"),
 				anyMap(), anyBoolean(), anyString(), anyMap());
 		analyticsClient.removeHeader("test");
 	}
@@ -45,13 +48,14 @@ public class AnalyticsClientTest {
 	public void testRunQueryEmptySourceEmptyFormat() throws JWPlatformException {
 		analyticsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(
+		when(HttpCalls.request(any(HttpTransport.class),
 				eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=default&format=json"), anyMap(),
 				anyBoolean(), eq("GET"), anyMap())).thenReturn(new JSONObject("{\"code\":\"success\"}"));
 		JSONObject resp = analyticsClient.runQuery("siteID", "", "", new HashMap<>());
 		assertEquals(resp.get("code"), "success");
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=default&format=json"),
+		HttpCalls.request(any(HttpTransport.class),
+				eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=default&format=json"),
 				anyMap(), anyBoolean(), anyString(), anyMap());
 	}
 
@@ -59,13 +63,14 @@ public class AnalyticsClientTest {
 	public void testRunQuery() throws JWPlatformException {
 		analyticsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(
+		when(HttpCalls.request(any(HttpTransport.class),
 				eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=floatleft&format=csv"), anyMap(),
 				anyBoolean(), eq("GET"), anyMap())).thenReturn(new JSONObject("{\"code\":\"success\"}"));
 		JSONObject resp = analyticsClient.runQuery("siteID", "floatleft", "csv", new HashMap<>());
 		assertEquals(resp.get("code"), "success");
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=floatleft&format=csv"),
+		HttpCalls.request(any(HttpTransport.class),
+				eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=floatleft&format=csv"),
 				anyMap(), anyBoolean(), anyString(), anyMap());
 	}
 
@@ -73,7 +78,7 @@ public class AnalyticsClientTest {
 	public void testRunQueryExcption() throws JWPlatformException {
 		analyticsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(
+		when(HttpCalls.request(any(HttpTransport.class),
 				eq("https://api.jwplayer.com/v2/sites/siteID/analytics/queries/?source=default&format=json"), anyMap(),
 				anyBoolean(), eq("GET"), anyMap())).thenThrow(new JWPlatformException("some exception occured"));
 		analyticsClient.runQuery("siteID", null, null, new HashMap<>());
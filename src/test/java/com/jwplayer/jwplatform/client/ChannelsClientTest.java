@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -22,6 +23,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -33,13 +35,13 @@ public class ChannelsClientTest {
 	public void testAllMethods() throws JWPlatformException {
 		channelsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"success\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Object creation successful\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Deletion success!\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Update successful\"}"));
 		JSONObject listResp = channelsClient.listChannels("siteId", new HashMap<>());
 		assertEquals(listResp.get("code"), "success");
@@ -54,7 +56,7 @@ public class ChannelsClientTest {
 		channelsClient.changeSettingsForChannel("siteId", "channelId", new HashMap<>());
 		channelsClient.getDetailsById("siteId", "channelId", new HashMap<>());
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(6));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		channelsClient.removeHeader("test");
 	}
 
@@ -62,7 +64,7 @@ public class ChannelsClientTest {
 	public void testGetException() throws JSONException, JWPlatformException {
 		channelsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		channelsClient.listChannels("siteId", new HashMap<>());
 	}
@@ -0,0 +1,533 @@
+package com.jwplayer.jwplatform.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.TransportRequest;
+import com.jwplayer.jwplatform.rest.TransportResponse;
+
+/**
+ * Checks that every asynchronous and {@link JsonView} variant of a V2 client
+ * method sends the same request as the blocking method it mirrors: the same
+ * HTTP method, URL and body, with and without body parameters.
+ */
+public class ClientVariantsTest {
+	private static final Map<String, String> QUERY = ImmutableMap.of("page", "2");
+	private static final Map<String, String> BODY = ImmutableMap.of("title", "test");
+	private static final Map<String, String> NONE = Collections.emptyMap();
+
+	private final List<TransportRequest> sent = new CopyOnWriteArrayList<>();
+	private final HttpTransport recording = request -> {
+		sent.add(request);
+		return new TransportResponse(200, Collections.emptyMap(), "{}".getBytes(StandardCharsets.UTF_8));
+	};
+
+	private interface Call<T> {
+		T call() throws JWPlatformException;
+	}
+
+	private void assertAsyncSendsSameRequest(final Call<JSONObject> blocking,
+			final Call<CompletableFuture<JSONObject>> async) throws Exception {
+		blocking.call();
+		async.call().get(5, TimeUnit.SECONDS);
+		assertSameRequest();
+	}
+
+	private void assertViewSendsSameRequest(final Call<JSONObject> blocking, final Call<JsonView> view)
+			throws Exception {
+		blocking.call();
+		view.call();
+		assertSameRequest();
+	}
+
+	private void assertSameRequest() {
+		assertEquals(2, sent.size());
+		final TransportRequest expected = sent.get(0);
+		final TransportRequest actual = sent.get(1);
+		sent.clear();
+		assertEquals(expected.getMethod(), actual.getMethod());
+		assertEquals(unsigned(expected.getUrl()), unsigned(actual.getUrl()));
+		assertArrayEquals(expected.getBodyBytes(), actual.getBodyBytes());
+	}
+
+	/**
+	 * @return - the URL without the nonce and timestamp, which differ per call
+	 */
+	private static String unsigned(final String url) {
+		return url.replaceAll("&api_(nonce|timestamp)=\\d+", "");
+	}
+
+	@Test
+	public void testAdvertisingClient() throws Exception {
+		final AdvertisingClient client = AdvertisingClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listAdvertisingSchedules("site", QUERY),
+				() -> client.listAdvertisingSchedulesAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createAdvertisingSchedule("site", BODY),
+				() -> client.createAdvertisingScheduleAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createAdvertisingSchedule("site", NONE),
+				() -> client.createAdvertisingScheduleAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveAdvertisingScheduleById("site", "adSchedule", QUERY),
+				() -> client.retrieveAdvertisingScheduleByIdAsync("site", "adSchedule", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateAdvertisingSchedule("site", "adSchedule", BODY),
+				() -> client.updateAdvertisingScheduleAsync("site", "adSchedule", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateAdvertisingSchedule("site", "adSchedule", NONE),
+				() -> client.updateAdvertisingScheduleAsync("site", "adSchedule", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteAdvertisingScheduleById("site", "adSchedule"),
+				() -> client.deleteAdvertisingScheduleByIdAsync("site", "adSchedule"));
+		assertViewSendsSameRequest(() -> client.listAdvertisingSchedules("site", QUERY),
+				() -> client.listAdvertisingSchedulesView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.retrieveAdvertisingScheduleById("site", "adSchedule", QUERY),
+				() -> client.retrieveAdvertisingScheduleByIdView("site", "adSchedule", QUERY));
+	}
+
+	@Test
+	public void testAnalyticsClient() throws Exception {
+		final AnalyticsClient client = AnalyticsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.runQuery("site", "jwplayer", "csv", QUERY),
+				() -> client.runQueryAsync("site", "jwplayer", "csv", QUERY));
+		assertViewSendsSameRequest(() -> client.runQuery("site", "jwplayer", "csv", QUERY),
+				() -> client.runQueryView("site", "jwplayer", "csv", QUERY));
+	}
+
+	@Test
+	public void testChannelsClient() throws Exception {
+		final ChannelsClient client = ChannelsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listChannels("site", QUERY),
+				() -> client.listChannelsAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createChannel("site", BODY),
+				() -> client.createChannelAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createChannel("site", NONE),
+				() -> client.createChannelAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.getDetailsById("site", "channel", QUERY),
+				() -> client.getDetailsByIdAsync("site", "channel", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteChannel("site", "channel"),
+				() -> client.deleteChannelAsync("site", "channel"));
+		assertAsyncSendsSameRequest(() -> client.changeSettingsForChannel("site", "channel", BODY),
+				() -> client.changeSettingsForChannelAsync("site", "channel", BODY));
+		assertAsyncSendsSameRequest(() -> client.changeSettingsForChannel("site", "channel", NONE),
+				() -> client.changeSettingsForChannelAsync("site", "channel", NONE));
+		assertViewSendsSameRequest(() -> client.listChannels("site", QUERY),
+				() -> client.listChannelsView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.getDetailsById("site", "channel", QUERY),
+				() -> client.getDetailsByIdView("site", "channel", QUERY));
+	}
+
+	@Test
+	public void testEventsClient() throws Exception {
+		final EventsClient client = EventsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listEventsOfChannel("site", "channel", QUERY),
+				() -> client.listEventsOfChannelAsync("site", "channel", QUERY));
+		assertAsyncSendsSameRequest(() -> client.listEventDetailsOfChannel("site", "channel", "event", QUERY),
+				() -> client.listEventDetailsOfChannelAsync("site", "channel", "event", QUERY));
+		assertAsyncSendsSameRequest(() -> client.requestMasterDownloadAvailability("site", "channel", "event", BODY),
+				() -> client.requestMasterDownloadAvailabilityAsync("site", "channel", "event", BODY));
+		assertAsyncSendsSameRequest(() -> client.requestMasterDownloadAvailability("site", "channel", "event", NONE),
+				() -> client.requestMasterDownloadAvailabilityAsync("site", "channel", "event", NONE));
+		assertAsyncSendsSameRequest(() -> client.createVODAsset("site", "channel", "event", BODY),
+				() -> client.createVODAssetAsync("site", "channel", "event", BODY));
+		assertAsyncSendsSameRequest(() -> client.createVODAsset("site", "channel", "event", NONE),
+				() -> client.createVODAssetAsync("site", "channel", "event", NONE));
+		assertAsyncSendsSameRequest(() -> client.downloadMasterAsset("site", "channel", "event", QUERY),
+				() -> client.downloadMasterAssetAsync("site", "channel", "event", QUERY));
+		assertViewSendsSameRequest(() -> client.listEventsOfChannel("site", "channel", QUERY),
+				() -> client.listEventsOfChannelView("site", "channel", QUERY));
+	}
+
+	@Test
+	public void testImportsClient() throws Exception {
+		final ImportsClient client = ImportsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listImports("site", QUERY),
+				() -> client.listImportsAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.addImport("site", BODY), () -> client.addImportAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.addImport("site", NONE), () -> client.addImportAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.getImportById("site", "import", QUERY),
+				() -> client.getImportByIdAsync("site", "import", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateImport("site", "import", BODY),
+				() -> client.updateImportAsync("site", "import", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateImport("site", "import", NONE),
+				() -> client.updateImportAsync("site", "import", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteImport("site", "import"),
+				() -> client.deleteImportAsync("site", "import"));
+		assertViewSendsSameRequest(() -> client.listImports("site", QUERY),
+				() -> client.listImportsView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.getImportById("site", "import", QUERY),
+				() -> client.getImportByIdView("site", "import", QUERY));
+	}
+
+	@Test
+	public void testMediaClient() throws Exception {
+		final MediaClient client = MediaClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listAllMedia("site", QUERY),
+				() -> client.listAllMediaAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createMedia("site", BODY),
+				() -> client.createMediaAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createMedia("site", NONE),
+				() -> client.createMediaAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveMediaById("site", "media", QUERY),
+				() -> client.retrieveMediaByIdAsync("site", "media", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteMedia("site", "media"),
+				() -> client.deleteMediaAsync("site", "media"));
+		assertAsyncSendsSameRequest(() -> client.updateMedia("site", "media", BODY),
+				() -> client.updateMediaAsync("site", "media", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateMedia("site", "media", NONE),
+				() -> client.updateMediaAsync("site", "media", NONE));
+		assertAsyncSendsSameRequest(() -> client.reuploadMedia("site", "media", BODY),
+				() -> client.reuploadMediaAsync("site", "media", BODY));
+		assertAsyncSendsSameRequest(() -> client.reuploadMedia("site", "media", NONE),
+				() -> client.reuploadMediaAsync("site", "media", NONE));
+		assertViewSendsSameRequest(() -> client.listAllMedia("site", QUERY),
+				() -> client.listAllMediaView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.retrieveMediaById("site", "media", QUERY),
+				() -> client.retrieveMediaByIdView("site", "media", QUERY));
+	}
+
+	@Test
+	public void testMediaRenditionClient() throws Exception {
+		final MediaRenditionClient client = MediaRenditionClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listMediaRenditions("site", "media", QUERY),
+				() -> client.listMediaRenditionsAsync("site", "media", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createRendition("site", "media", BODY),
+				() -> client.createRenditionAsync("site", "media", BODY));
+		assertAsyncSendsSameRequest(() -> client.createRendition("site", "media", NONE),
+				() -> client.createRenditionAsync("site", "media", NONE));
+		assertAsyncSendsSameRequest(() -> client.getRenditionById("site", "media", "rendition", QUERY),
+				() -> client.getRenditionByIdAsync("site", "media", "rendition", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteRendition("site", "media", "rendition"),
+				() -> client.deleteRenditionAsync("site", "media", "rendition"));
+		assertViewSendsSameRequest(() -> client.listMediaRenditions("site", "media", QUERY),
+				() -> client.listMediaRenditionsView("site", "media", QUERY));
+	}
+
+	@Test
+	public void testOriginalClient() throws Exception {
+		final OriginalClient client = OriginalClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listOriginals("site", "media", QUERY),
+				() -> client.listOriginalsAsync("site", "media", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createOriginals("site", "media", BODY),
+				() -> client.createOriginalsAsync("site", "media", BODY));
+		assertAsyncSendsSameRequest(() -> client.createOriginals("site", "media", NONE),
+				() -> client.createOriginalsAsync("site", "media", NONE));
+		assertAsyncSendsSameRequest(() -> client.getOriginalById("site", "media", "original", QUERY),
+				() -> client.getOriginalByIdAsync("site", "media", "original", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateOriginal("site", "media", "original", BODY),
+				() -> client.updateOriginalAsync("site", "media", "original", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateOriginal("site", "media", "original", NONE),
+				() -> client.updateOriginalAsync("site", "media", "original", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteOriginal("site", "media", "original"),
+				() -> client.deleteOriginalAsync("site", "media", "original"));
+		assertViewSendsSameRequest(() -> client.listOriginals("site", "media", QUERY),
+				() -> client.listOriginalsView("site", "media", QUERY));
+	}
+
+	@Test
+	public void testPlayerBiddingConfigClient() throws Exception {
+		final PlayerBiddingConfigClient client = PlayerBiddingConfigClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listConfigs("site", QUERY),
+				() -> client.listConfigsAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createConfig("site", BODY),
+				() -> client.createConfigAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createConfig("site", NONE),
+				() -> client.createConfigAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.updateConfig("site", "config", BODY),
+				() -> client.updateConfigAsync("site", "config", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateConfig("site", "config", NONE),
+				() -> client.updateConfigAsync("site", "config", NONE));
+		assertAsyncSendsSameRequest(() -> client.getConfigById("site", "config", QUERY),
+				() -> client.getConfigByIdAsync("site", "config", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteConfig("site", "config"),
+				() -> client.deleteConfigAsync("site", "config"));
+		assertAsyncSendsSameRequest(() -> client.updateSchedules("site", BODY),
+				() -> client.updateSchedulesAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateSchedules("site", NONE),
+				() -> client.updateSchedulesAsync("site", NONE));
+		assertViewSendsSameRequest(() -> client.listConfigs("site", QUERY),
+				() -> client.listConfigsView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.getConfigById("site", "config", QUERY),
+				() -> client.getConfigByIdView("site", "config", QUERY));
+	}
+
+	@Test
+	public void testPlaylistsClient() throws Exception {
+		final PlaylistsClient client = PlaylistsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listPlaylists("site", QUERY),
+				() -> client.listPlaylistsAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.retrievePlaylistById("site", "playlist", QUERY),
+				() -> client.retrievePlaylistByIdAsync("site", "playlist", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deletePlaylistById("site", "playlist"),
+				() -> client.deletePlaylistByIdAsync("site", "playlist"));
+		assertAsyncSendsSameRequest(() -> client.createManualPlaylist("site", BODY),
+				() -> client.createManualPlaylistAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createManualPlaylist("site", NONE),
+				() -> client.createManualPlaylistAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveManualPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveManualPlaylistByIdAsync("site", "playlist", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateManualPlaylist("site", "playlist", BODY),
+				() -> client.updateManualPlaylistAsync("site", "playlist", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateManualPlaylist("site", "playlist", NONE),
+				() -> client.updateManualPlaylistAsync("site", "playlist", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteManualPlaylist("site", "playlist"),
+				() -> client.deleteManualPlaylistAsync("site", "playlist"));
+		assertAsyncSendsSameRequest(() -> client.createDynamicPlaylist("site", BODY),
+				() -> client.createDynamicPlaylistAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createDynamicPlaylist("site", NONE),
+				() -> client.createDynamicPlaylistAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveDynamicPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveDynamicPlaylistByIdAsync("site", "playlist", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateDynamicPlaylist("site", "playlist", BODY),
+				() -> client.updateDynamicPlaylistAsync("site", "playlist", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateDynamicPlaylist("site", "playlist", NONE),
+				() -> client.updateDynamicPlaylistAsync("site", "playlist", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteDynamicPlaylist("site", "playlist"),
+				() -> client.deleteDynamicPlaylistAsync("site", "playlist"));
+		assertAsyncSendsSameRequest(() -> client.createTrendingPlaylist("site", BODY),
+				() -> client.createTrendingPlaylistAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createTrendingPlaylist("site", NONE),
+				() -> client.createTrendingPlaylistAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveTrendingPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveTrendingPlaylistByIdAsync("site", "playlist", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateTrendingPlaylist("site", "playlist", BODY),
+				() -> client.updateTrendingPlaylistAsync("site", "playlist", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateTrendingPlaylist("site", "playlist", NONE),
+				() -> client.updateTrendingPlaylistAsync("site", "playlist", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteTrendingPlaylist("site", "playlist"),
+				() -> client.deleteTrendingPlaylistAsync("site", "playlist"));
+		assertAsyncSendsSameRequest(() -> client.createArticleMatchingPlaylist("site", BODY),
+				() -> client.createArticleMatchingPlaylistAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createArticleMatchingPlaylist("site", NONE),
+				() -> client.createArticleMatchingPlaylistAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveArticleMatchingPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveArticleMatchingPlaylistByIdAsync("site", "playlist", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateArticleMatchingPlaylist("site", "playlist", BODY),
+				() -> client.updateArticleMatchingPlaylistAsync("site", "playlist", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateArticleMatchingPlaylist("site", "playlist", NONE),
+				() -> client.updateArticleMatchingPlaylistAsync("site", "playlist", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteArticleMatchingPlaylist("site", "playlist"),
+				() -> client.deleteArticleMatchingPlaylistAsync("site", "playlist"));
+		assertAsyncSendsSameRequest(() -> client.createSearchPlaylist("site", BODY),
+				() -> client.createSearchPlaylistAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createSearchPlaylist("site", NONE),
+				() -> client.createSearchPlaylistAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveSearchPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveSearchPlaylistByIdAsync("site", "playlist", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateSearchPlaylist("site", "playlist", BODY),
+				() -> client.updateSearchPlaylistAsync("site", "playlist", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateSearchPlaylist("site", "playlist", NONE),
+				() -> client.updateSearchPlaylistAsync("site", "playlist", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteSearchPlaylist("site", "playlist"),
+				() -> client.deleteSearchPlaylistAsync("site", "playlist"));
+		assertAsyncSendsSameRequest(() -> client.createRecommendationsPlaylist("site", BODY),
+				() -> client.createRecommendationsPlaylistAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createRecommendationsPlaylist("site", NONE),
+				() -> client.createRecommendationsPlaylistAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveRecommendationsPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveRecommendationsPlaylistByIdAsync("site", "playlist", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateRecommendationsPlaylist("site", "playlist", BODY),
+				() -> client.updateRecommendationsPlaylistAsync("site", "playlist", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateRecommendationsPlaylist("site", "playlist", NONE),
+				() -> client.updateRecommendationsPlaylistAsync("site", "playlist", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteRecommendationsPlaylist("site", "playlist"),
+				() -> client.deleteRecommendationsPlaylistAsync("site", "playlist"));
+		assertAsyncSendsSameRequest(() -> client.createWatchlistPlaylist("site", BODY),
+				() -> client.createWatchlistPlaylistAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createWatchlistPlaylist("site", NONE),
+				() -> client.createWatchlistPlaylistAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveWatchlistPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveWatchlistPlaylistByIdAsync("site", "playlist", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateWatchlistPlaylist("site", "playlist", BODY),
+				() -> client.updateWatchlistPlaylistAsync("site", "playlist", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateWatchlistPlaylist("site", "playlist", NONE),
+				() -> client.updateWatchlistPlaylistAsync("site", "playlist", NONE));
+		assertAsyncSendsSameRequest(() -> client.deleteWatchlistPlaylist("site", "playlist"),
+				() -> client.deleteWatchlistPlaylistAsync("site", "playlist"));
+		assertViewSendsSameRequest(() -> client.listPlaylists("site", QUERY),
+				() -> client.listPlaylistsView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.retrievePlaylistById("site", "playlist", QUERY),
+				() -> client.retrievePlaylistByIdView("site", "playlist", QUERY));
+		assertViewSendsSameRequest(() -> client.retrieveArticleMatchingPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveArticleMatchingPlaylistByIdView("site", "playlist", QUERY));
+		assertViewSendsSameRequest(() -> client.retrieveRecommendationsPlaylistById("site", "playlist", QUERY),
+				() -> client.retrieveRecommendationsPlaylistByIdView("site", "playlist", QUERY));
+	}
+
+	@Test
+	public void testProtectionRulesClient() throws Exception {
+		final ProtectionRulesClient client = ProtectionRulesClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listMediaProtectionRules("site", QUERY),
+				() -> client.listMediaProtectionRulesAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createMediaProtectionRule("site", BODY),
+				() -> client.createMediaProtectionRuleAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createMediaProtectionRule("site", NONE),
+				() -> client.createMediaProtectionRuleAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.getMediaProtectionRuleById("site", "protectionRule", QUERY),
+				() -> client.getMediaProtectionRuleByIdAsync("site", "protectionRule", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteMediaProtectionRule("site", "protectionRule"),
+				() -> client.deleteMediaProtectionRuleAsync("site", "protectionRule"));
+		assertAsyncSendsSameRequest(() -> client.changeSettingsMediaProtectionRule("site", "protectionRule", BODY),
+				() -> client.changeSettingsMediaProtectionRuleAsync("site", "protectionRule", BODY));
+		assertAsyncSendsSameRequest(() -> client.changeSettingsMediaProtectionRule("site", "protectionRule", NONE),
+				() -> client.changeSettingsMediaProtectionRuleAsync("site", "protectionRule", NONE));
+		assertAsyncSendsSameRequest(() -> client.getSiteProtectionRules("site", QUERY),
+				() -> client.getSiteProtectionRulesAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.updateSiteProtectionRule("site", BODY),
+				() -> client.updateSiteProtectionRuleAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateSiteProtectionRule("site", NONE),
+				() -> client.updateSiteProtectionRuleAsync("site", NONE));
+		assertViewSendsSameRequest(() -> client.listMediaProtectionRules("site", QUERY),
+				() -> client.listMediaProtectionRulesView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.getMediaProtectionRuleById("site", "protectionRule", QUERY),
+				() -> client.getMediaProtectionRuleByIdView("site", "protectionRule", QUERY));
+		assertViewSendsSameRequest(() -> client.getSiteProtectionRules("site", QUERY),
+				() -> client.getSiteProtectionRulesView("site", QUERY));
+	}
+
+	@Test
+	public void testTagsClient() throws Exception {
+		final TagsClient client = TagsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.bulkRemoveTag("site", BODY),
+				() -> client.bulkRemoveTagAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.bulkRemoveTag("site", NONE),
+				() -> client.bulkRemoveTagAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.bulkRenameTag("site", BODY),
+				() -> client.bulkRenameTagAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.bulkRenameTag("site", NONE),
+				() -> client.bulkRenameTagAsync("site", NONE));
+	}
+
+	@Test
+	public void testTextTracksClient() throws Exception {
+		final TextTracksClient client = TextTracksClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listTextTracks("site", "media", QUERY),
+				() -> client.listTextTracksAsync("site", "media", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createTextTrack("site", "media", BODY),
+				() -> client.createTextTrackAsync("site", "media", BODY));
+		assertAsyncSendsSameRequest(() -> client.createTextTrack("site", "media", NONE),
+				() -> client.createTextTrackAsync("site", "media", NONE));
+		assertAsyncSendsSameRequest(() -> client.updateTextTrack("site", "media", "track", BODY),
+				() -> client.updateTextTrackAsync("site", "media", "track", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateTextTrack("site", "media", "track", NONE),
+				() -> client.updateTextTrackAsync("site", "media", "track", NONE));
+		assertAsyncSendsSameRequest(() -> client.getTextTrackById("site", "media", "track", QUERY),
+				() -> client.getTextTrackByIdAsync("site", "media", "track", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteTextTrack("site", "media", "track"),
+				() -> client.deleteTextTrackAsync("site", "media", "track"));
+		assertAsyncSendsSameRequest(() -> client.publishTextTrack("site", "media", "track", BODY),
+				() -> client.publishTextTrackAsync("site", "media", "track", BODY));
+		assertAsyncSendsSameRequest(() -> client.publishTextTrack("site", "media", "track", NONE),
+				() -> client.publishTextTrackAsync("site", "media", "track", NONE));
+		assertAsyncSendsSameRequest(() -> client.unpublishTextTrack("site", "media", "track", BODY),
+				() -> client.unpublishTextTrackAsync("site", "media", "track", BODY));
+		assertAsyncSendsSameRequest(() -> client.unpublishTextTrack("site", "media", "track", NONE),
+				() -> client.unpublishTextTrackAsync("site", "media", "track", NONE));
+		assertViewSendsSameRequest(() -> client.listTextTracks("site", "media", QUERY),
+				() -> client.listTextTracksView("site", "media", QUERY));
+	}
+
+	@Test
+	public void testThumbnailsClient() throws Exception {
+		final ThumbnailsClient client = ThumbnailsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listThumbnails("site", QUERY),
+				() -> client.listThumbnailsAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createThumbnail("site", BODY),
+				() -> client.createThumbnailAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createThumbnail("site", NONE),
+				() -> client.createThumbnailAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveThumbnailById("site", "thumbnail", QUERY),
+				() -> client.retrieveThumbnailByIdAsync("site", "thumbnail", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteThumbnail("site", "thumbnail"),
+				() -> client.deleteThumbnailAsync("site", "thumbnail"));
+		assertAsyncSendsSameRequest(() -> client.updateThumbnail("site", "thumbnail", BODY),
+				() -> client.updateThumbnailAsync("site", "thumbnail", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateThumbnail("site", "thumbnail", NONE),
+				() -> client.updateThumbnailAsync("site", "thumbnail", NONE));
+		assertViewSendsSameRequest(() -> client.listThumbnails("site", QUERY),
+				() -> client.listThumbnailsView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.retrieveThumbnailById("site", "thumbnail", QUERY),
+				() -> client.retrieveThumbnailByIdView("site", "thumbnail", QUERY));
+	}
+
+	@Test
+	public void testUploadsClient() throws Exception {
+		final UploadsClient client = UploadsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listCompleteIncompleteParts("upload", QUERY),
+				() -> client.listCompleteIncompletePartsAsync("upload", QUERY));
+		assertAsyncSendsSameRequest(() -> client.completeUpload("upload", BODY),
+				() -> client.completeUploadAsync("upload", BODY));
+		assertAsyncSendsSameRequest(() -> client.completeUpload("upload", NONE),
+				() -> client.completeUploadAsync("upload", NONE));
+		assertViewSendsSameRequest(() -> client.listCompleteIncompleteParts("upload", QUERY),
+				() -> client.listCompleteIncompletePartsView("upload", QUERY));
+	}
+
+	@Test
+	public void testUsageClient() throws Exception {
+		final UsageClient client = UsageClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.queryAccountUsage(BODY), () -> client.queryAccountUsageAsync(BODY));
+		assertAsyncSendsSameRequest(() -> client.queryAccountUsage(NONE), () -> client.queryAccountUsageAsync(NONE));
+		assertAsyncSendsSameRequest(() -> client.querySiteUsage("site", BODY),
+				() -> client.querySiteUsageAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.querySiteUsage("site", NONE),
+				() -> client.querySiteUsageAsync("site", NONE));
+	}
+
+	@Test
+	public void testVPBConfigsClient() throws Exception {
+		final VPBConfigsClient client = VPBConfigsClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listConfigs("site", QUERY),
+				() -> client.listConfigsAsync("site", QUERY));
+		assertAsyncSendsSameRequest(() -> client.createConfig("site", BODY),
+				() -> client.createConfigAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.createConfig("site", NONE),
+				() -> client.createConfigAsync("site", NONE));
+		assertAsyncSendsSameRequest(() -> client.updateConfig("site", "config", BODY),
+				() -> client.updateConfigAsync("site", "config", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateConfig("site", "config", NONE),
+				() -> client.updateConfigAsync("site", "config", NONE));
+		assertAsyncSendsSameRequest(() -> client.getConfigById("site", "config", QUERY),
+				() -> client.getConfigByIdAsync("site", "config", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteConfig("site", "config"),
+				() -> client.deleteConfigAsync("site", "config"));
+		assertAsyncSendsSameRequest(() -> client.updateSchedules("site", BODY),
+				() -> client.updateSchedulesAsync("site", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateSchedules("site", NONE),
+				() -> client.updateSchedulesAsync("site", NONE));
+		assertViewSendsSameRequest(() -> client.listConfigs("site", QUERY),
+				() -> client.listConfigsView("site", QUERY));
+		assertViewSendsSameRequest(() -> client.getConfigById("site", "config", QUERY),
+				() -> client.getConfigByIdView("site", "config", QUERY));
+	}
+
+	@Test
+	public void testWebhooksClient() throws Exception {
+		final WebhooksClient client = WebhooksClient.getClient("secret", recording);
+		assertAsyncSendsSameRequest(() -> client.listWebhooks(QUERY), () -> client.listWebhooksAsync(QUERY));
+		assertAsyncSendsSameRequest(() -> client.createWebhookResource(BODY),
+				() -> client.createWebhookResourceAsync(BODY));
+		assertAsyncSendsSameRequest(() -> client.createWebhookResource(NONE),
+				() -> client.createWebhookResourceAsync(NONE));
+		assertAsyncSendsSameRequest(() -> client.retrieveWebhookById("webhook", QUERY),
+				() -> client.retrieveWebhookByIdAsync("webhook", QUERY));
+		assertAsyncSendsSameRequest(() -> client.deleteWebhook("webhook"), () -> client.deleteWebhookAsync("webhook"));
+		assertAsyncSendsSameRequest(() -> client.updateWebhook("webhook", BODY),
+				() -> client.updateWebhookAsync("webhook", BODY));
+		assertAsyncSendsSameRequest(() -> client.updateWebhook("webhook", NONE),
+				() -> client.updateWebhookAsync("webhook", NONE));
+		assertViewSendsSameRequest(() -> client.listWebhooks(QUERY), () -> client.listWebhooksView(QUERY));
+		assertViewSendsSameRequest(() -> client.retrieveWebhookById("webhook", QUERY),
+				() -> client.retrieveWebhookByIdView("webhook", QUERY));
+	}
+}
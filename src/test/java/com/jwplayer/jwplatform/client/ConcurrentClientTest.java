@@ -0,0 +1,141 @@
+package com.jwplayer.jwplatform.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.TransportResponse;
+
+/**
+ * Stress test sharing a single client between many threads. The transport
+ * echoes the request URL and headers back, so every caller can check that it
+ * got the URL built from its own arguments.
+ */
+public class ConcurrentClientTest {
+	private static final int THREADS = 16;
+	private static final int ITERATIONS = 2000;
+
+	private static final HttpTransport ECHO = request -> {
+		final JSONObject echo = new JSONObject();
+		echo.put("url", request.getUrl());
+		echo.put("authorization", request.getHeaders().get("Authorization"));
+		echo.put("headers", request.getHeaders().size());
+		return new TransportResponse(200, new HashMap<>(), echo.toString().getBytes(StandardCharsets.UTF_8));
+	};
+
+	@Test
+	public void testSharedMediaClientNeverMixesUrls() throws Exception {
+		final MediaClient client = MediaClient.getClient("fakeSecret", ECHO);
+		runConcurrently(thread -> {
+			for (int i = 0; i < ITERATIONS; i++) {
+				final String siteId = "site" + thread;
+				final String mediaId = "media" + i;
+				final JSONObject response;
+				final String expected;
+				switch (i % 4) {
+				case 0:
+					response = client.listAllMedia(siteId, new HashMap<>());
+					expected = "https://api.jwplayer.com/v2/sites/" + siteId + "/media/";
+					break;
+				case 1:
+					response = client.retrieveMediaById(siteId, mediaId, new HashMap<>());
+					expected = "https://api.jwplayer.com/v2/sites/" + siteId + "/media/" + mediaId + "/";
+					break;
+				case 2:
+					response = client.retrieveMediaByIdAsync(siteId, mediaId, new HashMap<>()).get();
+					expected = "https://api.jwplayer.com/v2/sites/" + siteId + "/media/" + mediaId + "/";
+					break;
+				default:
+					response = client.reuploadMedia(siteId, mediaId, new HashMap<>());
+					expected = "https://api.jwplayer.com/v2/sites/" + siteId + "/media/" + mediaId + "/reupload/";
+					break;
+				}
+				final String url = response.getString("url");
+				assertEquals(expected, i % 4 == 3 ? url.substring(0, url.indexOf('?')) : url);
+			}
+		});
+	}
+
+	@Test
+	public void testSharedPlaylistsClientNeverMixesUrls() throws Exception {
+		final PlaylistsClient client = PlaylistsClient.getClient("fakeSecret", ECHO);
+		runConcurrently(thread -> {
+			for (int i = 0; i < ITERATIONS; i++) {
+				final String siteId = "site" + thread;
+				final String playlistId = "playlist" + i;
+				final JSONObject response = i % 2 == 0
+						? client.retrieveDynamicPlaylistById(siteId, playlistId, new HashMap<>())
+						: client.retrieveManualPlaylistByIdAsync(siteId, playlistId, new HashMap<>()).get();
+				final String kind = i % 2 == 0 ? "dynamic_playlist" : "manual_playlist";
+				assertEquals("https://api.jwplayer.com/v2/sites/" + siteId + "/playlists/" + playlistId + "/" + kind
+						+ "/", response.getString("url"));
+			}
+		});
+	}
+
+	@Test
+	public void testHeaderChangesWhileShared() throws Exception {
+		final MediaClient client = MediaClient.getClient("fakeSecret", ECHO);
+		runConcurrently(thread -> {
+			for (int i = 0; i < ITERATIONS; i++) {
+				if (thread == 0) {
+					client.addHeader("X-Trace", "trace" + i);
+					client.removeHeader("X-Trace");
+				} else {
+					final JSONObject response = client.retrieveMediaById("site", "media", new HashMap<>());
+					assertEquals("Bearer fakeSecret", response.getString("authorization"));
+					final int headers = response.getInt("headers");
+					assertTrue(headers == 3 || headers == 4);
+				}
+			}
+		});
+	}
+
+	@Test
+	public void testHeadersMapStaysMutable() throws Exception {
+		final MediaClient client = MediaClient.getClient("fakeSecret", ECHO);
+		client.headers.put("X-Trace", "trace");
+		assertEquals(4, client.retrieveMediaById("site", "media", new HashMap<>()).getInt("headers"));
+		client.headers.remove("X-Trace");
+		assertEquals(3, client.retrieveMediaById("site", "media", new HashMap<>()).getInt("headers"));
+	}
+
+	private interface Worker {
+		void run(int thread) throws Exception;
+	}
+
+	private static void runConcurrently(final Worker worker) throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		final CountDownLatch start = new CountDownLatch(1);
+		final List<Future<Void>> results = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				final int thread = t;
+				results.add(executor.submit(() -> {
+					start.await();
+					worker.run(thread);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (final Future<Void> result : results) {
+				result.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
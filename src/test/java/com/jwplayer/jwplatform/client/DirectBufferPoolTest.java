@@ -0,0 +1,50 @@
+package com.jwplayer.jwplatform.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class DirectBufferPoolTest {
+
+	@Test
+	public void testAllocatesUpToCountThenReuses() throws Exception {
+		final DirectBufferPool pool = new DirectBufferPool(16, 2);
+		final ByteBuffer first = pool.acquire();
+		final ByteBuffer second = pool.acquire();
+		assertTrue(first.isDirect());
+		assertEquals(16, first.capacity());
+		assertNotSame(first, second);
+
+		first.put((byte) 1).flip();
+		pool.release(first);
+		final ByteBuffer again = pool.acquire();
+		assertSame(first, again);
+		assertEquals(0, again.position());
+		assertEquals(16, again.remaining());
+	}
+
+	@Test
+	public void testAcquireWaitsForRelease() throws Exception {
+		final DirectBufferPool pool = new DirectBufferPool(16, 1);
+		final ByteBuffer only = pool.acquire();
+		final CompletableFuture<ByteBuffer> waiting = CompletableFuture.supplyAsync(() -> {
+			try {
+				return pool.acquire();
+			} catch (final InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		Thread.sleep(50);
+		assertTrue(!waiting.isDone());
+
+		pool.release(only);
+		assertSame(only, waiting.get(5, TimeUnit.SECONDS));
+	}
+}
@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -22,6 +23,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -33,9 +35,9 @@ public class EventsClientTest {
 	public void testAllMethods() throws JWPlatformException {
 		eventsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"success\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Object creation successful\"}"));
 		JSONObject listResp = eventsClient.listEventsOfChannel("siteId", "channelId", new HashMap<>());
 		assertEquals(listResp.get("code"), "success");
@@ -50,7 +52,7 @@ public class EventsClientTest {
 		eventsClient.requestMasterDownloadAvailability("siteId", "channelId", "eventId", new HashMap<>());
 		eventsClient.listEventDetailsOfChannel("siteId", "channelId", "eventId", new HashMap<>());
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(6));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		eventsClient.removeHeader("test");
 	}
 
@@ -58,7 +60,7 @@ public class EventsClientTest {
 	public void testListEventsofChannelException() throws JSONException, JWPlatformException {
 		eventsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		eventsClient.listEventsOfChannel("siteId", "channelId", new HashMap<>());
 	}
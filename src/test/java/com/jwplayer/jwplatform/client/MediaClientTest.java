@@ -1,6 +1,9 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -8,18 +11,33 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 import org.json.JSONObject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.Media;
+import com.jwplayer.jwplatform.model.MediaMetadata;
+import com.jwplayer.jwplatform.model.ResourcePage;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.Projection;
+import com.jwplayer.jwplatform.rest.TransportRequest;
+import com.jwplayer.jwplatform.rest.TransportResponse;
 import com.mashape.unirest.http.Unirest;
 
 @RunWith(PowerMockRunner.class)
@@ -35,10 +53,10 @@ public class MediaClientTest {
 		expected.append("media", new JSONObject());
 		expected.append("page_length", 1);
 		expected.append("total", 1);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap())).thenReturn(expected);
 		JSONObject actual = mediaClient.listAllMedia("siteId", new HashMap<String, String>());
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap());
 		assertEquals(expected, actual);
 	}
 
@@ -59,10 +77,10 @@ public class MediaClientTest {
 				+ "        \"custom_params\": MEDIA_CUSTOM_PARAMS," + "        \"tags\": MEDIA_TAGS," + "    },"
 				+ "    \"relationships\": {" + "        \"protection_rule\": {" + "            \"id\": \"protect2\","
 				+ "            \"type\": \"protection_rule\"," + "        }," + "    }," + "}");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap())).thenReturn(expected);
 		JSONObject actual = mediaClient.createMedia("siteId", new HashMap<>());
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap());
 		assertEquals(expected, actual);
 	}
 
@@ -71,11 +89,11 @@ public class MediaClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap())).thenReturn(expected);
 		JSONObject actual = mediaClient.retrieveMediaById("siteId", "ajhsbjdsha", new HashMap<>());
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap());
 	}
 
 	@Test
@@ -83,11 +101,11 @@ public class MediaClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap())).thenReturn(expected);
 		JSONObject actual = mediaClient.deleteMedia("siteId", "ajhsbjdsha");
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap());
 	}
 
 	@Test
@@ -95,11 +113,11 @@ public class MediaClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap())).thenReturn(expected);
 		JSONObject actual = mediaClient.updateMedia("siteId", "ajhsbjdsha", new HashMap<>());
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap());
 	}
 
 	@Test
@@ -107,10 +125,160 @@ public class MediaClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap())).thenReturn(expected);
 		JSONObject actual = mediaClient.reuploadMedia("siteId", "ajhsbjdsha", new HashMap<>());
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap());
+	}
+
+	@Test
+	public void testRetrieveMediaByIdAsync() throws Exception {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final HttpTransport transport = request -> {
+			sent.add(request);
+			return new TransportResponse(200, new HashMap<>(), "{\"id\":\"abc\"}".getBytes(StandardCharsets.UTF_8));
+		};
+		final MediaClient client = MediaClient.getClient("fakeSecret", transport);
+		JSONObject first = client.retrieveMediaByIdAsync("siteId", "abc", new HashMap<>()).get();
+		client.retrieveMediaByIdAsync("siteId", "def", new HashMap<>()).get();
+		assertEquals("abc", first.getString("id"));
+		assertEquals("https://api.jwplayer.com/v2/sites/siteId/media/abc/", sent.get(0).getUrl());
+		assertEquals("https://api.jwplayer.com/v2/sites/siteId/media/def/", sent.get(1).getUrl());
+		assertEquals("Bearer fakeSecret", sent.get(0).getHeaders().get("Authorization"));
+	}
+
+	@Test
+	public void testRetrieveMediaByIdAsyncNotFound() throws InterruptedException {
+		final HttpTransport transport = request -> new TransportResponse(404, new HashMap<>(),
+				"{\"errors\":[{\"code\":\"not_found\"}]}".getBytes(StandardCharsets.UTF_8));
+		try {
+			MediaClient.getClient("fakeSecret", transport).retrieveMediaByIdAsync("siteId", "abc", new HashMap<>())
+					.get();
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformException);
+		}
+	}
+
+	@Test
+	public void testListAllMediaPages() {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final HttpTransport transport = request -> {
+			sent.add(request);
+			final boolean first = request.getUrl().contains("page=1");
+			return new TransportResponse(200, new HashMap<>(), ("{\"media\":[{\"id\":\"" + (first ? "a" : "b")
+					+ "\"}],\"page_length\":1,\"total\":2}").getBytes(StandardCharsets.UTF_8));
+		};
+		final List<Object> ids = new ArrayList<>();
+		for (final JSONObject media : MediaClient.getClient("fakeSecret", transport)
+				.listAllMediaPages("siteId", new HashMap<>()).pageLength(1)) {
+			ids.add(media.get("id"));
+		}
+		assertEquals(Arrays.asList("a", "b"), ids);
+		assertEquals("https://api.jwplayer.com/v2/sites/siteId/media/?page=2&page_length=1", sent.get(1).getUrl());
+	}
+
+	@Test
+	public void testListAllMediaStreaming() throws JWPlatformException {
+		final HttpTransport transport = request -> new TransportResponse(200, new HashMap<>(),
+				"{\"media\":[{\"id\":\"a\"},{\"id\":\"b\"}],\"page\":1}".getBytes(StandardCharsets.UTF_8));
+		final List<Object> ids = new ArrayList<>();
+		final JSONObject rest = MediaClient.getClient("fakeSecret", transport).listAllMedia("siteId",
+				new HashMap<>(), media -> ids.add(media.get("id")));
+		assertEquals(Arrays.asList("a", "b"), ids);
+		assertEquals(1, rest.getInt("page"));
+	}
+
+	@Test
+	public void testRetrieveMediaByIdView() throws JWPlatformException {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final HttpTransport transport = request -> {
+			sent.add(request);
+			return new TransportResponse(200, new HashMap<>(),
+					"{\"id\":\"abc\",\"metadata\":{\"title\":\"t\"}}".getBytes(StandardCharsets.UTF_8));
+		};
+		final JsonView media = MediaClient.getClient("fakeSecret", transport).retrieveMediaByIdView("siteId", "abc",
+				new HashMap<>());
+		assertEquals("t", media.at("metadata", "title").asString());
+		assertEquals("https://api.jwplayer.com/v2/sites/siteId/media/abc/", sent.get(0).getUrl());
+	}
+
+	@Test
+	public void testUpdateMediaTyped() throws JWPlatformException {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final HttpTransport transport = request -> {
+			sent.add(request);
+			return new TransportResponse(200, new HashMap<>(),
+					"{\"id\":\"abc\",\"status\":\"ready\",\"metadata\":{\"title\":\"t\"}}"
+							.getBytes(StandardCharsets.UTF_8));
+		};
+		final Media media = MediaClient.getClient("fakeSecret", transport).updateMediaTyped("siteId", "abc",
+				MediaMetadata.builder().title("t").build());
+		assertEquals("ready", media.getStatus());
+		assertEquals("t", media.getMetadata().getTitle());
+		assertEquals("PATCH", sent.get(0).getMethod());
+		assertEquals("{\"metadata\":{\"title\":\"t\"}}",
+				new String(sent.get(0).getBodyBytes(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testListAllMediaProjected() throws JWPlatformException {
+		final HttpTransport transport = request -> new TransportResponse(200, new HashMap<>(),
+				"{\"media\":[{\"id\":\"abc\",\"status\":\"ready\",\"metadata\":{\"title\":\"t\"}}],\"total\":1}"
+						.getBytes(StandardCharsets.UTF_8));
+		final JSONObject page = MediaClient.getClient("fakeSecret", transport).listAllMedia("siteId", new HashMap<>(),
+				Projection.of("id"));
+		assertEquals(1, page.getInt("total"));
+		assertEquals("{\"id\":\"abc\"}", page.getJSONArray("media").getJSONObject(0).toString());
+	}
+
+	@Test
+	public void testTypedMethods() throws JWPlatformException {
+		mockStatic(HttpCalls.class);
+		String media = "{\"id\":\"mediaId\",\"status\":\"ready\",\"error_message\":\"none\",\"duration\":100.0,"
+				+ "\"external_id\":\"1\",\"trim_in_point\":\"00:00:01\",\"trim_out_point\":\"00:01:00\","
+				+ "\"mime_type\":\"video/mp4\",\"media_type\":\"video\",\"hosting_type\":\"hosted\","
+				+ "\"metadata\":{\"title\":\"t\",\"description\":\"d\",\"author\":\"me\",\"permalink\":\"site1.com\","
+				+ "\"category\":\"Automotive\",\"publish_start_date\":\"2018-10-01T13:58:15+00:00\","
+				+ "\"publish_end_date\":\"2018-10-02T13:58:15+00:00\",\"external_id\":\"1\",\"language\":\"en\","
+				+ "\"tags\":[\"a\"],\"custom_params\":{\"k\":\"v\"},\"unknown\":true}}";
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(),
+				anyMap())).thenReturn(JsonView.parse(("{\"media\":[" + media + "],\"total\":1}")
+						.getBytes(StandardCharsets.UTF_8)))
+				.thenReturn(JsonView.parse(media.getBytes(StandardCharsets.UTF_8)));
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), any(byte[].class), anyString(), anyMap()))
+				.thenReturn(JsonView.parse(media.getBytes(StandardCharsets.UTF_8)));
+		ResourcePage<Media> page = mediaClient.listAllMediaTyped("siteId", new HashMap<>());
+		assertEquals("mediaId", page.getItems().get(0).getId());
+		Media retrieved = mediaClient.retrieveMediaByIdTyped("siteId", "mediaId", new HashMap<>());
+		assertEquals("none", retrieved.getErrorMessage());
+		assertEquals("1", retrieved.getExternalId());
+		assertEquals("00:00:01", retrieved.getTrimInPoint());
+		assertEquals("00:01:00", retrieved.getTrimOutPoint());
+		assertEquals("video/mp4", retrieved.getMimeType());
+		assertEquals("video", retrieved.getMediaType());
+		assertEquals("hosted", retrieved.getHostingType());
+		MediaMetadata decoded = retrieved.getMetadata();
+		assertEquals("d", decoded.getDescription());
+		assertEquals("me", decoded.getAuthor());
+		assertEquals("site1.com", decoded.getPermalink());
+		assertEquals("Automotive", decoded.getCategory());
+		assertEquals("2018-10-01T13:58:15+00:00", decoded.getPublishStartDate());
+		assertEquals("2018-10-02T13:58:15+00:00", decoded.getPublishEndDate());
+		assertEquals("1", decoded.getExternalId());
+		assertEquals("en", decoded.getLanguage());
+
+		MediaMetadata metadata = MediaMetadata.builder().title("t").description("d").author("me")
+				.permalink("site1.com").category("Automotive").publishStartDate("2018-10-01T13:58:15+00:00")
+				.publishEndDate("2018-10-02T13:58:15+00:00").externalId("1").language("en")
+				.tags(Arrays.asList("a")).customParams(Collections.singletonMap("k", "v")).build();
+		assertEquals("ready", mediaClient.createMediaTyped("siteId", "https://example.com/v.mp4", metadata).getStatus());
+		ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
+		HttpCalls.requestView(any(HttpTransport.class), anyString(), body.capture(), anyString(), anyMap());
+		JSONObject sent = new JSONObject(new String(body.getValue(), StandardCharsets.UTF_8));
+		assertEquals("https://example.com/v.mp4", sent.getJSONObject("upload").getString("download_url"));
+		assertEquals(11, sent.getJSONObject("metadata").length());
 	}
 }
@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -22,6 +23,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -33,15 +35,15 @@ public class MediaRenditionTest {
 	public void testAllMethods() throws JWPlatformException {
 		mediaRenditionClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"success\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Object creation successful\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Deletion success!\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Update successful\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Put successful\"}"));
 		JSONObject listResp = mediaRenditionClient.listMediaRenditions("siteId", "mediaId",new HashMap<>());
 		assertEquals(listResp.get("code"), "success");
@@ -55,7 +57,7 @@ public class MediaRenditionTest {
 		mediaRenditionClient.deleteRendition("siteId","mediaId", "renditionId");
 		mediaRenditionClient.getRenditionById("siteId", "mediaId", "renditionId", new HashMap<>());
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(7));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		mediaRenditionClient.removeHeader("test");
 	}
 
@@ -63,7 +65,7 @@ public class MediaRenditionTest {
 	public void testGetMediaRenditionException() throws JSONException, JWPlatformException {
 		mediaRenditionClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		mediaRenditionClient.listMediaRenditions("siteId", "mediaId", new HashMap<>());
 	}
@@ -0,0 +1,404 @@
+package com.jwplayer.jwplatform.client;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformFileUploadFailedException;
+import com.jwplayer.jwplatform.model.MediaMetadata;
+import com.jwplayer.jwplatform.rest.BandwidthScheduler;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.RetryPolicy;
+import com.jwplayer.jwplatform.rest.TransportRequest;
+import com.jwplayer.jwplatform.rest.TransportResponse;
+
+public class MultipartUploaderTest {
+
+	private static final int PART = (int) MultipartUploader.MIN_PART_SIZE;
+
+	private File file;
+	private byte[] content;
+	private final List<TransportRequest> requests = Collections.synchronizedList(new ArrayList<>());
+	/** ETags of the parts the storage has, by upload link. */
+	private final Map<String, String> stored = new ConcurrentHashMap<>();
+	private final HttpTransport transport = request -> {
+		requests.add(request);
+		final String url = request.getUrl();
+		if (url.contains("/sites/site/media/")) {
+			return json("{\"id\":\"abc\",\"upload_id\":\"up\",\"upload_token\":\"token\"}");
+		}
+		if (url.contains("/parts/")) {
+			final JSONArray parts = new JSONArray();
+			final int length = Integer.parseInt(query(url, "page_length"));
+			final int first = (Integer.parseInt(query(url, "page")) - 1) * length + 1;
+			for (int number = first; number < first + length; number++) {
+				final String link = "https://storage/" + number;
+				parts.put(new JSONObject().put("part_number", number).put("upload_link", link).putOpt("etag",
+						stored.get(link)));
+			}
+			return json(new JSONObject().put("parts", parts).toString());
+		}
+		return json("{}");
+	};
+
+	@Before
+	public void setUp() throws Exception {
+		content = new byte[2 * PART + 1234];
+		new Random(7).nextBytes(content);
+		file = File.createTempFile("multipart", ".bin");
+		Files.write(file.toPath(), content);
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	private static TransportResponse json(final String body) {
+		return new TransportResponse(200, Collections.emptyMap(), body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String query(final String url, final String name) {
+		for (final String pair : url.substring(url.indexOf('?') + 1).split("&")) {
+			if (pair.startsWith(name + "=")) {
+				return pair.substring(name.length() + 1);
+			}
+		}
+		throw new AssertionError(name + " missing from " + url);
+	}
+
+	@Test
+	public void testUploadsPartsConcurrentlyAndCompletes() throws JWPlatformException {
+		final Map<String, byte[]> received = new ConcurrentHashMap<>();
+		final AtomicInteger inFlight = new AtomicInteger();
+		final AtomicInteger mostInFlight = new AtomicInteger();
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(PART).parallelism(3).partSender((link, part) -> {
+					mostInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					try {
+						Thread.sleep(50);
+					} catch (final InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					final byte[] bytes = new byte[part.remaining()];
+					part.get(bytes);
+					received.put(link, bytes);
+					inFlight.decrementAndGet();
+					return "etag";
+				}).build();
+
+		final JSONObject media = uploader.upload("site", file, MediaMetadata.builder().title("t").build());
+
+		assertEquals("abc", media.getString("id"));
+		assertEquals(3, received.size());
+		assertEquals(3, mostInFlight.get());
+		final ByteBuffer joined = ByteBuffer.allocate(content.length);
+		for (int number = 1; number <= 3; number++) {
+			joined.put(received.get("https://storage/" + number));
+		}
+		assertArrayEquals(content, joined.array());
+
+		assertEquals("{\"upload\":{\"method\":\"multipart\"},\"metadata\":{\"title\":\"t\"}}",
+				new String(requests.get(0).getBodyBytes(), StandardCharsets.UTF_8));
+		assertEquals("3", query(requests.get(1).getUrl(), "page_length"));
+		assertEquals("Bearer token", requests.get(1).getHeaders().get("Authorization"));
+		final TransportRequest complete = requests.get(requests.size() - 1);
+		assertEquals("PUT", complete.getMethod());
+		assertTrue(complete.getUrl().contains("/v2/uploads/up/complete/"));
+	}
+
+	@Test
+	public void testUploadsStreamOfUnknownLength() throws JWPlatformException {
+		final Map<String, byte[]> received = new ConcurrentHashMap<>();
+		final AtomicInteger heapParts = new AtomicInteger();
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(PART).parallelism(2).partSender((link, part) -> {
+					if (!part.isDirect()) {
+						heapParts.incrementAndGet();
+					}
+					final byte[] bytes = new byte[part.remaining()];
+					part.get(bytes);
+					received.put(link, bytes);
+					return "etag";
+				}).build();
+
+		uploader.upload("site", new ByteArrayInputStream(content), MediaMetadata.builder().title("t").build());
+
+		assertEquals(3, received.size());
+		assertEquals(0, heapParts.get());
+		final ByteBuffer joined = ByteBuffer.allocate(content.length);
+		for (int number = 1; number <= 3; number++) {
+			joined.put(received.get("https://storage/" + number));
+		}
+		assertArrayEquals(content, joined.array());
+		assertEquals(String.valueOf(MultipartUploader.STREAM_PAGE_LENGTH),
+				query(requests.get(1).getUrl(), "page_length"));
+		assertTrue(requests.get(requests.size() - 1).getUrl().contains("/v2/uploads/up/complete/"));
+	}
+
+	@Test
+	public void testStreamBuffersOutliveAPartSizeChange() throws JWPlatformException {
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.parallelism(2).targetPartDuration(Duration.ofMillis(1)).partSender((link, part) -> {
+					try {
+						Thread.sleep(50);
+					} catch (final InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return null;
+				}).build();
+		final DirectBufferPool pool = uploader.getStreamBuffers();
+		final int unmeasured = uploader.streamPartSize();
+		assertEquals(pool.getCapacity(), unmeasured);
+
+		uploader.upload("site", new ByteArrayInputStream(content), MediaMetadata.builder().build());
+
+		// a millisecond's worth of the measured throughput is below the minimum
+		assertEquals(PART, uploader.streamPartSize());
+		assertSame(pool, uploader.getStreamBuffers());
+		assertEquals(unmeasured, pool.getCapacity());
+	}
+
+	@Test
+	public void testStreamUploadStopsWhenPartFails() {
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(PART).parallelism(1)
+				.retryPolicy(RetryPolicy.builder().maxAttempts(1).baseDelay(Duration.ZERO).build())
+				.partSender((link, part) -> {
+					throw new JWPlatformFileUploadFailedException("HTTP 403");
+				}).build();
+
+		try {
+			uploader.upload("site", new ByteArrayInputStream(content), MediaMetadata.builder().title("t").build());
+			fail("Expected the upload to fail");
+		} catch (final JWPlatformException e) {
+			assertTrue(e instanceof JWPlatformFileUploadFailedException);
+		}
+		for (final TransportRequest request : requests) {
+			assertTrue(!request.getUrl().contains("/complete/"));
+		}
+	}
+
+	@Test
+	public void testFailedPartIsRetried() throws JWPlatformException {
+		final AtomicInteger attempts = new AtomicInteger();
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(PART).retryPolicy(RetryPolicy.builder().maxAttempts(3).baseDelay(Duration.ZERO).build())
+				.partSender((link, part) -> {
+					if (link.endsWith("/2") && attempts.incrementAndGet() < 3) {
+						throw new JWPlatformFileUploadFailedException("HTTP 500");
+					}
+					return null;
+				}).build();
+
+		uploader.upload("site", file, MediaMetadata.builder().build());
+
+		assertEquals(3, attempts.get());
+		assertTrue(requests.get(requests.size() - 1).getUrl().contains("/complete/"));
+	}
+
+	@Test
+	public void testUploadStopsWhenPartFails() {
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(PART).parallelism(1)
+				.retryPolicy(RetryPolicy.builder().maxAttempts(2).baseDelay(Duration.ZERO).build())
+				.partSender((link, part) -> {
+					throw new JWPlatformFileUploadFailedException("HTTP 403");
+				}).build();
+		try {
+			uploader.upload("site", file, MediaMetadata.builder().build());
+			fail("Expected JWPlatformFileUploadFailedException");
+		} catch (final JWPlatformException e) {
+			assertTrue(e instanceof JWPlatformFileUploadFailedException);
+		}
+		for (final TransportRequest request : requests) {
+			assertTrue(!request.getUrl().contains("/complete/"));
+		}
+	}
+
+	@Test
+	public void testResumesFromJournalAfterFailure() throws Exception {
+		final Path journal = Files.createTempDirectory("journal").resolve("upload.journal");
+		final MultipartUploader failing = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(PART).parallelism(1).retryPolicy(RetryPolicy.builder().maxAttempts(1).build())
+				.partSender((link, part) -> {
+					if (link.endsWith("/3")) {
+						throw new JWPlatformFileUploadFailedException("HTTP 500");
+					}
+					stored.put(link, "etag-" + link.charAt(link.length() - 1));
+					return stored.get(link);
+				}).build();
+		try {
+			failing.upload("site", file.toPath(), MediaMetadata.builder().build(), journal);
+			fail("Expected JWPlatformFileUploadFailedException");
+		} catch (final JWPlatformFileUploadFailedException e) {
+			// the worker died here
+		}
+		final UploadJournal recorded = UploadJournal.load(journal);
+		assertEquals("up", recorded.getHeader().getJSONObject("media").getString("upload_id"));
+		assertEquals(2, recorded.getParts().size());
+		assertEquals("etag-2", recorded.getParts().get(2));
+
+		// the storage lost part 2, so it is sent again along with part 3
+		stored.remove("https://storage/2");
+		requests.clear();
+		final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+		final MultipartUploader resuming = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(2 * PART).partSender((link, part) -> {
+					// the journal's part size is kept
+					assertTrue(part.remaining() <= PART);
+					sent.add(link);
+					return null;
+				}).build();
+		final JSONObject media = resuming.upload("site", file.toPath(), MediaMetadata.builder().build(), journal);
+
+		assertEquals("abc", media.getString("id"));
+		Collections.sort(sent);
+		assertEquals(Arrays.asList("https://storage/2", "https://storage/3"), sent);
+		for (final TransportRequest request : requests) {
+			assertTrue(!request.getUrl().contains("/sites/site/media/"));
+		}
+		assertTrue(requests.get(requests.size() - 1).getUrl().contains("/complete/"));
+		assertTrue(!Files.exists(journal));
+	}
+
+	@Test
+	public void testResumeSendsPartsOverwrittenSinceTheJournal() throws Exception {
+		final Path journal = Files.createTempDirectory("journal").resolve("upload.journal");
+		final Map<Integer, String> recorded = new TreeMap<>();
+		recorded.put(1, "etag-1");
+		recorded.put(2, "etag-2");
+		UploadJournal.start(journal, new JSONObject().put("site_id", "site").put("size", content.length)
+				.put("modified", Files.getLastModifiedTime(file.toPath()).toMillis()).put("part_size", PART)
+				.put("media", new JSONObject().put("id", "abc").put("upload_id", "up").put("upload_token", "token")),
+				recorded).close();
+		stored.put("https://storage/1", "etag-1");
+		stored.put("https://storage/2", "someone-else");
+		final List<String> sent = Collections.synchronizedList(new ArrayList<>());
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(PART).partSender((link, part) -> {
+					sent.add(link);
+					return null;
+				}).build();
+
+		uploader.upload("site", file.toPath(), MediaMetadata.builder().build(), journal);
+
+		Collections.sort(sent);
+		assertEquals(Arrays.asList("https://storage/2", "https://storage/3"), sent);
+	}
+
+	@Test
+	public void testReconcile() {
+		final String[] etags = { "a", "b", null, "d" };
+		final Map<Integer, String> recorded = new TreeMap<>();
+		recorded.put(1, "a");
+		recorded.put(2, "other");
+		recorded.put(3, "c");
+		recorded.put(4, null);
+		recorded.put(9, "beyond");
+		MultipartUploader.reconcile(etags, recorded);
+		assertArrayEquals(new String[] { "a", null, null, "d" }, etags);
+	}
+
+	@Test
+	public void testChangedFileStartsOver() throws Exception {
+		final Path journal = Files.createTempDirectory("journal").resolve("upload.journal");
+		UploadJournal.start(journal, new JSONObject().put("site_id", "site").put("size", content.length + 1)
+				.put("modified", 0).put("part_size", PART).put("media", new JSONObject().put("upload_id", "old")
+						.put("upload_token", "old")), Collections.singletonMap(1, "etag-1")).close();
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.partSize(PART).partSender((link, part) -> null).build();
+
+		uploader.upload("site", file.toPath(), MediaMetadata.builder().build(), journal);
+
+		assertTrue(requests.get(0).getUrl().contains("/sites/site/media/"));
+		assertTrue(requests.get(requests.size() - 1).getUrl().contains("/v2/uploads/up/complete/"));
+	}
+
+	@Test
+	public void testAdaptivePartSize() {
+		final long mb = 1024L * 1024;
+		// unknown throughput: the fallback, split so four connections have work
+		assertEquals(64 * mb, MultipartUploader.adaptivePartSize(1024 * mb, 4, 0, 20_000, 64 * mb));
+		assertEquals(10 * mb, MultipartUploader.adaptivePartSize(40 * mb, 4, 0, 20_000, 64 * mb));
+		// 20 MB/s for 20 seconds
+		assertEquals(400 * mb, MultipartUploader.adaptivePartSize(80 * 1024 * mb, 4, 20 * mb, 20_000, 64 * mb));
+	}
+
+	@Test
+	public void testAdaptiveUploadMeasuresThroughputWithinBandwidth() throws JWPlatformException {
+		final List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+		final MultipartUploader uploader = MultipartUploader.builder(MediaClient.getClient("secret", transport))
+				.parallelism(3).bandwidth(BandwidthScheduler.create(1L << 40)).partSender((link, part) -> {
+					sizes.add(part.remaining());
+					return null;
+				}).build();
+		assertTrue(uploader.isAdaptivePartSize());
+		assertEquals(0, uploader.getPartThroughput());
+
+		uploader.upload("site", file, MediaMetadata.builder().build());
+
+		// split over the three connections, within the 5 MB minimum
+		assertEquals(3, sizes.size());
+		assertTrue(uploader.getPartThroughput() > 0);
+	}
+
+	@Test
+	public void testPartSizeLimits() {
+		final long gb = 1024L * 1024 * 1024;
+		assertEquals(MultipartUploader.MIN_PART_SIZE, MultipartUploader.partSize(gb, 1));
+		assertEquals(64L * 1024 * 1024, MultipartUploader.partSize(gb, 64L * 1024 * 1024));
+		// 80 GB in 8 MB parts would need more than 10,000 parts
+		final long partSize = MultipartUploader.partSize(80 * gb, 8L * 1024 * 1024);
+		assertEquals(MultipartUploader.MAX_PARTS, MultipartUploader.partCount(80 * gb, partSize));
+		assertEquals(1, MultipartUploader.partCount(0, partSize));
+	}
+
+	@Test
+	public void testStreamBuffersFitMemoryBudget() {
+		final long mb = 1024L * 1024;
+		final MediaClient client = MediaClient.getClient("secret", transport);
+		final MultipartUploader defaults = MultipartUploader.builder(client).build();
+		assertEquals(64 * mb, defaults.getStreamMemory());
+		final int part = defaults.streamPartSize();
+		assertEquals(64 * mb / 5, part);
+		assertEquals(5, defaults.streamBufferCount(part));
+		assertEquals(part, defaults.getStreamBuffers().getCapacity());
+		assertEquals(5, defaults.getStreamBuffers().getCount());
+
+		// parts stay at 5 MB and fewer are in flight
+		final MultipartUploader tight = MultipartUploader.builder(client).parallelism(8).streamMemory(12 * mb).build();
+		assertEquals(MultipartUploader.MIN_PART_SIZE, tight.streamPartSize());
+		assertEquals(2, tight.streamBufferCount(tight.streamPartSize()));
+
+		final MultipartUploader roomy = MultipartUploader.builder(client).streamMemory(1024 * mb).build();
+		assertEquals(MultipartUploader.MAX_STREAM_PART_SIZE, roomy.streamPartSize());
+		assertEquals(5, roomy.streamBufferCount(roomy.streamPartSize()));
+	}
+}
@@ -0,0 +1,218 @@
+package com.jwplayer.jwplatform.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformNotFoundException;
+import com.jwplayer.jwplatform.exception.UncheckedJWPlatformException;
+
+public class PagesTest {
+	private final List<Map<String, String>> requested = new ArrayList<>();
+
+	/**
+	 * Serves {@code total} media items in pages, optionally without paging
+	 * metadata.
+	 */
+	private CompletableFuture<JSONObject> serve(final Map<String, String> params, final int total,
+			final boolean withTotal) {
+		requested.add(params);
+		return CompletableFuture.completedFuture(page(params, total, withTotal));
+	}
+
+	private static JSONObject page(final Map<String, String> params, final int total, final boolean withTotal) {
+		final int page = Integer.parseInt(params.get("page"));
+		final int length = Integer.parseInt(params.getOrDefault("page_length", "10"));
+		final JSONArray media = new JSONArray();
+		for (int i = (page - 1) * length; i < Math.min(total, page * length); i++) {
+			media.put(new JSONObject().put("id", "m" + i));
+		}
+		final JSONObject body = new JSONObject().put("media", media);
+		if (withTotal) {
+			body.put("page", page).put("page_length", length).put("total", total);
+		}
+		return body;
+	}
+
+	@Test
+	public void testIteratesAllPages() {
+		final Pages pages = new Pages(params -> serve(params, 25, true), "media", Collections.singletonMap("q", "x"));
+		final List<String> ids = pages.stream().map(item -> item.getString("id")).collect(Collectors.toList());
+		assertEquals(25, ids.size());
+		assertEquals("m0", ids.get(0));
+		assertEquals("m24", ids.get(24));
+		assertEquals(3, requested.size());
+		assertEquals("3", requested.get(2).get("page"));
+		assertEquals("x", requested.get(2).get("q"));
+	}
+
+	@Test
+	public void testPrefetchesNextPage() {
+		final Iterator<JSONObject> items = new Pages(params -> serve(params, 25, true), "media", null).iterator();
+		assertTrue(requested.isEmpty());
+		items.next();
+		// page 2 is requested as soon as page 1 arrives
+		assertEquals(2, requested.size());
+	}
+
+	@Test
+	public void testStopsOnShortPageWithoutTotal() {
+		final Pages pages = new Pages(params -> serve(params, 25, false), "media", null).pageLength(10);
+		assertEquals(25, pages.stream().count());
+		assertEquals(3, requested.size());
+		assertEquals("10", requested.get(0).get("page_length"));
+	}
+
+	@Test
+	public void testExactMultipleWithoutTotal() {
+		final Pages pages = new Pages(params -> serve(params, 20, false), "media", null).pageLength(10);
+		assertEquals(20, pages.stream().count());
+		assertEquals(3, requested.size());
+	}
+
+	@Test
+	public void testStartsAtGivenPage() {
+		final Map<String, String> params = new HashMap<>();
+		params.put("page", "2");
+		assertEquals(15, new Pages(p -> serve(p, 25, true), "media", params).stream().count());
+		assertEquals("2", requested.get(0).get("page"));
+	}
+
+	@Test
+	public void testEmptyListing() {
+		final Iterator<JSONObject> items = new Pages(params -> serve(params, 0, true), "media", null).iterator();
+		assertFalse(items.hasNext());
+		assertEquals(1, requested.size());
+	}
+
+	@Test
+	public void testItemsAreReadFromItemKey() {
+		final JSONObject body = new JSONObject().put("tags", new JSONArray().put("a").put("b"))
+				.put("media", new JSONArray().put(new JSONObject().put("id", "m0"))).put("page_length", 10);
+		final List<JSONObject> items = new ArrayList<>();
+		new Pages(params -> CompletableFuture.completedFuture(body), "media", null).forEach(items::add);
+		assertEquals(1, items.size());
+		assertEquals("m0", items.get(0).getString("id"));
+		assertEquals(0, new Pages(params -> CompletableFuture.completedFuture(body), "playlists", null).stream()
+				.count());
+	}
+
+	@Test
+	public void testFailedPageIsRethrown() {
+		final Pages pages = new Pages(params -> {
+			if ("2".equals(params.get("page"))) {
+				final CompletableFuture<JSONObject> failed = new CompletableFuture<>();
+				failed.completeExceptionally(new JWPlatformNotFoundException("gone"));
+				return failed;
+			}
+			return serve(params, 25, true);
+		}, "media", null);
+		final Iterator<JSONObject> items = pages.iterator();
+		for (int i = 0; i < 10; i++) {
+			items.next();
+		}
+		try {
+			items.hasNext();
+			fail("Expected the second page to fail");
+		} catch (final UncheckedJWPlatformException e) {
+			assertTrue(e.getCause() instanceof JWPlatformNotFoundException);
+		}
+	}
+
+	/**
+	 * Serves page 1 of 30 items right away and keeps later pages pending until
+	 * the test completes them.
+	 */
+	private final Map<Integer, CompletableFuture<JSONObject>> pending = new HashMap<>();
+
+	private CompletableFuture<JSONObject> serveLater(final Map<String, String> params) {
+		final int page = Integer.parseInt(params.get("page"));
+		if (page == 1) {
+			return serve(params, 30, true);
+		}
+		requested.add(params);
+		final CompletableFuture<JSONObject> future = new CompletableFuture<>();
+		pending.put(page, future);
+		return future;
+	}
+
+	private void complete(final int page) {
+		pending.get(page).complete(page(Collections.singletonMap("page", Integer.toString(page)), 30, true));
+	}
+
+	@Test
+	public void testParallelKeepsPagesInFlight() {
+		final Iterator<JSONObject> items = new Pages(this::serveLater, "media", null).parallel(2).iterator();
+		items.next();
+		assertEquals(3, requested.size());
+		assertEquals("2", requested.get(1).get("page"));
+		assertEquals("3", requested.get(2).get("page"));
+	}
+
+	@Test
+	public void testParallelOrdered() {
+		final Iterator<JSONObject> items = new Pages(this::serveLater, "media", null).parallel(2).iterator();
+		for (int i = 0; i < 10; i++) {
+			items.next();
+		}
+		complete(3);
+		complete(2);
+		assertEquals("m10", items.next().getString("id"));
+		for (int i = 0; i < 9; i++) {
+			items.next();
+		}
+		assertEquals("m20", items.next().getString("id"));
+		for (int i = 0; i < 9; i++) {
+			items.next();
+		}
+		assertFalse(items.hasNext());
+		assertEquals(3, requested.size());
+	}
+
+	@Test
+	public void testParallelUnordered() {
+		final Pages pages = new Pages(this::serveLater, "media", null).parallel(2).unordered();
+		final Iterator<JSONObject> items = pages.iterator();
+		for (int i = 0; i < 10; i++) {
+			items.next();
+		}
+		complete(3);
+		assertEquals("m20", items.next().getString("id"));
+		complete(2);
+		final List<String> rest = new ArrayList<>();
+		items.forEachRemaining(item -> rest.add(item.getString("id")));
+		assertEquals(19, rest.size());
+		assertEquals("m10", rest.get(9));
+		assertFalse(pages.isOrdered());
+	}
+
+	@Test
+	public void testParallelScansAllPages() {
+		final Pages pages = new Pages(params -> serve(params, 95, true), "media", null).pageLength(10).parallel(4);
+		final List<String> ids = pages.stream().map(item -> item.getString("id")).collect(Collectors.toList());
+		assertEquals(95, ids.size());
+		assertEquals("m94", ids.get(94));
+		assertEquals(10, requested.size());
+	}
+
+	@Test
+	public void testParallelWithoutTotalPagesSequentially() {
+		final Pages pages = new Pages(params -> serve(params, 25, false), "media", null).pageLength(10).parallel(4);
+		assertEquals(25, pages.stream().count());
+		assertEquals(3, requested.size());
+	}
+}
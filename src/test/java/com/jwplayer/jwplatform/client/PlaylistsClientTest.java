@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -8,6 +9,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,13 +19,19 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.Playlist;
+import com.jwplayer.jwplatform.model.PlaylistMetadata;
+import com.jwplayer.jwplatform.model.ResourcePage;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -33,13 +43,13 @@ public class PlaylistsClientTest {
 	public void testAllMethods() throws JWPlatformException {
 		playlistsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"success\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Object creation successful\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Deletion success!\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Update successful\"}"));
 		Map<String, String> params = new HashMap<>();
 		params.put("title", "test");
@@ -95,7 +105,7 @@ public class PlaylistsClientTest {
 		playlistsClient.retrievePlaylistById("siteId", "playListID", new HashMap<>());
 
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(43));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		playlistsClient.removeHeader("test");
 	}
 
@@ -103,8 +113,41 @@ public class PlaylistsClientTest {
 	public void testRetrievePlaylistByIdException() throws JSONException, JWPlatformException {
 		playlistsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		playlistsClient.retrieveArticleMatchingPlaylistById("siteId", "playlistId", new HashMap<>());
 	}
+
+	@Test
+	public void testTypedMethods() throws JWPlatformException {
+		mockStatic(HttpCalls.class);
+		String playlist = "{\"id\":\"playlistId\",\"metadata\":{\"title\":\"t\",\"description\":\"d\","
+				+ "\"media\":[\"a\",\"b\"],\"custom_params\":{\"k\":\"v\"}}}";
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(),
+				anyMap())).thenReturn(JsonView.parse(("{\"playlists\":[" + playlist + "],\"page_length\":10}")
+						.getBytes(StandardCharsets.UTF_8)))
+				.thenReturn(JsonView.parse(playlist.getBytes(StandardCharsets.UTF_8)));
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), any(byte[].class), anyString(), anyMap()))
+				.thenReturn(JsonView.parse(playlist.getBytes(StandardCharsets.UTF_8)));
+		ResourcePage<Playlist> page = playlistsClient.listPlaylistsTyped("siteId", new HashMap<>());
+		assertEquals(10, page.getPageLength());
+		assertEquals("playlistId", page.getItems().get(0).getId());
+		Playlist retrieved = playlistsClient.retrievePlaylistByIdTyped("siteId", "playlistId", new HashMap<>());
+		assertEquals("t", retrieved.getMetadata().getTitle());
+		assertEquals("d", retrieved.getMetadata().getDescription());
+		assertEquals(Arrays.asList("a", "b"), retrieved.getMetadata().getMediaIds());
+		assertEquals("v", retrieved.getMetadata().getCustomParams().get("k"));
+
+		PlaylistMetadata metadata = PlaylistMetadata.builder().title("t").description("d")
+				.mediaIds(Arrays.asList("a", "b")).customParams(Collections.singletonMap("k", "v")).build();
+		assertEquals("playlistId", playlistsClient.createManualPlaylistTyped("siteId", metadata).getId());
+		assertEquals("t", playlistsClient.updateManualPlaylistTyped("siteId", "playlistId", metadata).getMetadata()
+				.getTitle());
+		ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(2));
+		HttpCalls.requestView(any(HttpTransport.class), anyString(), body.capture(), anyString(), anyMap());
+		JSONObject sent = new JSONObject(new String(body.getValue(), StandardCharsets.UTF_8)).getJSONObject("metadata");
+		assertEquals("b", sent.getJSONArray("media").getString(1));
+		assertEquals("v", sent.getJSONObject("custom_params").getString("k"));
+	}
 }
@@ -0,0 +1,44 @@
+package com.jwplayer.jwplatform.client;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class RouteTemplateTest {
+
+	@Test
+	public void testExpand() {
+		final RouteTemplate template = RouteTemplate
+				.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/{media_id}/reupload/");
+		assertEquals("https://api.jwplayer.com/v2/sites/abc/media/def/reupload/", template.expand("abc", "def"));
+	}
+
+	@Test
+	public void testExpandWithoutPlaceholders() {
+		final RouteTemplate template = RouteTemplate.compile("https://api.jwplayer.com/v2/webhooks/");
+		assertEquals("https://api.jwplayer.com/v2/webhooks/", template.expand());
+	}
+
+	@Test
+	public void testExpandQueryString() {
+		final RouteTemplate template = RouteTemplate
+				.compile("https://api.jwplayer.com/v2/sites/{site_id}/analytics/queries/?source={source}&format={format}");
+		assertEquals("https://api.jwplayer.com/v2/sites/abc/analytics/queries/?source=default&format=json",
+				template.expand("abc", "default", "json"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testExpandWrongNumberOfValues() {
+		RouteTemplate.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/").expand("abc", "def");
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void testExpandNullValue() {
+		RouteTemplate.compile("https://api.jwplayer.com/v2/sites/{site_id}/media/").expand((String) null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnterminatedPlaceholder() {
+		RouteTemplate.compile("https://api.jwplayer.com/v2/sites/{site_id/media/");
+	}
+}
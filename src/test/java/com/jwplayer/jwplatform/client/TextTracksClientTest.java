@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -8,6 +9,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 
 import org.json.JSONObject;
@@ -19,7 +21,11 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.ResourcePage;
+import com.jwplayer.jwplatform.model.TextTrack;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
 import com.mashape.unirest.http.Unirest;
 
 @RunWith(PowerMockRunner.class)
@@ -35,10 +41,10 @@ public class TextTracksClientTest {
 		expected.append("media", new JSONObject());
 		expected.append("page_length", 1);
 		expected.append("total", 1);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap())).thenReturn(expected);
 		JSONObject actual = textTracksClient.listTextTracks("siteId", "mediaId", new HashMap<String, String>());
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap());
 		assertEquals(expected, actual);
 	}
 
@@ -46,10 +52,10 @@ public class TextTracksClientTest {
 	public void testCreateTextTrack() throws JWPlatformException {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject("{\"code\":\"Success\"}");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap())).thenReturn(expected);
 		JSONObject actual = textTracksClient.createTextTrack("siteId", "mediaId",new HashMap<>());
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap());
 		assertEquals(expected, actual);
 	}
 
@@ -58,11 +64,11 @@ public class TextTracksClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap())).thenReturn(expected);
 		JSONObject actual = textTracksClient.getTextTrackById("siteId", "mediaId", "ajhsbjdsha", new HashMap<>());
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap());
 	}
 
 	@Test
@@ -70,11 +76,11 @@ public class TextTracksClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap())).thenReturn(expected);
 		JSONObject actual = textTracksClient.deleteTextTrack("siteId", "mediaId", "ajhsbjdsha");
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap());
 	}
 
 	@Test
@@ -82,11 +88,11 @@ public class TextTracksClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap())).thenReturn(expected);
 		JSONObject actual = textTracksClient.updateTextTrack("siteId", "mediaId", "ajhsbjdsha", new HashMap<>());
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap());
 	}
 
 	@Test
@@ -94,11 +100,11 @@ public class TextTracksClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap())).thenReturn(expected);
 		JSONObject actual = textTracksClient.publishTextTrack("siteId", "mediaId", "ajhsbjdsha", new HashMap<>());
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap());
 	}
 	
 	@Test
@@ -106,10 +112,32 @@ public class TextTracksClientTest {
 		mockStatic(HttpCalls.class);
 		JSONObject expected = new JSONObject();
 		expected.append("key", "value");
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap())).thenReturn(expected);
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap())).thenReturn(expected);
 		JSONObject actual = textTracksClient.unpublishTextTrack("siteId", "mediaId", "ajhsbjdsha", new HashMap<>());
 		assertEquals(expected, actual);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(1));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap());
+	}
+
+	@Test
+	public void testTypedMethods() throws JWPlatformException {
+		mockStatic(HttpCalls.class);
+		String track = "{\"id\":\"trackId\",\"status\":\"ready\",\"delivery_url\":\"https://example.com/t.vtt\","
+				+ "\"track_kind\":\"captions\",\"metadata\":{\"label\":\"English\",\"srclang\":\"en\",\"other\":1}}";
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(),
+				anyMap())).thenReturn(JsonView.parse(("{\"text_tracks\":[" + track + "],\"total\":1}")
+						.getBytes(StandardCharsets.UTF_8)))
+				.thenReturn(JsonView.parse(track.getBytes(StandardCharsets.UTF_8)));
+		ResourcePage<TextTrack> page = textTracksClient.listTextTracksTyped("siteId", "mediaId", new HashMap<>());
+		assertEquals(1, page.getTotal());
+		assertEquals("trackId", page.getItems().get(0).getId());
+		TextTrack retrieved = textTracksClient.getTextTrackByIdTyped("siteId", "mediaId", "trackId", new HashMap<>());
+		assertEquals("ready", retrieved.getStatus());
+		assertEquals("https://example.com/t.vtt", retrieved.getDeliveryUrl());
+		assertEquals("captions", retrieved.getTrackKind());
+		assertEquals("English", retrieved.getLabel());
+		assertEquals("en", retrieved.getSrclang());
+		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(2));
+		HttpCalls.requestView(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 	}
 }
@@ -1,6 +1,8 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -8,6 +10,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,7 +24,11 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.ResourcePage;
+import com.jwplayer.jwplatform.model.Thumbnail;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -33,15 +40,15 @@ public class ThumbnailsClientTest {
 	public void testAllMethods() throws JWPlatformException {
 		thumbnailClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"success\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Object creation successful\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Deletion success!\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Update successful\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Put successful\"}"));
 		JSONObject listResp = thumbnailClient.listThumbnails("siteId", new HashMap<>());
 		assertEquals(listResp.get("code"), "success");
@@ -54,7 +61,7 @@ public class ThumbnailsClientTest {
 		thumbnailClient.updateThumbnail("siteId", "thumbnailId", params);
 		thumbnailClient.deleteThumbnail("siteId", "thumbnailId");
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(6));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		thumbnailClient.removeHeader("test");
 	}
 
@@ -62,8 +69,32 @@ public class ThumbnailsClientTest {
 	public void testGetOriginalsException() throws JSONException, JWPlatformException {
 		thumbnailClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		thumbnailClient.listThumbnails("siteId", new HashMap<>());
 	}
+
+	@Test
+	public void testTypedMethods() throws JWPlatformException {
+		mockStatic(HttpCalls.class);
+		String thumbnail = "{\"id\":\"thumbnailId\",\"status\":\"ready\",\"delivery_url\":\"https://example.com/t.jpg\","
+				+ "\"source_type\":\"custom_upload\",\"thumbnail_type\":\"static\","
+				+ "\"relationships\":{\"media\":[{\"id\":\"mediaId\"}]}}";
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(),
+				anyMap())).thenReturn(JsonView.parse(("{\"thumbnails\":[" + thumbnail + ",{\"id\":\"other\","
+						+ "\"relationships\":{}}],\"page\":1}").getBytes(StandardCharsets.UTF_8)))
+				.thenReturn(JsonView.parse(thumbnail.getBytes(StandardCharsets.UTF_8)));
+		ResourcePage<Thumbnail> page = thumbnailClient.listThumbnailsTyped("siteId", new HashMap<>());
+		assertEquals(2, page.getItems().size());
+		assertEquals("mediaId", page.getItems().get(0).getMediaId());
+		assertNull(page.getItems().get(1).getMediaId());
+		Thumbnail retrieved = thumbnailClient.retrieveThumbnailByIdTyped("siteId", "thumbnailId", new HashMap<>());
+		assertEquals("thumbnailId", retrieved.getId());
+		assertEquals("ready", retrieved.getStatus());
+		assertEquals("https://example.com/t.jpg", retrieved.getDeliveryUrl());
+		assertEquals("custom_upload", retrieved.getSourceType());
+		assertEquals("static", retrieved.getThumbnailType());
+		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(2));
+		HttpCalls.requestView(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+	}
 }
@@ -0,0 +1,53 @@
+package com.jwplayer.jwplatform.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class UploadJournalTest {
+
+	@Test
+	public void testRecordsSurviveReload() throws Exception {
+		final Path path = Files.createTempDirectory("journal").resolve("upload.journal");
+		assertNull(UploadJournal.load(path));
+		try (UploadJournal journal = UploadJournal.start(path, new JSONObject().put("upload", "up"),
+				Collections.singletonMap(1, "a"))) {
+			journal.record(3, "c");
+			journal.record(2, null);
+		}
+
+		final UploadJournal loaded = UploadJournal.load(path);
+		assertEquals("up", loaded.getHeader().getString("upload"));
+		assertEquals(3, loaded.getParts().size());
+		assertEquals("c", loaded.getParts().get(3));
+		assertNull(loaded.getParts().get(2));
+		assertEquals(Collections.emptyList(), Files.list(path.getParent())
+				.filter(file -> file.toString().endsWith(".tmp")).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testTornLineIsIgnored() throws Exception {
+		final Path path = Files.createTempDirectory("journal").resolve("upload.journal");
+		UploadJournal.start(path, new JSONObject().put("upload", "up"), Collections.singletonMap(1, "a")).close();
+		Files.write(path, "{\"part\":2,\"et".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+		final UploadJournal loaded = UploadJournal.load(path);
+		assertEquals(Collections.singletonMap(1, "a"), loaded.getParts());
+	}
+
+	@Test
+	public void testUnreadableHeaderIsNoJournal() throws Exception {
+		final Path path = Files.createTempFile("upload", ".journal");
+		Files.write(path, "{\"upl".getBytes(StandardCharsets.UTF_8));
+		assertNull(UploadJournal.load(path));
+	}
+}
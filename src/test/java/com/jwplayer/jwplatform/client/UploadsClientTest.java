@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -21,6 +22,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -32,16 +34,16 @@ public class UploadsClientTest {
 	public void testAllMethods() throws JWPlatformException {
 		uploadsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenReturn((new JSONObject("{\"code\":\"success\"}")));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
 				.thenReturn((new JSONObject("{\"code\":\"Upload successful\"}")));
 		JSONObject listResp = uploadsClient.listCompleteIncompleteParts("uploadId", new HashMap<>());
 		assertEquals(listResp.get("code"), "success");
 		JSONObject putResp = uploadsClient.completeUpload("uploadId", new HashMap<>());
 		assertEquals(putResp.get("code"), "Upload successful");
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(2));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		uploadsClient.removeHeader("test");
 	}
 
@@ -49,7 +51,7 @@ public class UploadsClientTest {
 	public void testGetException() throws JSONException, JWPlatformException {
 		uploadsClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		uploadsClient.listCompleteIncompleteParts("uploadId", new HashMap<>());
 	}
@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -21,6 +22,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -32,14 +34,14 @@ public class UsageClientTest {
 	public void testAllMethods() throws JWPlatformException {
 		usageClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"success\"}"));
 		JSONObject queryAccountResponse = usageClient.queryAccountUsage(new HashMap<>());
 		assertEquals(queryAccountResponse.get("code"), "success");
 		JSONObject querySiteResponse = usageClient.querySiteUsage("siteId", new HashMap<>());
 		assertEquals(querySiteResponse.get("code"), "success");
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(2));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		usageClient.removeHeader("test");
 	}
 
@@ -47,7 +49,7 @@ public class UsageClientTest {
 	public void testUsageException() throws JSONException, JWPlatformException {
 		usageClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PUT"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		usageClient.querySiteUsage("siteId", new HashMap<>());
 	}
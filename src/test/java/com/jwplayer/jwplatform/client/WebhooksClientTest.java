@@ -1,6 +1,7 @@
 package com.jwplayer.jwplatform.client;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -8,6 +9,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -15,13 +18,19 @@ import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.model.ResourcePage;
+import com.jwplayer.jwplatform.model.Webhook;
+import com.jwplayer.jwplatform.model.WebhookMetadata;
 import com.jwplayer.jwplatform.rest.HttpCalls;
+import com.jwplayer.jwplatform.rest.HttpTransport;
+import com.jwplayer.jwplatform.rest.JsonView;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ HttpCalls.class })
@@ -33,13 +42,13 @@ public class WebhooksClientTest {
 	public void testAllMethods() throws JWPlatformException {
 		webhooksClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"success\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("POST"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Object creation successful\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("DELETE"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Deletion success!\"}"));
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("PATCH"), anyMap()))
 				.thenReturn(new JSONObject("{\"code\":\"Update successful\"}"));
 		Map<String, String> params = new HashMap<>();
 		params.put("title", "test");
@@ -57,7 +66,7 @@ public class WebhooksClientTest {
 		webhooksClient.retrieveWebhookById("webhookId", new HashMap<>());
 		webhooksClient.retrieveWebhookById("webhookId", params);
 		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(9));
-		HttpCalls.request(anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
+		HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(), anyMap());
 		webhooksClient.removeHeader("test");
 	}
 
@@ -65,8 +74,47 @@ public class WebhooksClientTest {
 	public void testGetException() throws JSONException, JWPlatformException {
 		webhooksClient.addHeader("test", "testVal");
 		mockStatic(HttpCalls.class);
-		when(HttpCalls.request(anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
+		when(HttpCalls.request(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), eq("GET"), anyMap()))
 				.thenThrow(new JWPlatformException("some exception occured"));
 		webhooksClient.listWebhooks(new HashMap<>());
 	}
+
+	@Test
+	public void testTypedMethods() throws JWPlatformException {
+		mockStatic(HttpCalls.class);
+		String webhook = "{\"id\":\"webhookId\",\"secret\":\"s3cr3t\",\"metadata\":{\"name\":\"n\","
+				+ "\"description\":\"d\",\"webhook_url\":\"https://example.com/hook\","
+				+ "\"events\":[\"media_available\"],\"site_ids\":[\"siteId\"]}}";
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), anyMap(), anyBoolean(), anyString(),
+				anyMap())).thenReturn(JsonView.parse(("{\"webhooks\":[" + webhook + "],\"page\":1,\"page_length\":10,"
+						+ "\"total\":1}").getBytes(StandardCharsets.UTF_8)))
+				.thenReturn(JsonView.parse(webhook.getBytes(StandardCharsets.UTF_8)));
+		when(HttpCalls.requestView(any(HttpTransport.class), anyString(), any(byte[].class), anyString(), anyMap()))
+				.thenReturn(JsonView.parse(webhook.getBytes(StandardCharsets.UTF_8)));
+		ResourcePage<Webhook> page = webhooksClient.listWebhooksTyped(new HashMap<>());
+		assertEquals(1, page.getPage());
+		assertEquals(10, page.getPageLength());
+		assertEquals(1, page.getTotal());
+		assertEquals("webhookId", page.getItems().get(0).getId());
+		Webhook retrieved = webhooksClient.retrieveWebhookByIdTyped("webhookId", new HashMap<>());
+		assertEquals("s3cr3t", retrieved.getSecret());
+		assertEquals("n", retrieved.getMetadata().getName());
+		assertEquals("d", retrieved.getMetadata().getDescription());
+		assertEquals("https://example.com/hook", retrieved.getMetadata().getWebhookUrl());
+		assertEquals(Arrays.asList("media_available"), retrieved.getMetadata().getEvents());
+		assertEquals(Arrays.asList("siteId"), retrieved.getMetadata().getSiteIds());
+
+		WebhookMetadata metadata = WebhookMetadata.builder().name("n").description("d")
+				.webhookUrl("https://example.com/hook").events(Arrays.asList("media_available"))
+				.siteIds(Arrays.asList("siteId")).build();
+		assertEquals("webhookId", webhooksClient.createWebhookResourceTyped(metadata).getId());
+		assertEquals("n", webhooksClient.updateWebhookTyped("webhookId", metadata).getMetadata().getName());
+		ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+		PowerMockito.verifyStatic(HttpCalls.class, Mockito.times(2));
+		HttpCalls.requestView(any(HttpTransport.class), anyString(), body.capture(), anyString(), anyMap());
+		JSONObject sent = new JSONObject(new String(body.getValue(), StandardCharsets.UTF_8)).getJSONObject("metadata");
+		assertEquals("https://example.com/hook", sent.getString("webhook_url"));
+		assertEquals("media_available", sent.getJSONArray("events").getString(0));
+		assertEquals("siteId", sent.getJSONArray("site_ids").getString(0));
+	}
 }
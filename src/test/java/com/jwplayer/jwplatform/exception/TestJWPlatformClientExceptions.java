@@ -7,9 +7,10 @@ import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
 import com.jwplayer.jwplatform.v1.JWPlatformClient;
 import com.mashape.unirest.http.HttpResponse;
-import com.mashape.unirest.http.JsonNode;
 import com.mashape.unirest.http.Unirest;
 import com.mashape.unirest.request.GetRequest;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import org.junit.Rule;
 import org.junit.Test;
@@ -77,14 +78,14 @@ public class TestJWPlatformClientExceptions {
 		final JWPlatformClient mediaAPIClient = JWPlatformClient.create("fakeApiKey", "fakeApiSecret");
 		final HttpResponse httpResponse = PowerMockito.mock(HttpResponse.class);
 		final GetRequest getRequest = PowerMockito.mock(GetRequest.class);
-		final JsonNode non200ResponseBody = new JsonNode("{\"code\":\"" + exceptionName + "\"}");
+		final byte[] non200ResponseBody = ("{\"code\":\"" + exceptionName + "\"}").getBytes(StandardCharsets.UTF_8);
 		mockStatic(Unirest.class);
 
 		when(Unirest.get(anyString())).thenReturn(getRequest);
 		when(getRequest.headers(anyMap())).thenReturn(getRequest);
-		when(getRequest.asJson()).thenReturn(httpResponse);
+		when(getRequest.asBinary()).thenReturn(httpResponse);
 		when(httpResponse.getStatus()).thenReturn(418);
-		when(httpResponse.getBody()).thenReturn(non200ResponseBody);
+		when(httpResponse.getRawBody()).thenReturn(new ByteArrayInputStream(non200ResponseBody));
 
 		mediaAPIClient.request("/v1/videos/create");
 	}
@@ -0,0 +1,67 @@
+package com.jwplayer.jwplatform.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.rest.JsonView;
+import com.jwplayer.jwplatform.rest.JsonWriter;
+
+public class MediaTest {
+	private static final String MEDIA = "{\"id\": \"abc\", \"type\": \"media\", \"created\": \"2020-01-01T00:00:00+00:00\", "
+			+ "\"status\": \"ready\", \"duration\": 12.5, \"error_message\": null, \"media_type\": \"video\", "
+			+ "\"unmodelled\": {\"deep\": [1, 2]}, \"metadata\": {\"title\": \"Caf\\u00e9\", \"tags\": [\"a\", \"b\"], "
+			+ "\"custom_params\": {\"k\": \"v\", \"n\": 1}, \"publish_end_date\": null}}";
+
+	private static JsonView parse(final String json) throws JWPlatformException {
+		return JsonView.parse(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testDecode() throws JWPlatformException {
+		final Media media = Media.decode(parse(MEDIA));
+		assertEquals("abc", media.getId());
+		assertEquals("media", media.getType());
+		assertEquals("2020-01-01T00:00:00+00:00", media.getCreated());
+		assertEquals("ready", media.getStatus());
+		assertEquals(12.5, media.getDuration(), 0);
+		assertNull(media.getErrorMessage());
+		assertEquals("video", media.getMediaType());
+		assertEquals(2, media.getView().at("unmodelled", "deep").size());
+		assertEquals("Café", media.getMetadata().getTitle());
+		assertEquals(Arrays.asList("a", "b"), media.getMetadata().getTags());
+		assertEquals("v", media.getMetadata().getCustomParams().get("k"));
+		assertEquals("1", media.getMetadata().getCustomParams().get("n"));
+		assertNull(media.getMetadata().getPublishEndDate());
+	}
+
+	@Test
+	public void testDecodePage() throws JWPlatformException {
+		final ResourcePage<Media> page = ResourcePage.decode(
+				parse("{\"page\": 2, \"page_length\": 1, \"media\": [" + MEDIA + "], \"total\": 3}"), Media::decode);
+		assertEquals(2, page.getPage());
+		assertEquals(1, page.getPageLength());
+		assertEquals(3, page.getTotal());
+		assertEquals("abc", page.getItems().get(0).getId());
+	}
+
+	@Test
+	public void testEncodeOnlySetFields() throws JWPlatformException {
+		final MediaMetadata metadata = MediaMetadata.builder().title("t").tags(Collections.singletonList("a")).build();
+		final byte[] body = metadata.encode(new JsonWriter()).toByteArray();
+		final JSONObject json = new JSONObject(new String(body, StandardCharsets.UTF_8));
+		assertEquals(2, json.length());
+		assertEquals("t", json.getString("title"));
+		assertEquals("a", json.getJSONArray("tags").getString(0));
+		final MediaMetadata decoded = MediaMetadata.decode(JsonView.parse(body));
+		assertEquals("t", decoded.getTitle());
+		assertNull(decoded.getDescription());
+	}
+}
@@ -0,0 +1,341 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformRateLimitExceededException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+public class AdaptiveConcurrencyTransportTest {
+	private static final TransportRequest REQUEST = new TransportRequest("GET",
+			"https://api.jwplayer.com/v2/sites/abc/media/", new HashMap<>(), null);
+
+	private final AtomicLong now = new AtomicLong();
+	private final Ticker ticker = new Ticker() {
+		@Override
+		public long read() {
+			return now.get();
+		}
+	};
+	private final List<Integer> published = new CopyOnWriteArrayList<>();
+
+	private AdaptiveConcurrencyTransport limiting(final HttpTransport delegate, final ConcurrencyLimitConfig config) {
+		return new AdaptiveConcurrencyTransport(delegate, config, published::add, ticker);
+	}
+
+	private static TransportResponse response(final int status, final String body) {
+		return new TransportResponse(status, Collections.emptyMap(), body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Answers every request after the given latency on the fake ticker.
+	 */
+	private HttpTransport answering(final int status, final String body, final long latencyMillis) {
+		return request -> {
+			now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+			return response(status, body);
+		};
+	}
+
+	@Test
+	public void testGrowsOnlyWhileLimitIsUsed() throws JWPlatformException {
+		final AdaptiveConcurrencyTransport transport = limiting(answering(200, "{}", 10),
+				ConcurrencyLimitConfig.builder().initialLimit(1).build());
+		for (int i = 0; i < 5; i++) {
+			transport.execute(REQUEST);
+		}
+		// one request at a time never uses more than half of a limit of 3
+		assertEquals(3, transport.getLimit());
+		assertEquals(0, transport.getInFlight());
+		assertEquals(2, published.size());
+	}
+
+	@Test
+	public void testGrowsUpToMax() throws Exception {
+		final List<CompletableFuture<TransportResponse>> pending = new ArrayList<>();
+		final HttpTransport delegate = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public synchronized CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+				pending.add(future);
+				return future;
+			}
+		};
+		final AdaptiveConcurrencyTransport transport = limiting(delegate,
+				ConcurrencyLimitConfig.builder().initialLimit(4).maxLimit(6).build());
+		final List<CompletableFuture<TransportResponse>> results = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			results.add(transport.executeAsync(REQUEST));
+		}
+		assertEquals(4, pending.size());
+		for (int i = 0; i < 20; i++) {
+			// queued requests are sent from a worker thread once let through
+			CompletableFuture<TransportResponse> next = null;
+			while (next == null) {
+				synchronized (delegate) {
+					next = i < pending.size() ? pending.get(i) : null;
+				}
+				Thread.yield();
+			}
+			next.complete(response(200, "{}"));
+		}
+		for (final CompletableFuture<TransportResponse> result : results) {
+			assertEquals(200, result.get(5, TimeUnit.SECONDS).getStatus());
+		}
+		assertEquals(6, transport.getLimit());
+	}
+
+	@Test
+	public void testBacksOffWhenRateLimited() throws JWPlatformException {
+		final AdaptiveConcurrencyTransport transport = limiting(answering(429, "{\"errors\":[]}", 10),
+				ConcurrencyLimitConfig.builder().initialLimit(10).backoffRatio(0.5).build());
+		transport.execute(REQUEST);
+		assertEquals(5, transport.getLimit());
+		transport.execute(REQUEST);
+		assertEquals(2, transport.getLimit());
+		assertEquals(2, published.size());
+	}
+
+	@Test
+	public void testBacksOffOnV1RateLimitCode() throws JWPlatformException {
+		final AdaptiveConcurrencyTransport transport = limiting(
+				answering(403, "{\"status\":\"error\",\"code\":\"RateLimitExceeded\",\"message\":\"slow down\"}", 10),
+				ConcurrencyLimitConfig.builder().initialLimit(10).build());
+		transport.execute(REQUEST);
+		assertEquals(9, transport.getLimit());
+	}
+
+	@Test
+	public void testBacksOffWhenShedDownstream() {
+		final AdaptiveConcurrencyTransport transport = limiting(request -> {
+			throw new JWPlatformRateLimitExceededException("shed");
+		}, ConcurrencyLimitConfig.builder().initialLimit(10).minLimit(9).build());
+		for (int i = 0; i < 3; i++) {
+			try {
+				transport.execute(REQUEST);
+				fail("Expected the request to be shed");
+			} catch (final JWPlatformException e) {
+				assertTrue(e instanceof JWPlatformRateLimitExceededException);
+			}
+		}
+		assertEquals(9, transport.getLimit());
+		assertEquals(0, transport.getInFlight());
+	}
+
+	@Test
+	public void testBacksOffWhenLatencyRises() throws JWPlatformException {
+		final long[] latencies = { 100, 110, 90, 400 };
+		final int[] call = { 0 };
+		final AdaptiveConcurrencyTransport transport = limiting(request -> {
+			now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencies[call[0]++]));
+			return response(200, "{}");
+		}, ConcurrencyLimitConfig.builder().initialLimit(2).backoffRatio(0.5).latencyTolerance(2).build());
+		transport.execute(REQUEST);
+		transport.execute(REQUEST);
+		transport.execute(REQUEST);
+		assertEquals(3, transport.getLimit());
+		transport.execute(REQUEST);
+		assertEquals(1, transport.getLimit());
+	}
+
+	@Test
+	public void testQueuedRequestFailsAfterMaxWait() throws Exception {
+		final CompletableFuture<TransportResponse> first = new CompletableFuture<>();
+		final HttpTransport delegate = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) {
+				return response(200, "{}");
+			}
+
+			@Override
+			public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				return first;
+			}
+		};
+		final AdaptiveConcurrencyTransport transport = limiting(delegate, ConcurrencyLimitConfig.builder()
+				.initialLimit(1).maxLimit(1).maxWait(Duration.ofMillis(50)).build());
+		final CompletableFuture<TransportResponse> inFlight = transport.executeAsync(REQUEST);
+		try {
+			transport.execute(REQUEST);
+			fail("Expected the queued request to give up");
+		} catch (final JWPlatformRateLimitExceededException e) {
+			assertTrue(e.getMessage().contains("Concurrency limit of 1 reached"));
+		}
+		final CompletableFuture<TransportResponse> queued = transport.executeAsync(REQUEST);
+		try {
+			queued.get(5, TimeUnit.SECONDS);
+			fail("Expected the queued request to give up");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformRateLimitExceededException);
+		}
+		assertFalse(inFlight.isDone());
+		first.complete(response(200, "{}"));
+		assertEquals(200, inFlight.get().getStatus());
+		assertEquals(200, transport.execute(REQUEST).getStatus());
+		assertEquals(0, transport.getInFlight());
+	}
+
+	@Test
+	public void testQueuedAsyncRequestIsSentFromWorkerThread() throws Exception {
+		final CompletableFuture<TransportResponse> first = new CompletableFuture<>();
+		final List<String> senders = new CopyOnWriteArrayList<>();
+		final HttpTransport delegate = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) {
+				return response(200, "{}");
+			}
+
+			@Override
+			public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				senders.add(Thread.currentThread().getName());
+				return senders.size() == 1 ? first : CompletableFuture.completedFuture(response(200, "{}"));
+			}
+		};
+		final AdaptiveConcurrencyTransport transport = limiting(delegate,
+				ConcurrencyLimitConfig.builder().initialLimit(1).maxLimit(1).build());
+		transport.executeAsync(REQUEST);
+		final CompletableFuture<TransportResponse> queued = transport.executeAsync(REQUEST);
+		assertEquals(1, senders.size());
+		first.complete(response(200, "{}"));
+		assertEquals(200, queued.get(5, TimeUnit.SECONDS).getStatus());
+		assertEquals(Thread.currentThread().getName(), senders.get(0));
+		assertTrue(senders.get(1).startsWith("jwplatform-worker-"));
+	}
+
+	@Test
+	public void testStreamedRequestHoldsPermitWhileReading() throws JWPlatformException {
+		final AdaptiveConcurrencyTransport transport = limiting(answering(200, "{}", 10),
+				ConcurrencyLimitConfig.builder().initialLimit(1).build());
+		final int inFlight = transport.executeStreaming(REQUEST, (response, body) -> {
+			// a slow read is not a slow server
+			now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+			return transport.getInFlight();
+		});
+		assertEquals(1, inFlight);
+		assertEquals(0, transport.getInFlight());
+
+		final AdaptiveConcurrencyTransport blocking = limiting(answering(200, "{}", 10),
+				ConcurrencyLimitConfig.builder().initialLimit(1).build());
+		blocking.execute(REQUEST);
+		assertEquals(blocking.getLimit(), transport.getLimit());
+	}
+
+	@Test
+	public void testBaselineFollowsLatestWindow() throws JWPlatformException {
+		final long[] latencies = { 10, 1000, 1000 };
+		final int[] call = { 0 };
+		final AdaptiveConcurrencyTransport transport = limiting(request -> {
+			now.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencies[call[0]++]));
+			return response(200, "{}");
+		}, ConcurrencyLimitConfig.builder().initialLimit(4).baselineWindow(1).build());
+		transport.execute(REQUEST);
+		transport.execute(REQUEST);
+		transport.execute(REQUEST);
+		// each window of one sample is its own baseline, so the slower samples do not back off
+		assertEquals(4, transport.getLimit());
+		assertTrue(published.isEmpty());
+	}
+
+	@Test
+	public void testFailuresWithoutAnswerKeepLimit() throws Exception {
+		final HttpTransport delegate = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+				throw new JWPlatformUnknownException("connection refused");
+			}
+
+			@Override
+			public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				throw new IllegalStateException("closed");
+			}
+		};
+		final AdaptiveConcurrencyTransport transport = limiting(delegate,
+				ConcurrencyLimitConfig.builder().initialLimit(1).build());
+		for (int i = 0; i < 2; i++) {
+			try {
+				if (i == 0) {
+					transport.execute(REQUEST);
+				} else {
+					transport.executeStreaming(REQUEST, (response, body) -> response);
+				}
+				fail("Expected the failure to be rethrown");
+			} catch (final JWPlatformUnknownException e) {
+				assertEquals("connection refused", e.getMessage());
+			}
+		}
+		try {
+			transport.executeAsync(REQUEST).get(5, TimeUnit.SECONDS);
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertEquals(1, transport.getLimit());
+		assertEquals(0, transport.getInFlight());
+	}
+
+	@Test
+	public void testAsyncBacksOffWhenShedDownstream() throws Exception {
+		final HttpTransport delegate = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				return CompletableFuture.supplyAsync(() -> {
+					throw new CompletionException(new JWPlatformRateLimitExceededException("shed"));
+				});
+			}
+		};
+		final AdaptiveConcurrencyTransport transport = limiting(delegate,
+				ConcurrencyLimitConfig.builder().initialLimit(10).backoffRatio(0.5).build());
+		try {
+			transport.executeAsync(REQUEST).get(5, TimeUnit.SECONDS);
+			fail("Expected the request to be shed");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformRateLimitExceededException);
+		}
+		assertEquals(5, transport.getLimit());
+	}
+
+	@Test
+	public void testReaderFailureCountsAsAnswer() {
+		final AdaptiveConcurrencyTransport transport = limiting(answering(200, "{}", 10),
+				ConcurrencyLimitConfig.builder().initialLimit(1).build());
+		try {
+			transport.executeStreaming(REQUEST, (response, body) -> {
+				throw new JWPlatformUnknownException("malformed body");
+			});
+			fail("Expected the reader failure to be rethrown");
+		} catch (final JWPlatformException e) {
+			assertEquals("malformed body", e.getMessage());
+		}
+		assertEquals(2, transport.getLimit());
+		assertEquals(0, transport.getInFlight());
+	}
+}
@@ -0,0 +1,131 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+import com.sun.net.httpserver.HttpServer;
+
+public class ApacheAsyncTransportTest {
+	private HttpServer server;
+	private String baseUrl;
+	private ApacheAsyncTransport transport;
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/echo", EchoHandlers::echo);
+		server.createContext("/slow", EchoHandlers::slow);
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+		transport = ApacheAsyncTransport.create();
+	}
+
+	@After
+	public void tearDown() {
+		transport.close();
+		server.stop(0);
+	}
+
+	@Test
+	public void testGetRequest() throws JWPlatformException {
+		final Map<String, String> headers = new HashMap<>();
+		headers.put("Authorization", "Bearer secret");
+		final TransportResponse response = transport
+				.execute(new TransportRequest("GET", baseUrl + "/echo", headers, null));
+		assertEquals(200, response.getStatus());
+		assertEquals("yes", response.getHeader("X-Echo"));
+		assertEquals("GET", response.getJson().getString("method"));
+		assertEquals("Bearer secret", response.getJson().getString("authorization"));
+	}
+
+	@Test
+	public void testPostRequestWithBody() throws JWPlatformException {
+		final JSONObject body = new JSONObject();
+		body.put("title", "new title");
+		final TransportResponse response = transport
+				.execute(new TransportRequest("POST", baseUrl + "/echo", new HashMap<>(), body));
+		assertEquals("POST", response.getJson().getString("method"));
+		assertEquals(body.toString(), response.getJson().getString("body"));
+	}
+
+	@Test
+	public void testNon200IsReturnedNotThrown() throws JWPlatformException {
+		final TransportResponse response = transport
+				.execute(new TransportRequest("DELETE", baseUrl + "/echo", new HashMap<>(), null));
+		assertEquals(404, response.getStatus());
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testConnectionFailure() throws JWPlatformException {
+		server.stop(0);
+		transport.execute(new TransportRequest("GET", baseUrl + "/echo", new HashMap<>(), null));
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testReadTimeout() throws JWPlatformException {
+		try (ApacheAsyncTransport configured = ApacheAsyncTransport
+				.create(ConnectionPoolConfig.builder().readTimeout(Duration.ofMillis(100)).build())) {
+			configured.execute(new TransportRequest("GET", baseUrl + "/slow", new HashMap<>(), null));
+		}
+	}
+
+	@Test
+	public void testIsolatedPools() throws Exception {
+		final ConnectionPoolConfig single = ConnectionPoolConfig.builder().maxConnectionsTotal(1)
+				.maxConnectionsPerRoute(1).build();
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try (ApacheAsyncTransport batch = ApacheAsyncTransport.create(single);
+				ApacheAsyncTransport interactive = ApacheAsyncTransport.create(single)) {
+			final Future<TransportResponse> slow = executor.submit(
+					() -> batch.execute(new TransportRequest("GET", baseUrl + "/slow", new HashMap<>(), null)));
+			Thread.sleep(100);
+			final long start = System.nanoTime();
+			interactive.execute(new TransportRequest("GET", baseUrl + "/echo", new HashMap<>(), null));
+			assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 800);
+			assertEquals(200, slow.get().getStatus());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testExecuteAsync() throws Exception {
+		final CompletableFuture<TransportResponse> response = transport
+				.executeAsync(new TransportRequest("GET", baseUrl + "/slow", new HashMap<>(), null));
+		assertFalse(response.isDone());
+		assertEquals(200, response.get(5, TimeUnit.SECONDS).getStatus());
+	}
+
+	@Test
+	public void testExecuteAsyncConnectionFailure() throws InterruptedException {
+		server.stop(0);
+		try {
+			transport.executeAsync(new TransportRequest("GET", baseUrl + "/echo", new HashMap<>(), null)).get();
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformUnknownException);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+public class AsyncPermitsTest {
+
+	@Test
+	public void testAcquireWithinLimit() {
+		final AsyncPermits permits = new AsyncPermits(2);
+		assertTrue(permits.acquire().isDone());
+		assertTrue(permits.acquire().isDone());
+	}
+
+	@Test
+	public void testWaitersAreGrantedInOrder() {
+		final AsyncPermits permits = new AsyncPermits(1);
+		assertTrue(permits.acquire().isDone());
+		final CompletableFuture<Void> first = permits.acquire();
+		final CompletableFuture<Void> second = permits.acquire();
+		assertFalse(first.isDone());
+		assertFalse(second.isDone());
+
+		permits.release();
+		assertTrue(first.isDone());
+		assertFalse(second.isDone());
+
+		permits.release();
+		assertTrue(second.isDone());
+	}
+
+	@Test
+	public void testReleaseWithoutWaitersRestoresPermit() {
+		final AsyncPermits permits = new AsyncPermits(1);
+		assertTrue(permits.acquire().isDone());
+		permits.release();
+		assertTrue(permits.acquire().isDone());
+		assertFalse(permits.acquire().isDone());
+	}
+
+	@Test
+	public void testRaisedLimitGrantsWaiters() {
+		final AsyncPermits permits = new AsyncPermits(1);
+		assertTrue(permits.acquire().isDone());
+		final CompletableFuture<Void> waiter = permits.acquire();
+		permits.setLimit(2);
+		assertFalse(waiter.isDone());
+		permits.grantWaiters();
+		assertTrue(waiter.isDone());
+		assertEquals(2, permits.held());
+	}
+
+	@Test
+	public void testLoweredLimitAppliesOnRelease() {
+		final AsyncPermits permits = new AsyncPermits(2);
+		assertTrue(permits.acquire().isDone());
+		assertTrue(permits.acquire().isDone());
+		final CompletableFuture<Void> waiter = permits.acquire();
+		permits.setLimit(1);
+		permits.release();
+		assertFalse(waiter.isDone());
+		permits.release();
+		assertTrue(waiter.isDone());
+	}
+
+	@Test
+	public void testCancelledWaiterIsSkipped() {
+		final AsyncPermits permits = new AsyncPermits(1);
+		assertTrue(permits.acquire().isDone());
+		final CompletableFuture<Void> cancelled = permits.acquire();
+		final CompletableFuture<Void> next = permits.acquire();
+		cancelled.cancel(false);
+		permits.release();
+		assertTrue(next.isDone());
+		assertFalse(next.isCompletedExceptionally());
+		assertEquals(1, permits.held());
+	}
+
+	@Test
+	public void testAbandonReturnsOnlyGrantedPermits() {
+		final AsyncPermits permits = new AsyncPermits(1);
+		final CompletableFuture<Void> granted = permits.acquire();
+		final CompletableFuture<Void> pending = permits.acquire();
+		final CompletableFuture<Void> timedOut = permits.acquire();
+		timedOut.completeExceptionally(new IllegalStateException("timed out"));
+
+		permits.abandon(timedOut);
+		assertEquals(1, permits.held());
+		permits.abandon(pending);
+		assertTrue(pending.isCancelled());
+		assertEquals(1, permits.held());
+		permits.abandon(granted);
+		assertEquals(0, permits.held());
+		assertTrue(permits.acquire().isDone());
+		assertFalse(permits.acquire().isDone());
+	}
+}
@@ -0,0 +1,80 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+
+public class BandwidthSchedulerTest {
+	private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicLong now = new AtomicLong(42 * SECOND);
+	private final Ticker ticker = new Ticker() {
+		@Override
+		public long read() {
+			return now.get();
+		}
+	};
+	private final List<Long> sleeps = new ArrayList<>();
+
+	private BandwidthScheduler scheduler(final long bytesPerSecond) {
+		return new BandwidthScheduler(bytesPerSecond, ticker, sleeps::add);
+	}
+
+	@Test
+	public void testSingleFlowGetsWholeBudget() {
+		final BandwidthScheduler.Flow flow = scheduler(1000).register();
+		assertEquals(0, flow.reserve(500));
+		assertEquals(500 * MILLI, flow.reserve(500));
+		assertEquals(SECOND, flow.reserve(1000));
+	}
+
+	@Test
+	public void testActiveFlowsShareEqually() {
+		final BandwidthScheduler scheduler = scheduler(1000);
+		final BandwidthScheduler.Flow large = scheduler.register();
+		final BandwidthScheduler.Flow small = scheduler.register();
+		// each gets 500 bytes per second however much it asks for
+		assertEquals(0, large.reserve(1000));
+		assertEquals(2 * SECOND, large.reserve(1000));
+		assertEquals(0, small.reserve(250));
+		assertEquals(500 * MILLI, small.reserve(250));
+	}
+
+	@Test
+	public void testIdleAndClosedFlowsLeaveTheirShare() {
+		final BandwidthScheduler scheduler = scheduler(1000);
+		final BandwidthScheduler.Flow busy = scheduler.register();
+		final BandwidthScheduler.Flow idle = scheduler.register();
+		final BandwidthScheduler.Flow closed = scheduler.register();
+		closed.close();
+		assertEquals(2, scheduler.activeFlows(now.get()));
+
+		now.addAndGet(2 * SECOND);
+		assertEquals(0, busy.reserve(1000));
+		assertEquals(SECOND, busy.reserve(1000));
+
+		idle.reserve(0);
+		assertEquals(2, scheduler.activeFlows(now.get()));
+	}
+
+	@Test
+	public void testAcquireSleepsUntilBytesMayBeSent() throws InterruptedException {
+		final BandwidthScheduler scheduler = scheduler(1000);
+		final BandwidthScheduler.Flow flow = scheduler.register();
+		flow.acquire(100);
+		flow.acquire(100);
+		scheduler.setBytesPerSecond(100);
+		flow.acquire(100);
+		assertEquals(2, sleeps.size());
+		assertEquals(100L, (long) sleeps.get(0));
+		assertEquals(200L, (long) sleeps.get(1));
+	}
+}
@@ -0,0 +1,247 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+
+public class CachingTransportTest {
+	private static final String SITE = "https://api.jwplayer.com/v2/sites/abc/";
+	private static final Map<String, String> AUTH = ImmutableMap.of("Authorization", "Bearer secret");
+
+	private final AtomicLong now = new AtomicLong();
+	private final Ticker ticker = new Ticker() {
+		@Override
+		public long read() {
+			return now.get();
+		}
+	};
+	private final AtomicInteger sent = new AtomicInteger();
+	private int status = 200;
+
+	private final HttpTransport delegate = request -> {
+		sent.incrementAndGet();
+		return new TransportResponse(status, Collections.emptyMap(),
+				("{\"url\":\"" + request.getUrl() + "\"}").getBytes(StandardCharsets.UTF_8));
+	};
+
+	private CachingTransport caching(final ResponseCacheConfig config) {
+		return new CachingTransport(delegate, config, ticker);
+	}
+
+	private static TransportRequest get(final String url) {
+		return new TransportRequest("GET", url, AUTH, null);
+	}
+
+	private void advance(final Duration duration) {
+		now.addAndGet(duration.toNanos());
+	}
+
+	@Test
+	public void testRepeatedGetIsServedFromCache() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.execute(get(SITE + "media/m1/"));
+		final TransportResponse cached = transport.execute(get(SITE + "media/m1/"));
+		assertEquals(200, cached.getStatus());
+		assertEquals(SITE + "media/m1/", cached.getJson().getString("url"));
+		assertEquals(1, sent.get());
+		final CacheStats stats = transport.getStats();
+		assertEquals(1, stats.hitCount());
+		assertEquals(1, stats.missCount());
+	}
+
+	@Test
+	public void testHitsDoNotShareJson() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.execute(get(SITE + "media/m1/")).getJson().put("url", "changed");
+		final JSONObject first = transport.execute(get(SITE + "media/m1/")).getJson();
+		first.put("url", "changed again");
+		assertEquals(SITE + "media/m1/", transport.execute(get(SITE + "media/m1/")).getJson().getString("url"));
+	}
+
+	@Test
+	public void testTtlPerResourceType() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.builder().defaultTtl(Duration.ofSeconds(30))
+				.ttl("media", Duration.ofMinutes(5)).build());
+		transport.execute(get(SITE + "media/m1/"));
+		transport.execute(get(SITE + "playlists/p1/"));
+		advance(Duration.ofSeconds(31));
+		transport.execute(get(SITE + "media/m1/"));
+		transport.execute(get(SITE + "playlists/p1/"));
+		assertEquals(3, sent.get());
+		assertEquals(1, transport.getStats("media").hitCount());
+		assertEquals(0, transport.getStats("playlists").hitCount());
+	}
+
+	@Test
+	public void testConfiguredSubResourceType() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.builder()
+				.ttl("advertising/schedules", Duration.ofMinutes(10)).ttl("advertising", Duration.ZERO).build());
+		transport.execute(get(SITE + "advertising/schedules/s1/"));
+		transport.execute(get(SITE + "advertising/schedules/s1/"));
+		transport.execute(get(SITE + "advertising/vpb_configs/c1/"));
+		transport.execute(get(SITE + "advertising/vpb_configs/c1/"));
+		assertEquals(3, sent.get());
+		assertEquals(1, transport.getStats("advertising/schedules").hitCount());
+	}
+
+	@Test
+	public void testWriteInvalidatesResourceOfSite() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.execute(get(SITE + "media/m1/"));
+		transport.execute(get(SITE + "media/"));
+		transport.execute(get(SITE + "playlists/p1/"));
+		transport.execute(get("https://api.jwplayer.com/v2/sites/xyz/media/m1/"));
+		assertEquals(4, transport.size());
+
+		transport.execute(new TransportRequest("PATCH", SITE + "media/m2/", AUTH, new JSONObject()));
+		assertEquals(2, transport.size());
+		transport.execute(get(SITE + "media/m1/"));
+		transport.execute(get(SITE + "playlists/p1/"));
+		assertEquals(6, sent.get());
+	}
+
+	@Test
+	public void testAsyncWriteInvalidates() throws Exception {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.executeAsync(get(SITE + "media/m1/")).get();
+		transport.executeAsync(get(SITE + "media/m1/")).get();
+		assertEquals(1, sent.get());
+		transport.executeAsync(new TransportRequest("DELETE", SITE + "media/m1/", AUTH, null)).get();
+		transport.executeAsync(get(SITE + "media/m1/")).get();
+		assertEquals(3, sent.get());
+	}
+
+	@Test
+	public void testCredentialsAreCachedSeparately() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.execute(get(SITE + "media/m1/"));
+		transport.execute(new TransportRequest("GET", SITE + "media/m1/",
+				ImmutableMap.of("Authorization", "Bearer other"), null));
+		assertEquals(2, sent.get());
+	}
+
+	@Test
+	public void testErrorsAreNotCached() throws JWPlatformException {
+		status = 404;
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.execute(get(SITE + "media/missing/"));
+		transport.execute(get(SITE + "media/missing/"));
+		assertEquals(2, sent.get());
+		assertEquals(0, transport.size());
+	}
+
+	@Test
+	public void testLeastRecentlyUsedIsEvicted() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.builder().maxEntries(2).build());
+		transport.execute(get(SITE + "media/m1/"));
+		transport.execute(get(SITE + "media/m2/"));
+		transport.execute(get(SITE + "media/m1/"));
+		transport.execute(get(SITE + "media/m3/"));
+		assertEquals(1, transport.getStats().evictionCount());
+		transport.execute(get(SITE + "media/m1/"));
+		assertEquals(3, sent.get());
+	}
+
+	@Test
+	public void testMaxEntriesBoundsAllResourceTypes() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.builder().maxEntries(2)
+				.ttl("media", Duration.ofMinutes(5)).build());
+		transport.execute(get(SITE + "media/m1/"));
+		transport.execute(get(SITE + "playlists/p1/"));
+		transport.execute(get(SITE + "players/p1/"));
+		assertEquals(2, transport.size());
+		assertEquals(1, transport.getStats("media").evictionCount());
+
+		advance(Duration.ofSeconds(31));
+		transport.execute(get(SITE + "players/p1/"));
+		assertEquals(1, transport.getStats("players").evictionCount());
+		assertEquals(2, transport.getStats("players").missCount());
+	}
+
+	@Test
+	public void testV1RequestsAreNotCached() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		final TransportRequest request = new TransportRequest("GET",
+				"https://api.jwplatform.com/v1/videos/show?api_key=key&video_key=abc", null, null);
+		transport.execute(request);
+		transport.execute(request);
+		assertEquals(2, sent.get());
+		assertFalse(transport.size() > 0);
+	}
+
+	@Test
+	public void testInvalidateAll() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.execute(get(SITE + "media/m1/"));
+		transport.invalidateAll();
+		transport.execute(get(SITE + "media/m1/"));
+		assertEquals(2, sent.get());
+	}
+
+	@Test
+	public void testStreamedGetIsServedFromCacheButNotStored() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.executeStreaming(get(SITE + "media/m2/"), (response, body) -> null);
+		transport.executeStreaming(get(SITE + "media/m2/"), (response, body) -> null);
+		assertEquals(2, sent.get());
+
+		transport.execute(get(SITE + "media/m1/"));
+		final String streamed = transport.executeStreaming(get(SITE + "media/m1/"),
+				(response, body) -> new String(ByteStreams.toByteArray(body), StandardCharsets.UTF_8));
+		assertEquals(SITE + "media/m1/", new JSONObject(streamed).getString("url"));
+		assertEquals(3, sent.get());
+	}
+
+	@Test
+	public void testStreamedWriteInvalidates() throws JWPlatformException {
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.execute(get(SITE + "media/m1/"));
+		transport.executeStreaming(new TransportRequest("POST", SITE + "media/", AUTH, new JSONObject()),
+				(response, body) -> null);
+		assertEquals(0, transport.size());
+	}
+
+	@Test
+	public void testUncachedRequestsPassThrough() throws Exception {
+		final ResponseCacheConfig config = ResponseCacheConfig.builder().ttl("playlists", Duration.ZERO).build();
+		final CachingTransport transport = caching(config);
+		assertEquals(config, transport.getConfig());
+		final TransportRequest[] requests = { get("https://api.jwplatform.com/v1/videos/show?video_key=abc"),
+				get(SITE + "playlists/p1/"), new TransportRequest("HEAD", SITE + "media/m1/", AUTH, null) };
+		for (final TransportRequest request : requests) {
+			transport.executeAsync(request).get();
+			transport.executeAsync(request).get();
+			transport.executeStreaming(request, (response, body) -> null);
+			transport.execute(request);
+		}
+		assertEquals(12, sent.get());
+		assertEquals(0, transport.size());
+		assertEquals(0, transport.getStats().requestCount());
+		assertEquals(0, transport.getStats("playlists").requestCount());
+	}
+
+	@Test
+	public void testErrorsAreNotCachedAsync() throws Exception {
+		status = 500;
+		final CachingTransport transport = caching(ResponseCacheConfig.defaults());
+		transport.executeAsync(get(SITE + "media/m1/")).get();
+		transport.executeAsync(get(SITE + "media/m1/")).get();
+		assertEquals(2, sent.get());
+		assertEquals(0, transport.size());
+	}
+}
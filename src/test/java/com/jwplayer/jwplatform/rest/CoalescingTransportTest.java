@@ -0,0 +1,216 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+public class CoalescingTransportTest {
+	private static final String URL = "https://api.jwplayer.com/v2/sites/abc/media/def/";
+	private static final Map<String, String> AUTH = ImmutableMap.of("Authorization", "Bearer secret");
+
+	/**
+	 * Holds every call open until the test completes it.
+	 */
+	private static final class PendingTransport implements HttpTransport {
+		private final List<CompletableFuture<TransportResponse>> calls = new ArrayList<>();
+
+		@Override
+		public TransportResponse execute(final TransportRequest request) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public synchronized CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+			final CompletableFuture<TransportResponse> call = new CompletableFuture<>();
+			calls.add(call);
+			notifyAll();
+			return call;
+		}
+
+		synchronized int count() {
+			return calls.size();
+		}
+
+		synchronized CompletableFuture<TransportResponse> call(final int index) {
+			return calls.get(index);
+		}
+	}
+
+	private static TransportRequest get(final Map<String, String> headers) {
+		return new TransportRequest("GET", URL, headers, null);
+	}
+
+	private static TransportResponse ok() {
+		return new TransportResponse(200, Collections.emptyMap(), "{\"id\":\"def\"}".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testConcurrentGetsShareOneCall() throws Exception {
+		final PendingTransport delegate = new PendingTransport();
+		final CoalescingTransport transport = CoalescingTransport.create(delegate);
+		final List<CompletableFuture<TransportResponse>> results = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			results.add(transport.executeAsync(get(AUTH)));
+		}
+		assertEquals(1, delegate.count());
+		assertEquals(4, transport.getCoalescedCount());
+
+		delegate.call(0).complete(ok());
+		final JSONObject first = results.get(0).get().getJson();
+		for (final CompletableFuture<TransportResponse> result : results) {
+			assertEquals("def", result.get().getJson().getString("id"));
+		}
+		assertNotSame(first, results.get(1).get().getJson());
+	}
+
+	@Test
+	public void testLeaderEditsItsOwnCopy() throws Exception {
+		final PendingTransport delegate = new PendingTransport();
+		final CoalescingTransport transport = CoalescingTransport.create(delegate);
+		final CompletableFuture<TransportResponse> leader = transport.executeAsync(get(AUTH));
+		final CompletableFuture<TransportResponse> joiner = transport.executeAsync(get(AUTH));
+		final TransportResponse shared = ok();
+		delegate.call(0).complete(shared);
+		assertNotSame(shared, leader.get());
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final JSONObject edited = leader.get().getJson();
+			final Future<?> editing = executor.submit(() -> {
+				for (int i = 0; i < 10000; i++) {
+					edited.put("k" + i, i);
+				}
+			});
+			// a joiner that copies the shared response late must not see the leader's edits
+			while (!editing.isDone()) {
+				assertEquals(1, shared.copy().getJson().length());
+			}
+			editing.get();
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(10001, leader.get().getJson().length());
+		assertEquals(1, joiner.get().getJson().length());
+	}
+
+	@Test
+	public void testBlockingGetsShareOneCall() throws Exception {
+		final PendingTransport delegate = new PendingTransport();
+		final CoalescingTransport transport = CoalescingTransport.create(delegate);
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final CountDownLatch started = new CountDownLatch(4);
+			final List<Future<Integer>> statuses = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				statuses.add(executor.submit(() -> {
+					started.countDown();
+					return transport.execute(get(AUTH)).getStatus();
+				}));
+			}
+			started.await();
+			while (transport.getCoalescedCount() < 3) {
+				Thread.sleep(1);
+			}
+			assertEquals(1, delegate.count());
+			delegate.call(0).complete(ok());
+			for (final Future<Integer> status : statuses) {
+				assertEquals(200, (int) status.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testDifferentCredentialsAreNotShared() {
+		final PendingTransport delegate = new PendingTransport();
+		final CoalescingTransport transport = CoalescingTransport.create(delegate);
+		transport.executeAsync(get(AUTH));
+		transport.executeAsync(get(ImmutableMap.of("Authorization", "Bearer other")));
+		assertEquals(2, delegate.count());
+		assertEquals(0, transport.getCoalescedCount());
+	}
+
+	@Test
+	public void testWritesAreNotShared() {
+		final PendingTransport delegate = new PendingTransport();
+		final CoalescingTransport transport = CoalescingTransport.create(delegate);
+		transport.executeAsync(new TransportRequest("POST", URL, AUTH, new JSONObject()));
+		transport.executeAsync(new TransportRequest("POST", URL, AUTH, new JSONObject()));
+		assertEquals(2, delegate.count());
+	}
+
+	@Test
+	public void testCompletedCallIsNotReused() throws Exception {
+		final PendingTransport delegate = new PendingTransport();
+		final CoalescingTransport transport = CoalescingTransport.create(delegate);
+		final CompletableFuture<TransportResponse> first = transport.executeAsync(get(AUTH));
+		delegate.call(0).complete(ok());
+		first.get();
+		transport.executeAsync(get(AUTH));
+		assertEquals(2, delegate.count());
+	}
+
+	@Test
+	public void testFailureReachesEveryCaller() throws InterruptedException {
+		final PendingTransport delegate = new PendingTransport();
+		final CoalescingTransport transport = CoalescingTransport.create(delegate);
+		final CompletableFuture<TransportResponse> first = transport.executeAsync(get(AUTH));
+		final CompletableFuture<TransportResponse> second = transport.executeAsync(get(AUTH));
+		delegate.call(0).completeExceptionally(new JWPlatformUnknownException("connection reset"));
+		for (final CompletableFuture<TransportResponse> result : Arrays.asList(first, second)) {
+			try {
+				result.get();
+				fail("Expected the shared call to fail");
+			} catch (final ExecutionException e) {
+				assertTrue(e.getCause() instanceof JWPlatformUnknownException);
+			}
+		}
+	}
+
+	@Test
+	public void testCancellingOneCallerLeavesOthers() throws Exception {
+		final PendingTransport delegate = new PendingTransport();
+		final CoalescingTransport transport = CoalescingTransport.create(delegate);
+		final CompletableFuture<TransportResponse> first = transport.executeAsync(get(AUTH));
+		final CompletableFuture<TransportResponse> second = transport.executeAsync(get(AUTH));
+		first.cancel(false);
+		delegate.call(0).complete(ok());
+		assertEquals(200, second.get().getStatus());
+	}
+
+	@Test
+	public void testBlockingFailureIsRethrown() {
+		final CoalescingTransport transport = CoalescingTransport.create(request -> {
+			throw new JWPlatformUnknownException("connection refused");
+		});
+		try {
+			transport.execute(get(AUTH));
+			fail("Expected the call to fail");
+		} catch (final JWPlatformException e) {
+			assertEquals("connection refused", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,198 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+public class CompressionTransportTest {
+	static final String BODY = "{\"media\":[{\"id\":\"a\"},{\"id\":\"a\"},{\"id\":\"a\"},{\"id\":\"a\"}],\"total\":4}";
+	private static final String URL = "https://api.jwplayer.com/v2/sites/site/media/";
+
+	static byte[] gzip(final String text) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(text.getBytes(StandardCharsets.UTF_8));
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] deflate(final String text, final boolean raw) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new DeflaterOutputStream(bytes, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+			out.write(text.getBytes(StandardCharsets.UTF_8));
+		}
+		return bytes.toByteArray();
+	}
+
+	private static HttpTransport serving(final List<TransportRequest> sent, final String coding, final byte[] body) {
+		return request -> {
+			sent.add(request);
+			final Map<String, String> headers = new HashMap<>();
+			if (coding != null) {
+				headers.put("Content-Encoding", coding);
+			}
+			headers.put("Content-Length", String.valueOf(body.length));
+			return new TransportResponse(200, headers, body);
+		};
+	}
+
+	@Test
+	public void testGzip() throws Exception {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final byte[] compressed = gzip(BODY);
+		final CompressionTransport transport = CompressionTransport.create(serving(sent, "gzip", compressed));
+		final TransportResponse response = transport.execute(new TransportRequest("GET", URL, new HashMap<>(), null));
+		assertEquals(BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+		assertNull(response.getHeader("Content-Encoding"));
+		assertNull(response.getHeader("Content-Length"));
+		assertEquals("gzip, deflate", sent.get(0).getHeaders().get("Accept-Encoding"));
+		assertEquals(compressed.length, transport.getCompressedBytes());
+		assertEquals(BODY.length(), transport.getUncompressedBytes());
+	}
+
+	@Test
+	public void testDeflateWrappedAndRaw() throws Exception {
+		for (final boolean raw : new boolean[] { false, true }) {
+			final CompressionTransport transport = CompressionTransport
+					.create(serving(new ArrayList<>(), "Deflate", deflate(BODY, raw)));
+			assertEquals(4, transport.execute(new TransportRequest("GET", URL, null, null)).getJson().getInt("total"));
+		}
+	}
+
+	@Test
+	public void testIdentityAndUnknownPassThrough() throws Exception {
+		final byte[] plain = BODY.getBytes(StandardCharsets.UTF_8);
+		final CompressionTransport identity = CompressionTransport.create(serving(new ArrayList<>(), null, plain));
+		identity.execute(new TransportRequest("GET", URL, null, null));
+		assertEquals(plain.length, identity.getCompressedBytes());
+		assertEquals(plain.length, identity.getUncompressedBytes());
+
+		final byte[] unknown = { 1, 2, 3 };
+		final TransportResponse response = CompressionTransport.create(serving(new ArrayList<>(), "zstd", unknown))
+				.execute(new TransportRequest("GET", URL, null, null));
+		assertEquals("zstd", response.getHeader("Content-Encoding"));
+		assertEquals(3, response.getBody().length);
+	}
+
+	@Test
+	public void testParsedBodiesAreCountedAsUncompressed() throws Exception {
+		final JSONObject json = new JSONObject(BODY);
+		final CompressionTransport transport = CompressionTransport
+				.create(request -> new TransportResponse(200, Collections.emptyMap(), json));
+		transport.execute(new TransportRequest("GET", URL, null, null));
+		assertEquals(json.toString().length(), transport.getCompressedBytes());
+		assertEquals(json.toString().length(), transport.getUncompressedBytes());
+
+		final CompressionTransport withLength = CompressionTransport
+				.create(request -> new TransportResponse(200, ImmutableMap.of("Content-Length", "120"), json));
+		withLength.execute(new TransportRequest("GET", URL, null, null));
+		assertEquals(120, withLength.getCompressedBytes());
+		assertEquals(120, withLength.getUncompressedBytes());
+	}
+
+	@Test
+	public void testExtraCodingAndCallerHeaderKept() throws Exception {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final CompressionTransport transport = CompressionTransport.create(serving(sent, "br", gzip(BODY)),
+				ImmutableMap.of("BR", GZIPInputStream::new));
+		assertEquals("br, gzip, deflate", transport.getAcceptEncoding());
+		assertEquals(4, transport.execute(new TransportRequest("GET", URL, null, null)).getJson().getInt("total"));
+
+		transport.execute(new TransportRequest("GET", URL, Collections.singletonMap("accept-encoding", "identity"),
+				null));
+		assertEquals("identity", sent.get(1).getHeaders().get("accept-encoding"));
+	}
+
+	@Test
+	public void testEncodedBodyIsKept() throws Exception {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final byte[] body = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+		CompressionTransport.create(serving(sent, null, new byte[0]))
+				.execute(TransportRequest.encoded("POST", URL, new HashMap<>(), body));
+		assertEquals(body, sent.get(0).getBodyBytes());
+	}
+
+	@Test
+	public void testEmptyEncodedBody() throws Exception {
+		final TransportResponse response = CompressionTransport.create(serving(new ArrayList<>(), "gzip", new byte[0]))
+				.execute(new TransportRequest("GET", URL, null, null));
+		assertEquals(0, response.getBody().length);
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testCorruptBody() throws JWPlatformException {
+		CompressionTransport.create(serving(new ArrayList<>(), "gzip", new byte[] { 1, 2, 3 }))
+				.execute(new TransportRequest("GET", URL, null, null));
+	}
+
+	@Test
+	public void testAsync() throws Exception {
+		final CompressionTransport transport = CompressionTransport
+				.create(serving(new ArrayList<>(), "gzip", gzip(BODY)));
+		assertEquals(4, transport.executeAsync(new TransportRequest("GET", URL, null, null)).get().getJson()
+				.getInt("total"));
+		try {
+			CompressionTransport.create(serving(new ArrayList<>(), "gzip", new byte[] { 1, 2, 3 }))
+					.executeAsync(new TransportRequest("GET", URL, null, null)).get();
+			fail("Expected the corrupt body to fail the future");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformUnknownException);
+		}
+	}
+
+	@Test
+	public void testStreamedBodiesAreDecodedAndCounted() throws Exception {
+		final byte[] compressed = deflate(BODY, true);
+		final CompressionTransport transport = CompressionTransport
+				.create(serving(new ArrayList<>(), "deflate", compressed));
+		final BodyReader<String> reader = (response, body) -> new String(ByteStreams.toByteArray(body),
+				StandardCharsets.UTF_8);
+		assertEquals(BODY, transport.executeStreaming(new TransportRequest("GET", URL, null, null), reader));
+		assertEquals(compressed.length, transport.getCompressedBytes());
+		assertEquals(BODY.length(), transport.getUncompressedBytes());
+
+		final CompressionTransport plain = CompressionTransport
+				.create(serving(new ArrayList<>(), null, BODY.getBytes(StandardCharsets.UTF_8)));
+		assertEquals(BODY, plain.executeStreaming(new TransportRequest("GET", URL, null, null), reader));
+		assertEquals(BODY.length(), plain.getCompressedBytes());
+	}
+
+	@Test
+	public void testMalformedContentLengthOfParsedBody() throws Exception {
+		final JSONObject json = new JSONObject(BODY);
+		final CompressionTransport transport = CompressionTransport
+				.create(request -> new TransportResponse(200, ImmutableMap.of("Content-Length", "n/a"), json));
+		transport.execute(new TransportRequest("GET", URL, null, null));
+		assertEquals(json.toString().length(), transport.getCompressedBytes());
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testTruncatedDeflateBody() throws JWPlatformException {
+		CompressionTransport.create(serving(new ArrayList<>(), "deflate", new byte[] { 0x78 }))
+				.execute(new TransportRequest("GET", URL, null, null));
+	}
+}
@@ -0,0 +1,60 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+public class ConcurrencyLimitConfigTest {
+
+	@Test
+	public void testDefaults() {
+		ConcurrencyLimitConfig config = ConcurrencyLimitConfig.defaults();
+		assertEquals(10, config.getInitialLimit());
+		assertEquals(1, config.getMinLimit());
+		assertEquals(200, config.getMaxLimit());
+		assertEquals(0.9, config.getBackoffRatio(), 0);
+		assertEquals(2.0, config.getLatencyTolerance(), 0);
+		assertEquals(1000, config.getBaselineWindow());
+		assertEquals(Duration.ofSeconds(60), config.getMaxWait());
+	}
+
+	@Test
+	public void testBuilder() {
+		ConcurrencyLimitConfig config = ConcurrencyLimitConfig.builder().initialLimit(4).minLimit(2).maxLimit(8)
+				.backoffRatio(0.5).latencyTolerance(1.5).baselineWindow(100).maxWait(Duration.ZERO).build();
+		assertEquals(4, config.getInitialLimit());
+		assertEquals(2, config.getMinLimit());
+		assertEquals(8, config.getMaxLimit());
+		assertEquals(0.5, config.getBackoffRatio(), 0);
+		assertEquals(1.5, config.getLatencyTolerance(), 0);
+		assertEquals(100, config.getBaselineWindow());
+		assertEquals(Duration.ZERO, config.getMaxWait());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMinAboveMax() {
+		ConcurrencyLimitConfig.builder().initialLimit(4).minLimit(5).maxLimit(4).build();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInitialOutsideBounds() {
+		ConcurrencyLimitConfig.builder().initialLimit(10).maxLimit(5).build();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testBackoffRatioOfOne() {
+		ConcurrencyLimitConfig.builder().backoffRatio(1);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testLatencyToleranceBelowOne() {
+		ConcurrencyLimitConfig.builder().latencyTolerance(0.5);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeMaxWait() {
+		ConcurrencyLimitConfig.builder().maxWait(Duration.ofSeconds(-1));
+	}
+}
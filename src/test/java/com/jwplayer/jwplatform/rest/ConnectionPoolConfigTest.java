@@ -0,0 +1,55 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+
+public class ConnectionPoolConfigTest {
+
+	@Test
+	public void testDefaults() {
+		ConnectionPoolConfig config = ConnectionPoolConfig.defaults();
+		assertEquals(200, config.getMaxConnectionsTotal());
+		assertEquals(20, config.getMaxConnectionsPerRoute());
+		assertEquals(Duration.ofSeconds(10), config.getConnectTimeout());
+		assertEquals(Duration.ofSeconds(60), config.getReadTimeout());
+	}
+
+	@Test
+	public void testBuilder() {
+		ConnectionPoolConfig config = ConnectionPoolConfig.builder().maxConnectionsTotal(8).maxConnectionsPerRoute(4)
+				.keepAlive(Duration.ofSeconds(5)).idleEviction(Duration.ofSeconds(2))
+				.connectTimeout(Duration.ofMillis(500)).readTimeout(Duration.ofSeconds(3)).tlsSessionCacheSize(10)
+				.tlsSessionTimeout(Duration.ofMinutes(5)).build();
+		assertEquals(8, config.getMaxConnectionsTotal());
+		assertEquals(4, config.getMaxConnectionsPerRoute());
+		assertEquals(Duration.ofSeconds(5), config.getKeepAlive());
+		assertEquals(Duration.ofSeconds(2), config.getIdleEviction());
+		assertEquals(Duration.ofMillis(500), config.getConnectTimeout());
+		assertEquals(Duration.ofSeconds(3), config.getReadTimeout());
+		assertEquals(10, config.getTlsSessionCacheSize());
+		assertEquals(Duration.ofMinutes(5), config.getTlsSessionTimeout());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPerRouteAboveTotal() {
+		ConnectionPoolConfig.builder().maxConnectionsTotal(2).maxConnectionsPerRoute(4).build();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testZeroTimeout() {
+		ConnectionPoolConfig.builder().readTimeout(Duration.ZERO);
+	}
+
+	@Test
+	public void testSslContextHasOwnSessionCache() throws JWPlatformException {
+		ConnectionPoolConfig config = ConnectionPoolConfig.builder().tlsSessionCacheSize(7)
+				.tlsSessionTimeout(Duration.ofSeconds(90)).build();
+		assertEquals(7, config.newSslContext().getClientSessionContext().getSessionCacheSize());
+		assertEquals(90, config.newSslContext().getClientSessionContext().getSessionTimeout());
+	}
+}
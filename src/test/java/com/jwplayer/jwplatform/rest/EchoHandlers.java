@@ -0,0 +1,44 @@
+package com.jwplayer.jwplatform.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.json.JSONObject;
+
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+
+/**
+ * Handlers of the local test server shared by the transport tests.
+ */
+final class EchoHandlers {
+
+	private EchoHandlers() {
+	}
+
+	static void echo(final HttpExchange exchange) throws IOException {
+		final JSONObject echo = new JSONObject();
+		echo.put("method", exchange.getRequestMethod());
+		echo.put("authorization", exchange.getRequestHeaders().getFirst("Authorization"));
+		try (InputStream in = exchange.getRequestBody()) {
+			echo.put("body", new String(ByteStreams.toByteArray(in), StandardCharsets.UTF_8));
+		}
+		final byte[] response = echo.toString().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("X-Echo", "yes");
+		exchange.sendResponseHeaders("DELETE".equals(exchange.getRequestMethod()) ? 404 : 200, response.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(response);
+		}
+	}
+
+	static void slow(final HttpExchange exchange) throws IOException {
+		try {
+			Thread.sleep(1000);
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		echo(exchange);
+	}
+}
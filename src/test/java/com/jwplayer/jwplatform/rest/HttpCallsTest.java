@@ -1,13 +1,27 @@
 package com.jwplayer.jwplatform.rest;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.json.JSONObject;
 import org.junit.Test;
@@ -18,34 +32,36 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformNotFoundException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
 import com.mashape.unirest.http.HttpResponse;
-import com.mashape.unirest.http.JsonNode;
 import com.mashape.unirest.http.Unirest;
 import com.mashape.unirest.http.exceptions.UnirestException;
 import com.mashape.unirest.request.GetRequest;
 import com.mashape.unirest.request.HttpRequestWithBody;
-import com.mashape.unirest.request.body.RequestBodyEntity;
+import com.mashape.unirest.request.body.RawBody;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ Unirest.class })
 public class HttpCallsTest {
 
+	private static InputStream body(final JSONObject json) {
+		return new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
 	@Test
 	public void testGetRequest() throws JWPlatformException, UnirestException {
 		mockStatic(Unirest.class);
 		final GetRequest getRequest = PowerMockito.mock(GetRequest.class);
 		@SuppressWarnings("unchecked")
-		final HttpResponse<JsonNode> response = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
 		final JSONObject expectedResponse = new JSONObject();
 		expectedResponse.put("status", 200);
-		when(response.getBody()).thenReturn(jsonNode);
+		when(response.getRawBody()).thenReturn(body(expectedResponse));
 		when(response.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
-		when(response.getBody()).thenReturn(new JsonNode("[\"Success\"]"));
 		when(Unirest.get(anyString())).thenReturn(getRequest);
 		when(Unirest.get(anyString()).headers(anyMap())).thenReturn(getRequest);
-		when(Unirest.get(anyString()).headers(anyMap()).asJson()).thenReturn(response);
+		when(Unirest.get(anyString()).headers(anyMap()).asBinary()).thenReturn(response);
 		HttpCalls.request("v2/media/", new HashMap<>(), false, "GET", new HashMap<>());
 		PowerMockito.verifyStatic(Unirest.class, Mockito.atLeastOnce());
 		Unirest.get(anyString());
@@ -56,17 +72,14 @@ public class HttpCallsTest {
 		mockStatic(Unirest.class);
 		final HttpRequestWithBody requestBody = PowerMockito.mock(HttpRequestWithBody.class);
 		@SuppressWarnings("unchecked")
-		final HttpResponse<JsonNode> response = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
 		final JSONObject expectedResponse = new JSONObject();
 		expectedResponse.put("status", 200);
-		when(response.getBody()).thenReturn(jsonNode);
+		when(response.getRawBody()).thenReturn(body(expectedResponse));
 		when(response.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
-		when(response.getBody()).thenReturn(new JsonNode("[\"Success\"]"));
 		when(Unirest.post(anyString())).thenReturn(requestBody);
 		when(Unirest.post(anyString()).headers(anyMap())).thenReturn(requestBody);
-		when(Unirest.post(anyString()).headers(anyMap()).asJson()).thenReturn(response);
+		when(Unirest.post(anyString()).headers(anyMap()).asBinary()).thenReturn(response);
 		when(response.getStatus()).thenReturn(200);
 		Map<String, String> params = new HashMap<>();
 		params.put("key", "value");
@@ -82,17 +95,15 @@ public class HttpCallsTest {
 		mockStatic(Unirest.class);
 		when(Unirest.post(anyString())).thenReturn(requestWithBody);
 		when(requestWithBody.headers(anyMap())).thenReturn(requestWithBody);
-		RequestBodyEntity entity = PowerMockito.mock(RequestBodyEntity.class);
-		when(requestWithBody.body(any(JSONObject.class))).thenReturn(entity);
+		RawBody entity = PowerMockito.mock(RawBody.class);
+		when(requestWithBody.body(any(byte[].class))).thenReturn(entity);
 		@SuppressWarnings("unchecked")
-		final HttpResponse<JsonNode> response = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
 		final JSONObject expectedResponse = new JSONObject();
 		expectedResponse.put("status", 200);
-		when(entity.asJson()).thenReturn(response);
-		when(response.getBody()).thenReturn(jsonNode);
+		when(entity.asBinary()).thenReturn(response);
+		when(response.getRawBody()).thenReturn(body(expectedResponse));
 		when(response.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
 		Map<String, String> params = new HashMap<>();
 		params.put("key", "value");
 		HttpCalls.request("v2/media/", params, true, "POST", new HashMap<>());
@@ -105,17 +116,14 @@ public class HttpCallsTest {
 		mockStatic(Unirest.class);
 		final HttpRequestWithBody request = PowerMockito.mock(HttpRequestWithBody.class);
 		@SuppressWarnings("unchecked")
-		final HttpResponse<JsonNode> response = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
 		final JSONObject expectedResponse = new JSONObject();
 		expectedResponse.put("status", 200);
-		when(response.getBody()).thenReturn(jsonNode);
+		when(response.getRawBody()).thenReturn(body(expectedResponse));
 		when(response.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
-		when(response.getBody()).thenReturn(new JsonNode("[\"Success\"]"));
 		when(Unirest.delete(anyString())).thenReturn(request);
 		when(Unirest.delete(anyString()).headers(anyMap())).thenReturn(request);
-		when(Unirest.delete(anyString()).headers(anyMap()).asJson()).thenReturn(response);
+		when(Unirest.delete(anyString()).headers(anyMap()).asBinary()).thenReturn(response);
 		HttpCalls.request("v2/media/", new HashMap<>(), false, "DELETE", new HashMap<>());
 		PowerMockito.verifyStatic(Unirest.class, Mockito.atLeastOnce());
 		Unirest.delete(anyString());
@@ -133,9 +141,9 @@ public class HttpCallsTest {
 		mockStatic(Unirest.class);
 		when(Unirest.post(anyString())).thenReturn(requestWithBody);
 		when(requestWithBody.headers(anyMap())).thenReturn(requestWithBody);
-		RequestBodyEntity entity = PowerMockito.mock(RequestBodyEntity.class);
-		when(requestWithBody.body(any(JSONObject.class))).thenReturn(entity);
-		when(entity.asJson()).thenThrow(new UnirestException("some exception"));
+		RawBody entity = PowerMockito.mock(RawBody.class);
+		when(requestWithBody.body(any(byte[].class))).thenReturn(entity);
+		when(entity.asBinary()).thenThrow(new UnirestException("some exception"));
 		HttpCalls.request("v2/media", new HashMap<>(), true, "POST", new HashMap<>());
 	}
 
@@ -146,17 +154,15 @@ public class HttpCallsTest {
 		mockStatic(Unirest.class);
 		when(Unirest.patch(anyString())).thenReturn(requestWithBody);
 		when(requestWithBody.headers(anyMap())).thenReturn(requestWithBody);
-		RequestBodyEntity entity = PowerMockito.mock(RequestBodyEntity.class);
-		when(requestWithBody.body(any(JSONObject.class))).thenReturn(entity);
+		RawBody entity = PowerMockito.mock(RawBody.class);
+		when(requestWithBody.body(any(byte[].class))).thenReturn(entity);
 		@SuppressWarnings("unchecked")
-		final HttpResponse<JsonNode> response = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
 		final JSONObject expectedResponse = new JSONObject();
 		expectedResponse.put("status", 200);
-		when(entity.asJson()).thenReturn(response);
-		when(response.getBody()).thenReturn(jsonNode);
+		when(entity.asBinary()).thenReturn(response);
+		when(response.getRawBody()).thenReturn(body(expectedResponse));
 		when(response.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
 		Map<String, String> params = new HashMap<>();
 		params.put("key", "value");
 		HttpCalls.request("v2/media/", params, true, "PATCH", new HashMap<>());
@@ -169,17 +175,14 @@ public class HttpCallsTest {
 		mockStatic(Unirest.class);
 		final HttpRequestWithBody requestBody = PowerMockito.mock(HttpRequestWithBody.class);
 		@SuppressWarnings("unchecked")
-		final HttpResponse<JsonNode> response = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
 		final JSONObject expectedResponse = new JSONObject();
 		expectedResponse.put("status", 200);
-		when(response.getBody()).thenReturn(jsonNode);
+		when(response.getRawBody()).thenReturn(body(expectedResponse));
 		when(response.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
-		when(response.getBody()).thenReturn(new JsonNode("[\"Success\"]"));
 		when(Unirest.patch(anyString())).thenReturn(requestBody);
 		when(Unirest.patch(anyString()).headers(anyMap())).thenReturn(requestBody);
-		when(Unirest.patch(anyString()).headers(anyMap()).asJson()).thenReturn(response);
+		when(Unirest.patch(anyString()).headers(anyMap()).asBinary()).thenReturn(response);
 		when(response.getStatus()).thenReturn(200);
 		Map<String, String> params = new HashMap<>();
 		params.put("key", "value");
@@ -195,17 +198,15 @@ public class HttpCallsTest {
 		mockStatic(Unirest.class);
 		when(Unirest.put(anyString())).thenReturn(requestWithBody);
 		when(requestWithBody.headers(anyMap())).thenReturn(requestWithBody);
-		RequestBodyEntity entity = PowerMockito.mock(RequestBodyEntity.class);
-		when(requestWithBody.body(any(JSONObject.class))).thenReturn(entity);
+		RawBody entity = PowerMockito.mock(RawBody.class);
+		when(requestWithBody.body(any(byte[].class))).thenReturn(entity);
 		@SuppressWarnings("unchecked")
-		final HttpResponse<JsonNode> response = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
 		final JSONObject expectedResponse = new JSONObject();
 		expectedResponse.put("status", 200);
-		when(entity.asJson()).thenReturn(response);
-		when(response.getBody()).thenReturn(jsonNode);
+		when(entity.asBinary()).thenReturn(response);
+		when(response.getRawBody()).thenReturn(body(expectedResponse));
 		when(response.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
 		Map<String, String> params = new HashMap<>();
 		params.put("key", "value");
 		HttpCalls.request("v2/media/", params, true, "PUT", new HashMap<>());
@@ -218,17 +219,14 @@ public class HttpCallsTest {
 		mockStatic(Unirest.class);
 		final HttpRequestWithBody requestBody = PowerMockito.mock(HttpRequestWithBody.class);
 		@SuppressWarnings("unchecked")
-		final HttpResponse<JsonNode> response = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
 		final JSONObject expectedResponse = new JSONObject();
 		expectedResponse.put("status", 200);
-		when(response.getBody()).thenReturn(jsonNode);
+		when(response.getRawBody()).thenReturn(body(expectedResponse));
 		when(response.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
-		when(response.getBody()).thenReturn(new JsonNode("[\"Success\"]"));
 		when(Unirest.put(anyString())).thenReturn(requestBody);
 		when(Unirest.put(anyString()).headers(anyMap())).thenReturn(requestBody);
-		when(Unirest.put(anyString()).headers(anyMap()).asJson()).thenReturn(response);
+		when(Unirest.put(anyString()).headers(anyMap()).asBinary()).thenReturn(response);
 		when(response.getStatus()).thenReturn(200);
 		Map<String, String> params = new HashMap<>();
 		params.put("key", "value");
@@ -236,4 +234,193 @@ public class HttpCallsTest {
 		PowerMockito.verifyStatic(Unirest.class, Mockito.times(3));
 		Unirest.put(anyString());
 	}
+
+	@Test
+	public void testRequestWithTransport() throws JWPlatformException {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final HttpTransport transport = request -> {
+			sent.add(request);
+			return new TransportResponse(201, new HashMap<>(), "{\"id\":\"abc\"}".getBytes(StandardCharsets.UTF_8));
+		};
+		Map<String, String> params = new HashMap<>();
+		params.put("key", "value");
+		Map<String, String> headers = new HashMap<>();
+		headers.put("Authorization", "Bearer secret");
+		JSONObject actual = HttpCalls.request(transport, "https://api.jwplayer.com/v2/sites/site/media/", params, true,
+				"POST", headers);
+		assertEquals("abc", actual.getString("id"));
+		assertEquals(1, sent.size());
+		assertEquals("POST", sent.get(0).getMethod());
+		assertTrue(sent.get(0).getUrl().startsWith("https://api.jwplayer.com/v2/sites/site/media/?"));
+		assertEquals("value", sent.get(0).getBody().getString("key"));
+		assertEquals("Bearer secret", sent.get(0).getHeaders().get("Authorization"));
+	}
+
+	@Test(expected = JWPlatformNotFoundException.class)
+	public void testRequestWithTransportNon200() throws JWPlatformException {
+		final HttpTransport transport = request -> new TransportResponse(404, new HashMap<>(),
+				"{\"code\":\"NotFoundError\"}".getBytes(StandardCharsets.UTF_8));
+		HttpCalls.request(transport, "https://api.jwplayer.com/v2/sites/site/media/abc/", new HashMap<>(), false,
+				"GET", new HashMap<>());
+	}
+
+	@Test
+	public void testGetSendsParamsAsQueryString() throws JWPlatformException {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final HttpTransport transport = request -> {
+			sent.add(request);
+			return new TransportResponse(200, new HashMap<>(), "{}".getBytes(StandardCharsets.UTF_8));
+		};
+		final Map<String, String> params = new HashMap<>();
+		params.put("page_length", "50");
+		params.put("page", "2");
+		params.put("q", "title:a b");
+		HttpCalls.request(transport, "https://api.jwplayer.com/v2/sites/site/media/", params, false, "GET",
+				new HashMap<>());
+		assertEquals("https://api.jwplayer.com/v2/sites/site/media/?page=2&page_length=50&q=title%3Aa%20b",
+				sent.get(0).getUrl());
+
+		HttpCalls.request(transport, "https://api.jwplayer.com/v2/sites/site/analytics/queries/?source=default",
+				params, false, "GET", new HashMap<>());
+		assertEquals("https://api.jwplayer.com/v2/sites/site/analytics/queries/?source=default&page=2&page_length=50"
+				+ "&q=title%3Aa%20b", sent.get(1).getUrl());
+	}
+
+	@Test
+	public void testRequestStreaming() throws JWPlatformException {
+		final HttpTransport transport = request -> new TransportResponse(200, new HashMap<>(),
+				"{\"media\":[{\"id\":\"a\"},{\"id\":\"b\"}],\"total\":2}".getBytes(StandardCharsets.UTF_8));
+		final List<String> ids = new ArrayList<>();
+		final JSONObject rest = HttpCalls.requestStreaming(transport, "https://api.jwplayer.com/v2/sites/site/media/",
+				new HashMap<>(), new HashMap<>(), "media", item -> ids.add(item.getString("id")));
+		assertEquals(2, ids.size());
+		assertEquals("b", ids.get(1));
+		assertEquals(2, rest.getInt("total"));
+	}
+
+	@Test(expected = JWPlatformNotFoundException.class)
+	public void testRequestStreamingError() throws JWPlatformException {
+		final HttpTransport transport = request -> new TransportResponse(404, new HashMap<>(),
+				"{\"code\":\"NotFound\",\"message\":\"no such site\"}".getBytes(StandardCharsets.UTF_8));
+		HttpCalls.requestStreaming(transport, "https://api.jwplayer.com/v2/sites/site/media/", new HashMap<>(),
+				new HashMap<>(), "media", item -> fail("No items expected"));
+	}
+
+	@Test
+	public void testRequestView() throws JWPlatformException {
+		final HttpTransport transport = request -> new TransportResponse(200, new HashMap<>(),
+				"{\"id\":\"abc\",\"metadata\":{\"title\":\"t\"}}".getBytes(StandardCharsets.UTF_8));
+		final JsonView media = HttpCalls.requestView(transport, "https://api.jwplayer.com/v2/sites/site/media/abc/",
+				new HashMap<>(), false, "GET", new HashMap<>());
+		assertEquals("t", media.at("metadata", "title").asString());
+	}
+
+	@Test(expected = JWPlatformNotFoundException.class)
+	public void testRequestViewError() throws JWPlatformException {
+		final HttpTransport transport = request -> new TransportResponse(404, new HashMap<>(),
+				"{\"code\":\"NotFound\"}".getBytes(StandardCharsets.UTF_8));
+		HttpCalls.requestView(transport, "https://api.jwplayer.com/v2/sites/site/media/abc/", new HashMap<>(), false,
+				"GET", new HashMap<>());
+	}
+
+	@Test
+	public void testRequestViewWithEncodedBody() throws JWPlatformException {
+		final List<TransportRequest> sent = new ArrayList<>();
+		final HttpTransport transport = request -> {
+			sent.add(request);
+			return new TransportResponse(201, new HashMap<>(), "{\"id\":\"abc\"}".getBytes(StandardCharsets.UTF_8));
+		};
+		final byte[] body = new JsonWriter().beginObject().field("title", "t").endObject().toByteArray();
+		final JsonView created = HttpCalls.requestView(transport, "https://api.jwplayer.com/v2/sites/site/media/", body,
+				"post", new HashMap<>());
+		assertEquals("abc", created.getString("id"));
+		assertEquals("POST", sent.get(0).getMethod());
+		assertTrue(sent.get(0).hasBody());
+		assertArrayEquals(body, sent.get(0).getBodyBytes());
+		assertEquals("t", sent.get(0).getBody().getString("title"));
+	}
+
+	@Test(expected = JWPlatformException.class)
+	public void testRequestViewWithEncodedBodyRejectsGet() throws JWPlatformException {
+		HttpCalls.requestView(request -> {
+			throw new AssertionError("nothing must be sent");
+		}, "https://api.jwplayer.com/v2/sites/site/media/", new byte[0], "GET", new HashMap<>());
+	}
+
+	@Test
+	public void testRequestAsync() throws Exception {
+		final CompletableFuture<TransportResponse> pending = new CompletableFuture<>();
+		final List<TransportRequest> sent = new ArrayList<>();
+		final HttpTransport transport = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) {
+				throw new AssertionError("execute must not be called");
+			}
+
+			@Override
+			public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				sent.add(request);
+				return pending;
+			}
+		};
+		CompletableFuture<JSONObject> actual = HttpCalls.requestAsync(transport,
+				"https://api.jwplayer.com/v2/sites/site/media/abc/", new HashMap<>(), false, "GET", new HashMap<>());
+		assertFalse(actual.isDone());
+		assertEquals("GET", sent.get(0).getMethod());
+		pending.complete(new TransportResponse(200, new HashMap<>(), "{\"id\":\"abc\"}".getBytes(StandardCharsets.UTF_8)));
+		assertEquals("abc", actual.get().getString("id"));
+	}
+
+	@Test
+	public void testDefaultExecuteAsyncDoesNotBlockCaller() throws Exception {
+		final CountDownLatch release = new CountDownLatch(1);
+		final HttpTransport transport = request -> {
+			try {
+				release.await();
+			} catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new TransportResponse(200, new HashMap<>(), "{\"id\":\"abc\"}".getBytes(StandardCharsets.UTF_8));
+		};
+		final CompletableFuture<JSONObject> actual = HttpCalls.requestAsync(transport,
+				"https://api.jwplayer.com/v2/sites/site/media/abc/", new HashMap<>(), false, "GET", new HashMap<>());
+		assertFalse(actual.isDone());
+		release.countDown();
+		assertEquals("abc", actual.get(5, TimeUnit.SECONDS).getString("id"));
+	}
+
+	@Test
+	public void testRequestAsyncNon200() throws InterruptedException {
+		final HttpTransport transport = request -> new TransportResponse(404, new HashMap<>(),
+				"{\"code\":\"NotFoundError\"}".getBytes(StandardCharsets.UTF_8));
+		try {
+			HttpCalls.requestAsync(transport, "https://api.jwplayer.com/v2/sites/site/media/abc/", new HashMap<>(),
+					false, "GET", new HashMap<>()).get();
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformNotFoundException);
+		}
+	}
+
+	@Test
+	public void testRequestAsyncTransportFailure() throws InterruptedException {
+		final HttpTransport transport = request -> {
+			throw new JWPlatformUnknownException("connection refused");
+		};
+		final CompletableFuture<JSONObject> actual = HttpCalls.requestAsync(transport,
+				"https://api.jwplayer.com/v2/sites/site/media/", new HashMap<>(), true, "POST", new HashMap<>());
+		try {
+			actual.get();
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformUnknownException);
+		}
+	}
+
+	@Test
+	public void testRequestAsyncUnsupportedType() {
+		final CompletableFuture<JSONObject> actual = HttpCalls.requestAsync(request -> null, "/path", new HashMap<>(),
+				false, "HEAD", new HashMap<>());
+		assertTrue(actual.isCompletedExceptionally());
+	}
 }
@@ -0,0 +1,121 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformFileUploadFailedException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class HttpPartSenderTest {
+	private HttpServer server;
+	private String baseUrl;
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/part", HttpPartSenderTest::part);
+		server.createContext("/denied", exchange -> {
+			final byte[] response = "denied".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(403, response.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(response);
+			}
+		});
+		server.createContext("/unavailable", exchange -> exchange.sendResponseHeaders(503, -1));
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@After
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	private static void part(final HttpExchange exchange) throws IOException {
+		final byte[] body;
+		try (InputStream in = exchange.getRequestBody()) {
+			body = ByteStreams.toByteArray(in);
+		}
+		exchange.getResponseHeaders().add("ETag", exchange.getRequestMethod() + "-" + body.length + "-" + body[0]);
+		exchange.sendResponseHeaders(200, -1);
+		exchange.close();
+	}
+
+	@Test
+	public void testSendPart() throws JWPlatformException {
+		final ByteBuffer part = ByteBuffer.wrap("part".getBytes(StandardCharsets.UTF_8));
+		assertEquals("PUT-4-112", HttpPartSender.create().send(baseUrl + "/part", part));
+		assertEquals(4, part.remaining());
+	}
+
+	@Test
+	public void testSendPartThroughFlow() throws JWPlatformException {
+		final ByteBuffer part = ByteBuffer.allocateDirect(150 * 1024);
+		part.put(0, (byte) 7);
+		try (BandwidthScheduler.Flow flow = BandwidthScheduler.create(Long.MAX_VALUE / 2).register()) {
+			assertEquals("PUT-153600-7", HttpPartSender.create(Duration.ofSeconds(1), Duration.ofSeconds(5))
+					.send(baseUrl + "/part", part, flow));
+		}
+	}
+
+	@Test
+	public void testInterruptedWhileWaitingForBandwidth() {
+		// the second chunk has to wait for its share, which an interrupted thread gives up
+		try (BandwidthScheduler.Flow flow = BandwidthScheduler.create(1024).register()) {
+			Thread.currentThread().interrupt();
+			HttpPartSender.create().send(baseUrl + "/part", ByteBuffer.allocate(128 * 1024), flow);
+			fail();
+		} catch (final JWPlatformException e) {
+			assertEquals("Interrupted while waiting for bandwidth", e.getMessage());
+			assertTrue(Thread.interrupted());
+		}
+	}
+
+	@Test
+	public void testFailedPartKeepsErrorBody() throws JWPlatformException {
+		try {
+			HttpPartSender.create().send(baseUrl + "/denied", ByteBuffer.wrap(new byte[] { 1 }));
+			fail();
+		} catch (final JWPlatformFileUploadFailedException e) {
+			assertEquals("Part upload failed with HTTP 403: denied", e.getMessage());
+		}
+		try {
+			HttpPartSender.create().send(baseUrl + "/unavailable", ByteBuffer.wrap(new byte[] { 1 }));
+			fail();
+		} catch (final JWPlatformFileUploadFailedException e) {
+			assertEquals("Part upload failed with HTTP 503: ", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testUnreachableStorage() {
+		final String link = baseUrl + "/part";
+		server.stop(0);
+		try {
+			HttpPartSender.create().send(link, ByteBuffer.wrap(new byte[] { 1 }));
+			fail();
+		} catch (final JWPlatformException e) {
+			assertTrue(e instanceof JWPlatformUnknownException);
+			assertTrue(e.getMessage().startsWith("Part upload failed: "));
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+public class JsonItemReaderTest {
+
+	private static ByteArrayInputStream stream(final String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testStreamsItemsOfItemKey() throws JWPlatformException {
+		final List<JSONObject> items = new ArrayList<>();
+		final JSONObject envelope = JsonItemReader.read(stream("{\"page\": 1, \"tags\": [{\"id\": \"t\"}], "
+				+ "\"media\": [{\"id\": \"a\", "
+				+ "\"tags\": [\"x\", \"y\"]}, {\"id\": \"b\\u00e9\", \"meta\": {\"n\": 2}}], \"total\": 2, "
+				+ "\"other\": [{\"id\": \"kept\"}]}"), "media", items::add);
+		assertEquals(2, items.size());
+		assertEquals("a", items.get(0).getString("id"));
+		assertEquals(2, items.get(0).getJSONArray("tags").length());
+		assertEquals("bé", items.get(1).getString("id"));
+		assertEquals(2, items.get(1).getJSONObject("meta").getInt("n"));
+		assertEquals(1, envelope.getInt("page"));
+		assertEquals(2, envelope.getInt("total"));
+		assertEquals(0, envelope.getJSONArray("media").length());
+		assertEquals("t", envelope.getJSONArray("tags").getJSONObject(0).getString("id"));
+		assertEquals("kept", envelope.getJSONArray("other").getJSONObject(0).getString("id"));
+	}
+
+	@Test
+	public void testItemKeyThatIsNotAnArray() throws JWPlatformException {
+		final List<JSONObject> items = new ArrayList<>();
+		final JSONObject envelope = JsonItemReader.read(stream("{\"media\": {\"id\": \"a\"}}"), "media", items::add);
+		assertTrue(items.isEmpty());
+		assertEquals("a", envelope.getJSONObject("media").getString("id"));
+	}
+
+	@Test
+	public void testMultiByteCharacters() throws JWPlatformException {
+		final List<JSONObject> items = new ArrayList<>();
+		JsonItemReader.read(stream("{\"media\":[{\"title\":\"日本語\"}]}"), "media", items::add);
+		assertEquals("日本語", items.get(0).getString("title"));
+	}
+
+	@Test
+	public void testEmptyArrayAndEmptyBody() throws JWPlatformException {
+		final List<JSONObject> items = new ArrayList<>();
+		assertEquals(0,
+				JsonItemReader.read(stream("{\"media\": [ ]}"), "media", items::add).getJSONArray("media").length());
+		assertEquals(0, JsonItemReader.read(stream("{ }"), "media", items::add).length());
+		assertEquals(0, JsonItemReader.read(stream(""), "media", items::add).length());
+		assertTrue(items.isEmpty());
+	}
+
+	@Test
+	public void testNonObjectItemsAreKept() throws JWPlatformException {
+		final List<JSONObject> items = new ArrayList<>();
+		final JSONObject envelope = JsonItemReader.read(stream("{\"ids\": [\"a\", {\"id\": \"b\"}, 3]}"), "ids",
+				items::add);
+		assertEquals(1, items.size());
+		assertEquals(2, envelope.getJSONArray("ids").length());
+	}
+
+	@Test
+	public void testWithoutCallbackReadsWholeBody() throws JWPlatformException {
+		final JSONObject json = JsonItemReader.read(stream("{\"errors\": [{\"code\": \"not_found\"}]}"), "errors", null);
+		assertEquals("not_found", json.getJSONArray("errors").getJSONObject(0).getString("code"));
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testTruncatedBody() throws JWPlatformException {
+		JsonItemReader.read(stream("{\"media\": [{\"id\": \"a\"}, {\"id\""), "media", item -> {
+		});
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testNotAnObject() throws JWPlatformException {
+		JsonItemReader.read(stream("[1, 2]"), "media", item -> {
+		});
+	}
+}
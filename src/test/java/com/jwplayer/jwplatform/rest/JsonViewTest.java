@@ -0,0 +1,192 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+public class JsonViewTest {
+	private static final String MEDIA = "{\"id\": \"abc\", \"status\": \"ready\", \"duration\": 12.5, "
+			+ "\"views\": 9007199254740993, \"offset\": -42, \"public\": true, \"trim\": null, "
+			+ "\"metadata\": {\"title\": \"Caf\\u00e9 \\\"live\\\"\", \"tags\": [\"a\", \"b\", \"c\"], "
+			+ "\"custom_params\": {}}, \"üml\": \"日本\"}";
+
+	private static JsonView parse(final String json) throws JWPlatformException {
+		return JsonView.parse(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testScalars() throws JWPlatformException {
+		final JsonView media = parse(MEDIA);
+		assertTrue(media.isObject());
+		assertEquals("abc", media.getString("id"));
+		assertEquals(12.5, media.getDouble("duration"), 0);
+		assertEquals(12, media.getLong("duration"));
+		assertEquals(9007199254740993L, media.getLong("views"));
+		assertEquals(-42, media.getInt("offset"));
+		assertTrue(media.getBoolean("public"));
+		assertTrue(media.get("trim").isNull());
+		assertEquals("日本", media.getString("üml"));
+	}
+
+	@Test
+	public void testNestedAccess() throws JWPlatformException {
+		final JsonView media = parse(MEDIA);
+		assertEquals("Café \"live\"", media.at("metadata", "title").asString());
+		final JsonView tags = media.at("metadata", "tags");
+		assertEquals(3, tags.size());
+		assertEquals("c", tags.get(2).asString());
+		assertNull(tags.get(3));
+		assertNull(media.at("metadata", "missing", "title"));
+		assertEquals(0, media.at("metadata", "custom_params").size());
+		assertEquals(Arrays.asList("title", "tags", "custom_params"), media.getView("metadata").keys());
+		assertEquals(9, media.size());
+	}
+
+	@Test
+	public void testValuesAndConversion() throws JWPlatformException {
+		final JsonView list = parse("{\"media\": [{\"id\": \"a\"}, {\"id\": \"b\"}], \"total\": 2}");
+		assertEquals("b", list.getView("media").values().get(1).getString("id"));
+		assertEquals(2, list.values().size());
+		final JSONObject json = list.toJSONObject();
+		assertEquals("a", json.getJSONArray("media").getJSONObject(0).getString("id"));
+		assertEquals("[{\"id\": \"a\"}, {\"id\": \"b\"}]", list.get("media").toString());
+		assertEquals("\"a\"", list.getView("media").get(0).get("id").toString());
+	}
+
+	@Test
+	public void testOptionalGetters() throws JWPlatformException {
+		final JsonView media = parse(MEDIA);
+		assertEquals("none", media.optString("missing", "none"));
+		assertEquals("none", media.optString("duration", "none"));
+		assertEquals(7, media.optLong("id", 7));
+		assertFalse(media.has("missing"));
+		assertTrue(media.has("metadata"));
+	}
+
+	@Test(expected = JSONException.class)
+	public void testMissingMember() throws JWPlatformException {
+		parse(MEDIA).getString("missing");
+	}
+
+	@Test(expected = JSONException.class)
+	public void testWrongType() throws JWPlatformException {
+		parse(MEDIA).getLong("id");
+	}
+
+	@Test
+	public void testEmptyBody() throws JWPlatformException {
+		assertTrue(parse("  ").isObject());
+		assertEquals(0, parse("").size());
+	}
+
+	@Test
+	public void testMalformed() {
+		for (final String json : Arrays.asList("{\"a\": 1", "{\"a\" 1}", "{\"a\": tru}", "[1, 2,]", "{a: 1}",
+				"{\"a\": \"b}", "{} {}", "-")) {
+			try {
+				parse(json);
+				throw new AssertionError("Accepted " + json);
+			} catch (final JWPlatformException e) {
+				assertTrue(e instanceof JWPlatformUnknownException);
+			}
+		}
+	}
+
+	@Test
+	public void testLargeDocumentGrowsIndex() throws JWPlatformException {
+		final StringBuilder json = new StringBuilder("{\"media\":[");
+		for (int i = 0; i < 5000; i++) {
+			json.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"t\":[1,2,3]}");
+		}
+		final JsonView media = parse(json.append("]}").toString()).getView("media");
+		assertEquals(5000, media.size());
+		assertEquals(4999, media.get(4999).getLong("id"));
+	}
+
+	@Test
+	public void testEscapes() throws JWPlatformException {
+		final JsonView view = parse("{\"t\\u0069tle\": \"a\\b\\f\\n\\r\\t\\/\\\\z\"}");
+		assertEquals("a\b\f\n\r\t/\\z", view.getString("title"));
+		assertEquals(Arrays.asList("title"), view.keys());
+		for (final String json : Arrays.asList("{\"a\": \"\\u12\"}", "{\"a\": \"\\uzzzz\"}")) {
+			try {
+				parse(json).getString("a");
+				throw new AssertionError("Accepted " + json);
+			} catch (final JSONException e) {
+				assertTrue(e.getMessage().startsWith("Illegal escape"));
+			}
+		}
+	}
+
+	@Test
+	public void testNonContainers() throws JWPlatformException {
+		final JsonView list = parse("\t[true,\r\nfalse, \"x\", 1.5e3, -12345678901234567890, []]\n");
+		assertTrue(list.isArray());
+		assertFalse(list.isObject());
+		assertNull(list.get("key"));
+		assertNull(list.get(-1));
+		assertFalse(list.has("key"));
+		assertEquals(0, list.keys().size());
+		assertEquals(6, list.values().size());
+		final StringBuilder visited = new StringBuilder();
+		list.forEachMember((key, value) -> visited.append(key));
+		assertEquals("", visited.toString());
+		assertEquals(6, list.toJSONArray().length());
+
+		final JsonView first = list.get(0);
+		assertTrue(first.isBoolean());
+		assertTrue(first.asBoolean());
+		assertFalse(list.get(1).asBoolean());
+		assertNull(first.get(0));
+		assertEquals(0, first.size());
+		assertEquals(0, first.values().size());
+		assertEquals("true", first.toString());
+		assertEquals(1500, list.get(3).asLong());
+		assertEquals(1500.0, list.get(3).asDouble(), 0);
+		assertEquals(new BigDecimal("-12345678901234567890").longValue(), list.get(4).asLong());
+		assertTrue(list.get(5).isArray());
+		assertEquals(0, list.get(5).size());
+		assertNull(list.get(5).get(0));
+	}
+
+	@Test
+	public void testWrongTypeConversions() throws JWPlatformException {
+		final JsonView list = parse("[\"x\", 1, {}]");
+		for (final Runnable conversion : Arrays.<Runnable>asList(() -> list.get(1).asString(),
+				() -> list.get(0).asDouble(), () -> list.get(0).asBoolean(), () -> list.toJSONObject(),
+				() -> list.get(2).toJSONArray())) {
+			try {
+				conversion.run();
+				throw new AssertionError("Converted a value of the wrong type");
+			} catch (final JSONException e) {
+				assertTrue(e.getMessage().startsWith("Value is not"));
+			}
+		}
+		assertEquals(5, parse("{\"n\": 5}").optLong("n", 7));
+	}
+
+	@Test
+	public void testMoreMalformed() {
+		for (final String json : Arrays.asList("{\"a\": nul}", "{\"a\": nu", "{\"a\": \"\n\"}", "[1 2]", "{\"a\":",
+				"[", "{\"a\": -x}", "{\"a\": .5}")) {
+			try {
+				parse(json);
+				throw new AssertionError("Accepted " + json);
+			} catch (final JWPlatformException e) {
+				assertTrue(e instanceof JWPlatformUnknownException);
+			}
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class JsonWriterTest {
+
+	private static String text(final JsonWriter writer) {
+		return new String(writer.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void testNesting() {
+		final Map<String, String> params = new LinkedHashMap<>();
+		params.put("a", "1");
+		params.put("b", null);
+		final JsonWriter writer = new JsonWriter().beginObject().field("title", "t").field("skipped", (String) null)
+				.field("tags", Arrays.asList("x", "y")).field("custom_params", params).name("n").value(3L)
+				.name("d").value(2.5).name("whole").value(4.0).name("ok").value(true).name("none").nullValue()
+				.name("empty").beginArray().endArray().endObject();
+		assertEquals("{\"title\":\"t\",\"tags\":[\"x\",\"y\"],\"custom_params\":{\"a\":\"1\",\"b\":null},"
+				+ "\"n\":3,\"d\":2.5,\"whole\":4,\"ok\":true,\"none\":null,\"empty\":[]}", text(writer));
+	}
+
+	@Test
+	public void testEscapesAndUtf8() {
+		final String value = "q\"b\\n\n\u0001é日😀";
+		final byte[] json = new JsonWriter().beginObject().field("v", value).endObject().toByteArray();
+		assertEquals("{\"v\":\"q\\\"b\\\\n\\n\\u0001é日😀\"}", new String(json, StandardCharsets.UTF_8));
+		assertEquals(value, new JSONObject(new String(json, StandardCharsets.UTF_8)).getString("v"));
+	}
+
+	@Test
+	public void testUnpairedSurrogateIsEscaped() {
+		assertEquals("[\"\\ud800x\"]", text(new JsonWriter().beginArray().value("\ud800x").endArray()));
+	}
+
+	@Test
+	public void testGrowsBuffer() {
+		final StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			expected.append('日');
+		}
+		assertEquals("\"" + expected + "\"", text(new JsonWriter().value(expected.toString())));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testIncomplete() {
+		new JsonWriter().beginObject().name("a").toByteArray();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testNameOutsideObject() {
+		new JsonWriter().name("a");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNonFiniteNumber() {
+		new JsonWriter().value(Double.NaN);
+	}
+
+	@Test
+	public void testNumbersAndControlCharacters() {
+		final JsonWriter writer = new JsonWriter().beginArray().value(1e20).value(-0.25).value(false)
+				.value((String) null).value("a\r\tb").endArray();
+		assertEquals("[1.0E20,-0.25,false,null,\"a\\r\\tb\"]", text(writer));
+	}
+
+	@Test
+	public void testDeepNesting() {
+		final JsonWriter writer = new JsonWriter();
+		for (int i = 0; i < 20; i++) {
+			writer.beginArray();
+		}
+		writer.value(1);
+		for (int i = 0; i < 20; i++) {
+			writer.endArray();
+		}
+		final String json = text(writer);
+		assertEquals(41, json.length());
+		assertEquals(1, new JSONObject("{\"v\":" + json + "}").getJSONArray("v").length());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testCloseWithoutOpen() {
+		new JsonWriter().endObject();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testNameAfterName() {
+		new JsonWriter().beginObject().name("a").name("b");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInfiniteNumber() {
+		new JsonWriter().value(Double.POSITIVE_INFINITY);
+	}
+}
@@ -0,0 +1,85 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+public class ProjectingReaderTest {
+	private static final String MEDIA = "{\"id\": \"a\", \"status\": \"ready\", \"duration\": 12.5, "
+			+ "\"skipped\": {\"s\": \"} ] \\\" {\", \"n\": [1, [2, {\"x\": null}]], \"t\": true}, "
+			+ "\"metadata\": {\"title\": \"Caf\\u00e9\", \"description\": \"long\", \"tags\": [\"x\"]}, "
+			+ "\"relationships\": [{\"id\": \"r1\", \"type\": \"t\"}, {\"id\": \"r2\"}], \"last\": -1e3}";
+
+	private static ByteArrayInputStream stream(final String json) {
+		return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testProjectsResource() throws JWPlatformException {
+		final JSONObject media = ProjectingReader.read(stream(MEDIA),
+				Projection.of("id", "metadata.title", "relationships.id", "last", "missing"), null);
+		assertEquals(4, media.length());
+		assertEquals("a", media.getString("id"));
+		assertEquals(-1000, media.getDouble("last"), 0);
+		final JSONObject metadata = media.getJSONObject("metadata");
+		assertEquals(1, metadata.length());
+		assertEquals("Café", metadata.getString("title"));
+		assertEquals(2, media.getJSONArray("relationships").length());
+		assertEquals(1, media.getJSONArray("relationships").getJSONObject(0).length());
+		assertEquals("r2", media.getJSONArray("relationships").getJSONObject(1).getString("id"));
+	}
+
+	@Test
+	public void testWholeValueKept() throws JWPlatformException {
+		final JSONObject media = ProjectingReader.read(stream(MEDIA), Projection.of("skipped"), null);
+		assertEquals("} ] \" {", media.getJSONObject("skipped").getString("s"));
+		assertEquals(3, media.getJSONObject("skipped").length());
+	}
+
+	@Test
+	public void testProjectsListingItems() throws JWPlatformException {
+		final JSONObject page = ProjectingReader.read(
+				stream("{\"page\": 1, \"tags\": [{\"status\": \"t\", \"id\": \"t\"}], \"media\": [" + MEDIA + ", "
+						+ MEDIA + "], \"total\": 2, \"extra\": {\"k\": 1}}"),
+				Projection.of("status"), "media");
+		assertEquals(1, page.getInt("page"));
+		assertEquals(2, page.getInt("total"));
+		assertEquals(1, page.getJSONObject("extra").getInt("k"));
+		assertEquals(2, page.getJSONArray("tags").getJSONObject(0).length());
+		assertEquals(2, page.getJSONArray("media").length());
+		assertEquals("{\"status\":\"ready\"}", page.getJSONArray("media").getJSONObject(1).toString());
+	}
+
+	@Test
+	public void testEmptyBody() throws JWPlatformException {
+		assertEquals(0, ProjectingReader.read(stream(""), Projection.of("id"), "media").length());
+		assertEquals(0, ProjectingReader.read(stream("{}"), Projection.of("id"), null).length());
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testTruncatedSkip() throws JWPlatformException {
+		ProjectingReader.read(stream("{\"skipped\": {\"a\": [1, 2"), Projection.of("id"), null);
+	}
+
+	@Test
+	public void testPaths() {
+		assertEquals(Arrays.asList("id", "metadata"),
+				Projection.of("id", "metadata.title", "metadata", "metadata.tags").getPaths());
+		assertEquals("metadata.title,metadata.tags", Projection.of("metadata.title", "metadata.tags").toString());
+		assertFalse(Projection.of("a.b").field("a").isWhole());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalidPath() {
+		Projection.of("metadata..title");
+	}
+}
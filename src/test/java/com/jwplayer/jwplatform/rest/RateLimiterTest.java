@@ -0,0 +1,119 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+
+public class RateLimiterTest {
+	private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+	private static final Clock CLOCK = Clock.fixed(Instant.ofEpochSecond(1_700_000_000L), ZoneOffset.UTC);
+
+	private final AtomicLong now = new AtomicLong(42 * SECOND);
+	private final Ticker ticker = new Ticker() {
+		@Override
+		public long read() {
+			return now.get();
+		}
+	};
+
+	private RateLimiter limiter(final RateLimitConfig config) {
+		return new RateLimiter(config, ticker, CLOCK);
+	}
+
+	private static TransportResponse response(final int status, final String... headers) {
+		final Map<String, String> map = new HashMap<>();
+		for (int i = 0; i < headers.length; i += 2) {
+			map.put(headers[i], headers[i + 1]);
+		}
+		return new TransportResponse(status, map, "{}".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testBurstThenRefill() {
+		final RateLimiter limiter = limiter(RateLimitConfig.builder().permitsPerSecond(10).burst(3).build());
+		assertEquals(0, limiter.reserve(0));
+		assertEquals(0, limiter.reserve(0));
+		assertEquals(0, limiter.reserve(0));
+		assertEquals(-1, limiter.reserve(0));
+		now.addAndGet(100 * MILLI);
+		assertEquals(0, limiter.reserve(0));
+		assertEquals(-1, limiter.reserve(0));
+	}
+
+	@Test
+	public void testQueuedPermitsAreSpacedOut() {
+		final RateLimiter limiter = limiter(RateLimitConfig.builder().permitsPerSecond(10).burst(1).build());
+		assertEquals(0, limiter.reserve(SECOND));
+		assertEquals(100 * MILLI, limiter.reserve(SECOND));
+		assertEquals(200 * MILLI, limiter.reserve(SECOND));
+	}
+
+	@Test
+	public void testRefusedReservationTakesNothing() {
+		final RateLimiter limiter = limiter(RateLimitConfig.builder().permitsPerSecond(10).burst(1).build());
+		assertEquals(0, limiter.reserve(0));
+		assertEquals(-1, limiter.reserve(50 * MILLI));
+		assertEquals(100 * MILLI, limiter.reserve(SECOND));
+	}
+
+	@Test
+	public void testAdaptsToRemainingQuota() {
+		final RateLimiter limiter = limiter(RateLimitConfig.builder().permitsPerSecond(10).build());
+		limiter.onResponse(response(200, "X-RateLimit-Remaining", "5", "X-RateLimit-Reset", "10"));
+		assertEquals(0.5, limiter.getPermitsPerSecond(), 1e-9);
+	}
+
+	@Test
+	public void testAdaptsToEpochReset() {
+		final RateLimiter limiter = limiter(RateLimitConfig.builder().permitsPerSecond(10).build());
+		limiter.onResponse(response(200, "X-RateLimit-Remaining", "40", "X-RateLimit-Reset", "1700000020"));
+		assertEquals(2, limiter.getPermitsPerSecond(), 1e-9);
+	}
+
+	@Test
+	public void testAdaptedRateStaysWithinBounds() {
+		final RateLimiter limiter = limiter(
+				RateLimitConfig.builder().permitsPerSecond(10).minPermitsPerSecond(1).build());
+		limiter.onResponse(response(200, "X-RateLimit-Remaining", "1000", "X-RateLimit-Reset", "1"));
+		assertEquals(10, limiter.getPermitsPerSecond(), 1e-9);
+		limiter.onResponse(response(200, "X-RateLimit-Remaining", "1", "X-RateLimit-Reset", "60"));
+		assertEquals(1, limiter.getPermitsPerSecond(), 1e-9);
+	}
+
+	@Test
+	public void testExhaustedQuotaPausesUntilReset() {
+		final RateLimiter limiter = limiter(RateLimitConfig.builder().permitsPerSecond(10).burst(5).build());
+		limiter.onResponse(response(200, "X-RateLimit-Remaining", "0", "X-RateLimit-Reset", "5"));
+		assertEquals(-1, limiter.reserve(4 * SECOND));
+		assertEquals(5 * SECOND, limiter.reserve(10 * SECOND));
+	}
+
+	@Test
+	public void testTooManyRequestsPausesForRetryAfter() {
+		final RateLimiter limiter = limiter(RateLimitConfig.builder().permitsPerSecond(10).build());
+		limiter.onResponse(response(429, "Retry-After", "2"));
+		assertEquals(-1, limiter.reserve(SECOND));
+		now.addAndGet(2 * SECOND);
+		assertEquals(0, limiter.reserve(0));
+	}
+
+	@Test
+	public void testNonAdaptiveIgnoresHeaders() {
+		final RateLimiter limiter = limiter(RateLimitConfig.builder().permitsPerSecond(10).adaptive(false).build());
+		limiter.onResponse(response(429, "X-RateLimit-Remaining", "0", "X-RateLimit-Reset", "60"));
+		assertEquals(10, limiter.getPermitsPerSecond(), 1e-9);
+		assertEquals(0, limiter.reserve(0));
+	}
+}
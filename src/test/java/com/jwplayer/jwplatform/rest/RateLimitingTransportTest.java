@@ -0,0 +1,221 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.ImmutableMap;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformRateLimitExceededException;
+
+public class RateLimitingTransportTest {
+	private static final RateLimitConfig SHED = RateLimitConfig.builder().permitsPerSecond(10).burst(1)
+			.mode(RateLimitConfig.Mode.SHED).build();
+
+	private final AtomicLong now = new AtomicLong();
+	private final Ticker ticker = new Ticker() {
+		@Override
+		public long read() {
+			return now.get();
+		}
+	};
+	private final List<Long> sleeps = new ArrayList<>();
+	private final AtomicInteger sent = new AtomicInteger();
+	private Map<String, String> responseHeaders = Collections.emptyMap();
+
+	private final HttpTransport delegate = request -> {
+		sent.incrementAndGet();
+		return new TransportResponse(200, responseHeaders, "{}".getBytes(StandardCharsets.UTF_8));
+	};
+
+	private RateLimitingTransport limiting(final RateLimitConfig defaultLimit,
+			final Map<String, RateLimitConfig> limits) {
+		return new RateLimitingTransport(delegate, defaultLimit, limits, ticker, Clock.systemUTC(), sleeps::add);
+	}
+
+	private static TransportRequest v2(final String secret) {
+		final Map<String, String> headers = new HashMap<>();
+		headers.put("Authorization", "Bearer " + secret);
+		return new TransportRequest("GET", "https://api.jwplayer.com/v2/sites/abc/media/", headers, null);
+	}
+
+	private static TransportRequest v1(final String apiKey) {
+		return new TransportRequest("GET",
+				"https://api.jwplatform.com/v1/videos/list?api_format=json&api_key=" + apiKey + "&api_nonce=1",
+				new HashMap<>(), null);
+	}
+
+	@Test
+	public void testShedsOverLimit() throws JWPlatformException {
+		final RateLimitingTransport transport = limiting(SHED, Collections.emptyMap());
+		transport.execute(v2("secret"));
+		try {
+			transport.execute(v2("secret"));
+			fail("Expected the second request to be shed");
+		} catch (final JWPlatformRateLimitExceededException e) {
+			assertTrue(e.getMessage().contains("not sent"));
+		}
+		assertEquals(1, sent.get());
+	}
+
+	@Test
+	public void testCredentialsHaveSeparateBuckets() throws JWPlatformException {
+		final RateLimitingTransport transport = limiting(SHED, Collections.emptyMap());
+		transport.execute(v2("secret-a"));
+		transport.execute(v2("secret-b"));
+		transport.execute(v1("key-a"));
+		transport.execute(v1("key-b"));
+		assertEquals(4, sent.get());
+	}
+
+	@Test
+	public void testQueuesUntilPermitIsDue() throws JWPlatformException {
+		final RateLimitingTransport transport = limiting(RateLimitConfig.builder().permitsPerSecond(10).burst(1)
+				.build(), Collections.emptyMap());
+		transport.execute(v1("key"));
+		transport.execute(v1("key"));
+		transport.execute(v1("key"));
+		assertEquals(2, sleeps.size());
+		assertEquals(100, (long) sleeps.get(0));
+		assertEquals(200, (long) sleeps.get(1));
+		assertEquals(3, sent.get());
+	}
+
+	@Test
+	public void testPerCredentialLimit() throws JWPlatformException {
+		final RateLimitConfig generous = RateLimitConfig.builder().permitsPerSecond(100).build();
+		final RateLimitingTransport transport = limiting(SHED, ImmutableMap.of("vip", generous));
+		assertEquals(100, transport.getLimiter("vip").getPermitsPerSecond(), 1e-9);
+		assertEquals(10, transport.getLimiter("other").getPermitsPerSecond(), 1e-9);
+		for (int i = 0; i < 10; i++) {
+			transport.execute(v2("vip"));
+		}
+		assertEquals(10, sent.get());
+	}
+
+	@Test
+	public void testFollowsResponseHeaders() throws JWPlatformException {
+		responseHeaders = ImmutableMap.of("X-RateLimit-Remaining", "30", "X-RateLimit-Reset", "60");
+		final RateLimitingTransport transport = limiting(RateLimitConfig.defaults(), Collections.emptyMap());
+		transport.execute(v2("secret"));
+		assertEquals(0.5, transport.getLimiter("secret").getPermitsPerSecond(), 1e-9);
+	}
+
+	@Test
+	public void testAsyncShedFailsFuture() throws InterruptedException {
+		final RateLimitingTransport transport = limiting(SHED, Collections.emptyMap());
+		transport.executeAsync(v2("secret")).join();
+		try {
+			transport.executeAsync(v2("secret")).get();
+			fail("Expected the second request to be shed");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformRateLimitExceededException);
+		}
+		assertEquals(1, sent.get());
+	}
+
+	@Test
+	public void testAsyncWaitsWithoutBlocking() throws Exception {
+		final RateLimitingTransport transport = limiting(RateLimitConfig.builder().permitsPerSecond(20).burst(1)
+				.build(), Collections.emptyMap());
+		transport.executeAsync(v2("secret")).join();
+		final long start = System.nanoTime();
+		assertEquals(200, transport.executeAsync(v2("secret")).get(5, TimeUnit.SECONDS).getStatus());
+		assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(45));
+		assertTrue(sleeps.isEmpty());
+	}
+
+	@Test
+	public void testDelayedSendFailureFailsFutureOffTimerThread() throws Exception {
+		final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+		final HttpTransport throwing = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) {
+				throw new AssertionError("execute must not be called");
+			}
+
+			@Override
+			public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				threads.add(Thread.currentThread().getName());
+				throw new IllegalStateException("closed");
+			}
+		};
+		final RateLimitingTransport transport = new RateLimitingTransport(throwing,
+				RateLimitConfig.builder().permitsPerSecond(20).burst(1).build(), Collections.emptyMap(), ticker,
+				Clock.systemUTC(), sleeps::add);
+		try {
+			transport.executeAsync(v2("secret")).get(5, TimeUnit.SECONDS);
+			fail("Expected the first request to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		try {
+			transport.executeAsync(v2("secret")).get(5, TimeUnit.SECONDS);
+			fail("Expected the delayed request to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertEquals(2, threads.size());
+		assertTrue(threads.get(1).startsWith("jwplatform-worker-"));
+	}
+
+	@Test
+	public void testStreamedRequestsFollowResponseHeaders() throws JWPlatformException {
+		responseHeaders = ImmutableMap.of("X-RateLimit-Remaining", "30", "X-RateLimit-Reset", "60");
+		final RateLimitingTransport transport = limiting(RateLimitConfig.defaults(), Collections.emptyMap());
+		assertEquals(200, (int) transport.executeStreaming(v2("secret"), (response, body) -> response.getStatus()));
+		assertEquals(0.5, transport.getLimiter("secret").getPermitsPerSecond(), 1e-9);
+		assertEquals(1, sent.get());
+	}
+
+	@Test
+	public void testCredentialOf() {
+		assertEquals("secret", RateLimitingTransport.credentialOf(v2("secret")));
+		assertEquals("key", RateLimitingTransport.credentialOf(v1("key")));
+		assertEquals("token", RateLimitingTransport.credentialOf(new TransportRequest("GET",
+				"https://api.jwplayer.com/v2/sites/abc/media/", ImmutableMap.of("Authorization", "token"), null)));
+		assertEquals("", RateLimitingTransport.credentialOf(new TransportRequest("GET",
+				"https://api.jwplatform.com/v1/videos/list?api_format=json", new HashMap<>(), null)));
+		assertEquals("", RateLimitingTransport.credentialOf(new TransportRequest("GET",
+				"https://cdn.jwplayer.com/v2/media/abc", new HashMap<>(), null)));
+	}
+
+	@Test
+	public void testAsyncDelegateFailureFailsFuture() throws InterruptedException {
+		final HttpTransport failing = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				final CompletableFuture<TransportResponse> future = new CompletableFuture<>();
+				future.completeExceptionally(new IllegalStateException("closed"));
+				return future;
+			}
+		};
+		try {
+			RateLimitingTransport.create(failing, SHED).executeAsync(v2("secret")).get();
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+	}
+}
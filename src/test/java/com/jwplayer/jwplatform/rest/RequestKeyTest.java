@@ -0,0 +1,38 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+public class RequestKeyTest {
+	private static final String URL = "https://api.jwplayer.com/v2/sites/abc/media/";
+	private static final Map<String, String> AUTH = ImmutableMap.of("Authorization", "Bearer secret");
+
+	private static RequestKey key(final String method, final String url, final Map<String, String> headers) {
+		return new RequestKey(new TransportRequest(method, url, headers, null));
+	}
+
+	@Test
+	public void testEquality() {
+		final RequestKey key = key("GET", URL, AUTH);
+		assertEquals(key, key);
+		assertEquals(key, key("GET", URL, ImmutableMap.of("Authorization", "Bearer secret")));
+		assertEquals(key.hashCode(), key("GET", URL, AUTH).hashCode());
+		assertNotEquals(key, key("HEAD", URL, AUTH));
+		assertNotEquals(key, key("GET", URL + "m1/", AUTH));
+		assertNotEquals(key, key("GET", URL, ImmutableMap.of("Authorization", "Bearer other")));
+		assertNotEquals(key, key("GET", URL, Collections.emptyMap()));
+		assertNotEquals(key, URL);
+	}
+
+	@Test
+	public void testToStringLeavesOutHeaders() {
+		assertEquals("GET " + URL, key("GET", URL, AUTH).toString());
+	}
+}
@@ -0,0 +1,347 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+
+public class RetryingTransportTest {
+	private static final RetryPolicy POLICY = RetryPolicy.builder().maxAttempts(3).baseDelay(Duration.ofMillis(100))
+			.maxDelay(Duration.ofSeconds(5)).build();
+
+	private final List<Long> sleeps = new ArrayList<>();
+
+	/**
+	 * Replays the queued outcomes in order, counting the attempts.
+	 */
+	private static final class ScriptedTransport implements HttpTransport {
+		private final Deque<Object> outcomes = new ArrayDeque<>();
+		private int attempts;
+
+		ScriptedTransport then(final int status) {
+			return then(status, Collections.emptyMap());
+		}
+
+		ScriptedTransport then(final int status, final Map<String, String> headers) {
+			outcomes.add(new TransportResponse(status, headers, "{}".getBytes(StandardCharsets.UTF_8)));
+			return this;
+		}
+
+		ScriptedTransport thenBody(final int status, final String body) {
+			outcomes.add(new TransportResponse(status, new HashMap<>(), body.getBytes(StandardCharsets.UTF_8)));
+			return this;
+		}
+
+		ScriptedTransport thenFail() {
+			outcomes.add(new JWPlatformUnknownException("connection refused"));
+			return this;
+		}
+
+		@Override
+		public synchronized TransportResponse execute(final TransportRequest request) throws JWPlatformException {
+			attempts++;
+			final Object outcome = outcomes.size() > 1 ? outcomes.poll() : outcomes.peek();
+			if (outcome instanceof JWPlatformException) {
+				throw (JWPlatformException) outcome;
+			}
+			return (TransportResponse) outcome;
+		}
+	}
+
+	private RetryingTransport retrying(final HttpTransport delegate, final RetryPolicy policy) {
+		return new RetryingTransport(delegate, policy, sleeps::add);
+	}
+
+	private static TransportRequest request(final String method) {
+		return new TransportRequest(method, "https://api.jwplayer.com/v2/sites/abc/media/", new HashMap<>(),
+				"GET".equals(method) ? null : new JSONObject());
+	}
+
+	@Test
+	public void testRetriesUnavailableGet() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().then(503).then(502).then(200);
+		assertEquals(200, retrying(delegate, POLICY).execute(request("GET")).getStatus());
+		assertEquals(3, delegate.attempts);
+		assertEquals(2, sleeps.size());
+		assertTrue(sleeps.get(0) <= 100);
+		assertTrue(sleeps.get(1) <= 200);
+	}
+
+	@Test
+	public void testReturnsLastResponseWhenAttemptsAreUsedUp() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().then(500);
+		assertEquals(500, retrying(delegate, POLICY).execute(request("GET")).getStatus());
+		assertEquals(3, delegate.attempts);
+	}
+
+	@Test
+	public void testDoesNotRetryClientErrors() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().then(404);
+		assertEquals(404, retrying(delegate, POLICY).execute(request("GET")).getStatus());
+		assertEquals(1, delegate.attempts);
+	}
+
+	@Test
+	public void testDoesNotRetryNonIdempotentServerErrorByDefault() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().then(503).then(201);
+		assertEquals(503, retrying(delegate, POLICY).execute(request("POST")).getStatus());
+		assertEquals(1, delegate.attempts);
+	}
+
+	@Test
+	public void testRetriesNonIdempotentWhenEnabled() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().then(503).then(201);
+		final RetryPolicy policy = RetryPolicy.builder().retryNonIdempotent(true).build();
+		assertEquals(201, retrying(delegate, policy).execute(request("POST")).getStatus());
+		assertEquals(2, delegate.attempts);
+	}
+
+	@Test
+	public void testRetriesRateLimitedPost() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().then(429).then(201);
+		assertEquals(201, retrying(delegate, POLICY).execute(request("POST")).getStatus());
+		assertEquals(2, delegate.attempts);
+	}
+
+	@Test
+	public void testRetriesRateLimitExceededErrorCode() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport()
+				.thenBody(400, "{\"status\":\"error\",\"code\":\"RateLimitExceeded\"}").then(200);
+		assertEquals(200, retrying(delegate, POLICY).execute(request("POST")).getStatus());
+		assertEquals(2, delegate.attempts);
+	}
+
+	@Test
+	public void testHonorsRetryAfter() throws JWPlatformException {
+		final Map<String, String> headers = new HashMap<>();
+		headers.put("Retry-After", "2");
+		final ScriptedTransport delegate = new ScriptedTransport().then(429, headers).then(200);
+		assertEquals(200, retrying(delegate, POLICY).execute(request("GET")).getStatus());
+		assertEquals(Long.valueOf(2000), sleeps.get(0));
+	}
+
+	@Test
+	public void testGivesUpWhenRetryAfterExceedsMaxDelay() throws JWPlatformException {
+		final Map<String, String> headers = new HashMap<>();
+		headers.put("Retry-After", "60");
+		final ScriptedTransport delegate = new ScriptedTransport().then(429, headers).then(200);
+		assertEquals(429, retrying(delegate, POLICY).execute(request("GET")).getStatus());
+		assertEquals(1, delegate.attempts);
+		assertTrue(sleeps.isEmpty());
+	}
+
+	@Test
+	public void testRetriesConnectionFailures() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().thenFail().then(200);
+		assertEquals(200, retrying(delegate, POLICY).execute(request("GET")).getStatus());
+		assertEquals(2, delegate.attempts);
+	}
+
+	@Test
+	public void testRethrowsLastFailure() {
+		final ScriptedTransport delegate = new ScriptedTransport().thenFail();
+		try {
+			retrying(delegate, POLICY).execute(request("GET"));
+			fail("Expected the last failure to be rethrown");
+		} catch (final JWPlatformException e) {
+			assertTrue(e instanceof JWPlatformUnknownException);
+		}
+		assertEquals(3, delegate.attempts);
+	}
+
+	@Test
+	public void testExecuteAsyncRetries() throws Exception {
+		final ScriptedTransport delegate = new ScriptedTransport().then(503).thenFail().then(200);
+		final RetryPolicy policy = RetryPolicy.builder().baseDelay(Duration.ofMillis(1))
+				.maxDelay(Duration.ofMillis(10)).build();
+		final RetryingTransport transport = RetryingTransport.create(delegate, policy);
+		assertEquals(200, transport.executeAsync(request("GET")).get(5, TimeUnit.SECONDS).getStatus());
+		assertEquals(3, delegate.attempts);
+	}
+
+	@Test
+	public void testExecuteAsyncFailsWithLastFailure() throws Exception {
+		final ScriptedTransport delegate = new ScriptedTransport().thenFail();
+		final RetryPolicy policy = RetryPolicy.builder().baseDelay(Duration.ofMillis(1))
+				.maxDelay(Duration.ofMillis(10)).build();
+		try {
+			RetryingTransport.create(delegate, policy).executeAsync(request("GET")).get(5, TimeUnit.SECONDS);
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformUnknownException);
+		}
+		assertEquals(3, delegate.attempts);
+	}
+
+	@Test
+	public void testExecuteAsyncFailsWhenDelegateThrows() throws Exception {
+		final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+		final HttpTransport delegate = new HttpTransport() {
+			@Override
+			public TransportResponse execute(final TransportRequest request) {
+				throw new AssertionError("execute must not be called");
+			}
+
+			@Override
+			public CompletableFuture<TransportResponse> executeAsync(final TransportRequest request) {
+				threads.add(Thread.currentThread().getName());
+				if (threads.size() == 1) {
+					return CompletableFuture.completedFuture(
+							new TransportResponse(503, new HashMap<>(), "{}".getBytes(StandardCharsets.UTF_8)));
+				}
+				throw new IllegalStateException("closed");
+			}
+		};
+		final RetryPolicy policy = RetryPolicy.builder().baseDelay(Duration.ofMillis(1))
+				.maxDelay(Duration.ofMillis(10)).build();
+		try {
+			RetryingTransport.create(delegate, policy).executeAsync(request("GET")).get(5, TimeUnit.SECONDS);
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertEquals(2, threads.size());
+		assertTrue(threads.get(1).startsWith("jwplatform-worker-"));
+	}
+
+	@Test
+	public void testRetryAfterHttpDate() {
+		assertEquals(0, RetryPolicy.retryAfterMillis("Wed, 21 Oct 2015 07:28:00 GMT"));
+		assertEquals(0, RetryPolicy.retryAfterMillis("soon"));
+		assertEquals(0, RetryPolicy.retryAfterMillis(null));
+		assertEquals(3000, RetryPolicy.retryAfterMillis(" 3 "));
+	}
+
+	@Test
+	public void testDelayIsCappedAndJittered() {
+		final RetryPolicy policy = RetryPolicy.builder().baseDelay(Duration.ofMillis(100))
+				.maxDelay(Duration.ofMillis(1000)).build();
+		for (int attempt = 1; attempt < 100; attempt++) {
+			final long delay = policy.delayMillis(attempt, null);
+			assertTrue(delay >= 0);
+			assertTrue(delay <= Math.min(1000, 100L << Math.min(attempt - 1, 30)));
+		}
+	}
+
+	@Test
+	public void testRetriesStreamedRequest() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().then(503).thenBody(200, "{\"ok\":true}");
+		assertEquals("{\"ok\":true}", retrying(delegate, POLICY).executeStreaming(request("GET"),
+				(response, body) -> new String(ByteStreams.toByteArray(body), StandardCharsets.UTF_8)));
+		assertEquals(2, delegate.attempts);
+		assertEquals(1, sleeps.size());
+	}
+
+	@Test
+	public void testDefaults() {
+		final RetryPolicy policy = RetryPolicy.defaults();
+		assertEquals(3, policy.getMaxAttempts());
+		assertEquals(Duration.ofMillis(100), policy.getBaseDelay());
+		assertEquals(Duration.ofSeconds(10), policy.getMaxDelay());
+		assertFalse(policy.isRetryNonIdempotent());
+		assertEquals(policy, RetryingTransport.create(new ScriptedTransport(), policy).getPolicy());
+		assertEquals(0, RetryPolicy.retryAfterMillis(" "));
+	}
+
+	@Test
+	public void testRetriesServerErrorCodes() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport()
+				.thenBody(400, "{\"status\":\"error\",\"code\":\"CallUnavailableError\"}")
+				.thenBody(400, "{\"status\":\"error\",\"code\":\"Internal\"}").then(200);
+		assertEquals(200, retrying(delegate, POLICY).execute(request("GET")).getStatus());
+		assertEquals(3, delegate.attempts);
+		final ScriptedTransport invalid = new ScriptedTransport()
+				.thenBody(400, "{\"status\":\"error\",\"code\":\"ParameterInvalid\"}").thenBody(400, "{}")
+				.then(200);
+		assertEquals(400, retrying(invalid, POLICY).execute(request("GET")).getStatus());
+		assertFalse(RetryPolicy.isRateLimited(new TransportResponse(400, new HashMap<>(),
+				"{}".getBytes(StandardCharsets.UTF_8))));
+		assertFalse(RetryPolicy.isRateLimited(new TransportResponse(202, new HashMap<>(),
+				"{}".getBytes(StandardCharsets.UTF_8))));
+	}
+
+	@Test
+	public void testInterruptedPause() {
+		final ScriptedTransport delegate = new ScriptedTransport().then(503).then(200);
+		try {
+			new RetryingTransport(delegate, POLICY, millis -> {
+				throw new InterruptedException();
+			}).execute(request("GET"));
+			fail("Expected the interrupt to end the retries");
+		} catch (final JWPlatformException e) {
+			assertTrue(e instanceof JWPlatformUnknownException);
+			assertTrue(Thread.interrupted());
+		}
+		assertEquals(1, delegate.attempts);
+	}
+
+	@Test
+	public void testStreamedFinalResponses() throws JWPlatformException {
+		final BodyReader<String> reader = (response, body) -> response.getStatus() + " "
+				+ new String(ByteStreams.toByteArray(body), StandardCharsets.UTF_8);
+		assertEquals("503 {}",
+				retrying(new ScriptedTransport().then(503), POLICY).executeStreaming(request("GET"), reader));
+		assertEquals("404 {}",
+				retrying(new ScriptedTransport().then(404), POLICY).executeStreaming(request("GET"), reader));
+		final Map<String, String> headers = new HashMap<>();
+		headers.put("Retry-After", "60");
+		final ScriptedTransport limited = new ScriptedTransport().then(429, headers).then(200);
+		assertEquals("429 {}", retrying(limited, POLICY).executeStreaming(request("GET"), reader));
+		assertEquals(1, limited.attempts);
+		assertEquals(2, sleeps.size());
+	}
+
+	@Test
+	public void testStreamedConnectionFailures() throws JWPlatformException {
+		final ScriptedTransport delegate = new ScriptedTransport().thenFail().then(200);
+		assertEquals(Integer.valueOf(200), retrying(delegate, POLICY).executeStreaming(request("GET"),
+				(response, body) -> response.getStatus()));
+		assertEquals(2, delegate.attempts);
+		try {
+			retrying(new ScriptedTransport().then(200), POLICY).executeStreaming(request("GET"), (response, body) -> {
+				throw new JWPlatformUnknownException("reader failed");
+			});
+			fail("Expected the reader failure to be rethrown");
+		} catch (final JWPlatformException e) {
+			assertEquals("reader failed", e.getMessage());
+		}
+		assertEquals(1, sleeps.size());
+	}
+
+	@Test
+	public void testExecuteAsyncReturnsFinalResponses() throws Exception {
+		final Map<String, String> headers = new HashMap<>();
+		headers.put("Retry-After", "60");
+		final ScriptedTransport delegate = new ScriptedTransport().then(429, headers).then(200);
+		assertEquals(429, retrying(delegate, POLICY).executeAsync(request("GET")).get(5, TimeUnit.SECONDS)
+				.getStatus());
+		final ScriptedTransport failing = new ScriptedTransport().thenFail();
+		try {
+			retrying(failing, POLICY).executeAsync(request("POST")).get(5, TimeUnit.SECONDS);
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformUnknownException);
+		}
+		assertEquals(1, failing.attempts);
+	}
+}
@@ -0,0 +1,193 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+
+public class RevalidatingTransportTest {
+	private static final String URL = "https://api.jwplayer.com/v2/sites/abc/media/";
+	private static final Map<String, String> AUTH = ImmutableMap.of("Authorization", "Bearer secret");
+
+	/**
+	 * Serves a versioned body, answering 304 to requests that already have the
+	 * current version.
+	 */
+	private static final class VersionedTransport implements HttpTransport {
+		private final List<TransportRequest> requests = new ArrayList<>();
+		private int version = 1;
+		private boolean lastModifiedOnly;
+
+		@Override
+		public synchronized TransportResponse execute(final TransportRequest request) {
+			requests.add(request);
+			final String etag = "\"v" + version + "\"";
+			final String lastModified = "Tue, 0" + version + " Sep 2026 10:00:00 GMT";
+			if (etag.equals(request.getHeaders().get("If-None-Match"))
+					|| lastModified.equals(request.getHeaders().get("If-Modified-Since"))) {
+				return new TransportResponse(304, Collections.emptyMap(), new byte[0]);
+			}
+			final Map<String, String> headers = lastModifiedOnly ? ImmutableMap.of("Last-Modified", lastModified)
+					: ImmutableMap.of("ETag", etag, "Last-Modified", lastModified);
+			return new TransportResponse(200, headers,
+					("{\"media\":[{\"id\":\"m1\"}],\"version\":" + version + "}").getBytes(StandardCharsets.UTF_8));
+		}
+
+		synchronized TransportRequest last() {
+			return requests.get(requests.size() - 1);
+		}
+	}
+
+	private static TransportRequest get() {
+		return new TransportRequest("GET", URL, AUTH, null);
+	}
+
+	@Test
+	public void testNotModifiedServesKeptResponse() throws JWPlatformException {
+		final VersionedTransport delegate = new VersionedTransport();
+		final RevalidatingTransport transport = RevalidatingTransport.create(delegate, 100);
+		assertEquals(1, transport.execute(get()).getJson().getInt("version"));
+		assertNull(delegate.last().getHeaders().get("If-None-Match"));
+
+		final TransportResponse revalidated = transport.execute(get());
+		assertEquals("\"v1\"", delegate.last().getHeaders().get("If-None-Match"));
+		assertEquals("Tue, 01 Sep 2026 10:00:00 GMT", delegate.last().getHeaders().get("If-Modified-Since"));
+		assertEquals("Bearer secret", delegate.last().getHeaders().get("Authorization"));
+		assertEquals(200, revalidated.getStatus());
+		assertEquals(1, revalidated.getJson().getInt("version"));
+		assertEquals(1, transport.getNotModifiedCount());
+	}
+
+	@Test
+	public void testChangedResourceReplacesKeptResponse() throws JWPlatformException {
+		final VersionedTransport delegate = new VersionedTransport();
+		final RevalidatingTransport transport = RevalidatingTransport.create(delegate, 100);
+		transport.execute(get());
+		delegate.version = 2;
+		assertEquals(2, transport.execute(get()).getJson().getInt("version"));
+		assertEquals(2, transport.execute(get()).getJson().getInt("version"));
+		assertEquals("\"v2\"", delegate.last().getHeaders().get("If-None-Match"));
+		assertEquals(1, transport.getNotModifiedCount());
+	}
+
+	@Test
+	public void testLastModifiedAlone() throws Exception {
+		final VersionedTransport delegate = new VersionedTransport();
+		delegate.lastModifiedOnly = true;
+		final RevalidatingTransport transport = RevalidatingTransport.create(delegate, 100);
+		transport.executeAsync(get()).get();
+		assertEquals(1, transport.executeAsync(get()).get().getJson().getInt("version"));
+		assertNull(delegate.last().getHeaders().get("If-None-Match"));
+		assertEquals(1, transport.getNotModifiedCount());
+	}
+
+	@Test
+	public void testRevalidatedResponsesDoNotShareJson() throws JWPlatformException {
+		final RevalidatingTransport transport = RevalidatingTransport.create(new VersionedTransport(), 100);
+		transport.execute(get()).getJson().put("version", 99);
+		final JSONObject first = transport.execute(get()).getJson();
+		first.getJSONArray("media").getJSONObject(0).put("id", "changed");
+		final JSONObject second = transport.execute(get()).getJson();
+		assertNotSame(first, second);
+		assertEquals(1, second.getInt("version"));
+		assertEquals("m1", second.getJSONArray("media").getJSONObject(0).getString("id"));
+	}
+
+	@Test
+	public void testOnlyV2GetsAreRevalidated() throws JWPlatformException {
+		final VersionedTransport delegate = new VersionedTransport();
+		final RevalidatingTransport transport = RevalidatingTransport.create(delegate, 100);
+		final TransportRequest v1 = new TransportRequest("GET", "https://api.jwplatform.com/v1/videos/list", null,
+				null);
+		transport.execute(v1);
+		transport.execute(v1);
+		transport.execute(new TransportRequest("PATCH", URL, AUTH, new JSONObject()));
+		assertEquals(0, transport.size());
+		assertNull(delegate.last().getHeaders().get("If-None-Match"));
+	}
+
+	@Test
+	public void testKeptResponsesAreBounded() throws JWPlatformException {
+		final RevalidatingTransport transport = RevalidatingTransport.create(new VersionedTransport(), 2);
+		for (int page = 1; page <= 5; page++) {
+			transport.execute(new TransportRequest("GET", URL + "?page=" + page, AUTH, null));
+		}
+		assertEquals(2, transport.size());
+	}
+
+	@Test
+	public void testStreamedNotModifiedReadsKeptResponse() throws JWPlatformException {
+		final VersionedTransport delegate = new VersionedTransport();
+		final RevalidatingTransport transport = RevalidatingTransport.create(delegate, 100);
+		transport.execute(get());
+		final String streamed = transport.executeStreaming(get(),
+				(response, body) -> new String(ByteStreams.toByteArray(body), StandardCharsets.UTF_8));
+		assertEquals("\"v1\"", delegate.last().getHeaders().get("If-None-Match"));
+		assertEquals(1, new JSONObject(streamed).getInt("version"));
+		assertEquals(1, transport.getNotModifiedCount());
+
+		delegate.version = 2;
+		transport.executeStreaming(get(), (response, body) -> null);
+		transport.execute(get());
+		assertNull(delegate.last().getHeaders().get("If-None-Match"));
+	}
+
+	@Test
+	public void testUnkeptRequestsPassThrough() throws Exception {
+		final VersionedTransport delegate = new VersionedTransport();
+		final RevalidatingTransport transport = RevalidatingTransport.create(delegate, 100);
+		final TransportRequest v1 = new TransportRequest("GET", "https://api.jwplatform.com/v1/videos/list", null,
+				null);
+		assertEquals(200, transport.executeAsync(v1).get().getStatus());
+		assertEquals(Integer.valueOf(200), transport.executeStreaming(v1, (response, body) -> response.getStatus()));
+		// a streamed body is not kept, so it is not revalidated either
+		transport.executeStreaming(get(), (response, body) -> null);
+		assertEquals(0, transport.size());
+		assertEquals(3, delegate.requests.size());
+	}
+
+	@Test
+	public void testResponsesWithoutValidatorsAreNotKept() throws JWPlatformException {
+		final RevalidatingTransport transport = RevalidatingTransport.create(
+				request -> new TransportResponse(200, Collections.emptyMap(), "{}".getBytes(StandardCharsets.UTF_8)),
+				100);
+		transport.execute(get());
+		assertEquals(0, transport.size());
+	}
+
+	@Test
+	public void testFailedRevalidationKeepsResponse() throws JWPlatformException {
+		final List<Integer> statuses = new ArrayList<>();
+		final VersionedTransport versioned = new VersionedTransport();
+		final RevalidatingTransport transport = RevalidatingTransport.create(request -> {
+			if (request.getHeaders().containsKey("If-None-Match")) {
+				statuses.add(503);
+				return new TransportResponse(503, Collections.emptyMap(), "{}".getBytes(StandardCharsets.UTF_8));
+			}
+			return versioned.execute(request);
+		}, 100);
+		transport.execute(get());
+		assertEquals(503, transport.execute(get()).getStatus());
+		assertEquals(Integer.valueOf(503), transport.executeStreaming(get(), (response, body) -> response.getStatus()));
+		assertEquals(2, statuses.size());
+		assertEquals(1, transport.size());
+		assertEquals(0, transport.getNotModifiedCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMaxEntriesMustBePositive() {
+		RevalidatingTransport.create(new VersionedTransport(), 0);
+	}
+}
@@ -0,0 +1,96 @@
+package com.jwplayer.jwplatform.v1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class NonceGeneratorTest {
+
+	@Test
+	public void testConcurrentPairsAreUnique() throws Exception {
+		final AtomicLong clock = new AtomicLong(1_600_000_000);
+		final NonceGenerator generator = new NonceGenerator(clock::get, 42);
+		final ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<long[]>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				final Callable<long[]> issue = () -> {
+					final long[] pairs = new long[20_000];
+					for (int i = 0; i < pairs.length; i++) {
+						if (i % 5000 == 0) {
+							clock.incrementAndGet();
+						}
+						pairs[i] = generator.next();
+					}
+					return pairs;
+				};
+				futures.add(pool.submit(issue));
+			}
+			final Set<String> seen = new HashSet<>();
+			for (final Future<long[]> future : futures) {
+				for (final long pair : future.get()) {
+					final long nonce = generator.nonce(pair);
+					assertTrue(nonce >= 10_000_000 && nonce <= 99_999_999);
+					assertTrue(seen.add(NonceGenerator.timestamp(pair) + ":" + nonce));
+				}
+			}
+			assertEquals(160_000, seen.size());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testClockSteppingBack() {
+		final AtomicLong clock = new AtomicLong(1_600_000_010);
+		final NonceGenerator generator = new NonceGenerator(clock::get, 7);
+		final long first = generator.next();
+		clock.set(1_600_000_000);
+		assertEquals(1_600_000_000, NonceGenerator.timestamp(generator.next()));
+		clock.set(1_600_000_010);
+		final long again = generator.next();
+		assertEquals(1_600_000_010, NonceGenerator.timestamp(again));
+		assertTrue(generator.nonce(first) != generator.nonce(again));
+	}
+
+	@Test
+	public void testClockSteppingBackAnHour() {
+		final AtomicLong clock = new AtomicLong(1_600_003_600);
+		final NonceGenerator generator = new NonceGenerator(clock::get, 7);
+		generator.next();
+		clock.set(1_600_000_000);
+		assertEquals(1_600_000_000, NonceGenerator.timestamp(generator.next()));
+		assertEquals(1_600_000_000, NonceGenerator.timestamp(generator.next()));
+	}
+
+	@Test
+	public void testExhaustedSecondMovesOn() {
+		final NonceGenerator generator = new NonceGenerator(() -> 100, 0);
+		long pair = 0;
+		for (int i = 0; i < NonceGenerator.NONCES_PER_SECOND; i++) {
+			pair = generator.next();
+		}
+		assertEquals(100, NonceGenerator.timestamp(pair));
+		final long next = generator.next();
+		assertEquals(101, NonceGenerator.timestamp(next));
+	}
+
+	@Test
+	public void testSharedPerKey() {
+		assertSame(NonceGenerator.forKey("key"), NonceGenerator.forKey("key"));
+		assertNotSame(NonceGenerator.forKey("key"), NonceGenerator.forKey("other"));
+	}
+}
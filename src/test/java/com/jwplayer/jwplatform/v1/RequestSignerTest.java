@@ -0,0 +1,87 @@
+package com.jwplayer.jwplatform.v1;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.utils.Util;
+
+public class RequestSignerTest {
+	private static final String[] VALUES = { "", "plain", "a b+c", "~*'()!", "%7E", "€ café", "日本語", "😀",
+			"\ud800", "x\udc00y", "&=?/#[]@:;,$", "line\nbreak\t" };
+
+	/**
+	 * The signing the V1 client did before, kept as the reference.
+	 */
+	private static String legacy(final String base, final Map<String, String> params, final String apiKey,
+			final String apiSecret, final String nonce, final String timestamp) throws JWPlatformException {
+		final TreeMap<String, String> orderedParams = new TreeMap<>(params);
+		orderedParams.put("api_key", apiKey);
+		orderedParams.put("api_format", "json");
+		orderedParams.put("api_nonce", nonce);
+		orderedParams.put("api_timestamp", timestamp);
+		final StringBuilder encodedParams = new StringBuilder();
+		for (final String param : orderedParams.keySet()) {
+			if (encodedParams.length() != 0) {
+				encodedParams.append("&");
+			}
+			encodedParams.append(param).append("=")
+					.append(Util.encodeStringForJWPlatformAPI(orderedParams.get(param)));
+		}
+		final String paramsNoSignature = encodedParams.toString();
+		encodedParams.append(apiSecret);
+		return base + "?" + paramsNoSignature + "&api_signature=" + DigestUtils.sha1Hex(encodedParams.toString());
+	}
+
+	@Test
+	public void testMatchesLegacySigning() throws JWPlatformException {
+		final RequestSigner signer = new RequestSigner("key", "s€cret");
+		for (final String value : VALUES) {
+			final Map<String, String> params = new HashMap<>();
+			params.put("title", value);
+			params.put("zz_last", "z");
+			params.put("a_first", value + value);
+			params.put("ümlaut_key", "v");
+			assertEquals(value, legacy("https://api.jwplatform.com/v1/videos/create", params, "key", "s€cret",
+					"12345678", "1600000000"),
+					signer.signedUrl("https://api.jwplatform.com/v1/videos/create", params, "12345678", "1600000000"));
+		}
+	}
+
+	@Test
+	public void testApiParametersAreReplaced() throws JWPlatformException {
+		final Map<String, String> params = new HashMap<>();
+		params.put("api_format", "xml");
+		params.put("api_key", "other");
+		params.put("api_z", "kept");
+		assertEquals(legacy("https://h/v1/p", params, "key", "secret", "1", "2"),
+				new RequestSigner("key", "secret").signedUrl("https://h/v1/p", params, "1", "2"));
+	}
+
+	@Test
+	public void testManyAndLongParameters() throws JWPlatformException {
+		final Map<String, String> params = new HashMap<>();
+		final StringBuilder value = new StringBuilder();
+		for (int i = 0; i < 40; i++) {
+			params.put("key" + (char) ('a' + i % 26) + i, "v" + i);
+			value.append("日本 ");
+		}
+		for (int i = 0; i < 3000; i++) {
+			value.append("x");
+		}
+		params.put("long", value.toString());
+		final RequestSigner signer = new RequestSigner("key", "secret");
+		for (int i = 0; i < 2; i++) {
+			assertEquals(legacy("https://h/v1/p", params, "key", "secret", "1", "2"),
+					signer.signedUrl("https://h/v1/p", params, "1", "2"));
+		}
+		assertEquals(legacy("https://h/v1/p", new HashMap<>(), "key", "secret", "1", "2"),
+				signer.signedUrl("https://h/v1/p", new HashMap<>(), "1", "2"));
+	}
+}
@@ -0,0 +1,112 @@
+package com.jwplayer.jwplatform.v1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.rest.TransportResponse;
+
+public class ServerClockTest {
+
+	private static String date(final long millis) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC));
+	}
+
+	@Test
+	public void testFirstSampleIsTakenAsIs() {
+		final AtomicLong local = new AtomicLong(1_600_000_000_000L);
+		final ServerClock clock = new ServerClock(local::get);
+		assertEquals(1_600_000_000L, clock.nowSeconds());
+
+		// sent at 1000, received at 1200, the server said 30 seconds later
+		clock.observe(date(1_600_000_030_000L), 1_600_000_000_000L, 1_600_000_000_200L);
+		assertEquals(30_400, clock.getOffsetMillis());
+		assertEquals(1_600_000_030L, clock.nowSeconds());
+	}
+
+	@Test
+	public void testSamplesAreSmoothed() {
+		final ServerClock clock = new ServerClock(() -> 0);
+		clock.observe(date(10_000), 0, 0);
+		assertEquals(10_500, clock.getOffsetMillis());
+
+		// one outlier moves the estimate by an eighth of its distance
+		clock.observe(date(18_000), 0, 0);
+		assertEquals(11_500, clock.getOffsetMillis());
+
+		for (int i = 0; i < 100; i++) {
+			clock.observe(date(18_000), 0, 0);
+		}
+		assertEquals(18_500, clock.getOffsetMillis(), 10);
+	}
+
+	@Test
+	public void testResyncReplacesEstimate() {
+		final ServerClock clock = new ServerClock(() -> 0);
+		clock.observe(date(10_000), 0, 0);
+		assertTrue(clock.resync(date(-60_000), 0, 0));
+		assertEquals(-59_500, clock.getOffsetMillis());
+	}
+
+	@Test
+	public void testMissingOrMalformedDateIsIgnored() {
+		final ServerClock clock = new ServerClock(() -> 0);
+		clock.observe(null, 0, 0);
+		clock.observe("yesterday", 0, 0);
+		assertEquals(0, clock.getOffsetMillis());
+		assertFalse(clock.resync(null, 0, 0));
+		assertFalse(clock.resync("yesterday", 0, 0));
+	}
+
+	@Test
+	public void testRequestRetriesOnServerTimeAfterTimestampInvalid() throws Exception {
+		assertRetriesOnServerTime("skewedApiKey", 3_600_000);
+	}
+
+	@Test
+	public void testRequestRetriesOnServerBehindAfterTimestampInvalid() throws Exception {
+		assertRetriesOnServerTime("laggingApiKey", -3_600_000);
+	}
+
+	private static void assertRetriesOnServerTime(final String apiKey, final long skew) throws Exception {
+		final List<String> urls = new ArrayList<>();
+		final JWPlatformClient client = JWPlatformClient.create(apiKey, "fakeApiSecret", "https://host",
+				request -> {
+					urls.add(request.getUrl());
+					final String date = date(System.currentTimeMillis() + skew);
+					if (urls.size() == 1) {
+						return new TransportResponse(400, Collections.singletonMap("Date", date),
+								new JSONObject("{\"status\":\"error\",\"code\":\"TimestampInvalid\"}"));
+					}
+					return new TransportResponse(200, Collections.singletonMap("Date", date),
+							new JSONObject("{\"status\":\"ok\"}"));
+				});
+
+		final JSONObject response = client.request("/videos/list");
+
+		assertEquals("ok", response.getString("status"));
+		assertEquals(2, urls.size());
+		final long now = System.currentTimeMillis() / 1000;
+		assertEquals(now, timestamp(urls.get(0)), 5);
+		assertEquals(now + skew / 1000, timestamp(urls.get(1)), 5);
+	}
+
+	private static long timestamp(final String url) {
+		final Matcher matcher = Pattern.compile("api_timestamp=(\\d+)").matcher(url);
+		assertTrue(matcher.find());
+		return Long.parseLong(matcher.group(1));
+	}
+}
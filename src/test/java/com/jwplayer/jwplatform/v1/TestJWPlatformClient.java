@@ -13,9 +13,11 @@ import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.http.entity.ContentType;
 import org.json.JSONObject;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -27,13 +29,12 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import com.jwplayer.jwplatform.exception.JWPlatformException;
 import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
 import com.mashape.unirest.http.HttpResponse;
-import com.mashape.unirest.http.JsonNode;
 import com.mashape.unirest.http.Unirest;
 import com.mashape.unirest.http.exceptions.UnirestException;
 import com.mashape.unirest.request.GetRequest;
 import com.mashape.unirest.request.HttpRequestWithBody;
 import com.mashape.unirest.request.body.MultipartBody;
-import com.mashape.unirest.request.body.RequestBodyEntity;
+import com.mashape.unirest.request.body.RawBody;
 
 @RunWith(PowerMockRunner.class)
 @PrepareForTest({ Unirest.class, HttpResponse.class, HttpRequestWithBody.class, MultipartBody.class })
@@ -43,6 +44,10 @@ public class TestJWPlatformClient {
 	private final String apiSecret = "fakeApiSecret";
 	private final String path = "/v1/videos/create";
 
+	private static InputStream body(final JSONObject json) {
+		return new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void testGetRequestWithSpecialCharacterUrlEncoding() throws Exception {
@@ -60,11 +65,9 @@ public class TestJWPlatformClient {
 
 		@SuppressWarnings("rawtypes")
 		final HttpResponse httpResponse = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
 
-		when(httpResponse.getBody()).thenReturn(jsonNode);
+		when(httpResponse.getRawBody()).thenReturn(body(expectedResponse));
 		when(httpResponse.getStatus()).thenReturn(200);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
 		mockStatic(Unirest.class);
 
 		final GetRequest getRequest = PowerMockito.mock(GetRequest.class);
@@ -74,7 +77,7 @@ public class TestJWPlatformClient {
 			// NullPointerException
 			when(Unirest.get(contains(expectedUrlString))).thenReturn(getRequest);
 			when(getRequest.headers(anyMap())).thenReturn(getRequest);
-			when(getRequest.asJson()).thenReturn(httpResponse);
+			when(getRequest.asBinary()).thenReturn(httpResponse);
 
 			final JSONObject actualResponse = mediaAPIClient.request(path, params);
 
@@ -98,18 +101,16 @@ public class TestJWPlatformClient {
 
 		@SuppressWarnings("rawtypes")
 		final HttpResponse httpResponse = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
-		when(httpResponse.getBody()).thenReturn(jsonNode);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
+		when(httpResponse.getRawBody()).thenReturn(body(expectedResponse));
 		when(httpResponse.getStatus()).thenReturn(200);
 		mockStatic(Unirest.class);
 
 		final HttpRequestWithBody requestWithBody = PowerMockito.mock(HttpRequestWithBody.class);
-		final RequestBodyEntity requestBodyEntity = PowerMockito.mock(RequestBodyEntity.class);
+		final RawBody rawBody = PowerMockito.mock(RawBody.class);
 		when(Unirest.post(anyString())).thenReturn(requestWithBody);
 		when(Unirest.post(anyString()).headers(anyMap())).thenReturn(requestWithBody);
-		when(requestWithBody.body(any(JSONObject.class))).thenReturn(requestBodyEntity);
-		when(requestBodyEntity.asJson()).thenReturn(httpResponse);
+		when(requestWithBody.body(any(byte[].class))).thenReturn(rawBody);
+		when(rawBody.asBinary()).thenReturn(httpResponse);
 
 		final JWPlatformClient mediaAPIClient = JWPlatformClient.create(apiKey, apiSecret);
 		final JSONObject actualResponse = mediaAPIClient.request(path, params, true, "POST");
@@ -124,15 +125,13 @@ public class TestJWPlatformClient {
 		final JWPlatformClient mediaAPIClient = JWPlatformClient.create(apiKey, apiSecret, "aHostGoesHere");
 		@SuppressWarnings("rawtypes")
 		final HttpResponse httpResponse = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
 		final GetRequest getRequest = PowerMockito.mock(GetRequest.class);
 		mockStatic(Unirest.class);
 
 		when(Unirest.get(anyString())).thenReturn(getRequest);
 		when(getRequest.headers(anyMap())).thenReturn(getRequest);
-		when(httpResponse.getBody()).thenReturn(jsonNode);
-		when(getRequest.asJson()).thenReturn(httpResponse);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
+		when(httpResponse.getRawBody()).thenReturn(body(expectedResponse));
+		when(getRequest.asBinary()).thenReturn(httpResponse);
 		when(httpResponse.getStatus()).thenReturn(418);
 
 		mediaAPIClient.request(path);
@@ -146,7 +145,7 @@ public class TestJWPlatformClient {
 
 		when(Unirest.get(anyString())).thenReturn(getRequest);
 		when(getRequest.headers(anyMap())).thenReturn(getRequest);
-		when(getRequest.asJson()).thenThrow(new UnirestException("some exception"));
+		when(getRequest.asBinary()).thenThrow(new UnirestException("some exception"));
 
 		mediaAPIClient.request(path);
 	}
@@ -158,16 +157,13 @@ public class TestJWPlatformClient {
 		final JWPlatformClient mediaAPIClient = JWPlatformClient.create(apiKey, apiSecret);
 		@SuppressWarnings("rawtypes")
 		final HttpResponse httpResponse = PowerMockito.mock(HttpResponse.class);
-		final JsonNode jsonNode = PowerMockito.mock(JsonNode.class);
 		final HttpRequestWithBody requestWithBody = PowerMockito.mock(HttpRequestWithBody.class);
 		mockStatic(Unirest.class);
 
 		when(Unirest.post(anyString())).thenReturn(requestWithBody);
-		when(requestWithBody.asJson()).thenReturn(httpResponse);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
+		when(requestWithBody.asBinary()).thenReturn(httpResponse);
 		when(httpResponse.getStatus()).thenReturn(418);
-		when(httpResponse.getBody()).thenReturn(jsonNode);
-		when(jsonNode.getObject()).thenReturn(expectedResponse);
+		when(httpResponse.getRawBody()).thenReturn(body(expectedResponse));
 
 		mediaAPIClient.request(path, "POST");
 	}
@@ -179,7 +175,7 @@ public class TestJWPlatformClient {
 		mockStatic(Unirest.class);
 
 		when(Unirest.post(anyString())).thenReturn(requestWithBody);
-		when(requestWithBody.asJson()).thenThrow(new UnirestException("some exception"));
+		when(requestWithBody.asBinary()).thenThrow(new UnirestException("some exception"));
 
 		mediaAPIClient.request(path, "post");
 	}
@@ -246,4 +242,63 @@ public class TestJWPlatformClient {
 		PowerMockito.verifyStatic(Unirest.class, Mockito.times(1));
 		Unirest.post("");
 	}
+
+	@Test
+	public void testSuccessfulStreamUpload() throws Exception {
+		final JWPlatformClient mediaAPIClient = JWPlatformClient.create(apiKey, apiSecret);
+		final HttpRequestWithBody requestWithBody = PowerMockito.mock(HttpRequestWithBody.class);
+		final MultipartBody multipartBody = PowerMockito.mock(MultipartBody.class);
+		@SuppressWarnings("unchecked")
+		final HttpResponse<InputStream> response = PowerMockito.mock(HttpResponse.class);
+		mockStatic(Unirest.class);
+
+		final String xmlResponse = "\"<response>\n" + "  <redirect_link></redirect_link>\n" + "  <video>\n"
+				+ "  \t<size>1245108</size>\n" + "  \t<key>ghi</key>\n"
+				+ "  \t<md5>b73c2094ad142f452312d3f8712c75f1</md5>\n" + "  </video>\n" + "  <status>ok</status>\n"
+				+ "  </response>\"";
+		final InputStream streamResponse = new ByteArrayInputStream(xmlResponse.getBytes());
+
+		when(multipartBody.asBinary()).thenReturn(response);
+		when(response.getBody()).thenReturn(streamResponse);
+		when(response.getStatus()).thenReturn(200);
+		when(requestWithBody.field(eq("file"), any(InputStream.class), eq(ContentType.APPLICATION_OCTET_STREAM),
+				eq("video.mp4"))).thenReturn(multipartBody);
+		when(Unirest.post(anyString())).thenReturn(requestWithBody);
+		when(Unirest.post(anyString()).headers(anyMap())).thenReturn(requestWithBody);
+
+		final Map<String, String> queryBlock = new HashMap<>();
+		queryBlock.put("key", "abc");
+		queryBlock.put("token", "def");
+
+		final Map<String, Object> linkBlock = new HashMap<>();
+		linkBlock.put("path", "/v1/videos/upload");
+		linkBlock.put("protocol", "http");
+		linkBlock.put("address", "upload-portal.jwplatform.com");
+		linkBlock.put("query", queryBlock);
+
+		final Map<String, Object> videoCreateResponseMap = new HashMap<>();
+		videoCreateResponseMap.put("link", linkBlock);
+		videoCreateResponseMap.put("status", "ok");
+
+		final JSONObject videoCreateResponse = new JSONObject(videoCreateResponseMap);
+
+		final Map<String, Object> expectedVideoBlock = new HashMap<>();
+		expectedVideoBlock.put("size", 1245108);
+		expectedVideoBlock.put("key", "ghi");
+		expectedVideoBlock.put("md5", "b73c2094ad142f452312d3f8712c75f1");
+
+		final Map<String, Object> expectedResponseBlock = new HashMap<>();
+		expectedResponseBlock.put("redirect_link", "");
+		expectedResponseBlock.put("video", expectedVideoBlock);
+		expectedResponseBlock.put("status", "ok");
+		final Map<String, Object> expectedResponseMap = new HashMap<>();
+		expectedResponseMap.put("response", expectedResponseBlock);
+
+		final JSONObject expectedResponse = new JSONObject(expectedResponseMap);
+		final JSONObject actualResponse = mediaAPIClient.upload(videoCreateResponse,
+				new ByteArrayInputStream(new byte[] { 1, 2, 3 }), "video.mp4", new HashMap<>());
+		assertEquals(expectedResponse.toString(), actualResponse.toString());
+		PowerMockito.verifyStatic(Unirest.class, Mockito.times(1));
+		Unirest.post("");
+	}
 }
@@ -0,0 +1,134 @@
+package com.jwplayer.jwplatform.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformNotFoundException;
+
+public class PagePublisherTest {
+	private final List<CompletableFuture<JSONObject>> requested = new ArrayList<>();
+
+	/**
+	 * Pages of 10 out of 25 items, completed by the test.
+	 */
+	private CompletableFuture<JSONObject> fetch(final Map<String, String> params) {
+		final CompletableFuture<JSONObject> future = new CompletableFuture<>();
+		requested.add(future);
+		return future;
+	}
+
+	private void complete(final int page) {
+		final JSONArray media = new JSONArray();
+		for (int i = (page - 1) * 10; i < Math.min(25, page * 10); i++) {
+			media.put(new JSONObject().put("id", "m" + i));
+		}
+		requested.get(page - 1)
+				.complete(new JSONObject().put("media", media).put("page_length", 10).put("total", 25));
+	}
+
+	private static final class Collector implements Flow.Subscriber<JSONObject> {
+		private final List<String> ids = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(final Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(final JSONObject item) {
+			ids.add(item.getString("id"));
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+	}
+
+	@Test
+	public void testFetchesOnlyOnDemand() {
+		final Collector collector = new Collector();
+		PagePublisher.create(new Pages(this::fetch, "media", null)).subscribe(collector);
+		assertTrue(requested.isEmpty());
+
+		collector.subscription.request(3);
+		assertEquals(1, requested.size());
+		complete(1);
+		assertEquals(3, collector.ids.size());
+
+		// the rest of page 1 is buffered, so no new request
+		collector.subscription.request(7);
+		assertEquals(10, collector.ids.size());
+		assertEquals(1, requested.size());
+
+		collector.subscription.request(1);
+		assertEquals(2, requested.size());
+	}
+
+	@Test
+	public void testPublishesAllItemsAndCompletes() {
+		final Collector collector = new Collector();
+		PagePublisher.create(new Pages(this::fetch, "media", null)).subscribe(collector);
+		collector.subscription.request(Long.MAX_VALUE);
+		complete(1);
+		complete(2);
+		assertFalse(collector.completed);
+		complete(3);
+		assertEquals(25, collector.ids.size());
+		assertEquals("m24", collector.ids.get(24));
+		assertTrue(collector.completed);
+		assertEquals(3, requested.size());
+	}
+
+	@Test
+	public void testFailedPageEndsWithError() {
+		final Collector collector = new Collector();
+		PagePublisher.create(new Pages(this::fetch, "media", null)).subscribe(collector);
+		collector.subscription.request(20);
+		complete(1);
+		requested.get(1).completeExceptionally(new JWPlatformNotFoundException("gone"));
+		assertEquals(10, collector.ids.size());
+		assertTrue(collector.error instanceof JWPlatformNotFoundException);
+		assertFalse(collector.completed);
+	}
+
+	@Test
+	public void testCancelStopsDelivery() {
+		final Collector collector = new Collector();
+		PagePublisher.create(new Pages(this::fetch, "media", null)).subscribe(collector);
+		collector.subscription.request(5);
+		collector.subscription.cancel();
+		complete(1);
+		collector.subscription.request(5);
+		assertTrue(collector.ids.isEmpty());
+		assertEquals(1, requested.size());
+	}
+
+	@Test
+	public void testNonPositiveRequestIsAnError() {
+		final Collector collector = new Collector();
+		PagePublisher.create(new Pages(this::fetch, "media", null)).subscribe(collector);
+		collector.subscription.request(0);
+		assertTrue(collector.error instanceof IllegalArgumentException);
+		assertTrue(requested.isEmpty());
+	}
+}
@@ -0,0 +1,173 @@
+package com.jwplayer.jwplatform.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jwplayer.jwplatform.exception.JWPlatformException;
+import com.jwplayer.jwplatform.exception.JWPlatformUnknownException;
+import com.sun.net.httpserver.HttpServer;
+
+public class JdkHttpTransportTest {
+	private HttpServer server;
+	private String baseUrl;
+	private JdkHttpTransport transport;
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/echo", EchoHandlers::echo);
+		server.createContext("/slow", EchoHandlers::slow);
+		server.start();
+		baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+		transport = JdkHttpTransport.create();
+	}
+
+	@After
+	public void tearDown() {
+		transport.close();
+		server.stop(0);
+	}
+
+	@Test
+	public void testGetRequest() throws JWPlatformException {
+		final Map<String, String> headers = new HashMap<>();
+		headers.put("Authorization", "Bearer secret");
+		final TransportResponse response = transport
+				.execute(new TransportRequest("GET", baseUrl + "/echo", headers, null));
+		assertEquals(200, response.getStatus());
+		assertEquals("yes", response.getHeader("x-echo"));
+		assertEquals("GET", response.getJson().getString("method"));
+		assertEquals("Bearer secret", response.getJson().getString("authorization"));
+	}
+
+	@Test
+	public void testPatchRequestWithBody() throws JWPlatformException {
+		final JSONObject body = new JSONObject();
+		body.put("title", "new title");
+		final TransportResponse response = transport
+				.execute(new TransportRequest("PATCH", baseUrl + "/echo", new HashMap<>(), body));
+		assertEquals("PATCH", response.getJson().getString("method"));
+		assertEquals(body.toString(), response.getJson().getString("body"));
+	}
+
+	@Test
+	public void testNon200IsReturnedNotThrown() throws JWPlatformException {
+		final TransportResponse response = transport
+				.execute(new TransportRequest("DELETE", baseUrl + "/echo", new HashMap<>(), null));
+		assertEquals(404, response.getStatus());
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testConnectionFailure() throws JWPlatformException {
+		server.stop(0);
+		transport.execute(new TransportRequest("GET", baseUrl + "/echo", new HashMap<>(), null));
+	}
+
+	@Test(expected = JWPlatformException.class)
+	public void testInvalidUrl() throws JWPlatformException {
+		transport.execute(new TransportRequest("GET", "not a url", new HashMap<>(), null));
+	}
+
+	@Test(expected = JWPlatformUnknownException.class)
+	public void testReadTimeout() throws JWPlatformException {
+		final JdkHttpTransport configured = JdkHttpTransport
+				.create(ConnectionPoolConfig.builder().readTimeout(Duration.ofMillis(100)).build());
+		configured.execute(new TransportRequest("GET", baseUrl + "/slow", new HashMap<>(), null));
+	}
+
+	@Test
+	public void testExecuteStreaming() throws JWPlatformException {
+		final String method = transport.executeStreaming(
+				new TransportRequest("GET", baseUrl + "/echo", new HashMap<>(), null), (response, body) -> {
+					assertEquals(200, response.getStatus());
+					assertEquals("yes", response.getHeader("x-echo"));
+					return JsonItemReader.read(body, null, null).getString("method");
+				});
+		assertEquals("GET", method);
+	}
+
+	@Test
+	public void testExecuteAsync() throws Exception {
+		final CompletableFuture<TransportResponse> response = transport
+				.executeAsync(new TransportRequest("GET", baseUrl + "/echo", new HashMap<>(), null));
+		assertEquals(200, response.get(5, TimeUnit.SECONDS).getStatus());
+		assertEquals("GET", response.get().getJson().getString("method"));
+	}
+
+	@Test
+	public void testExecuteAsyncQueuesBeyondMaxConnections() throws Exception {
+		final JdkHttpTransport configured = JdkHttpTransport.create(
+				ConnectionPoolConfig.builder().maxConnectionsTotal(1).maxConnectionsPerRoute(1).build());
+		final CompletableFuture<TransportResponse> first = configured
+				.executeAsync(new TransportRequest("GET", baseUrl + "/slow", new HashMap<>(), null));
+		final CompletableFuture<TransportResponse> second = configured
+				.executeAsync(new TransportRequest("GET", baseUrl + "/echo", new HashMap<>(), null));
+		assertEquals(200, second.get(5, TimeUnit.SECONDS).getStatus());
+		assertTrue(first.isDone());
+	}
+
+	@Test
+	public void testExecuteAsyncConnectionFailure() throws InterruptedException {
+		server.stop(0);
+		try {
+			transport.executeAsync(new TransportRequest("GET", baseUrl + "/echo", new HashMap<>(), null)).get();
+			fail("Expected the future to fail");
+		} catch (final ExecutionException e) {
+			assertTrue(e.getCause() instanceof JWPlatformUnknownException);
+		}
+	}
+
+	@Test
+	public void testStreamsDecompressedBodyFromJdkTransport() throws Exception {
+		final byte[] compressed = CompressionTransportTest.gzip(CompressionTransportTest.BODY);
+		final HttpServer compressing = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		compressing.createContext("/media", exchange -> {
+			final boolean gzip = "gzip, deflate".equals(exchange.getRequestHeaders().getFirst("Accept-Encoding"));
+			final byte[] body = gzip ? compressed : CompressionTransportTest.BODY.getBytes(StandardCharsets.UTF_8);
+			if (gzip) {
+				exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+			}
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		compressing.start();
+		try (CompressionTransport transport = CompressionTransport.create(JdkHttpTransport.create())) {
+			final List<JSONObject> items = new ArrayList<>();
+			final JSONObject envelope = transport.executeStreaming(
+					new TransportRequest("GET", "http://127.0.0.1:" + compressing.getAddress().getPort() + "/media", null,
+							null),
+					(response, body) -> {
+						assertNull(response.getHeader("Content-Encoding"));
+						return JsonItemReader.read(body, "media", items::add);
+					});
+			assertEquals(4, items.size());
+			assertEquals(4, envelope.getInt("total"));
+			assertEquals(compressed.length, transport.getCompressedBytes());
+			assertEquals(CompressionTransportTest.BODY.length(), transport.getUncompressedBytes());
+		} finally {
+			compressing.stop(0);
+		}
+	}
+}